@@ -0,0 +1,37 @@
+package educonnect.benchmark;
+
+import java.util.List;
+
+import educonnect.model.student.Student;
+import educonnect.model.util.SyntheticDataGenerator;
+
+/**
+ * Creates the cohorts of students that the benchmarks run on.
+ * The cohorts are the same in every run, so that the results of runs can be compared.
+ */
+public class BenchmarkStudents {
+
+    private static final long SEED = 42;
+    private static final SyntheticDataGenerator generator = new SyntheticDataGenerator(SEED);
+
+    /**
+     * Returns a cohort of {@code size} students.
+     */
+    public static List<Student> createCohort(int size) {
+        return generator.generateStudentList(size);
+    }
+
+    /**
+     * Returns the generator of the cohorts.
+     */
+    public static SyntheticDataGenerator getGenerator() {
+        return generator;
+    }
+
+    /**
+     * Returns a student that is not in any cohort.
+     */
+    public static Student createStudentOutsideCohorts(int number) {
+        return generator.generateStudent(SyntheticDataGenerator.MAX_STUDENTS - 1 - number);
+    }
+}
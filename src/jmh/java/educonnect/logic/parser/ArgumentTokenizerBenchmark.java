@@ -0,0 +1,83 @@
+package educonnect.logic.parser;
+
+import static educonnect.logic.parser.CliSyntax.PREFIXES_TIMETABLE_DAYS;
+import static educonnect.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static educonnect.logic.parser.CliSyntax.PREFIX_LINK;
+import static educonnect.logic.parser.CliSyntax.PREFIX_NAME;
+import static educonnect.logic.parser.CliSyntax.PREFIX_STUDENT_ID;
+import static educonnect.logic.parser.CliSyntax.PREFIX_TAG;
+import static educonnect.logic.parser.CliSyntax.PREFIX_TELEGRAM_HANDLE;
+import static educonnect.logic.parser.CliSyntax.PREFIX_TIMETABLE;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import educonnect.benchmark.BenchmarkStudents;
+import educonnect.model.student.Student;
+
+/**
+ * Measures tokenizing the arguments of an {@code add} command for every student of a cohort, as entering
+ * the whole cohort would, together with the timetable of each student.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ArgumentTokenizerBenchmark {
+
+    @Param({"100", "10000", "100000"})
+    public int cohortSize;
+
+    private List<String> addArguments;
+
+    /**
+     * Creates the arguments of the {@code add} command of each student of the cohort.
+     */
+    @Setup
+    public void setUp() {
+        addArguments = BenchmarkStudents.createCohort(cohortSize).stream()
+                .map(ArgumentTokenizerBenchmark::toAddArguments)
+                .collect(Collectors.toList());
+    }
+
+    private static String toAddArguments(Student student) {
+        StringBuilder arguments = new StringBuilder()
+                .append(" ").append(PREFIX_NAME).append(student.getName())
+                .append(" ").append(PREFIX_STUDENT_ID).append(student.getStudentId())
+                .append(" ").append(PREFIX_EMAIL).append(student.getEmail())
+                .append(" ").append(PREFIX_TELEGRAM_HANDLE).append(student.getTelegramHandle());
+        student.getTags().forEach(tag -> arguments.append(" ").append(PREFIX_TAG).append(tag.tagName));
+        return arguments.append(" ").append(PREFIX_TIMETABLE)
+                .append(student.getTimetable().convertToCommandString())
+                .toString();
+    }
+
+    /**
+     * Tokenizes the arguments of each {@code add} command and then its timetable.
+     */
+    @Benchmark
+    public void tokenize(Blackhole blackhole) {
+        for (String arguments : addArguments) {
+            ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(arguments, PREFIX_NAME, PREFIX_STUDENT_ID,
+                    PREFIX_EMAIL, PREFIX_TELEGRAM_HANDLE, PREFIX_TAG, PREFIX_LINK, PREFIX_TIMETABLE);
+            String timetable = " " + argMultimap.getValue(PREFIX_TIMETABLE).orElse("");
+            blackhole.consume(ArgumentTokenizer.tokenize(timetable, PREFIXES_TIMETABLE_DAYS));
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package educonnect.model;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import educonnect.benchmark.BenchmarkStudents;
+import educonnect.model.student.Student;
+import educonnect.model.student.Tag;
+import educonnect.model.student.predicates.EmailContainsKeywordsPredicate;
+import educonnect.model.student.predicates.EmailMatchesKeywordsPredicate;
+import educonnect.model.student.predicates.IdContainsKeywordsPredicate;
+import educonnect.model.student.predicates.IdMatchesKeywordsPredicate;
+import educonnect.model.student.predicates.NameContainsKeywordsPredicate;
+import educonnect.model.student.predicates.NameSimilarToKeywordsPredicate;
+import educonnect.model.student.predicates.TagContainsKeywordsPredicate;
+import educonnect.model.student.predicates.TelegramContainsKeywordsPredicate;
+import educonnect.model.student.predicates.TelegramMatchesKeywordsPredicate;
+
+/**
+ * Measures filtering the student list of a cohort with each type of predicate that {@code find} creates.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ModelManagerBenchmark {
+
+    @Param({"100", "10000", "100000"})
+    public int cohortSize;
+
+    @Param({"nameContains", "nameSimilar", "idContains", "idMatches", "emailContains", "emailMatches",
+            "telegramContains", "telegramMatches", "tag"})
+    public String predicateType;
+
+    private ModelManager model;
+    private List<Predicate<Student>> predicates;
+
+    /**
+     * Creates a model of the cohort, and the predicate to filter it with.
+     */
+    @Setup
+    public void setUp() {
+        List<Student> students = BenchmarkStudents.createCohort(cohortSize);
+        AddressBook addressBook = new AddressBook();
+        addressBook.setStudents(students);
+        model = new ModelManager(addressBook, new UserPrefs());
+        predicates = List.of(createPredicate(predicateType, students.get(cohortSize / 2)));
+    }
+
+    /**
+     * Returns a predicate of {@code predicateType} that matches {@code student}.
+     */
+    private static Predicate<Student> createPredicate(String predicateType, Student student) {
+        String name = student.getName().fullName;
+        String studentId = student.getStudentId().value;
+        String email = student.getEmail().value;
+        String telegramHandle = student.getTelegramHandle().value;
+        switch (predicateType) {
+        case "nameContains":
+            return new NameContainsKeywordsPredicate(name);
+        case "nameSimilar":
+            // A typo in the first name, which is at least three letters long
+            return new NameSimilarToKeywordsPredicate(name.charAt(1) + name.substring(0, 1) + name.substring(2));
+        case "idContains":
+            return new IdContainsKeywordsPredicate(studentId.substring(4, 8));
+        case "idMatches":
+            return new IdMatchesKeywordsPredicate(studentId);
+        case "emailContains":
+            return new EmailContainsKeywordsPredicate(email.substring(0, email.indexOf('@')));
+        case "emailMatches":
+            return new EmailMatchesKeywordsPredicate(email);
+        case "telegramContains":
+            return new TelegramContainsKeywordsPredicate(telegramHandle.substring(1));
+        case "telegramMatches":
+            return new TelegramMatchesKeywordsPredicate(telegramHandle);
+        case "tag":
+            return new TagContainsKeywordsPredicate(new Tag("tutorial-1"));
+        default:
+            throw new IllegalArgumentException("Unknown predicate type: " + predicateType);
+        }
+    }
+
+    /**
+     * Filters the list with the predicate, and returns the number of students listed.
+     */
+    @Benchmark
+    public int updateFilteredStudentList() {
+        model.updateFilteredStudentList(predicates);
+        return model.getFilteredStudentList().size();
+    }
+}
@@ -0,0 +1,77 @@
+package educonnect.model.student;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import educonnect.benchmark.BenchmarkStudents;
+
+/**
+ * Measures adding and editing a student in a {@code UniqueStudentList} of a cohort.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class UniqueStudentListBenchmark {
+
+    @Param({"100", "10000", "100000"})
+    public int cohortSize;
+
+    private UniqueStudentList studentList;
+    private Student newStudent;
+    private Student editedStudent;
+    private Student originalStudent;
+
+    /**
+     * Fills the list with the cohort.
+     */
+    @Setup
+    public void setUp() {
+        List<Student> students = BenchmarkStudents.createCohort(cohortSize);
+        studentList = new UniqueStudentList();
+        studentList.setStudents(students);
+        newStudent = BenchmarkStudents.createStudentOutsideCohorts(0);
+
+        // The student in the middle is edited, so that finding it takes as long as finding a typical student
+        originalStudent = students.get(cohortSize / 2);
+        editedStudent = new Student(new Name("Edited " + originalStudent.getName().fullName),
+                originalStudent.getStudentId(), originalStudent.getEmail(), originalStudent.getTelegramHandle(),
+                originalStudent.getTags(), originalStudent.getTimetable());
+    }
+
+    /**
+     * Adds a student, and removes it again so that the list stays the same size.
+     */
+    @Benchmark
+    public UniqueStudentList addThenRemove() {
+        studentList.add(newStudent);
+        studentList.remove(newStudent);
+        return studentList;
+    }
+
+    /**
+     * Edits a student, alternating between the original and the edited student.
+     */
+    @Benchmark
+    public UniqueStudentList setStudent() {
+        studentList.setStudent(originalStudent, editedStudent);
+        Student previousStudent = originalStudent;
+        originalStudent = editedStudent;
+        editedStudent = previousStudent;
+        return studentList;
+    }
+}
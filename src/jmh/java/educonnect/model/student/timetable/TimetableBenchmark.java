@@ -0,0 +1,99 @@
+package educonnect.model.student.timetable;
+
+import java.time.DayOfWeek;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import educonnect.benchmark.BenchmarkStudents;
+import educonnect.model.student.Student;
+
+/**
+ * Measures finding the available slots of every timetable of a cohort, and the slots common to all of them.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TimetableBenchmark {
+
+    private static final int DURATION = 1;
+
+    @Param({"100", "10000", "100000"})
+    public int cohortSize;
+
+    private List<Timetable> timetables;
+    private HashSet<DayOfWeek> days;
+
+    /**
+     * Collects the timetables of the cohort.
+     */
+    @Setup
+    public void setUp() {
+        timetables = BenchmarkStudents.createCohort(cohortSize).stream()
+                .map(Student::getTimetable)
+                .collect(Collectors.toList());
+        days = Timetable.DEFAULT_ALL_DAYS;
+    }
+
+    /**
+     * Finds the available slots of each timetable.
+     */
+    @Benchmark
+    public void findSlots(Blackhole blackhole) {
+        for (Timetable timetable : timetables) {
+            blackhole.consume(timetable.findSlots(DURATION, Timetable.DEFAULT_TIMEFRAME, days));
+        }
+    }
+
+    /**
+     * Finds the slots that are available in every timetable, as {@code slots} does.
+     */
+    @Benchmark
+    public AvailableSlots findAllCommonSlots() {
+        return AvailableSlots.findAllCommonSlots(timetables, DURATION, Timetable.DEFAULT_TIMEFRAME, days);
+    }
+
+    /**
+     * Finds the slots that are available in every timetable from slots already found for each timetable.
+     */
+    @Benchmark
+    public AvailableSlots findAllCommonSlotsOfAvailableSlots(AvailableSlotsState state) {
+        return AvailableSlots.findAllCommonSlots(state.allAvailableSlots);
+    }
+
+    /**
+     * The available slots of each timetable of the cohort.
+     */
+    @State(Scope.Thread)
+    public static class AvailableSlotsState {
+        private ArrayList<AvailableSlots> allAvailableSlots;
+
+        /**
+         * Finds the available slots of each timetable.
+         */
+        @Setup
+        public void setUp(TimetableBenchmark benchmark) {
+            allAvailableSlots = benchmark.timetables.stream()
+                    .map(timetable -> timetable.findSlots(DURATION, Timetable.DEFAULT_TIMEFRAME, benchmark.days))
+                    .collect(Collectors.toCollection(ArrayList::new));
+        }
+    }
+}
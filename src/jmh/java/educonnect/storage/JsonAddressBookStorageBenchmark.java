@@ -0,0 +1,76 @@
+package educonnect.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import educonnect.benchmark.BenchmarkStudents;
+import educonnect.commons.exceptions.DataLoadingException;
+import educonnect.model.AddressBook;
+import educonnect.model.ReadOnlyAddressBook;
+
+/**
+ * Measures reading and writing the data file of a cohort.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class JsonAddressBookStorageBenchmark {
+
+    @Param({"100", "10000", "100000"})
+    public int cohortSize;
+
+    private Path folder;
+    private JsonAddressBookStorage storage;
+    private AddressBook addressBook;
+
+    /**
+     * Writes the data file of the cohort to a temporary folder.
+     */
+    @Setup
+    public void setUp() throws IOException, DataLoadingException {
+        folder = Files.createTempDirectory("educonnect-benchmark");
+        storage = new JsonAddressBookStorage(folder.resolve("addressbook.json"));
+        storage.saveStudents(BenchmarkStudents.getGenerator().generateStudents(cohortSize),
+                storage.getAddressBookFilePath());
+        addressBook = new AddressBook(storage.readAddressBook().get());
+    }
+
+    /**
+     * Deletes the temporary folder.
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(storage.getAddressBookFilePath());
+        Files.deleteIfExists(folder);
+    }
+
+    @Benchmark
+    public Optional<ReadOnlyAddressBook> read() throws DataLoadingException {
+        return storage.readAddressBook();
+    }
+
+    @Benchmark
+    public Path write() throws IOException {
+        storage.saveAddressBook(addressBook);
+        return storage.getAddressBookFilePath();
+    }
+}
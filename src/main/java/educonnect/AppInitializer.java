@@ -0,0 +1,169 @@
+package educonnect;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import educonnect.commons.core.Config;
+import educonnect.commons.core.LogsCenter;
+import educonnect.commons.exceptions.DataLoadingException;
+import educonnect.commons.util.ConfigUtil;
+import educonnect.commons.util.StringUtil;
+import educonnect.model.AddressBook;
+import educonnect.model.Model;
+import educonnect.model.ModelManager;
+import educonnect.model.ReadOnlyAddressBook;
+import educonnect.model.ReadOnlyUserPrefs;
+import educonnect.model.UserPrefs;
+import educonnect.model.util.SampleDataUtil;
+import educonnect.storage.Storage;
+import educonnect.storage.UserPrefsStorage;
+
+/**
+ * Initializes the non-UI components of the application (config, user prefs and model).
+ * Shared by {@link MainApp} and {@link HeadlessApp} so that both start from the same state.
+ */
+public class AppInitializer {
+
+    private static final Logger logger = LogsCenter.getLogger(AppInitializer.class);
+
+    /**
+     * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
+     * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
+     * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
+     * The students are kept in columns if {@code config} says so.
+     */
+    public static Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs, Config config) {
+        logger.info("Using data file : " + storage.getAddressBookFilePath());
+
+        Optional<ReadOnlyAddressBook> addressBookOptional;
+        ReadOnlyAddressBook initialData;
+        try {
+            addressBookOptional = storage.readAddressBook();
+            if (!addressBookOptional.isPresent()) {
+                logger.info("Creating a new data file " + storage.getAddressBookFilePath()
+                        + " populated with a sample EduConnect Student Data File.");
+            }
+            initialData = addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
+        } catch (DataLoadingException e) {
+            logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be loaded."
+                    + " Will be starting with an empty AddressBook.");
+            initialData = new AddressBook();
+        }
+
+        if (config.isColumnarStudentStore()) {
+            logger.info("Keeping the students in columns");
+            initialData = AddressBook.columnar(initialData);
+        }
+        return new ModelManager(initialData, userPrefs);
+    }
+
+    /**
+     * Returns a {@code Config} using the file at {@code configFilePath}. <br>
+     * The default file path {@code Config#DEFAULT_CONFIG_FILE} will be used instead
+     * if {@code configFilePath} is null.
+     */
+    public static Config initConfig(Path configFilePath) {
+        Path configFilePathUsed = getConfigFilePath(configFilePath);
+        Config initializedConfig = readConfig(configFilePathUsed);
+        updateConfigFile(initializedConfig, configFilePathUsed);
+        return initializedConfig;
+    }
+
+    /**
+     * Returns {@code configFilePath}, or the default file path {@code Config#DEFAULT_CONFIG_FILE}
+     * if {@code configFilePath} is null.
+     */
+    public static Path getConfigFilePath(Path configFilePath) {
+        if (configFilePath != null) {
+            logger.info("Custom Config file specified " + configFilePath);
+            return configFilePath;
+        }
+        return Config.DEFAULT_CONFIG_FILE;
+    }
+
+    /**
+     * Returns the {@code Config} in the file at {@code configFilePathUsed}, or the default config
+     * if the file is missing or cannot be read.
+     */
+    public static Config readConfig(Path configFilePathUsed) {
+        logger.info("Using config file : " + configFilePathUsed);
+
+        Config initializedConfig;
+        try {
+            Optional<Config> configOptional = ConfigUtil.readConfig(configFilePathUsed);
+            if (!configOptional.isPresent()) {
+                logger.info("Creating new config file " + configFilePathUsed);
+            }
+            initializedConfig = configOptional.orElse(new Config());
+        } catch (DataLoadingException e) {
+            logger.warning("Config file at " + configFilePathUsed + " could not be loaded."
+                    + " Using default config properties.");
+            initializedConfig = new Config();
+        }
+        return initializedConfig;
+    }
+
+    /**
+     * Updates the config file at {@code configFilePath} in case it was missing to begin with or there are
+     * new/unused fields. The file is not rewritten if it already holds {@code config} as it would be saved.
+     */
+    public static void updateConfigFile(Config config, Path configFilePath) {
+        try {
+            if (ConfigUtil.saveConfigIfChanged(config, configFilePath)) {
+                logger.info("Updated config file " + configFilePath);
+            }
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Returns a {@code UserPrefs} using the file at {@code storage}'s user prefs file path,
+     * or a new {@code UserPrefs} with default configuration if errors occur when
+     * reading from the file.
+     */
+    public static UserPrefs initPrefs(UserPrefsStorage storage) {
+        UserPrefs initializedPrefs = readPrefs(storage);
+        updatePrefsFile(storage, initializedPrefs);
+        return initializedPrefs;
+    }
+
+    /**
+     * Returns the {@code UserPrefs} in {@code storage}, or a new {@code UserPrefs} with default configuration
+     * if the file is missing or cannot be read.
+     */
+    public static UserPrefs readPrefs(UserPrefsStorage storage) {
+        Path prefsFilePath = storage.getUserPrefsFilePath();
+        logger.info("Using preference file : " + prefsFilePath);
+
+        UserPrefs initializedPrefs;
+        try {
+            Optional<UserPrefs> prefsOptional = storage.readUserPrefs();
+            if (!prefsOptional.isPresent()) {
+                logger.info("Creating new preference file " + prefsFilePath);
+            }
+            initializedPrefs = prefsOptional.orElse(new UserPrefs());
+        } catch (DataLoadingException e) {
+            logger.warning("Preference file at " + prefsFilePath + " could not be loaded."
+                    + " Using default preferences.");
+            initializedPrefs = new UserPrefs();
+        }
+        return initializedPrefs;
+    }
+
+    /**
+     * Updates the prefs file of {@code storage} in case it was missing to begin with or there are
+     * new/unused fields. The file is not rewritten if it already holds {@code userPrefs} as they would be saved.
+     */
+    public static void updatePrefsFile(UserPrefsStorage storage, ReadOnlyUserPrefs userPrefs) {
+        try {
+            if (storage.saveUserPrefsIfChanged(userPrefs)) {
+                logger.info("Updated preference file " + storage.getUserPrefsFilePath());
+            }
+        } catch (IOException e) {
+            logger.warning("Failed to save preference file : " + StringUtil.getDetails(e));
+        }
+    }
+}
@@ -0,0 +1,240 @@
+package educonnect;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.logging.Logger;
+
+import educonnect.api.ApiServer;
+import educonnect.commons.core.Config;
+import educonnect.commons.core.LogsCenter;
+import educonnect.commons.exceptions.DataLoadingException;
+import educonnect.commons.util.StringUtil;
+import educonnect.logic.Logic;
+import educonnect.logic.LogicManager;
+import educonnect.logic.commands.CommandResult;
+import educonnect.logic.commands.exceptions.CommandException;
+import educonnect.logic.parser.exceptions.ParseException;
+import educonnect.model.Model;
+import educonnect.model.UserPrefs;
+import educonnect.model.util.SyntheticDataGenerator;
+import educonnect.storage.AddressBookStorage;
+import educonnect.storage.JsonAddressBookStorage;
+import educonnect.storage.JsonUserPrefsStorage;
+import educonnect.storage.Storage;
+import educonnect.storage.StorageManager;
+import educonnect.storage.UserPrefsStorage;
+
+/**
+ * Runs the application without a GUI.
+ * Commands are read line by line from standard input, or from the file given by {@code --commands=FILE},
+ * executed through {@code Logic}, and the feedback of each command is printed to standard output.
+ * Blank lines and lines starting with {@link #COMMENT_PREFIX} are skipped.
+ *
+ * If {@code --generate=NUMBER} is given, the data is first replaced with that number of generated students,
+ * using the seed given by {@code --seed=SEED} if any, and saved.
+ *
+ * If {@code --port=PORT} is given, commands are served over HTTP on localhost by an {@link ApiServer} instead,
+ * until the process is terminated.
+ *
+ * Does not start the JavaFX toolkit, so it can be used on servers, in scripts and in benchmarks.
+ */
+public class HeadlessApp {
+
+    public static final String HEADLESS_FLAG = "--headless";
+    public static final String COMMENT_PREFIX = "#";
+    public static final String ERROR_PREFIX = "ERROR: ";
+    public static final String PORT_PARAMETER = "port";
+    public static final String COMMANDS_PARAMETER = "commands";
+    public static final String GENERATE_PARAMETER = "generate";
+    public static final String SEED_PARAMETER = "seed";
+    public static final long DEFAULT_SEED = 0;
+
+    private static final Logger logger = LogsCenter.getLogger(HeadlessApp.class);
+
+    private final Logic logic;
+    private final Storage storage;
+    private final Model model;
+
+    /**
+     * Creates a {@code HeadlessApp} that executes commands on the given {@code model},
+     * saving changes to {@code storage}.
+     */
+    public HeadlessApp(Model model, Storage storage) {
+        this.model = model;
+        this.storage = storage;
+        this.logic = new LogicManager(model, storage);
+    }
+
+    public static void main(String[] args) {
+        Map<String, String> namedParameters = parseNamedParameters(args);
+        AppParameters appParameters = AppParameters.parse(namedParameters);
+        HeadlessApp app = init(appParameters);
+
+        String numOfStudents = namedParameters.get(GENERATE_PARAMETER);
+        if (numOfStudents != null) {
+            String seed = namedParameters.get(SEED_PARAMETER);
+            try {
+                app.generateData(Integer.parseInt(numOfStudents), seed == null ? DEFAULT_SEED : Long.parseLong(seed));
+            } catch (IllegalArgumentException | IOException | DataLoadingException e) {
+                logger.severe("Failed to generate " + numOfStudents + " students " + StringUtil.getDetails(e));
+                System.exit(1);
+            }
+        }
+
+        String port = namedParameters.get(PORT_PARAMETER);
+        if (port != null) {
+            try {
+                app.serve(Integer.parseInt(port));
+                return;
+            } catch (NumberFormatException | IOException e) {
+                logger.severe("Failed to start API server on port " + port + " " + StringUtil.getDetails(e));
+                System.exit(1);
+            }
+        }
+
+        int failedCommands;
+        try (BufferedReader reader = openCommandReader(namedParameters.get(COMMANDS_PARAMETER))) {
+            failedCommands = app.run(reader, System.out);
+        } catch (IOException e) {
+            logger.severe("Failed to read commands " + StringUtil.getDetails(e));
+            failedCommands = 1;
+        }
+        app.stop();
+        System.exit(failedCommands == 0 ? 0 : 1);
+    }
+
+    /**
+     * Initializes config, user prefs, storage and model in the same way as {@link MainApp#init()}.
+     */
+    public static HeadlessApp init(AppParameters appParameters) {
+        logger.info("=============================[ Initializing Headless AddressBook ]=================");
+        Config config = AppInitializer.initConfig(appParameters.getConfigPath());
+        LogsCenter.init(config);
+
+        UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
+        UserPrefs userPrefs = AppInitializer.initPrefs(userPrefsStorage);
+        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
+        Storage storage = new StorageManager(addressBookStorage, userPrefsStorage);
+
+        Model model = AppInitializer.initModelManager(storage, userPrefs, config);
+        return new HeadlessApp(model, storage);
+    }
+
+    /**
+     * Executes every command read from {@code reader} and prints its feedback to {@code out},
+     * stopping early if a command asks the application to exit.
+     *
+     * @return the number of commands that failed.
+     */
+    public int run(BufferedReader reader, PrintStream out) throws IOException {
+        int failedCommands = 0;
+        String commandText;
+        while ((commandText = reader.readLine()) != null) {
+            commandText = commandText.trim();
+            if (commandText.isEmpty() || commandText.startsWith(COMMENT_PREFIX)) {
+                continue;
+            }
+
+            try {
+                CommandResult commandResult = logic.execute(commandText);
+                out.println(commandResult.getFullText());
+                commandResult.getTextToCopy().ifPresent(out::println);
+                if (commandResult.isExit()) {
+                    break;
+                }
+            } catch (CommandException | ParseException e) {
+                out.println(ERROR_PREFIX + e.getMessage());
+                failedCommands++;
+            }
+        }
+        return failedCommands;
+    }
+
+    /**
+     * Replaces the saved data with {@code numOfStudents} students generated from {@code seed}, then loads it.
+     * Each student is saved as soon as it is generated, so the students are only all in memory once loaded.
+     *
+     * @see SyntheticDataGenerator
+     */
+    public void generateData(int numOfStudents, long seed) throws IOException, DataLoadingException {
+        logger.info("Generating " + numOfStudents + " students from seed " + seed);
+        storage.saveStudents(new SyntheticDataGenerator(seed).generateStudents(numOfStudents));
+        model.setAddressBook(storage.readAddressBook().orElseThrow());
+    }
+
+    /**
+     * Starts serving commands over HTTP on {@code port} of localhost.
+     * The server is stopped, and the user prefs saved, when the JVM shuts down.
+     *
+     * @return the started server.
+     */
+    public ApiServer serve(int port) throws IOException {
+        ApiServer apiServer = new ApiServer(logic, port);
+        apiServer.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            apiServer.stop();
+            stop();
+        }));
+        return apiServer;
+    }
+
+    /**
+     * Saves the user prefs, as {@link MainApp#stop()} does.
+     */
+    public void stop() {
+        logger.info("============================ [ Stopping Headless Address Book ] ====================");
+        try {
+            storage.saveUserPrefs(model.getUserPrefs());
+        } catch (IOException e) {
+            logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
+        }
+    }
+
+    public Logic getLogic() {
+        return logic;
+    }
+
+    /**
+     * Returns true if {@code args} asks for the application to be run without a GUI.
+     */
+    public static boolean isHeadless(String[] args) {
+        for (String arg : args) {
+            if (arg.equals(HEADLESS_FLAG)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Parses arguments of the form {@code --name=value} into a map of names to values,
+     * in the same way as {@code Application.Parameters#getNamed()}.
+     */
+    public static Map<String, String> parseNamedParameters(String[] args) {
+        Map<String, String> namedParameters = new HashMap<>();
+        for (String arg : args) {
+            int separatorIndex = arg.indexOf('=');
+            if (arg.startsWith("--") && separatorIndex > 2) {
+                namedParameters.put(arg.substring(2, separatorIndex), arg.substring(separatorIndex + 1));
+            }
+        }
+        return namedParameters;
+    }
+
+    private static BufferedReader openCommandReader(String commandFile) throws IOException {
+        if (commandFile == null) {
+            return new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8));
+        }
+        Path commandFilePath = Paths.get(commandFile);
+        logger.info("Reading commands from file : " + commandFilePath);
+        return Files.newBufferedReader(commandFilePath, StandardCharsets.UTF_8);
+    }
+}
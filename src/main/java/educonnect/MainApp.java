@@ -2,33 +2,36 @@ package educonnect;
 
 import java.io.IOException;
 import java.nio.file.Path;
-import java.util.Optional;
+import java.time.Clock;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Logger;
 
 import educonnect.commons.core.Config;
 import educonnect.commons.core.LogsCenter;
+import educonnect.commons.core.StartupTimer;
 import educonnect.commons.core.Version;
-import educonnect.commons.exceptions.DataLoadingException;
-import educonnect.commons.util.ConfigUtil;
 import educonnect.commons.util.StringUtil;
+import educonnect.logic.CommandHistory;
+import educonnect.logic.CommandMetricsExporter;
 import educonnect.logic.Logic;
 import educonnect.logic.LogicManager;
-import educonnect.model.AddressBook;
 import educonnect.model.Model;
-import educonnect.model.ModelManager;
-import educonnect.model.ReadOnlyAddressBook;
-import educonnect.model.ReadOnlyUserPrefs;
 import educonnect.model.UserPrefs;
-import educonnect.model.util.SampleDataUtil;
 import educonnect.storage.AddressBookStorage;
+import educonnect.storage.CommandHistoryStorage;
 import educonnect.storage.JsonAddressBookStorage;
 import educonnect.storage.JsonUserPrefsStorage;
 import educonnect.storage.Storage;
 import educonnect.storage.StorageManager;
+import educonnect.storage.TextCommandHistoryStorage;
 import educonnect.storage.UserPrefsStorage;
 import educonnect.ui.Ui;
 import educonnect.ui.UiManager;
 import javafx.application.Application;
+import javafx.scene.Scene;
 import javafx.stage.Stage;
 
 /**
@@ -38,6 +41,13 @@ public class MainApp extends Application {
 
     public static final Version VERSION = new Version(1, 4, 0, false);
 
+    /** Name of the command history file, which is kept next to the address book file. */
+    public static final String COMMAND_HISTORY_FILE_NAME = "commandHistory.txt";
+    public static final String COMMAND_METRICS_FILE_NAME = "commandMetrics.csv";
+    public static final long COMMAND_METRICS_EXPORT_PERIOD_SECONDS = 60;
+    /** Time from launching the application until the main window is shown and ready for commands. */
+    public static final long TARGET_TIME_TO_INTERACTIVE_MILLIS = 1500;
+
     private static final Logger logger = LogsCenter.getLogger(MainApp.class);
 
     protected Ui ui;
@@ -45,138 +55,102 @@ public class MainApp extends Application {
     protected Storage storage;
     protected Model model;
     protected Config config;
+    protected CommandMetricsExporter commandMetricsExporter;
+    protected final StartupTimer startupTimer = new StartupTimer();
 
+    /**
+     * Initializes the application, running the phases that do not depend on each other concurrently.
+     * The resources of the UI are read, and the config and prefs files are updated, while the data is loaded.
+     */
     @Override
     public void init() throws Exception {
         logger.info("=============================[ Initializing AddressBook ]===========================");
         super.init();
 
+        ExecutorService executor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "startup");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            initComponents(executor);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private void initComponents(ExecutorService executor) {
+        CompletableFuture<Void> uiPreloaded = startupTimer.timeAsync("ui-preload", UiManager::preloadResources,
+                executor);
+
         AppParameters appParameters = AppParameters.parse(getParameters());
-        config = initConfig(appParameters.getConfigPath());
+        Path configFilePath = AppInitializer.getConfigFilePath(appParameters.getConfigPath());
+        config = startupTimer.time("config", () -> AppInitializer.readConfig(configFilePath));
         initLogging(config);
+        CompletableFuture<Void> configUpdated = startupTimer.timeAsync("config-save", () ->
+                AppInitializer.updateConfigFile(config, configFilePath), executor);
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
-        UserPrefs userPrefs = initPrefs(userPrefsStorage);
+        UserPrefs userPrefs = startupTimer.time("prefs", () -> AppInitializer.readPrefs(userPrefsStorage));
+        // The prefs are not modified until the UI is started, so they can be saved while the data is loaded
+        CompletableFuture<Void> prefsUpdated = startupTimer.timeAsync("prefs-save", () ->
+                AppInitializer.updatePrefsFile(userPrefsStorage, userPrefs), executor);
         AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
         storage = new StorageManager(addressBookStorage, userPrefsStorage);
 
-        model = initModelManager(storage, userPrefs);
-
-        logic = new LogicManager(model, storage);
-
-        ui = new UiManager(logic);
-    }
+        model = startupTimer.time("data", () -> AppInitializer.initModelManager(storage, userPrefs, config));
 
-    /**
-     * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
-     * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
-     * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
-     */
-    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
-        logger.info("Using data file : " + storage.getAddressBookFilePath());
+        // The command history is only read when it is first used, so it does not hold up startup
+        CommandHistoryStorage commandHistoryStorage = new TextCommandHistoryStorage(
+                userPrefs.getAddressBookFilePath().resolveSibling(COMMAND_HISTORY_FILE_NAME),
+                CommandHistory.DEFAULT_MAX_SIZE);
+        logic = new LogicManager(model, storage,
+                new CommandHistory(commandHistoryStorage, CommandHistory.DEFAULT_MAX_SIZE));
 
-        Optional<ReadOnlyAddressBook> addressBookOptional;
-        ReadOnlyAddressBook initialData;
-        try {
-            addressBookOptional = storage.readAddressBook();
-            if (!addressBookOptional.isPresent()) {
-                logger.info("Creating a new data file " + storage.getAddressBookFilePath()
-                        + " populated with a sample EduConnect Student Data File.");
-            }
-            initialData = addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
-        } catch (DataLoadingException e) {
-            logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be loaded."
-                    + " Will be starting with an empty AddressBook.");
-            initialData = new AddressBook();
-        }
+        commandMetricsExporter = new CommandMetricsExporter(logic.getCommandMetrics(),
+                userPrefs.getAddressBookFilePath().resolveSibling(COMMAND_METRICS_FILE_NAME), Clock.systemUTC());
+        commandMetricsExporter.start(COMMAND_METRICS_EXPORT_PERIOD_SECONDS);
 
-        return new ModelManager(initialData, userPrefs);
+        ui = new UiManager(logic);
+        startupTimer.time("wait", () -> CompletableFuture.allOf(uiPreloaded, configUpdated, prefsUpdated).join());
     }
 
     private void initLogging(Config config) {
         LogsCenter.init(config);
     }
 
-    /**
-     * Returns a {@code Config} using the file at {@code configFilePath}. <br>
-     * The default file path {@code Config#DEFAULT_CONFIG_FILE} will be used instead
-     * if {@code configFilePath} is null.
-     */
-    protected Config initConfig(Path configFilePath) {
-        Config initializedConfig;
-        Path configFilePathUsed;
-
-        configFilePathUsed = Config.DEFAULT_CONFIG_FILE;
+    @Override
+    public void start(Stage primaryStage) {
+        logger.info("Starting EduConnect " + MainApp.VERSION);
+        startupTimer.time("ui", () -> ui.start(primaryStage));
 
-        if (configFilePath != null) {
-            logger.info("Custom Config file specified " + configFilePath);
-            configFilePathUsed = configFilePath;
+        // The application is ready for commands once the main window has been laid out for the first time
+        Scene scene = primaryStage.getScene();
+        if (scene == null) {
+            finishStartup();
+            return;
         }
-
-        logger.info("Using config file : " + configFilePathUsed);
-
-        try {
-            Optional<Config> configOptional = ConfigUtil.readConfig(configFilePathUsed);
-            if (!configOptional.isPresent()) {
-                logger.info("Creating new config file " + configFilePathUsed);
+        scene.addPostLayoutPulseListener(new Runnable() {
+            @Override
+            public void run() {
+                scene.removePostLayoutPulseListener(this);
+                finishStartup();
             }
-            initializedConfig = configOptional.orElse(new Config());
-        } catch (DataLoadingException e) {
-            logger.warning("Config file at " + configFilePathUsed + " could not be loaded."
-                    + " Using default config properties.");
-            initializedConfig = new Config();
-        }
-
-        //Update config file in case it was missing to begin with or there are new/unused fields
-        try {
-            ConfigUtil.saveConfig(initializedConfig, configFilePathUsed);
-        } catch (IOException e) {
-            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
-        }
-        return initializedConfig;
+        });
     }
 
-    /**
-     * Returns a {@code UserPrefs} using the file at {@code storage}'s user prefs file path,
-     * or a new {@code UserPrefs} with default configuration if errors occur when
-     * reading from the file.
-     */
-    protected UserPrefs initPrefs(UserPrefsStorage storage) {
-        Path prefsFilePath = storage.getUserPrefsFilePath();
-        logger.info("Using preference file : " + prefsFilePath);
-
-        UserPrefs initializedPrefs;
-        try {
-            Optional<UserPrefs> prefsOptional = storage.readUserPrefs();
-            if (!prefsOptional.isPresent()) {
-                logger.info("Creating new preference file " + prefsFilePath);
-            }
-            initializedPrefs = prefsOptional.orElse(new UserPrefs());
-        } catch (DataLoadingException e) {
-            logger.warning("Preference file at " + prefsFilePath + " could not be loaded."
-                    + " Using default preferences.");
-            initializedPrefs = new UserPrefs();
-        }
-
-        //Update prefs file in case it was missing to begin with or there are new/unused fields
-        try {
-            storage.saveUserPrefs(initializedPrefs);
-        } catch (IOException e) {
-            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+    private void finishStartup() {
+        long timeToInteractiveMillis = TimeUnit.NANOSECONDS.toMillis(startupTimer.finish());
+        if (timeToInteractiveMillis > TARGET_TIME_TO_INTERACTIVE_MILLIS) {
+            logger.warning("Took " + timeToInteractiveMillis + " ms to start, longer than the target of "
+                    + TARGET_TIME_TO_INTERACTIVE_MILLIS + " ms");
         }
-
-        return initializedPrefs;
-    }
-
-    @Override
-    public void start(Stage primaryStage) {
-        logger.info("Starting EduConnect " + MainApp.VERSION);
-        ui.start(primaryStage);
     }
 
     @Override
     public void stop() {
         logger.info("============================ [ Stopping Address Book ] =============================");
+        commandMetricsExporter.stop();
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
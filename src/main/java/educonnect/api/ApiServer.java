@@ -0,0 +1,338 @@
+package educonnect.api;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import educonnect.commons.core.LogsCenter;
+import educonnect.commons.util.JsonUtil;
+import educonnect.commons.util.StringUtil;
+import educonnect.logic.Logic;
+import educonnect.logic.Messages;
+import educonnect.logic.commands.AddCommand;
+import educonnect.logic.commands.DeleteCommand;
+import educonnect.logic.commands.EditCommand;
+import educonnect.logic.commands.FindCommand;
+import educonnect.logic.commands.SlotsCommand;
+import educonnect.logic.commands.exceptions.CommandException;
+import educonnect.logic.parser.FindCommandParser;
+import educonnect.logic.parser.SlotsCommandParser;
+import educonnect.logic.parser.exceptions.ParseException;
+import educonnect.model.student.Student;
+import educonnect.model.student.timetable.AvailableSlots;
+import educonnect.model.student.timetable.Day;
+
+/**
+ * Serves the {@code find}, {@code slots}, {@code add}, {@code edit} and {@code delete} commands
+ * as JSON endpoints over HTTP, so that other tools can query the address book.
+ *
+ * The server only binds to the loopback address. Requests are handled by a fixed pool of threads:
+ * read-only requests ({@code GET /find}, {@code GET /slots}) run concurrently, while requests that
+ * change the address book ({@code POST /add}, {@code POST /edit}, {@code POST /delete}) run one at a time.
+ * Read-only requests do not change the filtered student list.
+ */
+public class ApiServer {
+
+    public static final int DEFAULT_THREAD_COUNT = 4;
+    public static final String ARGS_PARAMETER = "args";
+    public static final String MESSAGE_NOT_FOUND = "No such endpoint.";
+    public static final String MESSAGE_METHOD_NOT_ALLOWED = "Method not allowed, use %1$s.";
+    public static final String MESSAGE_INVALID_BODY = "Request body must be a JSON object with a string \""
+            + ARGS_PARAMETER + "\" field.";
+    public static final String MESSAGE_INTERNAL_ERROR = "Internal server error.";
+
+    static final String GET = "GET";
+    static final String POST = "POST";
+
+    private static final int STATUS_OK = 200;
+    private static final int STATUS_BAD_REQUEST = 400;
+    private static final int STATUS_NOT_FOUND = 404;
+    private static final int STATUS_METHOD_NOT_ALLOWED = 405;
+    private static final int STATUS_INTERNAL_ERROR = 500;
+    private static final int STOP_DELAY_SECONDS = 1;
+
+    private static final Logger logger = LogsCenter.getLogger(ApiServer.class);
+
+    private final Logic logic;
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, EndpointMetrics> metrics = new LinkedHashMap<>();
+
+    /**
+     * Creates an {@code ApiServer} over {@code logic} that listens on {@code port} of the loopback address,
+     * using {@link #DEFAULT_THREAD_COUNT} threads. A {@code port} of 0 picks any free port.
+     */
+    public ApiServer(Logic logic, int port) throws IOException {
+        this(logic, port, DEFAULT_THREAD_COUNT);
+    }
+
+    /**
+     * Creates an {@code ApiServer} over {@code logic} that listens on {@code port} of the loopback address,
+     * using {@code threadCount} threads. A {@code port} of 0 picks any free port.
+     */
+    public ApiServer(Logic logic, int port, int threadCount) throws IOException {
+        requireNonNull(logic);
+        this.logic = logic;
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        this.executor = Executors.newFixedThreadPool(threadCount);
+        server.setExecutor(executor);
+
+        register("/" + FindCommand.COMMAND_WORD, GET, this::find);
+        register("/" + SlotsCommand.COMMAND_WORD, GET, this::slots);
+        register("/" + AddCommand.COMMAND_WORD, POST, exchange -> execute(AddCommand.COMMAND_WORD, exchange));
+        register("/" + EditCommand.COMMAND_WORD, POST, exchange -> execute(EditCommand.COMMAND_WORD, exchange));
+        register("/" + DeleteCommand.COMMAND_WORD, POST, exchange -> execute(DeleteCommand.COMMAND_WORD, exchange));
+        register("/metrics", GET, exchange -> getMetrics());
+    }
+
+    /**
+     * Starts accepting requests.
+     */
+    public void start() {
+        server.start();
+        logger.info("API server listening on " + server.getAddress());
+    }
+
+    /**
+     * Stops accepting requests, waiting briefly for requests that are being handled to complete.
+     */
+    public void stop() {
+        server.stop(STOP_DELAY_SECONDS);
+        executor.shutdown();
+        try {
+            executor.awaitTermination(STOP_DELAY_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        logger.info("API server stopped");
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Returns an unmodifiable view of the latency metrics of each endpoint, keyed by its path.
+     */
+    public Map<String, EndpointMetrics> getEndpointMetrics() {
+        return Collections.unmodifiableMap(metrics);
+    }
+
+    private void register(String path, String method, Endpoint endpoint) {
+        EndpointMetrics endpointMetrics = new EndpointMetrics();
+        metrics.put(path, endpointMetrics);
+        server.createContext(path, exchange -> serve(exchange, path, method, endpoint, endpointMetrics));
+    }
+
+    /**
+     * Handles {@code exchange} with {@code endpoint}, converting its result or failure into a JSON response.
+     */
+    private void serve(HttpExchange exchange, String path, String method, Endpoint endpoint,
+                       EndpointMetrics endpointMetrics) throws IOException {
+        long startTime = System.nanoTime();
+        int status = STATUS_OK;
+        Object response;
+        try {
+            if (!exchange.getRequestURI().getPath().equals(path)) {
+                status = STATUS_NOT_FOUND;
+                response = error(MESSAGE_NOT_FOUND);
+            } else if (!exchange.getRequestMethod().equals(method)) {
+                status = STATUS_METHOD_NOT_ALLOWED;
+                exchange.getResponseHeaders().set("Allow", method);
+                response = error(String.format(MESSAGE_METHOD_NOT_ALLOWED, method));
+            } else {
+                response = endpoint.handle(exchange);
+            }
+        } catch (ParseException | CommandException e) {
+            status = STATUS_BAD_REQUEST;
+            response = error(e.getMessage());
+        } catch (JsonProcessingException e) {
+            status = STATUS_BAD_REQUEST;
+            response = error(MESSAGE_INVALID_BODY);
+        } catch (RuntimeException e) {
+            logger.warning("Failed to handle request to " + path + ": " + StringUtil.getDetails(e));
+            status = STATUS_INTERNAL_ERROR;
+            response = error(MESSAGE_INTERNAL_ERROR);
+        }
+
+        endpointMetrics.record(System.nanoTime() - startTime, status != STATUS_OK);
+        try {
+            sendResponse(exchange, status, response);
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private Object find(HttpExchange exchange) throws ParseException {
+        FindCommand findCommand = new FindCommandParser().parse(" " + getArgs(exchange));
+        List<Student> matches;
+        lock.readLock().lock();
+        try {
+            matches = findCommand.findMatches(logic.getAddressBook());
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("feedback", String.format(Messages.MESSAGE_STUDENTS_LISTED_OVERVIEW, matches.size()));
+        response.put("students", matches.stream().map(ApiServer::toJson).collect(Collectors.toList()));
+        return response;
+    }
+
+    private Object slots(HttpExchange exchange) throws ParseException {
+        SlotsCommand slotsCommand = new SlotsCommandParser().parse(" " + getArgs(exchange));
+        AvailableSlots availableSlots;
+        lock.readLock().lock();
+        try {
+            availableSlots = slotsCommand.findSlots(logic.getAddressBook());
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("feedback", availableSlots.hasCommonSlots()
+                ? SlotsCommand.MESSAGE_FOUND_SLOTS_SUCCESS
+                : SlotsCommand.MESSAGE_NO_SLOTS_FOUND);
+        response.put("slots", toJson(availableSlots));
+        return response;
+    }
+
+    private Object execute(String commandWord, HttpExchange exchange)
+            throws IOException, ParseException, CommandException {
+        String commandText = commandWord + " " + readArgs(exchange);
+        String feedback;
+        lock.writeLock().lock();
+        try {
+            feedback = logic.execute(commandText).getFullText();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        return Map.of("feedback", feedback);
+    }
+
+    private Object getMetrics() {
+        Map<String, Object> response = new LinkedHashMap<>();
+        metrics.forEach((path, endpointMetrics) -> {
+            Map<String, Object> values = new LinkedHashMap<>();
+            values.put("count", endpointMetrics.getRequestCount());
+            values.put("errors", endpointMetrics.getErrorCount());
+            values.put("meanMillis", endpointMetrics.getMeanMillis());
+            values.put("maxMillis", endpointMetrics.getMaxMillis());
+            response.put(path, values);
+        });
+        return response;
+    }
+
+    /**
+     * Returns the decoded value of the {@code args} query parameter of {@code exchange}, or an empty string if absent.
+     */
+    private static String getArgs(HttpExchange exchange) {
+        String query = exchange.getRequestURI().getRawQuery();
+        if (query == null) {
+            return "";
+        }
+        for (String parameter : query.split("&")) {
+            int separatorIndex = parameter.indexOf('=');
+            String name = separatorIndex < 0 ? parameter : parameter.substring(0, separatorIndex);
+            if (name.equals(ARGS_PARAMETER)) {
+                return separatorIndex < 0
+                        ? ""
+                        : URLDecoder.decode(parameter.substring(separatorIndex + 1), StandardCharsets.UTF_8);
+            }
+        }
+        return "";
+    }
+
+    /**
+     * Returns the {@code args} field of the JSON object in the body of {@code exchange}.
+     */
+    private static String readArgs(HttpExchange exchange) throws IOException, ParseException {
+        String body;
+        try (InputStream requestBody = exchange.getRequestBody()) {
+            body = new String(requestBody.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        Map<?, ?> json = JsonUtil.fromJsonString(body, Map.class);
+        Object args = json == null ? null : json.get(ARGS_PARAMETER);
+        if (!(args instanceof String)) {
+            throw new ParseException(MESSAGE_INVALID_BODY);
+        }
+        return (String) args;
+    }
+
+    private static void sendResponse(HttpExchange exchange, int status, Object response) throws IOException {
+        byte[] bytes = JsonUtil.toJsonString(response).getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream responseBody = exchange.getResponseBody()) {
+            responseBody.write(bytes);
+        }
+    }
+
+    private static Map<String, Object> error(String message) {
+        return Map.of("error", message);
+    }
+
+    private static Map<String, Object> toJson(Student student) {
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("name", student.getName().toString());
+        json.put("studentId", student.getStudentId().toString());
+        json.put("email", student.getEmail().toString());
+        json.put("telegramHandle", student.getTelegramHandle().toString());
+        json.put("link", student.getLink().map(Object::toString).orElse(null));
+        json.put("tags", student.getTags().stream()
+                .map(tag -> tag.tagName)
+                .sorted()
+                .collect(Collectors.toList()));
+        json.put("timetable", student.getTimetable().convertToCommandString());
+        return json;
+    }
+
+    private static List<Map<String, Object>> toJson(AvailableSlots availableSlots) {
+        List<Map<String, Object>> json = new ArrayList<>();
+        for (Day day : availableSlots.getDays()) {
+            if (!day.hasPeriods()) {
+                continue;
+            }
+            Map<String, Object> dayJson = new LinkedHashMap<>();
+            dayJson.put("day", day.getDayOfWeek().toString());
+            dayJson.put("periods", day.getPeriods().stream()
+                    .sorted(Comparator.naturalOrder())
+                    .map(period -> period.getStartTimeHour() + "-" + period.getEndTimeHour())
+                    .collect(Collectors.toList()));
+            json.add(dayJson);
+        }
+        return json;
+    }
+
+    /**
+     * Handles a request to one endpoint, returning the object to be sent back as JSON.
+     */
+    @FunctionalInterface
+    private interface Endpoint {
+        Object handle(HttpExchange exchange) throws IOException, ParseException, CommandException;
+    }
+}
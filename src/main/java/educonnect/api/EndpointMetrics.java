@@ -0,0 +1,67 @@
+package educonnect.api;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import educonnect.commons.util.ToStringBuilder;
+
+/**
+ * Keeps latency metrics of the requests served by one {@code ApiServer} endpoint.
+ * Safe to be updated concurrently by multiple request threads.
+ */
+public class EndpointMetrics {
+
+    private final LongAdder requestCount = new LongAdder();
+    private final LongAdder errorCount = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    /**
+     * Records a request that took {@code elapsedNanos} to be served.
+     *
+     * @param isError true if the request was not served successfully.
+     */
+    public void record(long elapsedNanos, boolean isError) {
+        requestCount.increment();
+        if (isError) {
+            errorCount.increment();
+        }
+        totalNanos.add(elapsedNanos);
+        maxNanos.accumulateAndGet(elapsedNanos, Math::max);
+    }
+
+    public long getRequestCount() {
+        return requestCount.sum();
+    }
+
+    public long getErrorCount() {
+        return errorCount.sum();
+    }
+
+    /**
+     * Returns the mean latency of all recorded requests in milliseconds, or 0 if there are none.
+     */
+    public double getMeanMillis() {
+        long count = requestCount.sum();
+        return count == 0 ? 0 : toMillis(totalNanos.sum()) / count;
+    }
+
+    public double getMaxMillis() {
+        return toMillis(maxNanos.get());
+    }
+
+    private static double toMillis(long nanos) {
+        return (double) nanos / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("requestCount", getRequestCount())
+                .add("errorCount", getErrorCount())
+                .add("meanMillis", getMeanMillis())
+                .add("maxMillis", getMaxMillis())
+                .toString();
+    }
+}
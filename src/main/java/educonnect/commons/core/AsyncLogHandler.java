@@ -0,0 +1,135 @@
+package educonnect.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.ErrorManager;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+/**
+ * A {@code Handler} that passes log records to another handler on a background thread, so that logging never waits
+ * for the other handler, e.g. to write to a file.
+ * Records are queued in a bounded queue and written in batches, with the other handler flushed once per batch.
+ * If the queue is full, records are dropped rather than waiting for space, and a warning with the number of records
+ * dropped is written with the next batch.
+ */
+public class AsyncLogHandler extends Handler {
+
+    public static final int DEFAULT_CAPACITY = 8192;
+    public static final int MAX_BATCH_SIZE = 256;
+
+    static final String MESSAGE_RECORDS_DROPPED = "%d log messages were dropped as they were logged too quickly";
+
+    private static final long CLOSE_TIMEOUT_MILLIS = 1000;
+
+    private final Handler handler;
+    private final BlockingQueue<LogRecord> queue;
+    private final Thread writer;
+    private final AtomicLong numOfRecordsDropped = new AtomicLong();
+    private final AtomicLong numOfRecordsDroppedSinceLastBatch = new AtomicLong();
+    private volatile boolean isClosed;
+
+    /**
+     * Creates a handler that passes log records to {@code handler}, queueing up to {@code capacity} of them.
+     */
+    public AsyncLogHandler(Handler handler, int capacity) {
+        requireNonNull(handler);
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Invalid capacity: " + capacity);
+        }
+        this.handler = handler;
+        queue = new ArrayBlockingQueue<>(capacity);
+        writer = new Thread(this::writeUntilClosed, "log-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @Override
+    public void publish(LogRecord record) {
+        if (isClosed || !isLoggable(record)) {
+            return;
+        }
+        // The class and method that logged the record are found from the stack, so it must be done on this thread
+        record.getSourceClassName();
+        if (!queue.offer(record)) {
+            numOfRecordsDropped.incrementAndGet();
+            numOfRecordsDroppedSinceLastBatch.incrementAndGet();
+        }
+    }
+
+    /**
+     * Does nothing, as queued records are written as soon as possible anyway. Records are only guaranteed to be
+     * written once this handler is closed.
+     */
+    @Override
+    public void flush() {
+    }
+
+    /**
+     * Writes the records that are still queued and closes the other handler. Records published afterwards are
+     * ignored.
+     */
+    @Override
+    public void close() {
+        if (isClosed) {
+            return;
+        }
+        isClosed = true;
+        writer.interrupt();
+        try {
+            writer.join(CLOSE_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        // Records queued after the writer last checked the queue are written here
+        List<LogRecord> batch = new ArrayList<>();
+        queue.drainTo(batch);
+        writeBatch(batch);
+        handler.close();
+    }
+
+    /**
+     * Returns the number of records dropped because the queue was full.
+     */
+    public long getNumOfRecordsDropped() {
+        return numOfRecordsDropped.get();
+    }
+
+    private void writeUntilClosed() {
+        List<LogRecord> batch = new ArrayList<>(MAX_BATCH_SIZE);
+        while (!isClosed) {
+            try {
+                batch.add(queue.take());
+            } catch (InterruptedException e) {
+                // Interrupted to be closed
+                continue;
+            }
+            queue.drainTo(batch, MAX_BATCH_SIZE - 1);
+            writeBatch(batch);
+            batch.clear();
+        }
+    }
+
+    private synchronized void writeBatch(List<LogRecord> batch) {
+        try {
+            long numOfRecordsDroppedBefore = numOfRecordsDroppedSinceLastBatch.getAndSet(0);
+            if (numOfRecordsDroppedBefore > 0) {
+                LogRecord warning = new LogRecord(Level.WARNING,
+                        String.format(MESSAGE_RECORDS_DROPPED, numOfRecordsDroppedBefore));
+                warning.setSourceClassName(AsyncLogHandler.class.getName());
+                handler.publish(warning);
+            }
+            batch.forEach(handler::publish);
+            handler.flush();
+        } catch (RuntimeException e) {
+            reportError("Failed to write log messages", e, ErrorManager.WRITE_FAILURE);
+        }
+    }
+}
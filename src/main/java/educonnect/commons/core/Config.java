@@ -17,6 +17,7 @@ public class Config {
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private boolean columnarStudentStore = false;
 
     public Level getLogLevel() {
         return logLevel;
@@ -34,6 +35,17 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    /**
+     * Returns true if the students should be kept in columns, which takes less memory for large cohorts.
+     */
+    public boolean isColumnarStudentStore() {
+        return columnarStudentStore;
+    }
+
+    public void setColumnarStudentStore(boolean columnarStudentStore) {
+        this.columnarStudentStore = columnarStudentStore;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -47,12 +59,13 @@ public class Config {
 
         Config otherConfig = (Config) other;
         return Objects.equals(logLevel, otherConfig.logLevel)
-                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath)
+                && columnarStudentStore == otherConfig.columnarStudentStore;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, columnarStudentStore);
     }
 
     @Override
@@ -60,6 +73,7 @@ public class Config {
         return new ToStringBuilder(this)
                 .add("logLevel", logLevel)
                 .add("userPrefsFilePath", userPrefsFilePath)
+                .add("columnarStudentStore", columnarStudentStore)
                 .toString();
     }
 
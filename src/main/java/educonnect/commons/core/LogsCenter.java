@@ -6,7 +6,9 @@ import java.io.IOException;
 import java.util.Arrays;
 import java.util.logging.ConsoleHandler;
 import java.util.logging.FileHandler;
+import java.util.logging.Handler;
 import java.util.logging.Level;
+import java.util.logging.LogRecord;
 import java.util.logging.Logger;
 import java.util.logging.SimpleFormatter;
 
@@ -16,6 +18,9 @@ import java.util.logging.SimpleFormatter;
  * These loggers have been configured to output messages to the console and a {@code .log} file by default,
  *   at the {@code INFO} level. A new {@code .log} file with a new numbering will be created after the log
  *   file reaches 5MB big, up to a maximum of 5 files.<br>
+ * Messages are written to the {@code .log} file on a background thread, so logging does not wait for the disk.
+ *   Messages below the {@code INFO} level should be built with a {@code Supplier}, e.g.
+ *   {@code logger.fine(() -> "Loaded " + path)}, so that they are only built if they will be logged.<br>
  */
 public class LogsCenter {
     private static final int MAX_FILE_COUNT = 5;
@@ -91,16 +96,46 @@ public class LogsCenter {
         consoleHandler.setLevel(Level.ALL);
         baseLogger.addHandler(consoleHandler);
 
-        // add a FileHandler to log to a file
+        // add a FileHandler to log to a file, through an AsyncLogHandler so that logging does not wait for the disk
         try {
-            FileHandler fileHandler = new FileHandler(LOG_FILE, MAX_FILE_SIZE_IN_BYTES, MAX_FILE_COUNT, true);
+            FileHandler fileHandler = new BatchFileHandler(LOG_FILE, MAX_FILE_SIZE_IN_BYTES, MAX_FILE_COUNT);
             fileHandler.setFormatter(new SimpleFormatter());
             fileHandler.setLevel(Level.ALL);
-            baseLogger.addHandler(fileHandler);
+            Handler asyncHandler = new AsyncLogHandler(fileHandler, AsyncLogHandler.DEFAULT_CAPACITY);
+            asyncHandler.setLevel(Level.ALL);
+            baseLogger.addHandler(asyncHandler);
         } catch (IOException e) {
             logger.warning("Error adding file handler for logger.");
         }
     }
 
+    /**
+     * A {@code FileHandler} that appends to the log file and is only flushed when {@link #flush()} is called,
+     * rather than after every record, so that a batch of records from an {@code AsyncLogHandler} is written at once.
+     */
+    private static class BatchFileHandler extends FileHandler {
+        private boolean isPublishing;
+
+        BatchFileHandler(String pattern, int limit, int count) throws IOException {
+            super(pattern, limit, count, true);
+        }
 
+        @Override
+        public synchronized void publish(LogRecord record) {
+            // FileHandler flushes after publishing each record
+            isPublishing = true;
+            try {
+                super.publish(record);
+            } finally {
+                isPublishing = false;
+            }
+        }
+
+        @Override
+        public synchronized void flush() {
+            if (!isPublishing) {
+                super.flush();
+            }
+        }
+    }
 }
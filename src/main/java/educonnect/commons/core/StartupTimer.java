@@ -0,0 +1,132 @@
+package educonnect.commons.core;
+
+import static educonnect.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+/**
+ * Times the phases of starting the application, from when the timer is created until the application is
+ * ready for the user. Phases may run concurrently on different threads, and each is logged as it ends.
+ */
+public class StartupTimer {
+
+    private static final Logger logger = LogsCenter.getLogger(StartupTimer.class);
+    private static final double NANOS_PER_MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final long startNanos = System.nanoTime();
+    private final List<Phase> phases = new ArrayList<>();
+    private final CountDownLatch finished = new CountDownLatch(1);
+    private volatile long totalNanos = -1;
+
+    /**
+     * Runs {@code step} as the phase {@code phaseName} and returns its result.
+     */
+    public <T> T time(String phaseName, Supplier<T> step) {
+        requireAllNonNull(phaseName, step);
+        long phaseStart = System.nanoTime();
+        try {
+            return step.get();
+        } finally {
+            addPhase(phaseName, phaseStart, System.nanoTime());
+        }
+    }
+
+    /**
+     * Runs {@code step} as the phase {@code phaseName}.
+     */
+    public void time(String phaseName, Runnable step) {
+        requireAllNonNull(phaseName, step);
+        time(phaseName, () -> {
+            step.run();
+            return null;
+        });
+    }
+
+    /**
+     * Runs {@code step} as the phase {@code phaseName} on {@code executor}, concurrently with the caller.
+     */
+    public CompletableFuture<Void> timeAsync(String phaseName, Runnable step, Executor executor) {
+        requireAllNonNull(phaseName, step, executor);
+        return CompletableFuture.runAsync(() -> time(phaseName, step), executor);
+    }
+
+    /**
+     * Records that the application is ready for the user, and logs the time taken to start it.
+     * Only the first call has any effect.
+     *
+     * @return the time taken from when this timer was created until the first call.
+     */
+    public synchronized long finish() {
+        if (totalNanos < 0) {
+            totalNanos = System.nanoTime() - startNanos;
+            logger.info(String.format(Locale.ROOT, "Started in %.1f ms", totalNanos / NANOS_PER_MILLI));
+            finished.countDown();
+        }
+        return totalNanos;
+    }
+
+    /**
+     * Returns the time taken to start the application, or -1 if it has not finished starting.
+     */
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+
+    /**
+     * Waits up to {@code timeout} for the application to finish starting.
+     *
+     * @return true if it finished starting.
+     */
+    public boolean awaitFinish(long timeout, TimeUnit unit) throws InterruptedException {
+        return finished.await(timeout, unit);
+    }
+
+    /**
+     * Returns the phases that have ended, in the order they ended.
+     */
+    public synchronized List<Phase> getPhases() {
+        return new ArrayList<>(phases);
+    }
+
+    private void addPhase(String phaseName, long phaseStart, long phaseEnd) {
+        Phase phase = new Phase(phaseName, Thread.currentThread().getName(), phaseStart - startNanos,
+                phaseEnd - phaseStart);
+        synchronized (this) {
+            phases.add(phase);
+        }
+        logger.info("Startup phase " + phase.format());
+    }
+
+    /**
+     * A phase of starting the application, and when it ran relative to the start of the application.
+     */
+    public static class Phase {
+        public final String name;
+        public final String threadName;
+        public final long startNanos;
+        public final long durationNanos;
+
+        private Phase(String name, String threadName, long startNanos, long durationNanos) {
+            this.name = name;
+            this.threadName = threadName;
+            this.startNanos = startNanos;
+            this.durationNanos = durationNanos;
+        }
+
+        /**
+         * Formats this phase as a line of text.
+         */
+        public String format() {
+            return String.format(Locale.ROOT, "%-12s took %8.1f ms, from %8.1f ms on %s",
+                    name, durationNanos / NANOS_PER_MILLI, startNanos / NANOS_PER_MILLI, threadName);
+        }
+    }
+}
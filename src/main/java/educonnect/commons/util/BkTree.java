@@ -0,0 +1,91 @@
+package educonnect.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A BK-tree of words, for finding the words within an edit distance of a given word
+ * without computing the distance to every word.
+ * Relies on {@link StringUtil#editDistance(String, String)} satisfying the triangle inequality:
+ * the children of a node are keyed by their distance to it, and only the children whose key is within
+ * {@code maxDistance} of the node's own distance to the target word can contain matches.
+ */
+public class BkTree {
+
+    private Node root;
+    private int size;
+
+    /**
+     * Adds {@code word} to the tree, if it is not already in it.
+     */
+    public void add(String word) {
+        requireNonNull(word);
+        if (root == null) {
+            root = new Node(word);
+            size++;
+            return;
+        }
+
+        Node node = root;
+        while (true) {
+            int distance = StringUtil.editDistance(word, node.word);
+            if (distance == 0) {
+                return;
+            }
+            Node child = node.children.get(distance);
+            if (child == null) {
+                node.children.put(distance, new Node(word));
+                size++;
+                return;
+            }
+            node = child;
+        }
+    }
+
+    /**
+     * Returns the words in the tree within {@code maxDistance} of {@code word}, mapped to their distance from it.
+     */
+    public Map<String, Integer> search(String word, int maxDistance) {
+        requireNonNull(word);
+        Map<String, Integer> matches = new HashMap<>();
+        if (root == null) {
+            return matches;
+        }
+
+        Deque<Node> nodesToVisit = new ArrayDeque<>();
+        nodesToVisit.push(root);
+        while (!nodesToVisit.isEmpty()) {
+            Node node = nodesToVisit.pop();
+            int distance = StringUtil.editDistance(word, node.word);
+            if (distance <= maxDistance) {
+                matches.put(node.word, distance);
+            }
+            for (Map.Entry<Integer, Node> child : node.children.entrySet()) {
+                if (Math.abs(child.getKey() - distance) <= maxDistance) {
+                    nodesToVisit.push(child.getValue());
+                }
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the number of distinct words in the tree.
+     */
+    public int size() {
+        return size;
+    }
+
+    private static class Node {
+        private final String word;
+        private final Map<Integer, Node> children = new HashMap<>();
+
+        private Node(String word) {
+            this.word = word;
+        }
+    }
+}
@@ -19,4 +19,12 @@ public class ConfigUtil {
         JsonUtil.saveJsonFile(config, configFilePath);
     }
 
+    /**
+     * Saves {@code config} to {@code configFilePath}, unless the file already holds the same config.
+     * @return true if the file was written.
+     */
+    public static boolean saveConfigIfChanged(Config config, Path configFilePath) throws IOException {
+        return JsonUtil.saveJsonFileIfChanged(config, configFilePath);
+    }
+
 }
@@ -0,0 +1,158 @@
+package educonnect.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A column of values, one for each row of a table, that keeps each distinct value once and each row as the
+ * {@code int} code of its value. Rows are numbered from 0 and can be inserted and removed anywhere, shifting the
+ * rows after them. A row can also have no value, which is {@code null}.
+ * Values that no row has any more are dropped, and their codes reused.
+ *
+ * @param <T> the type of the values, which must not change as they are looked up by {@code equals} and
+ *     {@code hashCode}.
+ */
+public class DictionaryColumn<T> {
+
+    /** The code of rows without a value. */
+    public static final int NO_VALUE = -1;
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private int[] codes = new int[INITIAL_CAPACITY];
+    private int size;
+
+    private final List<T> values = new ArrayList<>();
+    private final Map<T, Integer> codesByValue = new HashMap<>();
+    private int[] numOfRowsByCode = new int[INITIAL_CAPACITY];
+    private final List<Integer> unusedCodes = new ArrayList<>();
+
+    /**
+     * Returns the number of rows.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of distinct values the rows have.
+     */
+    public int getNumOfValues() {
+        return codesByValue.size();
+    }
+
+    /**
+     * Returns the value of {@code row}, or null if it has none.
+     */
+    public T get(int row) {
+        int code = getCode(row);
+        return code == NO_VALUE ? null : values.get(code);
+    }
+
+    /**
+     * Returns the code of the value of {@code row}, or {@link #NO_VALUE} if it has none.
+     */
+    public int getCode(int row) {
+        checkRow(row, size);
+        return codes[row];
+    }
+
+    /**
+     * Returns the code of {@code value}, or {@link #NO_VALUE} if no row has it.
+     */
+    public int getCodeOf(T value) {
+        requireNonNull(value);
+        return codesByValue.getOrDefault(value, NO_VALUE);
+    }
+
+    /**
+     * Returns the first row with {@code value}, or -1 if no row has it.
+     * Only the codes of the rows are compared, so this is a scan over an {@code int} array.
+     */
+    public int indexOf(T value) {
+        int code = getCodeOf(value);
+        if (code == NO_VALUE) {
+            return -1;
+        }
+        for (int row = 0; row < size; row++) {
+            if (codes[row] == code) {
+                return row;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Inserts a row with {@code value}, which may be null, at {@code row}.
+     */
+    public void insert(int row, T value) {
+        checkRow(row, size + 1);
+        if (size == codes.length) {
+            codes = Arrays.copyOf(codes, size * 2);
+        }
+        System.arraycopy(codes, row, codes, row + 1, size - row);
+        codes[row] = encode(value);
+        size++;
+    }
+
+    /**
+     * Replaces the value of {@code row} with {@code value}, which may be null.
+     */
+    public void set(int row, T value) {
+        checkRow(row, size);
+        int newCode = encode(value);
+        release(codes[row]);
+        codes[row] = newCode;
+    }
+
+    /**
+     * Removes {@code row}.
+     */
+    public void remove(int row) {
+        checkRow(row, size);
+        release(codes[row]);
+        System.arraycopy(codes, row + 1, codes, row, size - row - 1);
+        size--;
+    }
+
+    private int encode(T value) {
+        if (value == null) {
+            return NO_VALUE;
+        }
+        Integer code = codesByValue.get(value);
+        if (code == null) {
+            code = unusedCodes.isEmpty() ? values.size() : unusedCodes.remove(unusedCodes.size() - 1);
+            if (code == values.size()) {
+                values.add(value);
+            } else {
+                values.set(code, value);
+            }
+            if (code == numOfRowsByCode.length) {
+                numOfRowsByCode = Arrays.copyOf(numOfRowsByCode, code * 2);
+            }
+            codesByValue.put(value, code);
+        }
+        numOfRowsByCode[code]++;
+        return code;
+    }
+
+    private void release(int code) {
+        if (code == NO_VALUE || --numOfRowsByCode[code] > 0) {
+            return;
+        }
+        codesByValue.remove(values.get(code));
+        values.set(code, null);
+        unusedCodes.add(code);
+    }
+
+    private void checkRow(int row, int bound) {
+        if (row < 0 || row >= bound) {
+            throw new IndexOutOfBoundsException("Row: " + row + ", Size: " + size);
+        }
+    }
+}
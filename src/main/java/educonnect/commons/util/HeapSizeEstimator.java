@@ -0,0 +1,371 @@
+package educonnect.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.time.LocalTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.sun.management.HotSpotDiagnosticMXBean;
+
+import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
+
+/**
+ * Estimates the heap retained by graphs of objects, sorted into categories, without a profiler or agent.
+ * Every object reachable from the roots added is counted once, in the category of the first path that reaches it,
+ * so objects shared between roots, such as interned values, are only counted for the first root.
+ *
+ * The fields of the application's own classes are walked by reflection. The classes of the JDK and JavaFX are
+ * not, as their internals may not be accessible, so the strings, boxed values, arrays, bit sets and collections
+ * among them are sized from what they hold, in the way the HotSpot JVM lays them out, and their elements walked.
+ * Other such objects are sized from their fields but not walked. The sizes of collections are lower bounds,
+ * as their spare capacity cannot be seen.
+ */
+public class HeapSizeEstimator {
+
+    /**
+     * Decides the category of the objects reached.
+     */
+    @FunctionalInterface
+    public interface Classifier {
+        /**
+         * Returns the category of {@code object}, which was reached from {@code referrer} in {@code referrerCategory}.
+         */
+        String categorize(Object object, Object referrer, String referrerCategory);
+    }
+
+    private static final String OWN_PACKAGE_PREFIX = "educonnect.";
+    private static final int ALIGNMENT = 8;
+    private static final float HASH_LOAD_FACTOR = 0.75f;
+    private static final int HASH_MIN_CAPACITY = 16;
+    private static final int HASH_MAP_BYTES = 48;
+    private static final int HASH_NODE_BYTES = 32;
+    private static final int LINKED_HASH_MAP_BYTES = 56;
+    private static final int LINKED_HASH_NODE_BYTES = 40;
+    private static final int TREE_MAP_BYTES = 48;
+    private static final int TREE_NODE_BYTES = 40;
+    private static final int SET_WRAPPER_BYTES = 16;
+    private static final int LIST_BYTES = 24;
+    private static final int WRAPPER_BYTES = 16;
+    private static final int SORTED_ELEMENT_BYTES = 24;
+
+    private final Classifier classifier;
+    private final int objectHeaderBytes;
+    private final int arrayHeaderBytes;
+    private final int referenceBytes;
+    private final Set<Object> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final Map<String, long[]> totals = new LinkedHashMap<>();
+    private final Map<Class<?>, List<Field>> fieldsByClass = new IdentityHashMap<>();
+
+    /**
+     * Creates an estimator for the layout of the running JVM.
+     */
+    public HeapSizeEstimator(Classifier classifier) {
+        this(classifier, isVmOptionEnabled("UseCompressedOops"), isVmOptionEnabled("UseCompressedClassPointers"));
+    }
+
+    /**
+     * Creates an estimator for a 64-bit JVM that does or does not compress references and class pointers.
+     */
+    public HeapSizeEstimator(Classifier classifier, boolean compressesReferences, boolean compressesClassPointers) {
+        requireNonNull(classifier);
+        this.classifier = classifier;
+        this.referenceBytes = compressesReferences ? 4 : 8;
+        this.objectHeaderBytes = compressesClassPointers ? 12 : 16;
+        this.arrayHeaderBytes = (int) align(objectHeaderBytes + Integer.BYTES);
+    }
+
+    /**
+     * Adds the objects reachable from {@code root} that have not been counted yet, starting in {@code category}.
+     *
+     * @return the number of bytes added.
+     */
+    public long add(Object root, String category) {
+        requireNonNull(category);
+        long bytesBefore = getTotalBytes();
+        Deque<Object[]> pending = new ArrayDeque<>();
+        pending.push(new Object[] {root, null, category});
+        while (!pending.isEmpty()) {
+            Object[] next = pending.pop();
+            Object object = next[0];
+            if (object == null || isShared(object) || !visited.add(object)) {
+                continue;
+            }
+            String objectCategory = classifier.categorize(object, next[1], (String) next[2]);
+            List<Object> references = new ArrayList<>();
+            count(objectCategory, measure(object, references));
+            for (Object reference : references) {
+                pending.push(new Object[] {reference, object, objectCategory});
+            }
+        }
+        return getTotalBytes() - bytesBefore;
+    }
+
+    /**
+     * Returns the categories counted so far, in the order they were first counted.
+     */
+    public List<String> getCategories() {
+        return new ArrayList<>(totals.keySet());
+    }
+
+    public long getBytes(String category) {
+        return totals.getOrDefault(category, new long[2])[0];
+    }
+
+    public long getObjectCount(String category) {
+        return totals.getOrDefault(category, new long[2])[1];
+    }
+
+    /**
+     * Returns the number of bytes counted in every category.
+     */
+    public long getTotalBytes() {
+        return totals.values().stream().mapToLong(total -> total[0]).sum();
+    }
+
+    private void count(String category, long[] bytesAndObjects) {
+        long[] total = totals.computeIfAbsent(category, unused -> new long[2]);
+        total[0] += bytesAndObjects[0];
+        total[1] += bytesAndObjects[1];
+    }
+
+    /**
+     * Returns true if {@code object} is a constant shared by the whole JVM, which is not counted.
+     */
+    private static boolean isShared(Object object) {
+        if (object instanceof Class || object instanceof Enum || object instanceof Boolean) {
+            return true;
+        }
+        if (object instanceof Integer || object instanceof Short || object instanceof Long) {
+            long value = ((Number) object).longValue();
+            return value >= -128 && value <= 127;
+        }
+        if (object instanceof LocalTime) {
+            // LocalTime.of returns a cached instance for each whole hour
+            LocalTime time = (LocalTime) object;
+            return time.getMinute() == 0 && time.getSecond() == 0 && time.getNano() == 0;
+        }
+        return object == Optional.empty() || object == Collections.emptyList() || object == Collections.emptySet()
+                || object == Collections.emptyMap();
+    }
+
+    /**
+     * Returns the bytes and number of objects that make up {@code object}, and adds the objects it refers to
+     * that are to be walked to {@code references}.
+     */
+    private long[] measure(Object object, List<Object> references) {
+        Class<?> type = object.getClass();
+        if (type.isArray()) {
+            return new long[] {measureArray(object, references), 1};
+        }
+        if (type.getName().startsWith(OWN_PACKAGE_PREFIX)) {
+            // Our own classes are walked field by field, even those that are collections
+            addFieldValues(object, references);
+            return new long[] {getShallowBytes(type), 1};
+        }
+        if (object instanceof String) {
+            String string = (String) object;
+            boolean isLatin1 = string.chars().allMatch(c -> c <= 0xFF);
+            long valueBytes = align(arrayHeaderBytes + (long) string.length() * (isLatin1 ? 1 : 2));
+            return new long[] {getShallowBytes(type) + valueBytes, 2};
+        }
+        if (object instanceof BitSet) {
+            long wordsBytes = align(arrayHeaderBytes + (long) ((BitSet) object).size() / Byte.SIZE);
+            return new long[] {getShallowBytes(type) + wordsBytes, 2};
+        }
+        if (object instanceof Optional) {
+            ((Optional<?>) object).ifPresent(references::add);
+            return new long[] {align(objectHeaderBytes + referenceBytes), 1};
+        }
+        if (object instanceof Map) {
+            Map<?, ?> map = (Map<?, ?>) object;
+            map.forEach((key, value) -> {
+                references.add(key);
+                references.add(value);
+            });
+            return measureMap(map);
+        }
+        if (object instanceof Collection) {
+            Collection<?> collection = (Collection<?>) object;
+            // A filtered list only keeps the positions of its elements in its source, so the source is walked
+            // instead. A sorted list keeps its elements, which may be held nowhere else, so they are walked
+            if (collection instanceof FilteredList) {
+                references.add(((FilteredList<?>) collection).getSource());
+            } else if (!isView(collection)) {
+                references.addAll(collection);
+            }
+            return measureCollection(collection);
+        }
+        return new long[] {getShallowBytes(type), 1};
+    }
+
+    private long measureArray(Object array, List<Object> references) {
+        Class<?> componentType = array.getClass().getComponentType();
+        int length = Array.getLength(array);
+        if (!componentType.isPrimitive()) {
+            for (int i = 0; i < length; i++) {
+                references.add(Array.get(array, i));
+            }
+        }
+        return align(arrayHeaderBytes + (long) length * getFieldBytes(componentType));
+    }
+
+    private long[] measureMap(Map<?, ?> map) {
+        int size = map.size();
+        if (map instanceof SortedMap) {
+            return new long[] {TREE_MAP_BYTES + (long) size * TREE_NODE_BYTES, 1L + size};
+        }
+        if (map instanceof IdentityHashMap) {
+            // Keys and values are kept next to each other in a single table that is at most two thirds full
+            long tableBytes = align(arrayHeaderBytes + 2L * hashCapacity(size, 2f / 3) * referenceBytes);
+            return new long[] {getShallowBytes(map.getClass()) + tableBytes, 2};
+        }
+        boolean isLinked = map instanceof LinkedHashMap;
+        return measureHashTable(size, isLinked ? LINKED_HASH_MAP_BYTES : HASH_MAP_BYTES,
+                isLinked ? LINKED_HASH_NODE_BYTES : HASH_NODE_BYTES, map instanceof ConcurrentHashMap);
+    }
+
+    /**
+     * Returns true if {@code collection} is an unmodifiable view of another collection, whose elements are walked
+     * where that collection is held rather than through the view, as going through the view may create them.
+     */
+    private static boolean isView(Collection<?> collection) {
+        return collection.getClass().getName().contains("Unmodifiable");
+    }
+
+    private long[] measureCollection(Collection<?> collection) {
+        int size = collection.size();
+        if (collection.getClass().getName().contains("Unmodifiable")) {
+            // A view of another collection, which is counted where it is held
+            return new long[] {WRAPPER_BYTES, 1};
+        }
+        if (collection instanceof FilteredList) {
+            // Keeps the index of every source element that matches, in an array as long as the source
+            int sourceSize = ((FilteredList<?>) collection).getSource().size();
+            return new long[] {getShallowBytes(collection.getClass()) + align(arrayHeaderBytes + 4L * sourceSize), 2};
+        }
+        if (collection instanceof SortedList) {
+            // Keeps an element wrapping each source element, and the permutation of the source
+            int sourceSize = ((SortedList<?>) collection).getSource().size();
+            long arraysBytes = align(arrayHeaderBytes + (long) sourceSize * referenceBytes)
+                    + align(arrayHeaderBytes + 4L * sourceSize);
+            return new long[] {getShallowBytes(collection.getClass()) + arraysBytes
+                    + (long) sourceSize * SORTED_ELEMENT_BYTES, 3L + sourceSize};
+        }
+        if (collection instanceof SortedSet) {
+            return new long[] {SET_WRAPPER_BYTES + TREE_MAP_BYTES + (long) size * TREE_NODE_BYTES, 2L + size};
+        }
+        if (collection instanceof Set) {
+            boolean isLinked = collection instanceof LinkedHashSet;
+            long[] table = measureHashTable(size, isLinked ? LINKED_HASH_MAP_BYTES : HASH_MAP_BYTES,
+                    isLinked ? LINKED_HASH_NODE_BYTES : HASH_NODE_BYTES, false);
+            return new long[] {SET_WRAPPER_BYTES + table[0], 1 + table[1]};
+        }
+        // Lists and other collections are assumed to keep their elements in an array without spare capacity
+        return new long[] {LIST_BYTES + align(arrayHeaderBytes + (long) size * referenceBytes), 2};
+    }
+
+    private long[] measureHashTable(int size, int mapBytes, int nodeBytes, boolean isAlwaysAllocated) {
+        if (size == 0 && !isAlwaysAllocated) {
+            // The table of a hash map is only allocated when the first entry is added
+            return new long[] {mapBytes, 1};
+        }
+        long tableBytes = align(arrayHeaderBytes + (long) hashCapacity(size, HASH_LOAD_FACTOR) * referenceBytes);
+        return new long[] {mapBytes + tableBytes + (long) size * nodeBytes, 2L + size};
+    }
+
+    /**
+     * Returns the smallest power of two, of at least the minimum capacity, that holds {@code size} entries
+     * without exceeding {@code loadFactor}.
+     */
+    private static int hashCapacity(int size, float loadFactor) {
+        int capacity = HASH_MIN_CAPACITY;
+        while (capacity * loadFactor < size && capacity < (1 << 30)) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    private void addFieldValues(Object object, List<Object> references) {
+        for (Field field : getInstanceFields(object.getClass())) {
+            if (field.getType().isPrimitive()) {
+                continue;
+            }
+            try {
+                field.setAccessible(true);
+                references.add(field.get(object));
+            } catch (RuntimeException | IllegalAccessException e) {
+                // The field cannot be read, so what it refers to is not counted
+            }
+        }
+    }
+
+    private long getShallowBytes(Class<?> type) {
+        long bytes = objectHeaderBytes;
+        for (Field field : getInstanceFields(type)) {
+            bytes += getFieldBytes(field.getType());
+        }
+        return align(bytes);
+    }
+
+    private List<Field> getInstanceFields(Class<?> type) {
+        return fieldsByClass.computeIfAbsent(type, unused -> {
+            List<Field> fields = new ArrayList<>();
+            for (Class<?> c = type; c != null; c = c.getSuperclass()) {
+                for (Field field : c.getDeclaredFields()) {
+                    if (!Modifier.isStatic(field.getModifiers())) {
+                        fields.add(field);
+                    }
+                }
+            }
+            return fields;
+        });
+    }
+
+    private int getFieldBytes(Class<?> type) {
+        if (type == long.class || type == double.class) {
+            return 8;
+        } else if (type == int.class || type == float.class) {
+            return 4;
+        } else if (type == short.class || type == char.class) {
+            return 2;
+        } else if (type == byte.class || type == boolean.class) {
+            return 1;
+        } else {
+            return referenceBytes;
+        }
+    }
+
+    private static long align(long bytes) {
+        return (bytes + ALIGNMENT - 1) / ALIGNMENT * ALIGNMENT;
+    }
+
+    private static boolean isVmOptionEnabled(String option) {
+        try {
+            HotSpotDiagnosticMXBean diagnosticBean = ManagementFactory.getPlatformMXBean(HotSpotDiagnosticMXBean.class);
+            return Boolean.parseBoolean(diagnosticBean.getVMOption(option).getValue());
+        } catch (RuntimeException e) {
+            // Not a HotSpot JVM, or the option is not known, so assume the default of a heap below 32 GB
+            return true;
+        }
+    }
+}
@@ -1,20 +1,28 @@
 package educonnect.commons.util;
 
+import static educonnect.commons.util.CollectionUtil.requireAllNonNull;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Iterator;
 import java.util.Optional;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.deser.std.FromStringDeserializer;
 import com.fasterxml.jackson.databind.module.SimpleModule;
@@ -91,6 +99,61 @@ public class JsonUtil {
         serializeObjectToJsonFile(filePath, jsonFile);
     }
 
+    /**
+     * Saves the Json object to the specified file, unless the file already holds exactly the same JSON text.
+     * Creates a new file if it doesn't exist.
+     * @param jsonFile cannot be null
+     * @param filePath cannot be null
+     * @return true if the file was written.
+     * @throws IOException if there was an error during reading or writing to the file
+     */
+    public static <T> boolean saveJsonFileIfChanged(T jsonFile, Path filePath) throws IOException {
+        requireNonNull(filePath);
+        requireNonNull(jsonFile);
+
+        byte[] contents = toJsonString(jsonFile).getBytes(StandardCharsets.UTF_8);
+        // Comparing the sizes first avoids reading a file that cannot be the same
+        if (FileUtil.isFileExists(filePath) && Files.size(filePath) == contents.length
+                && Arrays.equals(Files.readAllBytes(filePath), contents)) {
+            return false;
+        }
+        Files.write(filePath, contents);
+        return true;
+    }
+
+    /**
+     * Saves {@code elements} to the specified file as the array {@code fieldName} of a JSON object.
+     * Each element is written as soon as it is taken from {@code elements}, so the elements, and the JSON text,
+     * need not be in memory all at once.
+     * The elements are written to a file next to {@code filePath}, which then replaces it, so the existing file is
+     * left as it was if writing fails part of the way through.
+     * Overwrites existing file if it exists, creates a new file if it doesn't.
+     * @throws IOException if there was an error during writing to the file
+     */
+    public static <T> void saveJsonArrayFile(Iterator<T> elements, String fieldName, Path filePath)
+            throws IOException {
+        requireAllNonNull(elements, fieldName, filePath);
+
+        Path temporaryFilePath = filePath.resolveSibling(filePath.getFileName() + ".tmp");
+        ObjectWriter elementWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        try {
+            try (Writer writer = Files.newBufferedWriter(temporaryFilePath, StandardCharsets.UTF_8);
+                 JsonGenerator generator = objectMapper.getFactory().createGenerator(writer)) {
+                generator.useDefaultPrettyPrinter();
+                generator.writeStartObject();
+                generator.writeArrayFieldStart(fieldName);
+                while (elements.hasNext()) {
+                    elementWriter.writeValue(generator, elements.next());
+                }
+                generator.writeEndArray();
+                generator.writeEndObject();
+            }
+            Files.move(temporaryFilePath, filePath, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temporaryFilePath);
+        }
+    }
+
 
     /**
      * Converts a given string representation of a JSON data to instance of a class
@@ -0,0 +1,111 @@
+package educonnect.commons.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A histogram of latencies in nanoseconds, for estimating their percentiles without keeping every latency.
+ * Latencies are counted in buckets that are a power of two wide, each split into {@value #SUB_BUCKETS} equal
+ * sub-buckets, so a percentile is overestimated by less than 1 / {@value #SUB_BUCKETS} of its value.
+ * Recording is lock-free, so latencies can be recorded from several threads while the histogram is read.
+ */
+public class LatencyHistogram {
+
+    /** Number of sub-buckets that each power of two is split into, which must be a power of two itself. */
+    public static final int SUB_BUCKETS = 8;
+
+    private static final int SUB_BUCKET_BITS = Integer.numberOfTrailingZeros(SUB_BUCKETS);
+    private static final int NUM_OF_BUCKETS = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(NUM_OF_BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    /**
+     * Records a latency of {@code nanos}. Negative latencies are recorded as 0.
+     */
+    public void record(long nanos) {
+        long latency = Math.max(0, nanos);
+        counts.incrementAndGet(getBucket(latency));
+        count.increment();
+        totalNanos.add(latency);
+        maxNanos.accumulateAndGet(latency, Math::max);
+    }
+
+    /**
+     * Returns the number of recorded latencies.
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * Returns the mean of the recorded latencies, or 0 if there are none.
+     */
+    public long getMeanNanos() {
+        long currentCount = count.sum();
+        return currentCount == 0 ? 0 : totalNanos.sum() / currentCount;
+    }
+
+    public long getMaxNanos() {
+        return maxNanos.get();
+    }
+
+    /**
+     * Returns an estimate of the {@code percentile}th percentile of the recorded latencies, which is at least
+     * the actual percentile and at most the maximum latency, or 0 if there are none.
+     */
+    public long getPercentileNanos(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("Invalid percentile: " + percentile);
+        }
+
+        long[] snapshot = new long[NUM_OF_BUCKETS];
+        long total = 0;
+        for (int i = 0; i < NUM_OF_BUCKETS; i++) {
+            snapshot[i] = counts.get(i);
+            total += snapshot[i];
+        }
+        if (total == 0) {
+            return 0;
+        }
+
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * total));
+        long seen = 0;
+        for (int i = 0; i < NUM_OF_BUCKETS; i++) {
+            seen += snapshot[i];
+            if (seen >= rank) {
+                return Math.min(getBucketUpperBound(i), getMaxNanos());
+            }
+        }
+        return getMaxNanos();
+    }
+
+    /**
+     * Returns the bucket of {@code latency}. Latencies below {@code 2 * SUB_BUCKETS} have a bucket each.
+     */
+    static int getBucket(long latency) {
+        if (latency < 2 * SUB_BUCKETS) {
+            return (int) latency;
+        }
+        int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(latency);
+        int subBucket = (int) (latency >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BUCKET_BITS) * SUB_BUCKETS + subBucket + SUB_BUCKETS;
+    }
+
+    /**
+     * Returns the largest latency in {@code bucket}.
+     */
+    static long getBucketUpperBound(int bucket) {
+        if (bucket < 2 * SUB_BUCKETS) {
+            return bucket;
+        }
+        int exponent = (bucket - SUB_BUCKETS) / SUB_BUCKETS + SUB_BUCKET_BITS;
+        long subBucket = bucket % SUB_BUCKETS;
+        long subBucketWidth = 1L << (exponent - SUB_BUCKET_BITS);
+        long lowerBound = (1L << exponent) + subBucket * subBucketWidth;
+        return lowerBound + subBucketWidth - 1;
+    }
+}
@@ -0,0 +1,258 @@
+package educonnect.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * A compact trie of words, for finding the words that start with a given prefix, ignoring case,
+ * without looking at the words that do not.
+ * Chains of nodes with a single child are merged into one node labelled with their characters (a radix tree),
+ * so the trie has fewer than two nodes per distinct word however long the words are.
+ * A word may be added more than once, and is only removed when it has been removed as many times.
+ */
+public class PrefixTrie {
+
+    private static final Node[] NO_CHILDREN = new Node[0];
+
+    private final Node root = new Node("");
+    private int size;
+
+    /**
+     * Adds {@code word} to the trie.
+     */
+    public void add(String word) {
+        requireNonNull(word);
+        String key = toKey(word);
+        Node node = root;
+        int matched = 0;
+        while (matched < key.length()) {
+            int childIndex = node.indexOfChild(key.charAt(matched));
+            if (childIndex < 0) {
+                Node leaf = new Node(key.substring(matched));
+                node.insertChild(-childIndex - 1, leaf);
+                node = leaf;
+                break;
+            }
+
+            Node child = node.children[childIndex];
+            int commonLength = getCommonPrefixLength(child.label, key, matched);
+            if (commonLength < child.label.length()) {
+                child = child.split(commonLength);
+                node.children[childIndex] = child;
+            }
+            node = child;
+            matched += commonLength;
+        }
+
+        if (node.words == null) {
+            node.words = new TreeMap<>();
+        }
+        if (node.words.merge(word, 1, Integer::sum) == 1) {
+            size++;
+        }
+    }
+
+    /**
+     * Removes {@code word} from the trie once. Does nothing if {@code word} is not in the trie.
+     */
+    public void remove(String word) {
+        requireNonNull(word);
+        String key = toKey(word);
+        Node parent = null;
+        Node node = root;
+        int matched = 0;
+        while (matched < key.length()) {
+            int childIndex = node.indexOfChild(key.charAt(matched));
+            if (childIndex < 0 || !key.startsWith(node.children[childIndex].label, matched)) {
+                return;
+            }
+            parent = node;
+            node = node.children[childIndex];
+            matched += node.label.length();
+        }
+
+        Integer count = node.words == null ? null : node.words.get(word);
+        if (count == null) {
+            return;
+        } else if (count > 1) {
+            node.words.put(word, count - 1);
+            return;
+        }
+
+        node.words.remove(word);
+        size--;
+        if (!node.words.isEmpty()) {
+            return;
+        }
+        node.words = null;
+        if (parent == null) {
+            return;
+        }
+
+        // keeps the trie compact: no empty leaves, and no wordless nodes with a single child other than the root
+        if (node.children.length == 0) {
+            parent.removeChild(node);
+            if (parent != root && parent.words == null && parent.children.length == 1) {
+                parent.mergeWithOnlyChild();
+            }
+        } else if (node.children.length == 1) {
+            node.mergeWithOnlyChild();
+        }
+    }
+
+    /**
+     * Returns up to {@code limit} words in the trie that start with {@code prefix}, ignoring case,
+     * ordered by their lower case form, so shorter completions come before their own extensions.
+     * Only the nodes of the prefix and of the returned words are visited.
+     */
+    public List<String> complete(String prefix, int limit) {
+        requireNonNull(prefix);
+        List<String> completions = new ArrayList<>();
+        if (limit <= 0) {
+            return completions;
+        }
+
+        String key = toKey(prefix);
+        Node node = root;
+        int matched = 0;
+        while (matched < key.length()) {
+            int childIndex = node.indexOfChild(key.charAt(matched));
+            if (childIndex < 0) {
+                return completions;
+            }
+            node = node.children[childIndex];
+            int commonLength = getCommonPrefixLength(node.label, key, matched);
+            if (commonLength < node.label.length() && matched + commonLength < key.length()) {
+                return completions;
+            }
+            matched += commonLength;
+        }
+
+        Deque<Node> nodesToVisit = new ArrayDeque<>();
+        nodesToVisit.push(node);
+        while (!nodesToVisit.isEmpty() && completions.size() < limit) {
+            Node next = nodesToVisit.pop();
+            if (next.words != null) {
+                for (String word : next.words.keySet()) {
+                    if (completions.size() == limit) {
+                        break;
+                    }
+                    completions.add(word);
+                }
+            }
+            for (int i = next.children.length - 1; i >= 0; i--) {
+                nodesToVisit.push(next.children[i]);
+            }
+        }
+        return completions;
+    }
+
+    /**
+     * Returns the number of distinct words in the trie.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Removes every word from the trie.
+     */
+    public void clear() {
+        root.children = NO_CHILDREN;
+        root.words = null;
+        size = 0;
+    }
+
+    /**
+     * Returns {@code word} in lower case, with the same length as {@code word} so that prefixes are preserved.
+     */
+    static String toKey(String word) {
+        char[] key = word.toCharArray();
+        for (int i = 0; i < key.length; i++) {
+            key[i] = Character.toLowerCase(key[i]);
+        }
+        return new String(key);
+    }
+
+    private static int getCommonPrefixLength(String label, String key, int keyStart) {
+        int maxLength = Math.min(label.length(), key.length() - keyStart);
+        int length = 0;
+        while (length < maxLength && label.charAt(length) == key.charAt(keyStart + length)) {
+            length++;
+        }
+        return length;
+    }
+
+    private static class Node {
+        /** Characters of the key between the parent of this node and this node. */
+        private String label;
+        /** Children of this node, ordered by the first character of their labels. */
+        private Node[] children = NO_CHILDREN;
+        /** Spellings of the words ending at this node, mapped to the number of times they were added. */
+        private Map<String, Integer> words;
+
+        private Node(String label) {
+            this.label = label;
+        }
+
+        /**
+         * Returns the index of the child whose label starts with {@code c}, or {@code -(insertion point) - 1}.
+         */
+        private int indexOfChild(char c) {
+            int low = 0;
+            int high = children.length - 1;
+            while (low <= high) {
+                int middle = (low + high) >>> 1;
+                char middleChar = children[middle].label.charAt(0);
+                if (middleChar < c) {
+                    low = middle + 1;
+                } else if (middleChar > c) {
+                    high = middle - 1;
+                } else {
+                    return middle;
+                }
+            }
+            return -(low + 1);
+        }
+
+        private void insertChild(int index, Node child) {
+            Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(children, 0, newChildren, 0, index);
+            newChildren[index] = child;
+            System.arraycopy(children, index, newChildren, index + 1, children.length - index);
+            children = newChildren;
+        }
+
+        private void removeChild(Node child) {
+            int index = indexOfChild(child.label.charAt(0));
+            Node[] newChildren = Arrays.copyOf(children, children.length - 1);
+            System.arraycopy(children, index + 1, newChildren, index, children.length - index - 1);
+            children = newChildren;
+        }
+
+        /**
+         * Splits this node after the first {@code length} characters of its label, and returns the new node
+         * with those characters, which has this node as its only child.
+         */
+        private Node split(int length) {
+            Node head = new Node(label.substring(0, length));
+            label = label.substring(length);
+            head.children = new Node[] {this};
+            return head;
+        }
+
+        private void mergeWithOnlyChild() {
+            Node child = children[0];
+            label = label + child.label;
+            children = child.children;
+            words = child.words;
+        }
+    }
+}
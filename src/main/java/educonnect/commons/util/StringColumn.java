@@ -0,0 +1,476 @@
+package educonnect.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * A column of strings, one for each row of a table, that keeps each distinct string once and each row as the
+ * {@code int} code of its string, like a {@link DictionaryColumn}.
+ * The distinct strings are kept as UTF-8 bytes in one array and looked up with a hash table of {@code int}s,
+ * so that no object is kept for each of them. This makes the column much smaller than the strings would be on
+ * their own when most rows have a different string, such as a column of unique identifiers.
+ * Strings that no row has any more are dropped, and their space reclaimed once it makes up half of the array.
+ * The first row with each string is also kept, so that the row of a string most rows do not share is found
+ * without a scan, and the codes are kept in the order of their strings, so that the strings starting with a prefix
+ * are found without looking at the others.
+ */
+public class StringColumn {
+
+    /** The code of rows without a string. */
+    public static final int NO_VALUE = -1;
+
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int EMPTY_SLOT = 0;
+    private static final int REMOVED_SLOT = -1;
+
+    private int[] codes = new int[INITIAL_CAPACITY];
+    private int size;
+
+    // The bytes of the string with each code are from offsets[code], for lengths[code] bytes
+    private byte[] bytes = new byte[INITIAL_CAPACITY * INITIAL_CAPACITY];
+    private int numOfBytes;
+    private int numOfUnusedBytes;
+    private int[] offsets = new int[INITIAL_CAPACITY];
+    private int[] lengths = new int[INITIAL_CAPACITY];
+    private int[] hashes = new int[INITIAL_CAPACITY];
+    private int[] numOfRowsByCode = new int[INITIAL_CAPACITY];
+    private int[] firstRowByCode = new int[INITIAL_CAPACITY];
+    private int numOfCodes;
+    private int[] unusedCodes = new int[INITIAL_CAPACITY];
+    private int numOfUnusedCodes;
+
+    // The codes in use in the order of their strings as PrefixTrie orders them, apart from the unsorted codes,
+    // which are added since the strings were last completed and only sorted in then
+    private int[] sortedCodes = new int[INITIAL_CAPACITY];
+    private int numOfSortedCodes;
+    private int[] unsortedCodes = new int[INITIAL_CAPACITY];
+    private int numOfUnsortedCodes;
+    // Whether each code is to be sorted in, as unsortedCodes may still have codes that were released since
+    private boolean[] isUnsorted = new boolean[INITIAL_CAPACITY];
+
+    // Open addressing with linear probing, where each slot is EMPTY_SLOT, REMOVED_SLOT or a code plus 1
+    private int[] slots = new int[INITIAL_CAPACITY * 2];
+    private int numOfUsedSlots;
+
+    /**
+     * Returns the number of rows.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of distinct strings the rows have.
+     */
+    public int getNumOfValues() {
+        return numOfCodes - numOfUnusedCodes;
+    }
+
+    /**
+     * Returns the string of {@code row}, or null if it has none.
+     */
+    public String get(int row) {
+        int code = getCode(row);
+        return code == NO_VALUE ? null : decode(code);
+    }
+
+    /**
+     * Returns the code of the string of {@code row}, or {@link #NO_VALUE} if it has none.
+     */
+    public int getCode(int row) {
+        checkRow(row, size);
+        return codes[row];
+    }
+
+    /**
+     * Returns the code of {@code value}, or {@link #NO_VALUE} if no row has it.
+     */
+    public int getCodeOf(String value) {
+        requireNonNull(value);
+        byte[] valueBytes = value.getBytes(StandardCharsets.UTF_8);
+        int slot = findSlot(valueBytes, hash(valueBytes));
+        return slots[slot] == EMPTY_SLOT ? NO_VALUE : slots[slot] - 1;
+    }
+
+    /**
+     * Returns the first row with {@code value}, or -1 if no row has it.
+     * Both the code of {@code value} and its first row are kept, so this does not look at any other row.
+     */
+    public int indexOf(String value) {
+        return indexOf(value, 0);
+    }
+
+    /**
+     * Returns the first row from {@code fromRow} onwards with {@code value}, or -1 if no such row has it.
+     * Only the rows after the first row with {@code value} are scanned, and only if more than one row has it.
+     */
+    public int indexOf(String value, int fromRow) {
+        int code = getCodeOf(value);
+        if (code == NO_VALUE) {
+            return -1;
+        }
+        int firstRow = firstRowByCode[code];
+        if (firstRow >= fromRow) {
+            return firstRow;
+        }
+        if (numOfRowsByCode[code] == 1) {
+            return -1;
+        }
+        return findRow(code, fromRow);
+    }
+
+    private int findRow(int code, int fromRow) {
+        for (int row = Math.max(fromRow, 0); row < size; row++) {
+            if (codes[row] == code) {
+                return row;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns up to {@code limit} of the strings that rows have that start with {@code prefix}, ignoring case,
+     * in the order of {@link PrefixTrie#complete(String, int)}.
+     * The strings added since the last completion are sorted in first, so only they and the strings returned are
+     * looked at, apart from a binary search. Like a change, this must not be called while other threads read.
+     */
+    public List<String> complete(String prefix, int limit) {
+        requireNonNull(prefix);
+        sortUnsortedCodes();
+        String prefixKey = PrefixTrie.toKey(prefix);
+        int low = 0;
+        int high = numOfSortedCodes;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (PrefixTrie.toKey(decode(sortedCodes[middle])).compareTo(prefixKey) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+
+        List<String> completions = new ArrayList<>();
+        for (int i = low; i < numOfSortedCodes && completions.size() < limit; i++) {
+            String value = decode(sortedCodes[i]);
+            if (!PrefixTrie.toKey(value).startsWith(prefixKey)) {
+                break;
+            }
+            completions.add(value);
+        }
+        return completions;
+    }
+
+    /**
+     * Inserts a row with {@code value}, which may be null, at {@code row}.
+     */
+    public void insert(int row, String value) {
+        checkRow(row, size + 1);
+        if (size == codes.length) {
+            codes = Arrays.copyOf(codes, size * 2);
+        }
+        if (row < size) {
+            shiftFirstRows(row, 1);
+        }
+        int code = encode(value);
+        System.arraycopy(codes, row, codes, row + 1, size - row);
+        codes[row] = code;
+        size++;
+        updateFirstRow(code, row);
+    }
+
+    /**
+     * Replaces the string of {@code row} with {@code value}, which may be null.
+     */
+    public void set(int row, String value) {
+        checkRow(row, size);
+        int newCode = encode(value);
+        int oldCode = codes[row];
+        codes[row] = newCode;
+        if (oldCode != newCode) {
+            removeFirstRow(oldCode, row);
+            release(oldCode);
+            updateFirstRow(newCode, row);
+        } else {
+            release(oldCode);
+        }
+    }
+
+    /**
+     * Removes {@code row}.
+     */
+    public void remove(int row) {
+        checkRow(row, size);
+        int code = codes[row];
+        System.arraycopy(codes, row + 1, codes, row, size - row - 1);
+        size--;
+        if (row < size) {
+            shiftFirstRows(row + 1, -1);
+        }
+        removeFirstRow(code, row);
+        release(code);
+    }
+
+    /**
+     * Keeps {@code row}, which now has {@code code}, as the first row with it if no row before it has it.
+     */
+    private void updateFirstRow(int code, int row) {
+        if (code != NO_VALUE && (numOfRowsByCode[code] == 1 || row < firstRowByCode[code])) {
+            firstRowByCode[code] = row;
+        }
+    }
+
+    /**
+     * Finds the next first row with {@code code} if {@code row}, which no longer has it, was its first row.
+     */
+    private void removeFirstRow(int code, int row) {
+        if (code != NO_VALUE && numOfRowsByCode[code] > 1 && firstRowByCode[code] == row) {
+            firstRowByCode[code] = findRow(code, row);
+        }
+    }
+
+    /**
+     * Moves the first rows from {@code fromRow} onwards by {@code offset}, as rows are inserted or removed.
+     */
+    private void shiftFirstRows(int fromRow, int offset) {
+        for (int code = 0; code < numOfCodes; code++) {
+            if (firstRowByCode[code] >= fromRow) {
+                firstRowByCode[code] += offset;
+            }
+        }
+    }
+
+    private int encode(String value) {
+        if (value == null) {
+            return NO_VALUE;
+        }
+        byte[] valueBytes = value.getBytes(StandardCharsets.UTF_8);
+        int hash = hash(valueBytes);
+        int slot = findSlot(valueBytes, hash);
+        if (slots[slot] != EMPTY_SLOT) {
+            int code = slots[slot] - 1;
+            numOfRowsByCode[code]++;
+            return code;
+        }
+
+        int code = numOfUnusedCodes > 0 ? unusedCodes[--numOfUnusedCodes] : newCode();
+        if (numOfBytes + valueBytes.length > bytes.length) {
+            bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, numOfBytes + valueBytes.length));
+        }
+        System.arraycopy(valueBytes, 0, bytes, numOfBytes, valueBytes.length);
+        offsets[code] = numOfBytes;
+        lengths[code] = valueBytes.length;
+        hashes[code] = hash;
+        numOfRowsByCode[code] = 1;
+        numOfBytes += valueBytes.length;
+        addUnsortedCode(code);
+        slots[slot] = code + 1;
+        numOfUsedSlots++;
+        if (numOfUsedSlots * 2 > slots.length) {
+            rehash();
+        }
+        return code;
+    }
+
+    private int newCode() {
+        if (numOfCodes == offsets.length) {
+            int capacity = numOfCodes * 2;
+            offsets = Arrays.copyOf(offsets, capacity);
+            lengths = Arrays.copyOf(lengths, capacity);
+            hashes = Arrays.copyOf(hashes, capacity);
+            numOfRowsByCode = Arrays.copyOf(numOfRowsByCode, capacity);
+            firstRowByCode = Arrays.copyOf(firstRowByCode, capacity);
+            isUnsorted = Arrays.copyOf(isUnsorted, capacity);
+        }
+        return numOfCodes++;
+    }
+
+    private void release(int code) {
+        if (code == NO_VALUE || --numOfRowsByCode[code] > 0) {
+            return;
+        }
+        int mask = slots.length - 1;
+        int slot = hashes[code] & mask;
+        while (slots[slot] != code + 1) {
+            slot = (slot + 1) & mask;
+        }
+        // Marked rather than emptied, so that strings probed past it can still be found
+        slots[slot] = REMOVED_SLOT;
+        if (isUnsorted[code]) {
+            isUnsorted[code] = false;
+        } else {
+            removeSortedCode(code);
+        }
+
+        if (numOfUnusedCodes == unusedCodes.length) {
+            unusedCodes = Arrays.copyOf(unusedCodes, numOfUnusedCodes * 2);
+        }
+        unusedCodes[numOfUnusedCodes++] = code;
+        numOfUnusedBytes += lengths[code];
+        lengths[code] = 0;
+        if (numOfUnusedBytes * 2 > numOfBytes) {
+            compact();
+        }
+    }
+
+    private void addUnsortedCode(int code) {
+        if (numOfUnsortedCodes == unsortedCodes.length) {
+            // Drops the released codes first, and any code that was then reused and added again
+            numOfUnsortedCodes = 0;
+            for (int unsortedCode = 0; unsortedCode < numOfCodes; unsortedCode++) {
+                if (isUnsorted[unsortedCode] && unsortedCode != code) {
+                    unsortedCodes[numOfUnsortedCodes++] = unsortedCode;
+                }
+            }
+            if (numOfUnsortedCodes * 2 > unsortedCodes.length) {
+                unsortedCodes = Arrays.copyOf(unsortedCodes, unsortedCodes.length * 2);
+            }
+        }
+        isUnsorted[code] = true;
+        unsortedCodes[numOfUnsortedCodes++] = code;
+    }
+
+    private void removeSortedCode(int code) {
+        String value = decode(code);
+        int position = findSortedPosition(PrefixTrie.toKey(value), value);
+        System.arraycopy(sortedCodes, position + 1, sortedCodes, position, numOfSortedCodes - position - 1);
+        numOfSortedCodes--;
+    }
+
+    /**
+     * Sorts the codes added since the last completion, then merges them into the sorted codes.
+     * Only the strings of the added codes are decoded, apart from a binary search for each.
+     */
+    private void sortUnsortedCodes() {
+        if (numOfUnsortedCodes == 0) {
+            return;
+        }
+        List<String> values = new ArrayList<>();
+        for (int i = 0; i < numOfUnsortedCodes; i++) {
+            int code = unsortedCodes[i];
+            if (isUnsorted[code]) {
+                isUnsorted[code] = false;
+                values.add(decode(code));
+            }
+        }
+        numOfUnsortedCodes = 0;
+        values.sort(Comparator.comparing(PrefixTrie::toKey).thenComparing(Comparator.naturalOrder()));
+
+        int[] mergedCodes = new int[Math.max(INITIAL_CAPACITY, numOfSortedCodes + values.size())];
+        int numOfMergedCodes = 0;
+        int numOfCopiedCodes = 0;
+        for (String value : values) {
+            int position = findSortedPosition(PrefixTrie.toKey(value), value);
+            System.arraycopy(sortedCodes, numOfCopiedCodes, mergedCodes, numOfMergedCodes,
+                    position - numOfCopiedCodes);
+            numOfMergedCodes += position - numOfCopiedCodes;
+            numOfCopiedCodes = position;
+            mergedCodes[numOfMergedCodes++] = getCodeOf(value);
+        }
+        System.arraycopy(sortedCodes, numOfCopiedCodes, mergedCodes, numOfMergedCodes,
+                numOfSortedCodes - numOfCopiedCodes);
+        sortedCodes = mergedCodes;
+        numOfSortedCodes = numOfMergedCodes + numOfSortedCodes - numOfCopiedCodes;
+    }
+
+    /**
+     * Returns the position in the sorted codes of the string {@code value} with the key {@code key}, or the position
+     * it would be inserted at if it is not sorted in.
+     */
+    private int findSortedPosition(String key, String value) {
+        int low = 0;
+        int high = numOfSortedCodes;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            String middleValue = decode(sortedCodes[middle]);
+            int result = PrefixTrie.toKey(middleValue).compareTo(key);
+            if ((result != 0 ? result : middleValue.compareTo(value)) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private String decode(int code) {
+        return new String(bytes, offsets[code], lengths[code], StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Returns the slot of the string with {@code valueBytes}, or the empty slot where it would be added.
+     */
+    private int findSlot(byte[] valueBytes, int hash) {
+        int mask = slots.length - 1;
+        for (int slot = hash & mask; ; slot = (slot + 1) & mask) {
+            int slotValue = slots[slot];
+            if (slotValue == EMPTY_SLOT) {
+                return slot;
+            }
+            if (slotValue == REMOVED_SLOT) {
+                continue;
+            }
+            int code = slotValue - 1;
+            if (hashes[code] == hash && Arrays.equals(bytes, offsets[code], offsets[code] + lengths[code],
+                    valueBytes, 0, valueBytes.length)) {
+                return slot;
+            }
+        }
+    }
+
+    /**
+     * Rebuilds the hash table without the removed slots, at a size that leaves it at most a quarter full.
+     */
+    private void rehash() {
+        int[] oldSlots = slots;
+        int capacity = INITIAL_CAPACITY * 2;
+        while (capacity < getNumOfValues() * 4) {
+            capacity *= 2;
+        }
+        slots = new int[capacity];
+        numOfUsedSlots = 0;
+        int mask = slots.length - 1;
+        for (int slotValue : oldSlots) {
+            if (slotValue > 0) {
+                int slot = hashes[slotValue - 1] & mask;
+                while (slots[slot] != EMPTY_SLOT) {
+                    slot = (slot + 1) & mask;
+                }
+                slots[slot] = slotValue;
+                numOfUsedSlots++;
+            }
+        }
+    }
+
+    /**
+     * Moves the bytes of the strings that rows have to the start of a new array, leaving out the rest.
+     */
+    private void compact() {
+        byte[] compactedBytes = new byte[Math.max(INITIAL_CAPACITY, (numOfBytes - numOfUnusedBytes) * 2)];
+        int offset = 0;
+        for (int code = 0; code < numOfCodes; code++) {
+            System.arraycopy(bytes, offsets[code], compactedBytes, offset, lengths[code]);
+            offsets[code] = offset;
+            offset += lengths[code];
+        }
+        bytes = compactedBytes;
+        numOfBytes = offset;
+        numOfUnusedBytes = 0;
+    }
+
+    private static int hash(byte[] valueBytes) {
+        int hash = Arrays.hashCode(valueBytes);
+        // Spreads the higher bits, as only the lower bits pick the slot
+        return hash ^ (hash >>> 16);
+    }
+
+    private void checkRow(int row, int bound) {
+        if (row < 0 || row >= bound) {
+            throw new IndexOutOfBoundsException("Row: " + row + ", Size: " + size);
+        }
+    }
+}
@@ -27,13 +27,68 @@ public class StringUtil {
         requireNonNull(sentence);
         requireNonNull(word);
 
-        String preppedWord = word.trim().toLowerCase();
-        checkArgument(!preppedWord.isEmpty(), "Word parameter cannot be empty");
+        return containsSearchKey(toSearchKey(sentence), toSearchKey(word.trim()));
+    }
+
+    /**
+     * Returns the normalised form of {@code text} used for case-insensitive searching.
+     * Search keys of fixed text can be computed once and reused with {@link #containsSearchKey(String, String)}.
+     *
+     * @param text cannot be null
+     */
+    public static String toSearchKey(String text) {
+        requireNonNull(text);
+        return text.toLowerCase();
+    }
 
-        String preppedSentence = sentence.toLowerCase();
+    /**
+     * Returns true if {@code sentenceKey} contains {@code wordKey}, where both are search keys
+     * from {@link #toSearchKey(String)}. Unlike {@link #fuzzyMatchIgnoreCase(String, String)},
+     * this does not create any new strings.
+     *
+     * @param sentenceKey cannot be null
+     * @param wordKey cannot be null, cannot be empty
+     */
+    public static boolean containsSearchKey(String sentenceKey, String wordKey) {
+        requireNonNull(sentenceKey);
+        requireNonNull(wordKey);
+        checkArgument(!wordKey.isEmpty(), "Word parameter cannot be empty");
 
-        return preppedSentence.contains(preppedWord);
+        return sentenceKey.contains(wordKey);
+    }
 
+    /**
+     * Returns the Levenshtein edit distance between {@code first} and {@code second}, which is the least number of
+     * single character insertions, deletions and substitutions needed to change one into the other.
+     *    <br>examples:<pre>
+     *       editDistance("john", "john") == 0
+     *       editDistance("jon", "john") == 1
+     *       editDistance("jonh", "john") == 2
+     *       </pre>
+     * @param first cannot be null
+     * @param second cannot be null
+     */
+    public static int editDistance(String first, String second) {
+        requireNonNull(first);
+        requireNonNull(second);
+
+        int[] previousRow = new int[second.length() + 1];
+        int[] currentRow = new int[second.length() + 1];
+        for (int j = 0; j <= second.length(); j++) {
+            previousRow[j] = j;
+        }
+        for (int i = 1; i <= first.length(); i++) {
+            currentRow[0] = i;
+            for (int j = 1; j <= second.length(); j++) {
+                int substitutionCost = first.charAt(i - 1) == second.charAt(j - 1) ? 0 : 1;
+                currentRow[j] = Math.min(Math.min(currentRow[j - 1] + 1, previousRow[j] + 1),
+                        previousRow[j - 1] + substitutionCost);
+            }
+            int[] swap = previousRow;
+            previousRow = currentRow;
+            currentRow = swap;
+        }
+        return previousRow[second.length()];
     }
 
     /**
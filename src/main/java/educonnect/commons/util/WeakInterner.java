@@ -0,0 +1,42 @@
+package educonnect.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * A pool of canonical instances of immutable values, so that equal values can share a single instance.
+ * The pool only holds weak references, so a canonical instance is discarded once nothing else refers to it.
+ * Safe to be used from multiple threads.
+ *
+ * @param <T> the type of the values, which must not change once interned as they are looked up by
+ *     {@code equals} and {@code hashCode}.
+ */
+public class WeakInterner<T> {
+
+    // Values refer to their keys only weakly too, or the keys could never be discarded
+    private final Map<T, WeakReference<T>> canonicals = new WeakHashMap<>();
+
+    /**
+     * Returns the canonical instance equal to {@code value}, which is {@code value} itself if there was none.
+     */
+    public synchronized T intern(T value) {
+        requireNonNull(value);
+        WeakReference<T> reference = canonicals.get(value);
+        T canonical = reference == null ? null : reference.get();
+        if (canonical == null) {
+            canonicals.put(value, new WeakReference<>(value));
+            return value;
+        }
+        return canonical;
+    }
+
+    /**
+     * Returns the number of canonical instances in the pool, including any that are about to be discarded.
+     */
+    public synchronized int size() {
+        return canonicals.size();
+    }
+}
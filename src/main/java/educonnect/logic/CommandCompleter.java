@@ -0,0 +1,98 @@
+package educonnect.logic;
+
+import static educonnect.commons.util.CollectionUtil.requireAllNonNull;
+import static educonnect.logic.parser.CliSyntax.EDIT_ID_PREFIX_EMAIL;
+import static educonnect.logic.parser.CliSyntax.EDIT_ID_PREFIX_STUDENT_ID;
+import static educonnect.logic.parser.CliSyntax.EDIT_ID_PREFIX_TELEGRAM_HANDLE;
+import static educonnect.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static educonnect.logic.parser.CliSyntax.PREFIX_STUDENT_ID;
+import static educonnect.logic.parser.CliSyntax.PREFIX_TAG;
+import static educonnect.logic.parser.CliSyntax.PREFIX_TELEGRAM_HANDLE;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import educonnect.logic.parser.Prefix;
+import educonnect.model.student.StudentCompletions;
+
+/**
+ * Completes the value being typed at the end of a command, if it is a tag, student id, email or telegram handle.
+ */
+public class CommandCompleter {
+
+    /** Number of completions to suggest, which should be few enough to choose from at a glance. */
+    public static final int MAX_COMPLETIONS = 10;
+
+    private static final String TAG_VALUE_REGEX = "[\\p{Alnum} -]*";
+
+    /** The prefixes of the values that can be completed, mapped to how to complete their values. */
+    private static final Map<Prefix, ValueCompleter> completers = Map.of(
+            PREFIX_TAG, StudentCompletions::completeTag,
+            PREFIX_STUDENT_ID, StudentCompletions::completeStudentId,
+            PREFIX_EMAIL, StudentCompletions::completeEmail,
+            PREFIX_TELEGRAM_HANDLE, StudentCompletions::completeTelegramHandle,
+            EDIT_ID_PREFIX_STUDENT_ID, StudentCompletions::completeStudentId,
+            EDIT_ID_PREFIX_EMAIL, StudentCompletions::completeEmail,
+            EDIT_ID_PREFIX_TELEGRAM_HANDLE, StudentCompletions::completeTelegramHandle);
+
+    private CommandCompleter() {} // prevents instantiation
+
+    /**
+     * Returns up to {@code limit} completions of {@code commandText}, each of which is {@code commandText} with
+     * the value being typed at its end completed from {@code completions}.
+     * Returns an empty list if {@code commandText} does not end with a value that can be completed.
+     */
+    public static List<String> complete(String commandText, StudentCompletions completions, int limit) {
+        requireAllNonNull(commandText, completions);
+
+        Prefix lastPrefix = null;
+        int valueStart = -1;
+        for (Prefix prefix : completers.keySet()) {
+            int prefixStart = findLastPrefix(commandText, prefix);
+            if (prefixStart >= 0 && prefixStart + prefix.getPrefix().length() > valueStart) {
+                lastPrefix = prefix;
+                valueStart = prefixStart + prefix.getPrefix().length();
+            }
+        }
+        if (lastPrefix == null) {
+            return List.of();
+        }
+
+        // Only tags can contain spaces, and no value can contain another prefix
+        String value = commandText.substring(valueStart);
+        boolean isTag = lastPrefix.equals(PREFIX_TAG);
+        if (isTag ? !value.matches(TAG_VALUE_REGEX) : value.chars().anyMatch(Character::isWhitespace)) {
+            return List.of();
+        }
+
+        String textBeforeValue = commandText.substring(0, valueStart);
+        return completers.get(lastPrefix).complete(completions, value, limit).stream()
+                .map(completion -> textBeforeValue + completion)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the start of the last occurrence of {@code prefix} in {@code commandText} that begins an argument,
+     * i.e. that follows whitespace or an opening bracket, or -1 if there is none.
+     */
+    private static int findLastPrefix(String commandText, Prefix prefix) {
+        int prefixStart = commandText.lastIndexOf(prefix.getPrefix());
+        while (prefixStart > 0) {
+            char previous = commandText.charAt(prefixStart - 1);
+            if (Character.isWhitespace(previous) || previous == '(') {
+                return prefixStart;
+            }
+            prefixStart = commandText.lastIndexOf(prefix.getPrefix(), prefixStart - 1);
+        }
+        return -1;
+    }
+
+    /**
+     * Represents a function that completes a value from {@code StudentCompletions}.
+     */
+    @FunctionalInterface
+    private interface ValueCompleter {
+        List<String> complete(StudentCompletions completions, String prefix, int limit);
+    }
+}
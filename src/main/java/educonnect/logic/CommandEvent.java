@@ -0,0 +1,42 @@
+package educonnect.logic;
+
+import educonnect.logic.CommandMetrics.Phase;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A Java Flight Recorder event for parsing or executing a command, so that stalls in a recording can be traced to
+ * the command that caused them. Only the command word is recorded, as the rest of a command may be student data.
+ */
+@Name("educonnect.Command")
+@Label("Command")
+@Category({"EduConnect", "Logic"})
+@Description("Parsing or executing a command entered by the user")
+@StackTrace(false)
+class CommandEvent extends jdk.jfr.Event {
+
+    @Label("Command Word")
+    String commandWord;
+
+    @Label("Phase")
+    String phase;
+
+    @Label("Successful")
+    boolean isSuccessful;
+
+    /**
+     * Ends the event and commits it with its details if it is being recorded.
+     */
+    void finish(String commandWord, Phase phase, boolean isSuccessful) {
+        end();
+        if (shouldCommit()) {
+            this.commandWord = commandWord;
+            this.phase = phase.toString();
+            this.isSuccessful = isSuccessful;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package educonnect.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.logging.Logger;
+
+import educonnect.commons.core.LogsCenter;
+import educonnect.storage.CommandHistoryStorage;
+
+/**
+ * The history of the distinct commands entered, from the oldest to the latest, up to a maximum number of commands.
+ * Entering a command again moves it to the end of the history, and the oldest commands are dropped when the
+ * history is full.
+ * Each command is numbered in the order it was last entered, and indexed both by its number, for moving through
+ * the history, and by its text, so that the commands starting with a prefix can be found without testing every
+ * command in the history.
+ * If the history is backed by a {@code CommandHistoryStorage}, it is only read from the storage when the history
+ * is first used, and every command entered is appended to the storage.
+ */
+public class CommandHistory {
+
+    public static final int DEFAULT_MAX_SIZE = 1000;
+
+    private static final Logger logger = LogsCenter.getLogger(CommandHistory.class);
+
+    private final CommandHistoryStorage storage;
+    private final int maxSize;
+    private final TreeMap<Long, String> commandsByNumber = new TreeMap<>();
+    private final TreeMap<String, Long> numbersByCommand = new TreeMap<>();
+    private long nextNumber;
+    private boolean isLoaded;
+
+    /**
+     * Creates an empty history that is not stored.
+     */
+    public CommandHistory() {
+        this(null, DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * Creates a history of up to {@code maxSize} commands, which is backed by {@code storage} if it is not null.
+     */
+    public CommandHistory(CommandHistoryStorage storage, int maxSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Invalid maximum size: " + maxSize);
+        }
+        this.storage = storage;
+        this.maxSize = maxSize;
+        this.isLoaded = storage == null;
+    }
+
+    /**
+     * Adds {@code commandText} to the end of the history, and appends it to the storage.
+     */
+    public synchronized void add(String commandText) {
+        requireNonNull(commandText);
+        if (commandText.isBlank()) {
+            return;
+        }
+        ensureLoaded();
+        addToIndex(commandText);
+        if (storage != null) {
+            try {
+                storage.appendCommand(commandText);
+            } catch (IOException e) {
+                logger.warning("Could not save command history: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Returns the commands in the history, from the oldest to the latest.
+     */
+    public synchronized List<String> getCommands() {
+        ensureLoaded();
+        return new ArrayList<>(commandsByNumber.values());
+    }
+
+    /**
+     * Returns the latest command that starts with {@code prefix} and was entered before the command numbered
+     * {@code before}. Use {@code Long.MAX_VALUE} to search the whole history.
+     */
+    public synchronized Optional<Entry> findPrevious(String prefix, long before) {
+        requireNonNull(prefix);
+        ensureLoaded();
+        Entry previous = null;
+        for (Map.Entry<String, Long> command : getCommandsStartingWith(prefix).entrySet()) {
+            long number = command.getValue();
+            if (number < before && (previous == null || number > previous.number)) {
+                previous = new Entry(number, command.getKey());
+            }
+        }
+        return Optional.ofNullable(previous);
+    }
+
+    /**
+     * Returns the earliest command that starts with {@code prefix} and was entered after the command numbered
+     * {@code after}.
+     */
+    public synchronized Optional<Entry> findNext(String prefix, long after) {
+        requireNonNull(prefix);
+        ensureLoaded();
+        Entry next = null;
+        for (Map.Entry<String, Long> command : getCommandsStartingWith(prefix).entrySet()) {
+            long number = command.getValue();
+            if (number > after && (next == null || number < next.number)) {
+                next = new Entry(number, command.getKey());
+            }
+        }
+        return Optional.ofNullable(next);
+    }
+
+    private Map<String, Long> getCommandsStartingWith(String prefix) {
+        if (prefix.isEmpty()) {
+            return numbersByCommand;
+        }
+        // Commands starting with the prefix sort from the prefix up to the prefix followed by the largest char
+        return numbersByCommand.subMap(prefix, true, prefix + Character.MAX_VALUE, true);
+    }
+
+    private void addToIndex(String commandText) {
+        Long previousNumber = numbersByCommand.put(commandText, nextNumber);
+        if (previousNumber != null) {
+            commandsByNumber.remove(previousNumber);
+        }
+        commandsByNumber.put(nextNumber, commandText);
+        nextNumber++;
+
+        if (commandsByNumber.size() > maxSize) {
+            numbersByCommand.remove(commandsByNumber.pollFirstEntry().getValue());
+        }
+    }
+
+    private void ensureLoaded() {
+        if (isLoaded) {
+            return;
+        }
+        isLoaded = true;
+        try {
+            storage.readCommandHistory().forEach(this::addToIndex);
+            logger.fine(() -> "Loaded " + commandsByNumber.size() + " commands from "
+                    + storage.getCommandHistoryFilePath());
+        } catch (IOException e) {
+            logger.warning("Could not load command history: " + e.getMessage());
+        }
+    }
+
+    /**
+     * A command in the history and its number.
+     */
+    public static class Entry {
+        public final long number;
+        public final String commandText;
+
+        private Entry(long number, String commandText) {
+            this.number = number;
+            this.commandText = commandText;
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package educonnect.logic;
+
+import static educonnect.commons.util.CollectionUtil.requireAllNonNull;
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+import educonnect.commons.util.LatencyHistogram;
+
+/**
+ * Latencies of each phase of handling the commands entered, kept in a {@code LatencyHistogram} per command word
+ * and phase. Safe to be recorded from and read by multiple threads.
+ */
+public class CommandMetrics {
+
+    /** Command word under which commands that could not be parsed are recorded. */
+    public static final String INVALID_COMMAND_WORD = "(invalid)";
+
+    public static final String CSV_HEADER = "command,phase,count,meanMillis,p50Millis,p95Millis,p99Millis,maxMillis";
+
+    /**
+     * A phase of handling a command.
+     */
+    public enum Phase {
+        PARSE, EXECUTE, SAVE, UI_REFRESH;
+
+        @Override
+        public String toString() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    private final ConcurrentMap<String, Map<Phase, LatencyHistogram>> histograms = new ConcurrentHashMap<>();
+
+    /**
+     * Records that {@code phase} of a command with {@code commandWord} took {@code nanos}.
+     */
+    public void record(String commandWord, Phase phase, long nanos) {
+        requireAllNonNull(commandWord, phase);
+        histograms.computeIfAbsent(commandWord, unused -> createHistograms()).get(phase).record(nanos);
+    }
+
+    /**
+     * Returns the command word of {@code commandText}, i.e. its first word.
+     */
+    public static String getCommandWord(String commandText) {
+        requireNonNull(commandText);
+        String trimmedText = commandText.trim();
+        int end = 0;
+        while (end < trimmedText.length() && !Character.isWhitespace(trimmedText.charAt(end))) {
+            end++;
+        }
+        return end == 0 ? INVALID_COMMAND_WORD : trimmedText.substring(0, end);
+    }
+
+    /**
+     * Returns a summary of the latencies of every command word and phase that has been recorded,
+     * ordered by command word and then by phase.
+     */
+    public List<Summary> getSummaries() {
+        List<Summary> summaries = new ArrayList<>();
+        histograms.keySet().stream().sorted().forEach(commandWord -> {
+            histograms.get(commandWord).forEach((phase, histogram) -> {
+                if (histogram.getCount() > 0) {
+                    summaries.add(new Summary(commandWord, phase, histogram));
+                }
+            });
+        });
+        return summaries;
+    }
+
+    private static Map<Phase, LatencyHistogram> createHistograms() {
+        // Every phase is created up front, so that the map is never modified once it is shared
+        Map<Phase, LatencyHistogram> phaseHistograms = new EnumMap<>(Phase.class);
+        for (Phase phase : Phase.values()) {
+            phaseHistograms.put(phase, new LatencyHistogram());
+        }
+        return phaseHistograms;
+    }
+
+    /**
+     * A snapshot of the latencies of a phase of the commands with a command word.
+     */
+    public static class Summary {
+        public final String commandWord;
+        public final Phase phase;
+        public final long count;
+        public final double meanMillis;
+        public final double p50Millis;
+        public final double p95Millis;
+        public final double p99Millis;
+        public final double maxMillis;
+
+        private Summary(String commandWord, Phase phase, LatencyHistogram histogram) {
+            this.commandWord = commandWord;
+            this.phase = phase;
+            this.count = histogram.getCount();
+            this.meanMillis = toMillis(histogram.getMeanNanos());
+            this.p50Millis = toMillis(histogram.getPercentileNanos(50));
+            this.p95Millis = toMillis(histogram.getPercentileNanos(95));
+            this.p99Millis = toMillis(histogram.getPercentileNanos(99));
+            this.maxMillis = toMillis(histogram.getMaxNanos());
+        }
+
+        private static double toMillis(long nanos) {
+            return (double) nanos / TimeUnit.MILLISECONDS.toNanos(1);
+        }
+
+        /**
+         * Formats this summary as a line of text for the user.
+         */
+        public String format() {
+            return String.format(Locale.ROOT, "%-8s %-10s n=%-6d p50=%.2f p95=%.2f p99=%.2f max=%.2f",
+                    commandWord, phase, count, p50Millis, p95Millis, p99Millis, maxMillis);
+        }
+
+        /**
+         * Formats this summary as a row of comma-separated values, with the columns in {@link #CSV_HEADER}.
+         */
+        public String toCsvRow() {
+            return String.format(Locale.ROOT, "%s,%s,%d,%.3f,%.3f,%.3f,%.3f,%.3f",
+                    commandWord, phase, count, meanMillis, p50Millis, p95Millis, p99Millis, maxMillis);
+        }
+    }
+}
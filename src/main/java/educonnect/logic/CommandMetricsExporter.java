@@ -0,0 +1,114 @@
+package educonnect.logic;
+
+import static educonnect.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import educonnect.commons.core.LogsCenter;
+import educonnect.commons.util.FileUtil;
+
+/**
+ * Periodically appends the summaries of a {@code CommandMetrics} to a CSV file, so that the latencies of the
+ * commands can be compared across sessions and versions.
+ * Each export appends one row per command word and phase, prefixed with the time of the export. Since the
+ * histograms are never reset, each row covers every command entered in the session up to that time, and nothing is
+ * appended if no command has been recorded since the last export.
+ */
+public class CommandMetricsExporter {
+
+    public static final String CSV_HEADER = "timestamp," + CommandMetrics.CSV_HEADER;
+
+    private static final Logger logger = LogsCenter.getLogger(CommandMetricsExporter.class);
+
+    private final CommandMetrics commandMetrics;
+    private final Path filePath;
+    private final Clock clock;
+    private ScheduledExecutorService executor;
+    /** The total count of the summaries last exported, which only grows as commands are recorded. */
+    private long exportedCount;
+
+    /**
+     * Creates an exporter of {@code commandMetrics} to the CSV file at {@code filePath}.
+     */
+    public CommandMetricsExporter(CommandMetrics commandMetrics, Path filePath, Clock clock) {
+        requireAllNonNull(commandMetrics, filePath, clock);
+        this.commandMetrics = commandMetrics;
+        this.filePath = filePath;
+        this.clock = clock;
+    }
+
+    public Path getFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Exports the metrics every {@code periodSeconds} seconds on a background thread, until {@link #stop()}.
+     */
+    public synchronized void start(long periodSeconds) {
+        if (executor != null) {
+            throw new IllegalStateException("Exporter is already started");
+        }
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "command-metrics-exporter");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleAtFixedRate(this::exportQuietly, periodSeconds, periodSeconds, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Stops exporting the metrics periodically, and exports them one last time.
+     */
+    public synchronized void stop() {
+        if (executor == null) {
+            return;
+        }
+        executor.shutdownNow();
+        executor = null;
+        exportQuietly();
+    }
+
+    /**
+     * Appends the current summaries of the metrics to the file, creating the file with a header if it does
+     * not exist. Does nothing if no command has been recorded since the last export.
+     */
+    public synchronized void export() throws IOException {
+        List<CommandMetrics.Summary> summaries = commandMetrics.getSummaries();
+        long count = summaries.stream().mapToLong(summary -> summary.count).sum();
+        if (count == exportedCount) {
+            return;
+        }
+
+        List<String> lines = new ArrayList<>();
+        if (!FileUtil.isFileExists(filePath)) {
+            FileUtil.createParentDirsOfFile(filePath);
+            lines.add(CSV_HEADER);
+        }
+        String timestamp = Instant.now(clock).toString();
+        for (CommandMetrics.Summary summary : summaries) {
+            lines.add(timestamp + "," + summary.toCsvRow());
+        }
+        Files.write(filePath, lines, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        exportedCount = count;
+    }
+
+    private void exportQuietly() {
+        try {
+            export();
+        } catch (IOException e) {
+            logger.warning("Could not export command metrics: " + e.getMessage());
+        }
+    }
+}
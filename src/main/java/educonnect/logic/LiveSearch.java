@@ -0,0 +1,134 @@
+package educonnect.logic;
+
+import static educonnect.commons.util.CollectionUtil.requireAllNonNull;
+import static java.util.Objects.requireNonNull;
+
+import java.util.BitSet;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+
+import educonnect.commons.core.LogsCenter;
+import educonnect.logic.commands.FindCommand;
+import educonnect.logic.parser.FindCommandParser;
+import educonnect.logic.parser.exceptions.ParseException;
+import educonnect.model.student.StudentIndex;
+
+/**
+ * Shows the results of a {@code find} command in the filtered student list while it is being typed.
+ * Each change to the command text is debounced, then parsed and evaluated on a background thread against the
+ * address book's {@code StudentIndex}, which is shared with the commands executed, so that typing is never held up
+ * by searching and the students are never copied for it.
+ * A change cancels the evaluations of all earlier changes, and only the result of the latest change is handed to
+ * the UI thread to be shown.
+ * Must only be updated from the UI thread, which is also the thread that executes commands.
+ */
+public class LiveSearch {
+
+    public static final long DEFAULT_DEBOUNCE_MILLIS = 150;
+
+    private static final Logger logger = LogsCenter.getLogger(LiveSearch.class);
+
+    private final Logic logic;
+    private final Executor uiExecutor;
+    private final long debounceMillis;
+    private final FindCommandParser findCommandParser = new FindCommandParser();
+    private final ScheduledExecutorService evaluator = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "live-search");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /** Incremented on every change and cancellation, so that evaluations can tell if they are stale. */
+    private final AtomicLong latestChange = new AtomicLong();
+    private ScheduledFuture<?> pendingEvaluation;
+
+    /**
+     * Creates a {@code LiveSearch} that shows its results through {@code logic},
+     * running them on the UI thread with {@code uiExecutor}.
+     */
+    public LiveSearch(Logic logic, Executor uiExecutor, long debounceMillis) {
+        requireAllNonNull(logic, uiExecutor);
+        this.logic = logic;
+        this.uiExecutor = uiExecutor;
+        this.debounceMillis = debounceMillis;
+    }
+
+    /**
+     * Searches for the students matching {@code commandText}, if it is a valid {@code find} command,
+     * once it has not changed for the debounce delay.
+     * Inputs that are not {@code find} commands, or that are incomplete, leave the student list unchanged.
+     */
+    public void update(String commandText) {
+        requireNonNull(commandText);
+        cancel();
+        String trimmedCommandText = commandText.trim();
+        if (evaluator.isShutdown() || !trimmedCommandText.startsWith(FindCommand.COMMAND_WORD + " ")) {
+            return;
+        }
+
+        String args = trimmedCommandText.substring(FindCommand.COMMAND_WORD.length());
+        // The address book keeps its index until the students change, so this is only built once for every change
+        StudentIndex studentIndex = logic.getAddressBook().getStudentIndex();
+        long change = latestChange.get();
+        pendingEvaluation = evaluator.schedule(() -> evaluate(change, args, studentIndex),
+                debounceMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Cancels any search that has not been shown yet, e.g. because the command is about to be executed.
+     */
+    public void cancel() {
+        latestChange.incrementAndGet();
+        if (pendingEvaluation != null) {
+            pendingEvaluation.cancel(false);
+            pendingEvaluation = null;
+        }
+    }
+
+    /**
+     * Stops the background thread. Later updates are ignored.
+     */
+    public void shutdown() {
+        cancel();
+        evaluator.shutdownNow();
+    }
+
+    private void evaluate(long change, String args, StudentIndex studentIndex) {
+        FindCommand findCommand;
+        try {
+            findCommand = findCommandParser.parse(args);
+        } catch (ParseException e) {
+            // the command is still being typed
+            return;
+        }
+
+        BitSet matches;
+        try {
+            matches = findCommand.evaluate(studentIndex);
+        } catch (RuntimeException e) {
+            // An index of columns cannot be read once they change, but every command cancels the search first
+            if (isStale(change)) {
+                return;
+            }
+            throw e;
+        }
+        if (isStale(change)) {
+            return;
+        }
+        uiExecutor.execute(() -> {
+            if (!isStale(change)) {
+                logger.fine(() -> "Showing live search results for: " + args);
+                logic.showFindResults(findCommand, studentIndex, matches);
+            }
+        });
+    }
+
+    private boolean isStale(long change) {
+        return change != latestChange.get();
+    }
+}
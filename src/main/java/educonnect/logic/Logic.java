@@ -1,14 +1,19 @@
 package educonnect.logic;
 
 import java.nio.file.Path;
+import java.util.BitSet;
+import java.util.List;
 
 import educonnect.commons.core.GuiSettings;
 import educonnect.logic.commands.CommandResult;
+import educonnect.logic.commands.FindCommand;
 import educonnect.logic.commands.exceptions.CommandException;
 import educonnect.logic.parser.exceptions.ParseException;
 import educonnect.model.Model;
 import educonnect.model.ReadOnlyAddressBook;
 import educonnect.model.student.Student;
+import educonnect.model.student.StudentIndex;
+import educonnect.model.student.Tag;
 import javafx.collections.ObservableList;
 
 /**
@@ -34,6 +39,39 @@ public interface Logic {
     /** Returns an unmodifiable view of the filtered list of students */
     ObservableList<Student> getFilteredStudentList();
 
+    /**
+     * Shows the results of {@code findCommand} in the filtered list of students, given the set of {@code matches}
+     * that it found in {@code index}, which may be a snapshot of an earlier version of the address book.
+     *
+     * @see FindCommand#showMatches(Model, StudentIndex, BitSet)
+     */
+    void showFindResults(FindCommand findCommand, StudentIndex index, BitSet matches);
+
+    /**
+     * Narrows the filtered list of students down to the students in it with {@code tag}.
+     *
+     * @see Model#narrowFilteredStudentList
+     */
+    void showListedStudentsWithTag(Tag tag);
+
+    /**
+     * Returns the latencies of each phase of the commands entered, for recording the phases outside of logic.
+     */
+    CommandMetrics getCommandMetrics();
+
+    /**
+     * Returns the history of the commands entered, including those that failed.
+     */
+    CommandHistory getCommandHistory();
+
+    /**
+     * Returns suggested completions of the tag, student id, email or telegram handle at the end of {@code commandText},
+     * each of which is the whole command text with the value completed.
+     *
+     * @see CommandCompleter#complete
+     */
+    List<String> getCompletions(String commandText);
+
     /**
      * Returns the user prefs' address book file path.
      */
@@ -3,18 +3,25 @@ package educonnect.logic;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.BitSet;
+import java.util.List;
 import java.util.logging.Logger;
 
 import educonnect.commons.core.GuiSettings;
 import educonnect.commons.core.LogsCenter;
+import educonnect.logic.CommandMetrics.Phase;
 import educonnect.logic.commands.Command;
 import educonnect.logic.commands.CommandResult;
+import educonnect.logic.commands.FindCommand;
 import educonnect.logic.commands.exceptions.CommandException;
 import educonnect.logic.parser.AddressBookParser;
 import educonnect.logic.parser.exceptions.ParseException;
 import educonnect.model.Model;
 import educonnect.model.ReadOnlyAddressBook;
 import educonnect.model.student.Student;
+import educonnect.model.student.StudentIndex;
+import educonnect.model.student.Tag;
+import educonnect.model.student.predicates.TagContainsKeywordsPredicate;
 import educonnect.storage.Storage;
 import javafx.collections.ObservableList;
 
@@ -27,35 +34,76 @@ public class LogicManager implements Logic {
     public static final String FILE_OPS_PERMISSION_ERROR_FORMAT =
             "Could not save data to file %s due to insufficient permissions to write to the file or the folder.";
 
+    /** Marks the log message of each command entered, which is followed by the command and a closing bracket. */
+    public static final String USER_COMMAND_LOG_MARKER = "[USER COMMAND][";
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
+    private final CommandHistory commandHistory;
+    private final CommandMetrics commandMetrics = new CommandMetrics();
 
     /**
-     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage},
+     * and a command history that is not stored.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, new CommandHistory());
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model}, {@code Storage} and {@code CommandHistory}.
+     */
+    public LogicManager(Model model, Storage storage, CommandHistory commandHistory) {
         this.model = model;
         this.storage = storage;
-        addressBookParser = new AddressBookParser();
+        this.commandHistory = commandHistory;
+        addressBookParser = new AddressBookParser(commandMetrics);
     }
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
-        logger.info("----------------[USER COMMAND][" + commandText + "]");
+        logger.info("----------------" + USER_COMMAND_LOG_MARKER + commandText + "]");
+        commandHistory.add(commandText);
 
-        CommandResult commandResult;
-        Command command = addressBookParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+        CommandEvent parseEvent = new CommandEvent();
+        parseEvent.begin();
+        long parseStart = System.nanoTime();
+        Command command;
+        try {
+            command = addressBookParser.parseCommand(commandText);
+        } catch (ParseException pe) {
+            // Invalid commands are recorded together, so that mistyped command words do not each add a histogram
+            commandMetrics.record(CommandMetrics.INVALID_COMMAND_WORD, Phase.PARSE, System.nanoTime() - parseStart);
+            parseEvent.finish(CommandMetrics.INVALID_COMMAND_WORD, Phase.PARSE, false);
+            throw pe;
+        }
+        String commandWord = CommandMetrics.getCommandWord(commandText);
+        commandMetrics.record(commandWord, Phase.PARSE, System.nanoTime() - parseStart);
+        parseEvent.finish(commandWord, Phase.PARSE, true);
 
+        CommandResult commandResult = null;
+        CommandEvent executeEvent = new CommandEvent();
+        executeEvent.begin();
+        long executeStart = System.nanoTime();
+        try {
+            commandResult = command.execute(model);
+        } finally {
+            commandMetrics.record(commandWord, Phase.EXECUTE, System.nanoTime() - executeStart);
+            executeEvent.finish(commandWord, Phase.EXECUTE, commandResult != null);
+        }
+
+        long saveStart = System.nanoTime();
         try {
             storage.saveAddressBook(model.getAddressBook());
         } catch (AccessDeniedException e) {
             throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
         } catch (IOException ioe) {
             throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+        } finally {
+            commandMetrics.record(commandWord, Phase.SAVE, System.nanoTime() - saveStart);
         }
 
         return commandResult;
@@ -71,6 +119,32 @@ public class LogicManager implements Logic {
         return model.getFilteredStudentList();
     }
 
+    @Override
+    public void showFindResults(FindCommand findCommand, StudentIndex index, BitSet matches) {
+        findCommand.showMatches(model, index, matches);
+    }
+
+    @Override
+    public CommandMetrics getCommandMetrics() {
+        return commandMetrics;
+    }
+
+    @Override
+    public CommandHistory getCommandHistory() {
+        return commandHistory;
+    }
+
+    @Override
+    public List<String> getCompletions(String commandText) {
+        return CommandCompleter.complete(commandText, model.getAddressBook().getStudentCompletions(),
+                CommandCompleter.MAX_COMPLETIONS);
+    }
+
+    @Override
+    public void showListedStudentsWithTag(Tag tag) {
+        model.narrowFilteredStudentList(new TagContainsKeywordsPredicate(tag));
+    }
+
     @Override
     public Path getAddressBookFilePath() {
         return model.getAddressBookFilePath();
@@ -3,6 +3,7 @@ package educonnect.logic;
 import static educonnect.logic.parser.CliSyntax.PREFIX_EMAIL;
 import static educonnect.logic.parser.CliSyntax.PREFIX_LINK;
 import static educonnect.logic.parser.CliSyntax.PREFIX_NAME;
+import static educonnect.logic.parser.CliSyntax.PREFIX_NAME_SIMILAR;
 import static educonnect.logic.parser.CliSyntax.PREFIX_STUDENT_ID;
 import static educonnect.logic.parser.CliSyntax.PREFIX_TELEGRAM_HANDLE;
 
@@ -43,7 +44,7 @@ public class Messages {
 
     public static String getErrorMessageForEmptyArguments(Prefix prefix) {
         String prefixMessage;
-        if (prefix.equals(PREFIX_NAME)) {
+        if (prefix.equals(PREFIX_NAME) || prefix.equals(PREFIX_NAME_SIMILAR)) {
             prefixMessage = "NAME";
         } else if (prefix.equals(PREFIX_EMAIL)) {
             prefixMessage = "EMAIL";
@@ -3,6 +3,7 @@ package educonnect.logic.commands;
 import static java.util.Objects.requireNonNull;
 
 import java.util.Objects;
+import java.util.Optional;
 
 import educonnect.commons.util.ToStringBuilder;
 
@@ -19,13 +20,52 @@ public class CommandResult {
     /** The application should exit. */
     private final boolean exit;
 
+    /** Text that should be copied to the user's clipboard, or null if there is none. */
+    private final String textToCopy;
+
+    /** Structured content to be shown below the feedback, or null if there is none. */
+    private final ResultPayload<?> payload;
+
     /**
      * Constructs a {@code CommandResult} with the specified fields.
      */
-    public CommandResult(String feedbackToUser, boolean showHelp, boolean exit) {
+    public CommandResult(String feedbackToUser, boolean showHelp, boolean exit, String textToCopy,
+            ResultPayload<?> payload) {
         this.feedbackToUser = requireNonNull(feedbackToUser);
         this.showHelp = showHelp;
         this.exit = exit;
+        this.textToCopy = textToCopy;
+        this.payload = payload;
+    }
+
+    /**
+     * Constructs a {@code CommandResult} with the specified fields and no payload.
+     */
+    public CommandResult(String feedbackToUser, boolean showHelp, boolean exit, String textToCopy) {
+        this(feedbackToUser, showHelp, exit, textToCopy, null);
+    }
+
+    /**
+     * Constructs a {@code CommandResult} with the specified {@code feedbackToUser} and {@code payload},
+     * and other fields set to their default value.
+     */
+    public CommandResult(String feedbackToUser, ResultPayload<?> payload) {
+        this(feedbackToUser, false, false, null, requireNonNull(payload));
+    }
+
+    /**
+     * Constructs a {@code CommandResult} with the specified fields and nothing to copy.
+     */
+    public CommandResult(String feedbackToUser, boolean showHelp, boolean exit) {
+        this(feedbackToUser, showHelp, exit, null);
+    }
+
+    /**
+     * Constructs a {@code CommandResult} with the specified {@code feedbackToUser} and {@code textToCopy},
+     * and other fields set to their default value.
+     */
+    public CommandResult(String feedbackToUser, String textToCopy) {
+        this(feedbackToUser, false, false, requireNonNull(textToCopy));
     }
 
     /**
@@ -48,6 +88,28 @@ public class CommandResult {
         return exit;
     }
 
+    /**
+     * Returns the text that the UI should place on the user's clipboard, if any.
+     * Copying is left to the UI so that commands can be executed without the JavaFX toolkit.
+     */
+    public Optional<String> getTextToCopy() {
+        return Optional.ofNullable(textToCopy);
+    }
+
+    /**
+     * Returns the structured content of this result, if any, which is only formatted into text when it is shown.
+     */
+    public Optional<ResultPayload<?>> getPayload() {
+        return Optional.ofNullable(payload);
+    }
+
+    /**
+     * Returns the feedback followed by the full text of the payload, if any, for displays that show plain text only.
+     */
+    public String getFullText() {
+        return payload == null ? feedbackToUser : feedbackToUser + "\n\n" + payload.toPlainText();
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -62,12 +124,14 @@ public class CommandResult {
         CommandResult otherCommandResult = (CommandResult) other;
         return feedbackToUser.equals(otherCommandResult.feedbackToUser)
                 && showHelp == otherCommandResult.showHelp
-                && exit == otherCommandResult.exit;
+                && exit == otherCommandResult.exit
+                && Objects.equals(textToCopy, otherCommandResult.textToCopy)
+                && Objects.equals(payload, otherCommandResult.payload);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(feedbackToUser, showHelp, exit);
+        return Objects.hash(feedbackToUser, showHelp, exit, textToCopy, payload);
     }
 
     @Override
@@ -76,6 +140,8 @@ public class CommandResult {
                 .add("feedbackToUser", feedbackToUser)
                 .add("showHelp", showHelp)
                 .add("exit", exit)
+                .add("textToCopy", textToCopy)
+                .add("payload", payload)
                 .toString();
     }
 
@@ -14,11 +14,10 @@ import educonnect.logic.commands.exceptions.CommandException;
 import educonnect.model.Model;
 import educonnect.model.student.Student;
 import javafx.collections.ObservableList;
-import javafx.scene.input.Clipboard;
-import javafx.scene.input.ClipboardContent;
 
 /**
  * Copies all student emails whose tags match all argument keywords to the user's clipboard.
+ * The emails are returned in the {@code CommandResult}, and placed on the clipboard by the UI.
  */
 public class CopyCommand extends Command {
 
@@ -31,7 +30,6 @@ public class CopyCommand extends Command {
             + "Example 2: " + COMMAND_WORD + " t/tutorial-1";
 
     private final Collection<Predicate<Student>> predicates;
-    private final boolean doCopy;
 
     /**
      * Creates a CopyCommand to copy emails to the clipboard.
@@ -39,23 +37,6 @@ public class CopyCommand extends Command {
      */
     public CopyCommand(Collection<Predicate<Student>> predicates) {
         this.predicates = predicates;
-        this.doCopy = true;
-    }
-
-    /**
-     * Creates a CopyCommand for testing purposes.
-     *
-     * <p>JUnit does not handle JavaFX Clipboard library and returns the error below:
-     * <p><code>
-     * java.lang.IllegalStateException: This operation is permitted on the event thread only;
-     * currentThread = Test worker
-     * </code>
-     * @param predicates to filter the students with.
-     * @param copy flag to copy emails to clipboard. Set to false for testing.
-     */
-    public CopyCommand(Collection<Predicate<Student>> predicates, boolean copy) {
-        this.predicates = predicates;
-        this.doCopy = copy;
     }
 
     @Override
@@ -67,18 +48,12 @@ public class CopyCommand extends Command {
             throw new CommandException(Messages.MESSAGE_NO_STUDENT_FOUND);
         }
 
-        if (doCopy) {
-            Clipboard clipboard = Clipboard.getSystemClipboard();
-            ClipboardContent content = new ClipboardContent();
-            StringJoiner emails = new StringJoiner(", ");
-            filteredStudents.forEach(s -> emails.add(s.getEmail().value));
-            content.putString(emails.toString());
-            clipboard.setContent(content);
-        }
+        StringJoiner emails = new StringJoiner(", ");
+        filteredStudents.forEach(s -> emails.add(s.getEmail().value));
 
         String response = String.format(Messages.MESSAGE_STUDENT_EMAIL_COPIED_OVERVIEW,
                 filteredStudents.size());
-        return new CommandResult(response.toString());
+        return new CommandResult(response, emails.toString());
     }
 
     @Override
@@ -1,22 +1,34 @@
 package educonnect.logic.commands;
 
+import static educonnect.commons.util.CollectionUtil.requireAllNonNull;
 import static educonnect.logic.parser.CliSyntax.PREFIX_EMAIL;
 import static educonnect.logic.parser.CliSyntax.PREFIX_NAME;
+import static educonnect.logic.parser.CliSyntax.PREFIX_NAME_SIMILAR;
 import static educonnect.logic.parser.CliSyntax.PREFIX_STUDENT_ID;
 import static educonnect.logic.parser.CliSyntax.PREFIX_TAG;
 import static educonnect.logic.parser.CliSyntax.PREFIX_TELEGRAM_HANDLE;
 import static java.util.Objects.requireNonNull;
 
+import java.util.BitSet;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import educonnect.commons.util.ToStringBuilder;
 import educonnect.logic.Messages;
 import educonnect.model.Model;
+import educonnect.model.ReadOnlyAddressBook;
 import educonnect.model.student.Student;
+import educonnect.model.student.StudentIndex;
+import educonnect.model.student.predicates.NameSimilarToKeywordsPredicate;
+import educonnect.model.student.query.Query;
 
 /**
  * Finds and lists all students in address book whose name contains any of the argument keywords.
@@ -29,11 +41,14 @@ public class FindCommand extends Command {
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all students whose attributes match "
             + "the specified attributed keywords (case-insensitive) and displays them as a list. "
             + "Finding by tags need to match the whole tag but finding by other attributes can match partially. "
-            + "Finding by multiple prefixes will find students that satisfies all prefixes used.\n\n"
+            + "Finding by multiple prefixes will find students that satisfies all prefixes used. "
+            + "Finding by " + PREFIX_NAME_SIMILAR + " tolerates typos in the name and lists the closest names first. "
+            + "Prefixes can also be combined with AND, OR, NOT and brackets.\n\n"
 
             + "Parameters: "
             + "<choose 1 or more>"
             + "[" + PREFIX_NAME + "NAME] "
+            + "[" + PREFIX_NAME_SIMILAR + "NAME] "
             + "[" + PREFIX_STUDENT_ID + "STUDENT_ID] "
             + "[" + PREFIX_EMAIL + " EMAIL] "
             + "[" + PREFIX_TELEGRAM_HANDLE + "TELEGRAM_HANDLE] "
@@ -41,22 +56,95 @@ public class FindCommand extends Command {
 
             + "Example 1: " + COMMAND_WORD + " " + PREFIX_NAME + "John " + PREFIX_TAG + "tutorial-1\n"
             + "Example 2: " + COMMAND_WORD + " " + PREFIX_NAME + "alex\n"
-            + "Example 3: " + COMMAND_WORD + " " + PREFIX_STUDENT_ID + "A1";
+            + "Example 3: " + COMMAND_WORD + " " + PREFIX_STUDENT_ID + "A1\n"
+            + "Example 4: " + COMMAND_WORD + " " + PREFIX_NAME_SIMILAR + "jonh\n"
+            + "Example 5: " + COMMAND_WORD + " (" + PREFIX_TAG + "tutorial-1 OR " + PREFIX_TAG + "tutorial-2) NOT "
+            + PREFIX_TAG + "dropped";
 
     private final Collection<Predicate<Student>> predicates;
+    private final Query query;
+    private final List<NameSimilarToKeywordsPredicate> similarNamePredicates;
 
+    /**
+     * Creates a FindCommand to find the students that satisfy all of {@code predicates}.
+     */
     public FindCommand(Collection<Predicate<Student>> predicates) {
         this.predicates = predicates;
+        this.query = Query.allOf(predicates);
+        this.similarNamePredicates = predicates.stream()
+                .filter(predicate -> predicate instanceof NameSimilarToKeywordsPredicate)
+                .map(predicate -> (NameSimilarToKeywordsPredicate) predicate)
+                .collect(Collectors.toList());
     }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
         model.updateFilteredStudentList(predicates);
+        if (!similarNamePredicates.isEmpty()) {
+            model.sortFilteredStudentList(getClosestNameFirstComparator());
+        }
         return new CommandResult(
                 String.format(Messages.MESSAGE_STUDENTS_LISTED_OVERVIEW, model.getFilteredStudentList().size()));
     }
 
+    /**
+     * Returns the students in {@code addressBook} that satisfy all the predicates of this command,
+     * without changing the filtered student list of any {@code Model}.
+     */
+    public List<Student> findMatches(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        StudentIndex index = addressBook.getStudentIndex();
+        List<Student> matches = index.getStudents(evaluate(index));
+        if (!similarNamePredicates.isEmpty()) {
+            matches.sort(getClosestNameFirstComparator());
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the set of students in {@code index} that satisfy all the predicates of this command.
+     * Only reads {@code index}, so it can be called on any thread.
+     */
+    public BitSet evaluate(StudentIndex index) {
+        requireNonNull(index);
+        return query.evaluate(index);
+    }
+
+    /**
+     * Shows the students that satisfy all the predicates of this command in the filtered student list of
+     * {@code model}, given the set of {@code matches} found by {@link #evaluate(StudentIndex)} in {@code index}.
+     * {@code index} may be a snapshot from before the latest changes to the model:
+     * students that are not in it are tested against the predicates directly.
+     */
+    public void showMatches(Model model, StudentIndex index, BitSet matches) {
+        requireAllNonNull(model, index, matches);
+        model.updateFilteredStudentList(List.of(student -> {
+            int position = index.indexOf(student);
+            return position < 0 ? query.test(student) : matches.get(position);
+        }));
+        if (!similarNamePredicates.isEmpty()) {
+            model.sortFilteredStudentList(getClosestNameFirstComparator());
+        }
+    }
+
+    /**
+     * Returns a comparator that orders students by the edit distance of their name to the similar name keywords,
+     * keeping the address book order between students at the same distance.
+     * The distance of each student is only computed the first time the student is compared, and kept with the
+     * comparator for as long as it sorts the list.
+     */
+    private Comparator<Student> getClosestNameFirstComparator() {
+        Map<Student, Integer> distances = new IdentityHashMap<>();
+        return Comparator.comparingInt(student -> distances.computeIfAbsent(student, this::getNameDistance));
+    }
+
+    private int getNameDistance(Student student) {
+        return similarNamePredicates.stream()
+                .mapToInt(predicate -> predicate.distanceTo(student))
+                .sum();
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -0,0 +1,30 @@
+package educonnect.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.function.Function;
+
+import educonnect.model.Model;
+import educonnect.model.util.MemoryStats;
+
+/**
+ * Shows an estimate of the memory taken up by the students, and the structures kept for them.
+ */
+public class MemStatsCommand extends Command {
+
+    public static final String COMMAND_WORD = "memstats";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Shows an estimate of the memory taken up by the students, their timetables and tags, "
+            + "and the indexes and lists kept for them.\n\n"
+            + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_SUCCESS = "Estimated memory taken up by the data, counting shared objects once:";
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        MemoryStats memoryStats = MemoryStats.of(model);
+        return new CommandResult(MESSAGE_SUCCESS, new ResultPayload<>(memoryStats.format(), Function.identity()));
+    }
+}
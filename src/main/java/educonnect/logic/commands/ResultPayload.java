@@ -0,0 +1,117 @@
+package educonnect.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.function.Function;
+
+import educonnect.commons.util.ToStringBuilder;
+
+/**
+ * Structured content of a {@code CommandResult}, such as a list of slots or students, that may be too large
+ * to be formatted into a single feedback string.
+ * The content is kept as a list of items that are only formatted into lines of text when they are needed,
+ * so that the UI can show it a page at a time, and the full text is only built when it is asked for, e.g. to copy it.
+ *
+ * @param <T> the type of the items.
+ */
+public class ResultPayload<T> {
+
+    private final List<T> items;
+    private final Function<? super T, String> formatter;
+
+    /**
+     * Creates a payload of {@code items}, each of which is formatted into a line of text by {@code formatter}.
+     */
+    public ResultPayload(List<T> items, Function<? super T, String> formatter) {
+        requireNonNull(items);
+        requireNonNull(formatter);
+        this.items = List.copyOf(items);
+        this.formatter = formatter;
+    }
+
+    public List<T> getItems() {
+        return items;
+    }
+
+    /**
+     * Returns the number of items, and so lines, in this payload.
+     */
+    public int size() {
+        return items.size();
+    }
+
+    /**
+     * Formats the item at {@code index} into its line of text.
+     */
+    public String format(int index) {
+        return formatter.apply(items.get(index));
+    }
+
+    /**
+     * Returns the number of pages of {@code pageSize} lines needed to show every line.
+     */
+    public int getPageCount(int pageSize) {
+        checkPageSize(pageSize);
+        return Math.max(1, (items.size() + pageSize - 1) / pageSize);
+    }
+
+    /**
+     * Formats the lines on page {@code pageIndex}, where every page has {@code pageSize} lines and the first page
+     * has index 0. Pages after the last line are empty.
+     */
+    public String formatPage(int pageIndex, int pageSize) {
+        checkPageSize(pageSize);
+        if (pageIndex < 0) {
+            throw new IndexOutOfBoundsException("Invalid page: " + pageIndex);
+        }
+        long start = (long) pageIndex * pageSize;
+        return formatLines((int) Math.min(start, items.size()), (int) Math.min(start + pageSize, items.size()));
+    }
+
+    /**
+     * Formats every line of this payload as plain text.
+     */
+    public String toPlainText() {
+        return formatLines(0, items.size());
+    }
+
+    private String formatLines(int start, int end) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = start; i < end; i++) {
+            sb.append(format(i)).append("\n");
+        }
+        return sb.toString();
+    }
+
+    private static void checkPageSize(int pageSize) {
+        if (pageSize < 1) {
+            throw new IllegalArgumentException("Invalid page size: " + pageSize);
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ResultPayload)) {
+            return false;
+        }
+
+        ResultPayload<?> otherResultPayload = (ResultPayload<?>) other;
+        return items.equals(otherResultPayload.items);
+    }
+
+    @Override
+    public int hashCode() {
+        return items.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("items", items).toString();
+    }
+}
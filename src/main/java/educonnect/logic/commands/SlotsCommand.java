@@ -7,16 +7,22 @@ import static educonnect.logic.parser.CliSyntax.PREFIX_TAG;
 import static java.util.Objects.requireNonNull;
 
 import java.time.DayOfWeek;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import educonnect.commons.util.ToStringBuilder;
 import educonnect.logic.commands.exceptions.CommandException;
 import educonnect.model.Model;
+import educonnect.model.ReadOnlyAddressBook;
 import educonnect.model.student.Student;
 import educonnect.model.student.timetable.AvailableSlots;
+import educonnect.model.student.timetable.Day;
 import educonnect.model.student.timetable.Period;
 import educonnect.model.student.timetable.Timetable;
 
@@ -45,7 +51,7 @@ public class SlotsCommand extends Command {
             + PREFIX_TAG + "tutorial-1 " + PREFIX_PERIOD + "10-16 \n\n";
 
     public static final String MESSAGE_FOUND_SLOTS_SUCCESS =
-            "Found a few available slots, they are displayed below.\n\n%1$s";
+            "Found a few available slots, they are displayed below.";
     public static final String MESSAGE_NO_SLOTS_FOUND = "No available slots found.";
     private final SlotsFinderDescriptor slotsFinderDescriptor;
 
@@ -58,37 +64,67 @@ public class SlotsCommand extends Command {
         requireNonNull(model);
 
         int duration = slotsFinderDescriptor.getDuration();
-        Period timeframe;
-        HashSet<DayOfWeek> days;
 
         // if tags are present to filter the list of students being searched.
         if (slotsFinderDescriptor.getPredicates().isPresent()) {
             model.updateFilteredStudentList(slotsFinderDescriptor.getPredicates().get());
         }
 
-        // if timeframe is specified
-        if (slotsFinderDescriptor.getTimeframe().isPresent()) {
-            timeframe = slotsFinderDescriptor.getTimeframe().get();
-        } else {
-            timeframe = Timetable.DEFAULT_TIMEFRAME;
-        }
-
-        // if the days to be searched is specified
-        if (slotsFinderDescriptor.getDays().isPresent()) {
-            days = slotsFinderDescriptor.getDays().get();
-        } else {
-            days = Timetable.DEFAULT_ALL_DAYS;
-        }
+        Period timeframe = getTimeframeOrDefault();
+        HashSet<DayOfWeek> days = getDaysOrDefault();
 
         AvailableSlots availableSlots = model.findAllCommonSlots(duration, timeframe, days);
 
         if (availableSlots.hasCommonSlots()) {
-            return new CommandResult(String.format(MESSAGE_FOUND_SLOTS_SUCCESS, availableSlots));
+            return new CommandResult(MESSAGE_FOUND_SLOTS_SUCCESS, createPayload(availableSlots));
         } else {
             return new CommandResult(MESSAGE_NO_SLOTS_FOUND);
         }
     }
 
+    /**
+     * Creates the payload showing {@code availableSlots}, with a line for each day followed by a line for each of
+     * its periods, so that a page of the payload is a bounded number of periods rather than of whole days.
+     */
+    static ResultPayload<SlotLine> createPayload(AvailableSlots availableSlots) {
+        List<SlotLine> lines = new ArrayList<>();
+        for (Day day : availableSlots.getDays()) {
+            lines.add(new SlotLine(day, null));
+            day.getPeriods().forEach(period -> lines.add(new SlotLine(day, period)));
+        }
+        return new ResultPayload<>(lines, SlotLine::format);
+    }
+
+    /**
+     * Finds the common available slots amongst the students in {@code addressBook}, narrowed down by the tags
+     * of this command if any, without changing the filtered student list of any {@code Model}.
+     */
+    public AvailableSlots findSlots(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        List<Student> studentsToSearch = slotsFinderDescriptor.getPredicates()
+                .map(predicates -> new FindCommand(predicates).findMatches(addressBook))
+                .orElse(addressBook.getStudentList());
+        List<Timetable> timetables = studentsToSearch.stream()
+                .map(Student::getTimetable)
+                .collect(Collectors.toList());
+        return AvailableSlots.findAllCommonSlots(timetables, slotsFinderDescriptor.getDuration(),
+                getTimeframeOrDefault(), getDaysOrDefault());
+    }
+
+    /**
+     * Returns the timeframe to search within, which is the default timeframe if none was specified.
+     */
+    private Period getTimeframeOrDefault() {
+        return slotsFinderDescriptor.getTimeframe().orElse(Timetable.DEFAULT_TIMEFRAME);
+    }
+
+    /**
+     * Returns the days to search on, which are the default days if none were specified.
+     */
+    private HashSet<DayOfWeek> getDaysOrDefault() {
+        return slotsFinderDescriptor.getDays().orElse(Timetable.DEFAULT_ALL_DAYS);
+    }
+
     @Override
     public boolean equals(Object obj) {
         if (obj == this) {
@@ -110,6 +146,43 @@ public class SlotsCommand extends Command {
                 .toString();
     }
 
+    /**
+     * A line showing the slots found, which is either the header of a day or one of its periods.
+     */
+    static class SlotLine {
+        private final Day day;
+        private final Period period;
+
+        SlotLine(Day day, Period period) {
+            this.day = day;
+            this.period = period;
+        }
+
+        String format() {
+            // the period's string ends with a line break, which the payload adds itself
+            return period == null ? day.toHeaderString() : period.toString().stripTrailing();
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (obj == this) {
+                return true;
+            }
+
+            if (!(obj instanceof SlotLine)) {
+                return false;
+            }
+
+            SlotLine slotLine = (SlotLine) obj;
+            return day.equals(slotLine.day) && Objects.equals(period, slotLine.period);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(day, period);
+        }
+    }
+
     /**
      * Stores the details of the slots that is being searched for.
      */
@@ -0,0 +1,63 @@
+package educonnect.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import educonnect.commons.util.ToStringBuilder;
+import educonnect.logic.CommandMetrics;
+import educonnect.model.Model;
+
+/**
+ * Shows the latencies of each phase of the commands entered in this session.
+ */
+public class StatsCommand extends Command {
+
+    public static final String COMMAND_WORD = "stats";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Shows how long each kind of command has taken to parse, execute, save and show, "
+            + "in milliseconds.\n\n"
+            + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_SUCCESS = "Latencies (ms) of the commands entered in this session:";
+
+    private final CommandMetrics commandMetrics;
+
+    /**
+     * Creates a {@code StatsCommand} that shows the latencies in {@code commandMetrics}.
+     */
+    public StatsCommand(CommandMetrics commandMetrics) {
+        requireNonNull(commandMetrics);
+        this.commandMetrics = commandMetrics;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        List<CommandMetrics.Summary> summaries = commandMetrics.getSummaries();
+        return new CommandResult(MESSAGE_SUCCESS, new ResultPayload<>(summaries, CommandMetrics.Summary::format));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof StatsCommand)) {
+            return false;
+        }
+
+        StatsCommand otherStatsCommand = (StatsCommand) other;
+        return commandMetrics == otherStatsCommand.commandMetrics;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("commandMetrics", commandMetrics)
+                .toString();
+    }
+}
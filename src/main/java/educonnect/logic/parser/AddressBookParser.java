@@ -8,6 +8,7 @@ import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import educonnect.commons.core.LogsCenter;
+import educonnect.logic.CommandMetrics;
 import educonnect.logic.commands.AddCommand;
 import educonnect.logic.commands.ClearCommand;
 import educonnect.logic.commands.Command;
@@ -18,7 +19,9 @@ import educonnect.logic.commands.ExitCommand;
 import educonnect.logic.commands.FindCommand;
 import educonnect.logic.commands.HelpCommand;
 import educonnect.logic.commands.ListCommand;
+import educonnect.logic.commands.MemStatsCommand;
 import educonnect.logic.commands.SlotsCommand;
+import educonnect.logic.commands.StatsCommand;
 import educonnect.logic.parser.exceptions.ParseException;
 
 /**
@@ -32,6 +35,22 @@ public class AddressBookParser {
     private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
     private static final Logger logger = LogsCenter.getLogger(AddressBookParser.class);
 
+    private final CommandMetrics commandMetrics;
+
+    /**
+     * Creates an {@code AddressBookParser} whose {@code stats} commands show an empty {@code CommandMetrics}.
+     */
+    public AddressBookParser() {
+        this(new CommandMetrics());
+    }
+
+    /**
+     * Creates an {@code AddressBookParser} whose {@code stats} commands show {@code commandMetrics}.
+     */
+    public AddressBookParser(CommandMetrics commandMetrics) {
+        this.commandMetrics = commandMetrics;
+    }
+
     /**
      * Parses user input into command for execution.
      *
@@ -51,7 +70,7 @@ public class AddressBookParser {
         // Note to developers: Change the log level in config.json to enable lower level (i.e., FINE, FINER and lower)
         // log messages such as the one below.
         // Lower level log messages are used sparingly to minimize noise in the code.
-        logger.fine("Command word: " + commandWord + "; Arguments: " + arguments);
+        logger.fine(() -> "Command word: " + commandWord + "; Arguments: " + arguments);
 
         switch (commandWord) {
 
@@ -85,8 +104,14 @@ public class AddressBookParser {
         case SlotsCommand.COMMAND_WORD:
             return new SlotsCommandParser().parse(arguments);
 
+        case StatsCommand.COMMAND_WORD:
+            return new StatsCommand(commandMetrics);
+
+        case MemStatsCommand.COMMAND_WORD:
+            return new MemStatsCommand();
+
         default:
-            logger.finer("This user input caused a ParseException: " + userInput);
+            logger.finer(() -> "This user input caused a ParseException: " + userInput);
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
         }
     }
@@ -38,7 +38,7 @@ public class CopyCommandParser implements Parser<CopyCommand> {
         }
 
         Set<Predicate<Student>> predicates = new HashSet<>();
-        Set<Tag> tagList = ParserUtil.parseTags(argMultimap.getAllValues(PREFIX_TAG));
+        Set<Tag> tagList = ParserUtil.parseTagsToFind(argMultimap.getAllValues(PREFIX_TAG));
         for (Tag keywordTag: tagList) {
             predicates.add(new TagContainsKeywordsPredicate(keywordTag));
         }
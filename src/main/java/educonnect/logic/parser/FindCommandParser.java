@@ -5,12 +5,14 @@ import static educonnect.logic.Messages.getErrorMessageForEmptyArguments;
 import static educonnect.logic.parser.CliSyntax.PREFIX_EMAIL;
 import static educonnect.logic.parser.CliSyntax.PREFIX_LINK;
 import static educonnect.logic.parser.CliSyntax.PREFIX_NAME;
+import static educonnect.logic.parser.CliSyntax.PREFIX_NAME_SIMILAR;
 import static educonnect.logic.parser.CliSyntax.PREFIX_STUDENT_ID;
 import static educonnect.logic.parser.CliSyntax.PREFIX_TAG;
 import static educonnect.logic.parser.CliSyntax.PREFIX_TELEGRAM_HANDLE;
 import static educonnect.logic.parser.CliSyntax.PREFIX_TIMETABLE;
 
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.function.Predicate;
 
@@ -21,6 +23,7 @@ import educonnect.model.student.Tag;
 import educonnect.model.student.predicates.EmailContainsKeywordsPredicate;
 import educonnect.model.student.predicates.IdContainsKeywordsPredicate;
 import educonnect.model.student.predicates.NameContainsKeywordsPredicate;
+import educonnect.model.student.predicates.NameSimilarToKeywordsPredicate;
 import educonnect.model.student.predicates.TagContainsKeywordsPredicate;
 import educonnect.model.student.predicates.TelegramContainsKeywordsPredicate;
 
@@ -40,10 +43,13 @@ public class FindCommandParser implements Parser<FindCommand> {
         if (trimmedArgs.isEmpty()) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
         }
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_STUDENT_ID,
-                PREFIX_EMAIL, PREFIX_TELEGRAM_HANDLE, PREFIX_TAG, PREFIX_TIMETABLE, PREFIX_LINK);
+        if (FindQueryParser.isQuery(args)) {
+            return new FindCommand(List.of(FindQueryParser.parse(args)));
+        }
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_NAME_SIMILAR,
+                PREFIX_STUDENT_ID, PREFIX_EMAIL, PREFIX_TELEGRAM_HANDLE, PREFIX_TAG, PREFIX_TIMETABLE, PREFIX_LINK);
         // check for duplicate prefixes in the argument
-        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_NAME, PREFIX_STUDENT_ID,
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_NAME, PREFIX_NAME_SIMILAR, PREFIX_STUDENT_ID,
                 PREFIX_EMAIL, PREFIX_TELEGRAM_HANDLE, PREFIX_LINK);
 
         if (argMultimap.areAnyPrefixesPresent(PREFIX_TIMETABLE) || !argMultimap.getPreamble().isEmpty()) {
@@ -58,6 +64,13 @@ public class FindCommandParser implements Parser<FindCommand> {
             }
             predicates.add(new NameContainsKeywordsPredicate(name));
         }
+        if (argMultimap.getValue(PREFIX_NAME_SIMILAR).isPresent()) {
+            String name = argMultimap.getValue(PREFIX_NAME_SIMILAR).get();
+            if (name.isEmpty()) {
+                throw new ParseException(getErrorMessageForEmptyArguments(PREFIX_NAME_SIMILAR));
+            }
+            predicates.add(new NameSimilarToKeywordsPredicate(name));
+        }
         if (argMultimap.getValue(PREFIX_STUDENT_ID).isPresent()) {
             String studentId = argMultimap.getValue(PREFIX_STUDENT_ID).get();
             if (studentId.isEmpty()) {
@@ -79,7 +92,7 @@ public class FindCommandParser implements Parser<FindCommand> {
             }
             predicates.add(new TelegramContainsKeywordsPredicate(telegramHandle));
         }
-        Set<Tag> tagList = ParserUtil.parseTags(argMultimap.getAllValues(PREFIX_TAG));
+        Set<Tag> tagList = ParserUtil.parseTagsToFind(argMultimap.getAllValues(PREFIX_TAG));
         for (Tag keywordTag: tagList) {
             predicates.add(new TagContainsKeywordsPredicate(keywordTag));
         }
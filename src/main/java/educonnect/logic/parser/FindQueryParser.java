@@ -0,0 +1,236 @@
+package educonnect.logic.parser;
+
+import static educonnect.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static educonnect.logic.Messages.getErrorMessageForEmptyArguments;
+import static educonnect.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static educonnect.logic.parser.CliSyntax.PREFIX_NAME;
+import static educonnect.logic.parser.CliSyntax.PREFIX_NAME_SIMILAR;
+import static educonnect.logic.parser.CliSyntax.PREFIX_STUDENT_ID;
+import static educonnect.logic.parser.CliSyntax.PREFIX_TAG;
+import static educonnect.logic.parser.CliSyntax.PREFIX_TELEGRAM_HANDLE;
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+import educonnect.logic.commands.FindCommand;
+import educonnect.logic.parser.exceptions.ParseException;
+import educonnect.model.student.Student;
+import educonnect.model.student.predicates.EmailContainsKeywordsPredicate;
+import educonnect.model.student.predicates.IdContainsKeywordsPredicate;
+import educonnect.model.student.predicates.NameContainsKeywordsPredicate;
+import educonnect.model.student.predicates.NameSimilarToKeywordsPredicate;
+import educonnect.model.student.predicates.TagContainsKeywordsPredicate;
+import educonnect.model.student.predicates.TelegramContainsKeywordsPredicate;
+import educonnect.model.student.query.Query;
+
+/**
+ * Parses the arguments of a {@code find} command that combines prefixes with {@code AND}, {@code OR},
+ * {@code NOT} and brackets into a {@code Query}, e.g. {@code (t/tutorial-1 OR t/tutorial-2) NOT t/dropped}.
+ * Each {@code PREFIX/VALUE} term matches students in the same way as in a plain {@code find}.
+ * Terms next to each other without an operator are combined with {@code AND}.
+ * {@code NOT} binds tightest, followed by {@code AND}, then {@code OR}.
+ */
+public class FindQueryParser {
+
+    public static final String AND = "AND";
+    public static final String OR = "OR";
+    public static final String NOT = "NOT";
+    public static final String OPEN_BRACKET = "(";
+    public static final String CLOSE_BRACKET = ")";
+
+    private static final List<Prefix> TERM_PREFIXES = List.of(PREFIX_NAME, PREFIX_NAME_SIMILAR,
+            PREFIX_STUDENT_ID, PREFIX_EMAIL, PREFIX_TELEGRAM_HANDLE, PREFIX_TAG);
+
+    private final List<String> tokens;
+    private int position;
+
+    private FindQueryParser(List<String> tokens) {
+        this.tokens = tokens;
+    }
+
+    /**
+     * Returns true if {@code args} uses any operators or brackets, and so should be parsed by this parser.
+     */
+    public static boolean isQuery(String args) {
+        requireNonNull(args);
+        if (args.contains(OPEN_BRACKET) || args.contains(CLOSE_BRACKET)) {
+            return true;
+        }
+        for (String word : args.trim().split("\\s+")) {
+            if (isOperator(word)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Parses {@code args} into a {@code Query}.
+     * @throws ParseException if {@code args} is not a well-formed query
+     */
+    public static Query parse(String args) throws ParseException {
+        requireNonNull(args);
+        FindQueryParser parser = new FindQueryParser(tokenize(args));
+        Query query = parser.parseOr();
+        if (parser.hasNext()) {
+            throw invalidQuery();
+        }
+        return query;
+    }
+
+    /**
+     * Splits {@code args} into brackets, operators and {@code PREFIX/VALUE} terms.
+     * The value of a term runs up to the next bracket, operator or prefix.
+     */
+    private static List<String> tokenize(String args) throws ParseException {
+        List<String> tokens = new ArrayList<>();
+        StringBuilder term = null;
+        int i = 0;
+        while (i < args.length()) {
+            char c = args.charAt(i);
+            if (Character.isWhitespace(c)) {
+                i++;
+                continue;
+            }
+            if (c == '(' || c == ')') {
+                addTerm(tokens, term);
+                term = null;
+                tokens.add(String.valueOf(c));
+                i++;
+                continue;
+            }
+
+            int end = i;
+            while (end < args.length() && !Character.isWhitespace(args.charAt(end))
+                    && args.charAt(end) != '(' && args.charAt(end) != ')') {
+                end++;
+            }
+            String word = args.substring(i, end);
+            if (isOperator(word)) {
+                addTerm(tokens, term);
+                term = null;
+                tokens.add(word);
+            } else if (getPrefix(word).isPresent()) {
+                addTerm(tokens, term);
+                term = new StringBuilder(word);
+            } else if (term != null) {
+                term.append(' ').append(word);
+            } else {
+                throw invalidQuery();
+            }
+            i = end;
+        }
+        addTerm(tokens, term);
+        return tokens;
+    }
+
+    private static void addTerm(List<String> tokens, StringBuilder term) {
+        if (term != null) {
+            tokens.add(term.toString());
+        }
+    }
+
+    private Query parseOr() throws ParseException {
+        List<Query> queries = new ArrayList<>();
+        queries.add(parseAnd());
+        while (accept(OR)) {
+            queries.add(parseAnd());
+        }
+        return queries.size() == 1 ? queries.get(0) : Query.anyOf(queries);
+    }
+
+    private Query parseAnd() throws ParseException {
+        List<Query> queries = new ArrayList<>();
+        queries.add(parseNot());
+        while (hasNext() && !peek().equals(OR) && !peek().equals(CLOSE_BRACKET)) {
+            accept(AND);
+            queries.add(parseNot());
+        }
+        return queries.size() == 1 ? queries.get(0) : Query.allOf(queries);
+    }
+
+    private Query parseNot() throws ParseException {
+        if (accept(NOT)) {
+            return Query.not(parseNot());
+        }
+        return parsePrimary();
+    }
+
+    private Query parsePrimary() throws ParseException {
+        if (accept(OPEN_BRACKET)) {
+            Query query = parseOr();
+            if (!accept(CLOSE_BRACKET)) {
+                throw invalidQuery();
+            }
+            return query;
+        }
+        if (!hasNext() || isOperator(peek()) || peek().equals(CLOSE_BRACKET)) {
+            throw invalidQuery();
+        }
+        return Query.of(parseTerm(tokens.get(position++)));
+    }
+
+    /**
+     * Parses a {@code PREFIX/VALUE} term into the same predicate that a plain {@code find} would use.
+     */
+    private static Predicate<Student> parseTerm(String term) throws ParseException {
+        Prefix prefix = getPrefix(term).orElseThrow(FindQueryParser::invalidQuery);
+        String value = term.substring(prefix.getPrefix().length()).trim();
+        if (value.isEmpty()) {
+            throw new ParseException(getErrorMessageForEmptyArguments(prefix));
+        }
+
+        if (prefix.equals(PREFIX_NAME)) {
+            return new NameContainsKeywordsPredicate(value);
+        } else if (prefix.equals(PREFIX_NAME_SIMILAR)) {
+            return new NameSimilarToKeywordsPredicate(value);
+        } else if (prefix.equals(PREFIX_STUDENT_ID)) {
+            return new IdContainsKeywordsPredicate(value);
+        } else if (prefix.equals(PREFIX_EMAIL)) {
+            return new EmailContainsKeywordsPredicate(value);
+        } else if (prefix.equals(PREFIX_TELEGRAM_HANDLE)) {
+            return new TelegramContainsKeywordsPredicate(value);
+        } else {
+            return new TagContainsKeywordsPredicate(ParserUtil.parseTagToFind(value));
+        }
+    }
+
+    private boolean hasNext() {
+        return position < tokens.size();
+    }
+
+    private String peek() {
+        return tokens.get(position);
+    }
+
+    /**
+     * Consumes the next token if it is {@code token}, returning true if it was consumed.
+     */
+    private boolean accept(String token) {
+        if (hasNext() && peek().equals(token)) {
+            position++;
+            return true;
+        }
+        return false;
+    }
+
+    private static boolean isOperator(String word) {
+        return word.equals(AND) || word.equals(OR) || word.equals(NOT);
+    }
+
+    private static Optional<Prefix> getPrefix(String word) {
+        for (Prefix prefix : TERM_PREFIXES) {
+            if (word.startsWith(prefix.getPrefix())) {
+                return Optional.of(prefix);
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static ParseException invalidQuery() {
+        return new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+    }
+}
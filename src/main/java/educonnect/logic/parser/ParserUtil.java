@@ -176,7 +176,7 @@ public class ParserUtil {
         if (!Tag.isValidTagName(trimmedTag)) {
             throw new ParseException(Tag.MESSAGE_CONSTRAINTS);
         }
-        return new Tag(trimmedTag);
+        return Tag.of(trimmedTag);
     }
 
     /**
@@ -191,6 +191,36 @@ public class ParserUtil {
         return tagSet;
     }
 
+    /**
+     * Parses a {@code String tag} into a {@code Tag} to be looked for, as in a search, which unlike
+     * {@link #parseTag(String)} does not add a name that no student has to the {@code TagDictionary}.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code tag} is invalid.
+     */
+    public static Tag parseTagToFind(String tag) throws ParseException {
+        requireNonNull(tag);
+        String trimmedTag = tag.trim();
+        if (!Tag.isValidTagName(trimmedTag)) {
+            throw new ParseException(Tag.MESSAGE_CONSTRAINTS);
+        }
+        return Tag.lookup(trimmedTag);
+    }
+
+    /**
+     * Parses {@code Collection<String> tags} into a {@code Set<Tag>} of tags to be looked for.
+     *
+     * @see #parseTagToFind(String)
+     */
+    public static Set<Tag> parseTagsToFind(Collection<String> tags) throws ParseException {
+        requireNonNull(tags);
+        final Set<Tag> tagSet = new HashSet<>();
+        for (String tagName : tags) {
+            tagSet.add(parseTagToFind(tagName));
+        }
+        return tagSet;
+    }
+
     /**
      * Parses {@code ArrayList<String> allDays} into a {@code Timetable}.
      * Defaults to empty Timetable if no arguments (empty {@code allDays}).
@@ -60,7 +60,7 @@ public class SlotsCommandParser implements Parser<SlotsCommand> {
         }
 
         // Handles tags if there are any
-        Set<Tag> tagList = ParserUtil.parseTags(argMultimap.getAllValues(PREFIX_TAG));
+        Set<Tag> tagList = ParserUtil.parseTagsToFind(argMultimap.getAllValues(PREFIX_TAG));
         Set<Predicate<Student>> predicates = new HashSet<>();
         for (Tag keywordTag : tagList) {
             predicates.add(new TagContainsKeywordsPredicate(keywordTag));
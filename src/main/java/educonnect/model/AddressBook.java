@@ -8,7 +8,9 @@ import java.util.Optional;
 import educonnect.commons.util.ToStringBuilder;
 import educonnect.model.student.Email;
 import educonnect.model.student.Student;
+import educonnect.model.student.StudentCompletions;
 import educonnect.model.student.StudentId;
+import educonnect.model.student.StudentIndex;
 import educonnect.model.student.TelegramHandle;
 import educonnect.model.student.UniqueStudentList;
 import javafx.collections.ObservableList;
@@ -16,32 +18,53 @@ import javafx.collections.ObservableList;
 /**
  * Wraps all data at the address-book level
  * Duplicates are not allowed (by .isSameStudent comparison)
+ * The students can be kept in columns instead of as {@code Student}s, for large cohorts, by creating the
+ * address book with {@link #columnar(ReadOnlyAddressBook)}.
  */
 public class AddressBook implements ReadOnlyAddressBook {
 
     private final UniqueStudentList students;
 
-    /*
-     * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
-     * between constructors. See https://docs.oracle.com/javase/tutorial/java/javaOO/initial.html
-     *
-     * Note that non-static init blocks are not recommended to use. There are other ways to avoid duplication
-     *   among constructors.
-     */
-    {
-        students = new UniqueStudentList();
+    public AddressBook() {
+        this(new UniqueStudentList());
     }
 
-    public AddressBook() {}
-
     /**
-     * Creates an AddressBook using the Students in the {@code toBeCopied}
+     * Creates an AddressBook using the Students in the {@code toBeCopied}.
+     * The students are kept in columns if they are in {@code toBeCopied}.
      */
     public AddressBook(ReadOnlyAddressBook toBeCopied) {
-        this();
+        this(isColumnar(toBeCopied) ? UniqueStudentList.columnar() : new UniqueStudentList());
         resetData(toBeCopied);
     }
 
+    private AddressBook(UniqueStudentList students) {
+        this.students = students;
+    }
+
+    /**
+     * Creates an AddressBook that keeps the Students in the {@code toBeCopied} in columns.
+     *
+     * @see educonnect.model.student.ColumnarStudentList
+     */
+    public static AddressBook columnar(ReadOnlyAddressBook toBeCopied) {
+        requireNonNull(toBeCopied);
+        AddressBook addressBook = new AddressBook(UniqueStudentList.columnar());
+        addressBook.resetData(toBeCopied);
+        return addressBook;
+    }
+
+    /**
+     * Returns true if this address book keeps its students in columns.
+     */
+    public boolean isColumnar() {
+        return students.isColumnar();
+    }
+
+    private static boolean isColumnar(ReadOnlyAddressBook addressBook) {
+        return addressBook instanceof AddressBook && ((AddressBook) addressBook).isColumnar();
+    }
+
     //// list overwrite operations
 
     /**
@@ -183,6 +206,16 @@ public class AddressBook implements ReadOnlyAddressBook {
         return students.asUnmodifiableObservableList();
     }
 
+    @Override
+    public StudentIndex getStudentIndex() {
+        return students.getIndex();
+    }
+
+    @Override
+    public StudentCompletions getStudentCompletions() {
+        return students.getCompletions();
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
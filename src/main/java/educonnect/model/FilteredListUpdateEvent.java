@@ -0,0 +1,36 @@
+package educonnect.model;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A Java Flight Recorder event for changing which students are listed, or the order they are listed in.
+ * The event covers updating the list itself, but not the UI it is shown in.
+ */
+@Name("educonnect.FilteredListUpdate")
+@Label("Filtered List Update")
+@Category({"EduConnect", "Model"})
+@Description("Filtering, narrowing or sorting the list of students shown")
+@StackTrace(false)
+class FilteredListUpdateEvent extends jdk.jfr.Event {
+
+    static final String FILTER = "filter";
+    static final String NARROW = "narrow";
+    static final String SORT = "sort";
+
+    @Label("Update")
+    String update;
+
+    @Label("Uses Index")
+    @Description("Whether the filter was evaluated on the student index rather than on each student")
+    boolean usesIndex;
+
+    @Label("Listed Students")
+    int numOfListedStudents;
+
+    @Label("Students")
+    int numOfStudents;
+}
@@ -0,0 +1,242 @@
+package educonnect.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.IntStream;
+
+import javafx.collections.ListChangeListener.Change;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.TransformationList;
+
+/**
+ * A list that sorts the elements of its source with a comparator, like a {@code SortedList}, but keeps the position
+ * of each element in the source rather than the element itself.
+ * A {@code SortedList} refers to every element of its source, which would keep a {@code Student} alive for every
+ * row of a {@code ColumnarStudentList}. This list only refers to the elements while it is sorted or its source
+ * changes, so the source decides how long they are kept.
+ * Without a comparator, the list is in the order of its source, and its changes are those of the source.
+ */
+class IndexSortedList<E> extends TransformationList<E, E> {
+
+    private Comparator<? super E> comparator;
+    // The position in the source of the element at each position, or null if there is no comparator
+    private int[] order;
+    // The position of the element at each position in the source, the inverse of order, or null with it
+    private int[] viewIndexes;
+
+    IndexSortedList(ObservableList<? extends E> source) {
+        super(source);
+    }
+
+    Comparator<? super E> getComparator() {
+        return comparator;
+    }
+
+    /**
+     * Sorts the list with {@code comparator}, keeping the order of the source between equal elements,
+     * or puts it back in the order of the source if {@code comparator} is null.
+     */
+    void setComparator(Comparator<? super E> comparator) {
+        int[] oldOrder = order;
+        this.comparator = comparator;
+        int size = size();
+        if (comparator == null) {
+            order = null;
+            viewIndexes = null;
+        } else {
+            order = sort(IntStream.range(0, size).toArray());
+            updateViewIndexes(size);
+        }
+        if (size == 0 || (oldOrder == null && order == null)) {
+            return;
+        }
+
+        // The new position of the element at each old position
+        int[] permutation = new int[size];
+        for (int i = 0; i < size; i++) {
+            int sourceIndex = oldOrder == null ? i : oldOrder[i];
+            permutation[i] = order == null ? sourceIndex : viewIndexes[sourceIndex];
+        }
+        beginChange();
+        nextPermutation(0, size, permutation);
+        endChange();
+    }
+
+    @Override
+    public E get(int index) {
+        return getSource().get(getSourceIndex(index));
+    }
+
+    @Override
+    public int size() {
+        return getSource().size();
+    }
+
+    @Override
+    public int getSourceIndex(int index) {
+        Objects.checkIndex(index, size());
+        return order == null ? index : order[index];
+    }
+
+    @Override
+    public int getViewIndex(int index) {
+        Objects.checkIndex(index, size());
+        return order == null ? index : viewIndexes[index];
+    }
+
+    @Override
+    protected void sourceChanged(Change<? extends E> change) {
+        beginChange();
+        if (order == null) {
+            while (change.next()) {
+                forward(change);
+            }
+            endChange();
+            return;
+        }
+
+        // The added elements are only merged in once every change is applied, as the positions in the source of
+        // the elements after them, which they are compared with, may move until then
+        List<Integer> added = new ArrayList<>();
+        while (change.next()) {
+            int from = change.getFrom();
+            int to = change.getTo();
+            if (change.wasPermutated()) {
+                for (int i = 0; i < order.length; i++) {
+                    order[i] = order[i] >= from && order[i] < to ? change.getPermutation(order[i]) : order[i];
+                }
+                added.replaceAll(i -> i >= from && i < to ? change.getPermutation(i) : i);
+                updateViewIndexes(order.length + added.size());
+            } else if (change.wasUpdated()) {
+                for (int i = from; i < to; i++) {
+                    int viewIndex = viewIndexes[i];
+                    if (viewIndex >= 0) {
+                        nextUpdate(viewIndex);
+                    }
+                }
+            } else {
+                removeFromOrder(change, added);
+                int addedSize = change.getAddedSize();
+                for (int i = 0; i < order.length; i++) {
+                    order[i] = order[i] >= from ? order[i] + addedSize : order[i];
+                }
+                added.replaceAll(i -> i >= from ? i + addedSize : i);
+                for (int i = from; i < from + addedSize; i++) {
+                    added.add(i);
+                }
+                updateViewIndexes(order.length + added.size());
+            }
+        }
+        addToOrder(added.stream().mapToInt(Integer::intValue).toArray());
+        updateViewIndexes(order.length);
+        endChange();
+    }
+
+    private void forward(Change<? extends E> change) {
+        int from = change.getFrom();
+        int to = change.getTo();
+        if (change.wasPermutated()) {
+            int[] permutation = new int[to - from];
+            for (int i = from; i < to; i++) {
+                permutation[i - from] = change.getPermutation(i);
+            }
+            nextPermutation(from, to, permutation);
+        } else if (change.wasUpdated()) {
+            for (int i = from; i < to; i++) {
+                nextUpdate(i);
+            }
+        } else {
+            if (change.wasRemoved()) {
+                nextRemove(from, change.getRemoved());
+            }
+            if (change.wasAdded()) {
+                nextAdd(from, to);
+            }
+        }
+    }
+
+    /**
+     * Removes the elements removed from the source, including any of the {@code added} ones, and moves the
+     * positions in the source of those after them.
+     */
+    private void removeFromOrder(Change<? extends E> change, List<Integer> added) {
+        int from = change.getFrom();
+        int removedSize = change.getRemovedSize();
+        if (removedSize == 0) {
+            return;
+        }
+        List<? extends E> removed = change.getRemoved();
+        int[] keptOrder = new int[order.length];
+        int size = 0;
+        for (int sourceIndex : order) {
+            if (sourceIndex < from) {
+                keptOrder[size++] = sourceIndex;
+            } else if (sourceIndex >= from + removedSize) {
+                keptOrder[size++] = sourceIndex - removedSize;
+            } else {
+                nextRemove(size, removed.get(sourceIndex - from));
+            }
+        }
+        order = Arrays.copyOf(keptOrder, size);
+        added.removeIf(i -> i >= from && i < from + removedSize);
+        added.replaceAll(i -> i >= from + removedSize ? i - removedSize : i);
+    }
+
+    /**
+     * Merges the elements at the {@code added} positions in the source, sorted on their own, into the rest.
+     */
+    private void addToOrder(int[] added) {
+        if (added.length == 0) {
+            return;
+        }
+        int[] sortedAdded = sort(added);
+        int[] mergedOrder = new int[order.length + added.length];
+        for (int i = 0, j = 0, k = 0; k < mergedOrder.length; k++) {
+            if (j < sortedAdded.length && (i == order.length || compare(sortedAdded[j], order[i]) < 0)) {
+                mergedOrder[k] = sortedAdded[j++];
+                nextAdd(k, k + 1);
+            } else {
+                mergedOrder[k] = order[i++];
+            }
+        }
+        order = mergedOrder;
+    }
+
+    /**
+     * Returns the {@code positions} in the source sorted by their elements, and by position between equal elements.
+     */
+    private int[] sort(int[] positions) {
+        // The elements are only kept until they are sorted
+        List<E> elements = new ArrayList<>(positions.length);
+        for (int position : positions) {
+            elements.add(getSource().get(position));
+        }
+        Integer[] indexes = new Integer[positions.length];
+        Arrays.setAll(indexes, i -> i);
+        Arrays.sort(indexes, (i, j) -> {
+            int result = comparator.compare(elements.get(i), elements.get(j));
+            return result != 0 ? result : Integer.compare(positions[i], positions[j]);
+        });
+        return Arrays.stream(indexes).mapToInt(i -> positions[i]).toArray();
+    }
+
+    /**
+     * Rebuilds the position of each element of the source, which has {@code sourceSize} elements,
+     * leaving -1 for those not merged in yet.
+     */
+    private void updateViewIndexes(int sourceSize) {
+        viewIndexes = new int[sourceSize];
+        Arrays.fill(viewIndexes, -1);
+        for (int i = 0; i < order.length; i++) {
+            viewIndexes[order[i]] = i;
+        }
+    }
+
+    private int compare(int sourceIndex, int otherSourceIndex) {
+        int result = comparator.compare(getSource().get(sourceIndex), getSource().get(otherSourceIndex));
+        return result != 0 ? result : Integer.compare(sourceIndex, otherSourceIndex);
+    }
+}
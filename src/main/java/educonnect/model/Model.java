@@ -3,6 +3,7 @@ package educonnect.model;
 import java.nio.file.Path;
 import java.time.DayOfWeek;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
@@ -131,5 +132,18 @@ public interface Model {
      */
     void updateFilteredStudentList(Collection<Predicate<Student>> predicates);
 
+    /**
+     * Narrows the filtered student list down to the students in it that also satisfy {@code predicate},
+     * keeping its current order.
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    void narrowFilteredStudentList(Predicate<Student> predicate);
+
+    /**
+     * Orders the filtered student list by the given {@code comparator}, or by the address book order if null.
+     * The order is reset to the address book order whenever the filter of the list is updated.
+     */
+    void sortFilteredStudentList(Comparator<Student> comparator);
+
     AvailableSlots findAllCommonSlots(int duration, Period timeframe, HashSet<DayOfWeek> days);
 }
@@ -4,9 +4,11 @@ import static java.util.Objects.requireNonNull;
 
 import java.nio.file.Path;
 import java.time.DayOfWeek;
-import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
@@ -18,7 +20,9 @@ import educonnect.commons.util.CollectionUtil;
 import educonnect.model.student.Email;
 import educonnect.model.student.Student;
 import educonnect.model.student.StudentId;
+import educonnect.model.student.StudentIndex;
 import educonnect.model.student.TelegramHandle;
+import educonnect.model.student.query.Query;
 import educonnect.model.student.timetable.AvailableSlots;
 import educonnect.model.student.timetable.Period;
 import educonnect.model.student.timetable.Timetable;
@@ -34,6 +38,7 @@ public class ModelManager implements Model {
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
     private final FilteredList<Student> filteredStudents;
+    private final IndexSortedList<Student> sortedStudents;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -41,11 +46,12 @@ public class ModelManager implements Model {
     public ModelManager(ReadOnlyAddressBook addressBook, ReadOnlyUserPrefs userPrefs) {
         CollectionUtil.requireAllNonNull(addressBook, userPrefs);
 
-        logger.fine("Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
+        logger.fine(() -> "Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
 
         this.addressBook = new AddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
         filteredStudents = new FilteredList<>(this.addressBook.getStudentList());
+        sortedStudents = new IndexSortedList<>(filteredStudents);
     }
 
     public ModelManager() {
@@ -186,16 +192,14 @@ public class ModelManager implements Model {
     //=========== Available Slots Computation =================================================================
     @Override
     public AvailableSlots findAllCommonSlots(int duration, Period timeframe, HashSet<DayOfWeek> days) {
-        ObservableList<Student> listOfStudents = getFilteredStudentList();
-
-        ArrayList<Timetable> timetables =
-                listOfStudents.stream().map(Student::getTimetable)
-                        .collect(Collectors.toCollection(ArrayList::new));
-
-        ArrayList<AvailableSlots> allAvailableSlots =
-                timetables.stream().map(x -> x.findSlots(duration, timeframe, days))
-                        .collect(Collectors.toCollection(ArrayList::new));
-        return AvailableSlots.findAllCommonSlots(allAvailableSlots);
+        SlotSearchEvent event = new SlotSearchEvent();
+        event.begin();
+        List<Timetable> timetables = getFilteredStudentList().stream()
+                .map(Student::getTimetable)
+                .collect(Collectors.toList());
+        AvailableSlots availableSlots = AvailableSlots.findAllCommonSlots(timetables, duration, timeframe, days);
+        event.finish(timetables.size(), duration, days.size());
+        return availableSlots;
     }
 
     //=========== Filtered Student List Accessors =============================================================
@@ -206,7 +210,7 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Student> getFilteredStudentList() {
-        return filteredStudents;
+        return sortedStudents;
     }
     @Override
     public void updateWithAllStudents() {
@@ -216,12 +220,56 @@ public class ModelManager implements Model {
     @Override
     public void updateFilteredStudentList(Collection<Predicate<Student>> predicates) {
         requireNonNull(predicates);
+        FilteredListUpdateEvent event = new FilteredListUpdateEvent();
+        event.begin();
+        sortedStudents.setComparator(null);
         // Combine all predicates using logical AND
-        Predicate<Student> combinedPredicate = predicates.stream()
-                .reduce(Predicate::and)
-                .orElse(student -> true);
+        Query query = Query.allOf(predicates);
+        if (!query.usesIndex()) {
+            filteredStudents.setPredicate(query);
+            finishFilteredListUpdate(event, FilteredListUpdateEvent.FILTER, false);
+            return;
+        }
+
+        // Students added or edited after the query is evaluated are not in the index, so they are tested directly
+        StudentIndex index = addressBook.getStudentIndex();
+        BitSet matches = query.evaluate(index);
+        filteredStudents.setPredicate(student -> {
+            int position = index.indexOf(student);
+            return position < 0 ? query.test(student) : matches.get(position);
+        });
+        finishFilteredListUpdate(event, FilteredListUpdateEvent.FILTER, true);
+    }
+
+    @Override
+    public void narrowFilteredStudentList(Predicate<Student> predicate) {
+        requireNonNull(predicate);
+        FilteredListUpdateEvent event = new FilteredListUpdateEvent();
+        event.begin();
+        Predicate<? super Student> currentPredicate = filteredStudents.getPredicate();
+        filteredStudents.setPredicate(currentPredicate == null
+                ? predicate
+                : student -> currentPredicate.test(student) && predicate.test(student));
+        finishFilteredListUpdate(event, FilteredListUpdateEvent.NARROW, false);
+    }
+
+    @Override
+    public void sortFilteredStudentList(Comparator<Student> comparator) {
+        FilteredListUpdateEvent event = new FilteredListUpdateEvent();
+        event.begin();
+        sortedStudents.setComparator(comparator);
+        finishFilteredListUpdate(event, FilteredListUpdateEvent.SORT, false);
+    }
 
-        filteredStudents.setPredicate(combinedPredicate);
+    private void finishFilteredListUpdate(FilteredListUpdateEvent event, String update, boolean usesIndex) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.update = update;
+            event.usesIndex = usesIndex;
+            event.numOfListedStudents = filteredStudents.size();
+            event.numOfStudents = addressBook.getStudentList().size();
+            event.commit();
+        }
     }
 
     @Override
@@ -238,7 +286,7 @@ public class ModelManager implements Model {
         ModelManager otherModelManager = (ModelManager) other;
         return addressBook.equals(otherModelManager.addressBook)
                 && userPrefs.equals(otherModelManager.userPrefs)
-                && filteredStudents.equals(otherModelManager.filteredStudents);
+                && sortedStudents.equals(otherModelManager.sortedStudents);
     }
 
 }
@@ -1,6 +1,8 @@
 package educonnect.model;
 
 import educonnect.model.student.Student;
+import educonnect.model.student.StudentCompletions;
+import educonnect.model.student.StudentIndex;
 import javafx.collections.ObservableList;
 
 /**
@@ -14,4 +16,18 @@ public interface ReadOnlyAddressBook {
      */
     ObservableList<Student> getStudentList();
 
+    /**
+     * Returns an index of the students list, for answering queries without testing every student.
+     */
+    default StudentIndex getStudentIndex() {
+        return new StudentIndex(getStudentList());
+    }
+
+    /**
+     * Returns the completions of the values of the students list, for completing values without testing every student.
+     */
+    default StudentCompletions getStudentCompletions() {
+        return new StudentCompletions(getStudentList());
+    }
+
 }
@@ -0,0 +1,41 @@
+package educonnect.model;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A Java Flight Recorder event for finding the slots common to the timetables of the listed students.
+ */
+@Name("educonnect.SlotSearch")
+@Label("Slot Search")
+@Category({"EduConnect", "Model"})
+@Description("Finding the slots in which every listed student is free")
+@StackTrace(false)
+class SlotSearchEvent extends jdk.jfr.Event {
+
+    @Label("Students")
+    int numOfStudents;
+
+    @Label("Slot Length")
+    @Description("Length in hours of the slots searched for")
+    int slotHours;
+
+    @Label("Days")
+    int numOfDays;
+
+    /**
+     * Ends the event and commits it with its details if it is being recorded.
+     */
+    void finish(int numOfStudents, int slotHours, int numOfDays) {
+        end();
+        if (shouldCommit()) {
+            this.numOfStudents = numOfStudents;
+            this.slotHours = slotHours;
+            this.numOfDays = numOfDays;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,293 @@
+package educonnect.model.student;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import educonnect.commons.util.DictionaryColumn;
+import educonnect.commons.util.PrefixTrie;
+import educonnect.commons.util.StringColumn;
+import educonnect.model.student.timetable.Timetable;
+import javafx.collections.ModifiableObservableListBase;
+
+/**
+ * A list of students kept as columns rather than as {@code Student} objects, for address books too large for
+ * a {@code Student} and the objects of its fields to be kept for every student.
+ * The text fields are {@link StringColumn}s and the tags and timetable {@link DictionaryColumn}s, so a student is
+ * a row of {@code int} codes and every distinct value is kept once, without an object for each text value.
+ * The students with each tag are also kept in a {@code BitSet}, so that a {@code StudentIndex} of the list can
+ * find them without looking at any student.
+ *
+ * {@code Student}s are made from the columns when they are asked for, and the same {@code Student} is returned
+ * for a row for as long as anything else refers to it.
+ * Any number of threads may read the list at once, as the tag index is kept up to date by every change and the
+ * {@code Student}s made are cached under a lock, but the list must not be read while it is being changed.
+ */
+public class ColumnarStudentList extends ModifiableObservableListBase<Student> {
+
+    private final StringColumn names = new StringColumn();
+    private final StringColumn studentIds = new StringColumn();
+    private final StringColumn emails = new StringColumn();
+    private final StringColumn telegramHandles = new StringColumn();
+    private final StringColumn links = new StringColumn();
+    private final DictionaryColumn<TagSet> tagSets = new DictionaryColumn<>();
+    private final DictionaryColumn<Timetable> timetables = new DictionaryColumn<>();
+
+    /** The rows with each tag, by the tag's id, which every change to the rows keeps up to date. */
+    private BitSet[] rowsByTag = new BitSet[0];
+
+    /** The {@code Student} last made for each row, if anything still refers to it, guarded by its own lock. */
+    private final List<WeakReference<Student>> views = new ArrayList<>();
+
+    /** Incremented on every change to the rows, so that a {@code StudentIndex} of them can tell if it is stale. */
+    private int version;
+
+    @Override
+    public Student get(int index) {
+        Objects.checkIndex(index, size());
+        synchronized (views) {
+            Student student = views.get(index).get();
+            if (student == null) {
+                student = new Student(new Name(names.get(index)), new StudentId(studentIds.get(index)),
+                        new Email(emails.get(index)), new TelegramHandle(telegramHandles.get(index)),
+                        Optional.ofNullable(links.get(index)).map(Link::new), tagSets.get(index),
+                        timetables.get(index));
+                views.set(index, new WeakReference<>(student));
+            }
+            return student;
+        }
+    }
+
+    @Override
+    public int size() {
+        return names.size();
+    }
+
+    @Override
+    protected void doAdd(int index, Student student) {
+        requireNonNull(student);
+        Objects.checkIndex(index, size() + 1);
+        names.insert(index, student.getName().fullName);
+        studentIds.insert(index, student.getStudentId().value);
+        emails.insert(index, student.getEmail().value);
+        telegramHandles.insert(index, student.getTelegramHandle().value);
+        links.insert(index, student.getLink().map(link -> link.url).orElse(null));
+        tagSets.insert(index, TagSet.of(student.getTags()));
+        timetables.insert(index, student.getTimetable());
+        shiftTaggedRows(index, 1);
+        indexTags(index);
+        synchronized (views) {
+            views.add(index, new WeakReference<>(student));
+        }
+        version++;
+    }
+
+    @Override
+    protected Student doSet(int index, Student student) {
+        requireNonNull(student);
+        Student replacedStudent = get(index);
+        unindexTags(index);
+        names.set(index, student.getName().fullName);
+        studentIds.set(index, student.getStudentId().value);
+        emails.set(index, student.getEmail().value);
+        telegramHandles.set(index, student.getTelegramHandle().value);
+        links.set(index, student.getLink().map(link -> link.url).orElse(null));
+        tagSets.set(index, TagSet.of(student.getTags()));
+        timetables.set(index, student.getTimetable());
+        indexTags(index);
+        synchronized (views) {
+            views.set(index, new WeakReference<>(student));
+        }
+        version++;
+        return replacedStudent;
+    }
+
+    @Override
+    protected Student doRemove(int index) {
+        Student removedStudent = get(index);
+        unindexTags(index);
+        names.remove(index);
+        studentIds.remove(index);
+        emails.remove(index);
+        telegramHandles.remove(index);
+        links.remove(index);
+        tagSets.remove(index);
+        timetables.remove(index);
+        shiftTaggedRows(index + 1, -1);
+        synchronized (views) {
+            views.remove(index);
+        }
+        version++;
+        return removedStudent;
+    }
+
+    /**
+     * Returns the position of {@code object}, or -1 if it is not in the list.
+     * The column of student ids keeps the first row with each id, so only the students with the same student id
+     * as {@code object} are made and compared with it, rather than every student.
+     */
+    @Override
+    public int indexOf(Object object) {
+        if (!(object instanceof Student)) {
+            return -1;
+        }
+        String studentId = ((Student) object).getStudentId().value;
+        for (int row = indexOfStudentId(studentId); row >= 0; row = studentIds.indexOf(studentId, row + 1)) {
+            if (get(row).equals(object)) {
+                return row;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public boolean contains(Object object) {
+        return indexOf(object) >= 0;
+    }
+
+    @Override
+    public boolean remove(Object object) {
+        int index = indexOf(object);
+        if (index < 0) {
+            return false;
+        }
+        remove(index);
+        return true;
+    }
+
+    /**
+     * Returns the first student with {@code studentId}, if any, which is found without a scan of the rows.
+     */
+    public Optional<Student> getStudentWithStudentId(StudentId studentId) {
+        return getStudentAt(indexOfStudentId(studentId.value));
+    }
+
+    /**
+     * Returns the first student with {@code email}, if any, which is found without a scan of the rows.
+     */
+    public Optional<Student> getStudentWithEmail(Email email) {
+        return getStudentAt(indexOfEmail(email.value));
+    }
+
+    /**
+     * Returns the first student with {@code telegramHandle}, if any, which is found without a scan of the rows.
+     */
+    public Optional<Student> getStudentWithTelegramHandle(TelegramHandle telegramHandle) {
+        return getStudentAt(indexOfTelegramHandle(telegramHandle.value));
+    }
+
+    private Optional<Student> getStudentAt(int row) {
+        return row < 0 ? Optional.empty() : Optional.of(get(row));
+    }
+
+    /**
+     * Returns the first row with {@code studentId}, or -1 if no row has it.
+     */
+    int indexOfStudentId(String studentId) {
+        return studentIds.indexOf(studentId);
+    }
+
+    /**
+     * Returns the first row with {@code email}, or -1 if no row has it.
+     */
+    int indexOfEmail(String email) {
+        return emails.indexOf(email);
+    }
+
+    /**
+     * Returns the first row with {@code telegramHandle}, or -1 if no row has it.
+     */
+    int indexOfTelegramHandle(String telegramHandle) {
+        return telegramHandles.indexOf(telegramHandle);
+    }
+
+    /**
+     * Returns up to {@code limit} tag names of the students that start with {@code prefix}, ignoring case.
+     * Only the tags in the tag index are looked at, not the students.
+     */
+    List<String> completeTag(String prefix, int limit) {
+        PrefixTrie tagNames = new PrefixTrie();
+        for (int id = 0; id < rowsByTag.length; id++) {
+            if (rowsByTag[id] != null && !rowsByTag[id].isEmpty()) {
+                tagNames.add(TagDictionary.getInstance().get(id).tagName);
+            }
+        }
+        return tagNames.complete(prefix, limit);
+    }
+
+    /**
+     * Returns up to {@code limit} student ids that start with {@code prefix}, ignoring case.
+     */
+    List<String> completeStudentId(String prefix, int limit) {
+        return studentIds.complete(prefix, limit);
+    }
+
+    /**
+     * Returns up to {@code limit} emails that start with {@code prefix}, ignoring case.
+     */
+    List<String> completeEmail(String prefix, int limit) {
+        return emails.complete(prefix, limit);
+    }
+
+    /**
+     * Returns up to {@code limit} telegram handles that start with {@code prefix}, ignoring case.
+     */
+    List<String> completeTelegramHandle(String prefix, int limit) {
+        return telegramHandles.complete(prefix, limit);
+    }
+
+    /**
+     * Returns the number of changes made to the rows so far.
+     */
+    int getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the positions of the students with each tag, by the tag's id, for a {@code StudentIndex} to keep.
+     * Tags that no student has may have no set.
+     */
+    BitSet[] getRowsByTag() {
+        BitSet[] copy = new BitSet[rowsByTag.length];
+        for (int id = 0; id < rowsByTag.length; id++) {
+            copy[id] = rowsByTag[id] == null ? null : (BitSet) rowsByTag[id].clone();
+        }
+        return copy;
+    }
+
+    private void indexTags(int row) {
+        tagSets.get(row).forEachId(id -> {
+            if (id >= rowsByTag.length) {
+                rowsByTag = Arrays.copyOf(rowsByTag, TagDictionary.getInstance().size());
+            }
+            if (rowsByTag[id] == null) {
+                rowsByTag[id] = new BitSet();
+            }
+            rowsByTag[id].set(row);
+        });
+    }
+
+    private void unindexTags(int row) {
+        tagSets.get(row).forEachId(id -> rowsByTag[id].clear(row));
+    }
+
+    /**
+     * Moves the rows from {@code fromRow} onwards by {@code shift} in the tag index, as a row is inserted or removed.
+     */
+    private void shiftTaggedRows(int fromRow, int shift) {
+        for (BitSet rows : rowsByTag) {
+            if (rows == null || rows.length() <= fromRow) {
+                continue;
+            }
+            BitSet movedRows = rows.get(fromRow, rows.length());
+            rows.clear(fromRow, rows.length());
+            movedRows.stream().forEach(row -> rows.set(fromRow + shift + row));
+        }
+    }
+}
@@ -61,6 +61,11 @@ public class Link {
         return url.equals(otherLink.url);
     }
 
+    @Override
+    public int hashCode() {
+        return url.hashCode();
+    }
+
     @Override
     public String toString() {
         return url;
@@ -0,0 +1,81 @@
+package educonnect.model.student;
+
+import static educonnect.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import educonnect.commons.util.StringUtil;
+import educonnect.commons.util.ToStringBuilder;
+
+/**
+ * Holds the search keys of a {@code Student}'s searchable fields, as given by {@link StringUtil#toSearchKey(String)}.
+ * Computed once per student so that searching does not need to normalise every field on every query.
+ * Guarantees: immutable; is consistent with the fields it was created from.
+ */
+public class SearchKeys {
+
+    /** Separates the words of a name, which may be separated by whitespace or hyphens. */
+    public static final String NAME_TOKEN_SEPARATOR_REGEX = "[\\s-]+";
+
+    public final String name;
+    public final List<String> nameTokens;
+    public final String studentId;
+    public final String email;
+    public final String telegramHandle;
+
+    /**
+     * Constructs the {@code SearchKeys} of the given fields.
+     */
+    public SearchKeys(Name name, StudentId studentId, Email email, TelegramHandle telegramHandle) {
+        requireAllNonNull(name, studentId, email, telegramHandle);
+        this.name = StringUtil.toSearchKey(name.fullName);
+        this.nameTokens = toNameTokens(this.name);
+        this.studentId = StringUtil.toSearchKey(studentId.value);
+        this.email = StringUtil.toSearchKey(email.value);
+        this.telegramHandle = StringUtil.toSearchKey(telegramHandle.value);
+    }
+
+    /**
+     * Splits the search key of a name into the search keys of its words.
+     */
+    public static List<String> toNameTokens(String nameKey) {
+        return Arrays.stream(nameKey.trim().split(NAME_TOKEN_SEPARATOR_REGEX))
+                .filter(token -> !token.isEmpty())
+                .collect(Collectors.toUnmodifiableList());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof SearchKeys)) {
+            return false;
+        }
+
+        SearchKeys otherSearchKeys = (SearchKeys) other;
+        return name.equals(otherSearchKeys.name)
+                && studentId.equals(otherSearchKeys.studentId)
+                && email.equals(otherSearchKeys.email)
+                && telegramHandle.equals(otherSearchKeys.telegramHandle);
+    }
+
+    @Override
+    public int hashCode() {
+        return name.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("name", name)
+                .add("student id", studentId)
+                .add("email", email)
+                .add("telegram handle", telegramHandle)
+                .toString();
+    }
+}
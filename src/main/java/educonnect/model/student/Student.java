@@ -2,8 +2,6 @@ package educonnect.model.student;
 
 import static educonnect.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.Collections;
-import java.util.HashSet;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
@@ -25,9 +23,12 @@ public class Student {
     private final Optional<Link> link;
 
     // Data fields
-    private final Set<Tag> tags = new HashSet<>();
+    private final TagSet tags;
     private final Timetable timetable;
 
+    // Derived fields
+    private final SearchKeys searchKeys;
+
     /**
      * Constructs an {@code Student}.
      * Every field must be present and not null. Links are not included.
@@ -40,8 +41,9 @@ public class Student {
         this.email = email;
         this.telegramHandle = telegramHandle;
         this.link = Optional.empty();
-        this.tags.addAll(tags);
-        this.timetable = timetable;
+        this.tags = TagSet.of(tags);
+        this.timetable = Timetable.intern(timetable);
+        this.searchKeys = new SearchKeys(name, studentId, email, telegramHandle);
     }
 
     /**
@@ -50,14 +52,15 @@ public class Student {
      */
     public Student(Name name, StudentId studentId, Email email, TelegramHandle telegramHandle, Optional<Link> link,
                    Set<Tag> tags, Timetable timetable) {
-        requireAllNonNull(name, studentId, email, telegramHandle, tags);
+        requireAllNonNull(name, studentId, email, telegramHandle, tags, timetable);
         this.name = name;
         this.studentId = studentId;
         this.email = email;
         this.telegramHandle = telegramHandle;
         this.link = link;
-        this.tags.addAll(tags);
-        this.timetable = timetable;
+        this.tags = TagSet.of(tags);
+        this.timetable = Timetable.intern(timetable);
+        this.searchKeys = new SearchKeys(name, studentId, email, telegramHandle);
     }
 
     public Name getName() {
@@ -85,13 +88,24 @@ public class Student {
      * if modification is attempted.
      */
     public Set<Tag> getTags() {
-        return Collections.unmodifiableSet(tags);
+        return tags;
+    }
+
+    /**
+     * Returns true if the student has {@code tag}.
+     */
+    public boolean hasTag(Tag tag) {
+        return tags.containsId(tag.getId());
     }
 
     public Timetable getTimetable() {
         return timetable;
     }
 
+    public SearchKeys getSearchKeys() {
+        return searchKeys;
+    }
+
     /**
      * Returns true if both students have the same name.
      * This defines a weaker notion of equality between two students.
@@ -0,0 +1,114 @@
+package educonnect.model.student;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import educonnect.commons.util.PrefixTrie;
+
+/**
+ * Completions of the tags, student ids, emails and telegram handles of a list of students,
+ * kept in {@code PrefixTrie}s that are updated as students are added and removed,
+ * so that completing a value does not need to look at every student.
+ * The completions of a {@link ColumnarStudentList} are read from its columns instead, which keep each distinct
+ * value once and in order, so no string is kept for every student. They are always those of the current students,
+ * so the changes to the students are not added to them.
+ */
+public class StudentCompletions {
+
+    // The columns the values are read from, or null if they are kept in the tries
+    private final ColumnarStudentList columns;
+    private final PrefixTrie tags = new PrefixTrie();
+    private final PrefixTrie studentIds = new PrefixTrie();
+    private final PrefixTrie emails = new PrefixTrie();
+    private final PrefixTrie telegramHandles = new PrefixTrie();
+
+    /**
+     * Creates the completions of {@code students}.
+     */
+    public StudentCompletions(List<Student> students) {
+        requireNonNull(students);
+        columns = null;
+        students.forEach(this::add);
+    }
+
+    /**
+     * Creates the completions of the students in {@code columns}, which are read from the columns.
+     */
+    StudentCompletions(ColumnarStudentList columns) {
+        this.columns = requireNonNull(columns);
+    }
+
+    /**
+     * Adds the values of {@code student}.
+     */
+    public synchronized void add(Student student) {
+        requireNonNull(student);
+        if (columns != null) {
+            return;
+        }
+        student.getTags().forEach(tag -> tags.add(tag.tagName));
+        studentIds.add(student.getStudentId().value);
+        emails.add(student.getEmail().value);
+        telegramHandles.add(student.getTelegramHandle().value);
+    }
+
+    /**
+     * Removes the values of {@code student}, which must have been added with the same values.
+     */
+    public synchronized void remove(Student student) {
+        requireNonNull(student);
+        if (columns != null) {
+            return;
+        }
+        student.getTags().forEach(tag -> tags.remove(tag.tagName));
+        studentIds.remove(student.getStudentId().value);
+        emails.remove(student.getEmail().value);
+        telegramHandles.remove(student.getTelegramHandle().value);
+    }
+
+    /**
+     * Replaces the values with those of {@code students}.
+     */
+    public synchronized void setStudents(List<Student> students) {
+        requireNonNull(students);
+        if (columns != null) {
+            return;
+        }
+        tags.clear();
+        studentIds.clear();
+        emails.clear();
+        telegramHandles.clear();
+        students.forEach(this::add);
+    }
+
+    /**
+     * Returns up to {@code limit} tag names that start with {@code prefix}, ignoring case.
+     */
+    public synchronized List<String> completeTag(String prefix, int limit) {
+        return columns == null ? tags.complete(prefix, limit) : columns.completeTag(prefix, limit);
+    }
+
+    /**
+     * Returns up to {@code limit} student ids that start with {@code prefix}, ignoring case.
+     */
+    public synchronized List<String> completeStudentId(String prefix, int limit) {
+        return columns == null ? studentIds.complete(prefix, limit) : columns.completeStudentId(prefix, limit);
+    }
+
+    /**
+     * Returns up to {@code limit} emails that start with {@code prefix}, ignoring case.
+     */
+    public synchronized List<String> completeEmail(String prefix, int limit) {
+        return columns == null ? emails.complete(prefix, limit) : columns.completeEmail(prefix, limit);
+    }
+
+    /**
+     * Returns up to {@code limit} telegram handles that start with {@code prefix}, ignoring case.
+     */
+    public synchronized List<String> completeTelegramHandle(String prefix, int limit) {
+        return columns == null
+                ? telegramHandles.complete(prefix, limit)
+                : columns.completeTelegramHandle(prefix, limit);
+    }
+}
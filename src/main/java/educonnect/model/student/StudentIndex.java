@@ -0,0 +1,282 @@
+package educonnect.model.student;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import educonnect.commons.util.BkTree;
+
+/**
+ * An immutable snapshot of a list of students, indexed by tag id and by unique identifier.
+ * Sets of students are represented as {@code BitSet}s of their positions in the snapshot,
+ * so that queries can be answered with set operations instead of testing every student.
+ * Making an index of a list only copies the list: the lookups are built on the first query, and the words of the
+ * students' names are indexed in a {@code BkTree} for typo-tolerant search on the first such search.
+ *
+ * An index of a {@link ColumnarStudentList} reads the students from its columns rather than copying them, so that
+ * it does not keep a {@code Student} for every row. It is only a snapshot until the columns change: after that, no
+ * student is found by {@link #indexOf(Student)}, and reading the students throws
+ * {@code ConcurrentModificationException}. Like the columns, it may be read by several threads at once, but not
+ * while the columns change.
+ */
+public class StudentIndex {
+
+    private final List<Student> students;
+    // The columns the students are read from, or null if the students were copied
+    private final ColumnarStudentList columns;
+    private final int columnsVersion;
+    private final int size;
+    private final Map<Student, Integer> positions = new IdentityHashMap<>();
+    // The students with each tag, by the tag's id, or null if no student has the tag. Null until the lookups are built
+    private BitSet[] tagIndex;
+    private final Map<String, Integer> studentIdIndex = new HashMap<>();
+    private final Map<String, Integer> emailIndex = new HashMap<>();
+    private final Map<String, Integer> telegramHandleIndex = new HashMap<>();
+    private BkTree nameTokenTree;
+    private Map<String, BitSet> nameTokenIndex;
+
+    /**
+     * Creates an index of {@code students}, which must not contain duplicate unique identifiers.
+     */
+    public StudentIndex(List<Student> students) {
+        requireNonNull(students);
+        this.students = new ArrayList<>(students);
+        columns = null;
+        columnsVersion = 0;
+        size = this.students.size();
+    }
+
+    /**
+     * Creates an index of the students in {@code columns}, which finds the students and the positions of the
+     * students with each tag in the columns, so that no student is made or copied.
+     */
+    StudentIndex(ColumnarStudentList columns) {
+        requireNonNull(columns);
+        students = columns;
+        this.columns = columns;
+        columnsVersion = columns.getVersion();
+        size = columns.size();
+        tagIndex = columns.getRowsByTag();
+    }
+
+    /**
+     * Builds the lookups of a copied list of students, if they have not been built yet.
+     * An index of columns has its tag index from the start, and finds the rest in the columns.
+     */
+    private synchronized void buildLookups() {
+        if (tagIndex != null) {
+            return;
+        }
+        BitSet[] index = new BitSet[TagDictionary.getInstance().size()];
+        for (int i = 0; i < size; i++) {
+            Student student = students.get(i);
+            positions.put(student, i);
+            studentIdIndex.put(student.getStudentId().value, i);
+            emailIndex.put(student.getEmail().value, i);
+            telegramHandleIndex.put(student.getTelegramHandle().value, i);
+            for (Tag tag : student.getTags()) {
+                int id = tag.getId();
+                if (index[id] == null) {
+                    index[id] = new BitSet();
+                }
+                index[id].set(i);
+            }
+        }
+        tagIndex = index;
+    }
+
+    private Map<String, Integer> getLookup(Map<String, Integer> lookup) {
+        buildLookups();
+        return lookup;
+    }
+
+    private BitSet[] getTagIndex() {
+        buildLookups();
+        return tagIndex;
+    }
+
+    /**
+     * Returns the number of students in this index.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the student at {@code position}.
+     */
+    public Student get(int position) {
+        return getStudentList().get(position);
+    }
+
+    /**
+     * Returns the position of {@code student} in this index, or -1 if this exact student is not in it.
+     * In an index of columns, a student is in it if it is equal to the student at its position.
+     */
+    public int indexOf(Student student) {
+        if (columns == null) {
+            buildLookups();
+            return positions.getOrDefault(student, -1);
+        }
+        return columns.getVersion() == columnsVersion ? columns.indexOf(student) : -1;
+    }
+
+    /**
+     * Returns the set of all students.
+     */
+    public BitSet all() {
+        BitSet all = new BitSet(size);
+        all.set(0, size);
+        return all;
+    }
+
+    /**
+     * Returns the set of students with {@code tag}.
+     */
+    public BitSet withTag(Tag tag) {
+        int id = tag.getId();
+        BitSet[] studentsByTag = getTagIndex();
+        BitSet withTag = id >= 0 && id < studentsByTag.length ? studentsByTag[id] : null;
+        return withTag == null ? new BitSet() : (BitSet) withTag.clone();
+    }
+
+    /**
+     * Returns the number of students in {@code set} with each tag, for every tag that some student in {@code set} has.
+     * Each count is the size of the intersection of {@code set} with the students with the tag,
+     * so the students' tags do not need to be looked at.
+     */
+    public Map<Tag, Integer> countTags(BitSet set) {
+        requireNonNull(set);
+        Map<Tag, Integer> counts = new HashMap<>();
+        BitSet[] studentsByTag = getTagIndex();
+        BitSet intersection = new BitSet(size);
+        for (int id = 0; id < studentsByTag.length; id++) {
+            if (studentsByTag[id] == null) {
+                continue;
+            }
+            intersection.clear();
+            intersection.or(studentsByTag[id]);
+            intersection.and(set);
+            int count = intersection.cardinality();
+            if (count > 0) {
+                counts.put(TagDictionary.getInstance().get(id), count);
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * Returns the set of the positions of {@code studentsToFind} in this index.
+     * Students that are not in this index are left out.
+     */
+    public BitSet positionsOf(Collection<? extends Student> studentsToFind) {
+        requireNonNull(studentsToFind);
+        BitSet set = new BitSet(size);
+        for (Student student : studentsToFind) {
+            int position = indexOf(student);
+            if (position >= 0) {
+                set.set(position);
+            }
+        }
+        return set;
+    }
+
+    /**
+     * Returns the set of students whose student id is exactly {@code studentId}.
+     */
+    public BitSet withStudentId(String studentId) {
+        return columns == null
+                ? single(getLookup(studentIdIndex).get(studentId))
+                : single(getCurrentColumns().indexOfStudentId(studentId));
+    }
+
+    /**
+     * Returns the set of students whose email is exactly {@code email}.
+     */
+    public BitSet withEmail(String email) {
+        return columns == null
+                ? single(getLookup(emailIndex).get(email))
+                : single(getCurrentColumns().indexOfEmail(email));
+    }
+
+    /**
+     * Returns the set of students whose telegram handle is exactly {@code telegramHandle}.
+     */
+    public BitSet withTelegramHandle(String telegramHandle) {
+        return columns == null
+                ? single(getLookup(telegramHandleIndex).get(telegramHandle))
+                : single(getCurrentColumns().indexOfTelegramHandle(telegramHandle));
+    }
+
+    /**
+     * Returns the set of students with a word in their name within {@code maxDistance} edits of {@code token}.
+     * {@code token} should be a search key as given by {@link SearchKeys#toNameTokens(String)}.
+     */
+    public BitSet withNameTokenNear(String token, int maxDistance) {
+        requireNonNull(token);
+        BkTree tree = getNameTokenTree();
+        BitSet matches = new BitSet();
+        for (String nameToken : tree.search(token, maxDistance).keySet()) {
+            matches.or(nameTokenIndex.get(nameToken));
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the students in {@code set}, in the order of this index.
+     */
+    public List<Student> getStudents(BitSet set) {
+        List<Student> studentList = getStudentList();
+        List<Student> result = new ArrayList<>(set.cardinality());
+        for (int i = set.nextSetBit(0); i >= 0 && i < size; i = set.nextSetBit(i + 1)) {
+            result.add(studentList.get(i));
+        }
+        return result;
+    }
+
+    private synchronized BkTree getNameTokenTree() {
+        if (nameTokenTree == null) {
+            List<Student> studentList = getStudentList();
+            Map<String, BitSet> index = new HashMap<>();
+            BkTree tree = new BkTree();
+            for (int i = 0; i < size; i++) {
+                for (String nameToken : studentList.get(i).getSearchKeys().nameTokens) {
+                    if (!index.containsKey(nameToken)) {
+                        index.put(nameToken, new BitSet());
+                        tree.add(nameToken);
+                    }
+                    index.get(nameToken).set(i);
+                }
+            }
+            nameTokenIndex = index;
+            nameTokenTree = tree;
+        }
+        return nameTokenTree;
+    }
+
+    private List<Student> getStudentList() {
+        return columns == null ? students : getCurrentColumns();
+    }
+
+    private ColumnarStudentList getCurrentColumns() {
+        if (columns.getVersion() != columnsVersion) {
+            throw new ConcurrentModificationException("The students have changed since they were indexed");
+        }
+        return columns;
+    }
+
+    private static BitSet single(Integer position) {
+        BitSet set = new BitSet();
+        if (position != null && position >= 0) {
+            set.set(position);
+        }
+        return set;
+    }
+}
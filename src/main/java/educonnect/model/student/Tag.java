@@ -5,6 +5,9 @@ import static java.util.Objects.requireNonNull;
 
 /**
  * Represents a Tag in the address book.
+ * Each tag name in use has an id in the {@link TagDictionary}, by which tags are compared, and a shared instance
+ * returned by {@link #of(String)}. Tags that are only looked for, as in a search, are made with
+ * {@link #lookup(String)} instead, which leaves the dictionary unchanged.
  * Guarantees: immutable; name is valid as declared in {@link #isValidTagName(String)}
  */
 public class Tag {
@@ -13,24 +16,67 @@ public class Tag {
             "Tags should only contain alphanumeric characters, spaces and hyphens, and it should not be blank";
     public static final String VALIDATION_REGEX = "^[\\p{Alnum}][\\p{Alnum} -]*";
 
+    /** The id of tags whose names are not in the {@code TagDictionary}, which no student has. */
+    public static final int NO_ID = -1;
+
     public final String tagName;
+    private final int id;
 
     /**
      * Constructs a {@code Tag}.
+     * Prefer {@link #of(String)}, which returns the shared instance instead of a new one.
      *
      * @param tagName A valid tag name.
      */
     public Tag(String tagName) {
+        this(tagName, of(tagName).id);
+    }
+
+    /**
+     * Constructs the shared {@code Tag} named {@code tagName}, for the {@code TagDictionary} only.
+     */
+    Tag(String tagName, int id) {
+        this.tagName = tagName;
+        this.id = id;
+    }
+
+    /**
+     * Returns the shared {@code Tag} named {@code tagName}.
+     *
+     * @param tagName A valid tag name.
+     */
+    public static Tag of(String tagName) {
         requireNonNull(tagName);
         checkArgument(isValidTagName(tagName), MESSAGE_CONSTRAINTS);
-        this.tagName = tagName;
+        return TagDictionary.getInstance().getOrAdd(tagName);
+    }
+
+    /**
+     * Returns the shared {@code Tag} named {@code tagName} if it is in the {@code TagDictionary}, or otherwise a tag
+     * with {@link #NO_ID}, without adding the name to the dictionary.
+     * For tags that are only looked for, so that searching for names no student has does not grow the dictionary.
+     *
+     * @param tagName A valid tag name.
+     */
+    public static Tag lookup(String tagName) {
+        requireNonNull(tagName);
+        checkArgument(isValidTagName(tagName), MESSAGE_CONSTRAINTS);
+        return TagDictionary.getInstance().get(tagName).orElseGet(() -> new Tag(tagName, NO_ID));
     }
 
     /**
      * Returns true if a given string is a valid tag name.
      */
     public static boolean isValidTagName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        // Only valid names are in the dictionary, so names in use need not be matched again
+        return TagDictionary.getInstance().contains(test) || test.matches(VALIDATION_REGEX);
+    }
+
+    /**
+     * Returns the id of this tag's name in the {@code TagDictionary}, or {@link #NO_ID} if it is not in it.
+     */
+    public int getId() {
+        return id;
     }
 
     @Override
@@ -45,6 +91,10 @@ public class Tag {
         }
 
         Tag otherTag = (Tag) other;
+        // Names in the dictionary have the same id exactly when they are the same
+        if (id != NO_ID && otherTag.id != NO_ID) {
+            return id == otherTag.id;
+        }
         return tagName.equals(otherTag.tagName);
     }
 
@@ -0,0 +1,76 @@
+package educonnect.model.student;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+import java.util.TreeMap;
+
+/**
+ * Counts, for each tag, how many of a group of students have that tag.
+ * Students can be added to and removed from the group one at a time, so the counts can be kept up to date
+ * as the group changes without counting the whole group again. When most of the group changes at once,
+ * the counts can instead be recounted from a {@code StudentIndex} without looking at any student's tags.
+ * Only tags that some student in the group has are counted, in the order of their names.
+ */
+public class TagCounts {
+
+    private final TreeMap<Tag, Integer> counts = new TreeMap<>(Comparator.comparing((Tag tag) -> tag.tagName));
+    private int size;
+
+    /**
+     * Adds {@code student} to the group.
+     */
+    public void add(Student student) {
+        requireNonNull(student);
+        for (Tag tag : student.getTags()) {
+            counts.merge(tag, 1, Integer::sum);
+        }
+        size++;
+    }
+
+    /**
+     * Removes {@code student}, which must have been added with the same tags, from the group.
+     */
+    public void remove(Student student) {
+        requireNonNull(student);
+        for (Tag tag : student.getTags()) {
+            counts.computeIfPresent(tag, (unused, count) -> count > 1 ? count - 1 : null);
+        }
+        size--;
+    }
+
+    /**
+     * Replaces the group with the students in {@code set} of {@code index}.
+     */
+    public void recount(StudentIndex index, BitSet set) {
+        requireNonNull(index);
+        requireNonNull(set);
+        counts.clear();
+        counts.putAll(index.countTags(set));
+        size = set.cardinality();
+    }
+
+    /**
+     * Returns the number of students in the group.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of students in the group with {@code tag}.
+     */
+    public int getCount(Tag tag) {
+        return counts.getOrDefault(tag, 0);
+    }
+
+    /**
+     * Returns the tags that some student in the group has, in the order of their names.
+     */
+    public List<Tag> getTags() {
+        return new ArrayList<>(counts.keySet());
+    }
+}
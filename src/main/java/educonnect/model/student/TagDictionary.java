@@ -0,0 +1,94 @@
+package educonnect.model.student;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The dictionary of every tag name in use, which gives each name a small integer id and a single shared
+ * {@code Tag}. Students keep their tags as sets of ids, so that checking whether a student has a tag is a comparison
+ * of integers, and every student with a tag refers to the same {@code Tag} and name.
+ * Ids are given in the order names are first seen, starting from 0, and are never reused, as names are never
+ * removed from the dictionary. Safe to be used from multiple threads.
+ */
+public class TagDictionary {
+
+    private static final int INITIAL_CAPACITY = 64;
+    private static final TagDictionary INSTANCE = new TagDictionary();
+
+    private final Map<String, Tag> tagsByName = new ConcurrentHashMap<>();
+    private volatile Tag[] tagsById = new Tag[INITIAL_CAPACITY];
+    private volatile int size;
+
+    private TagDictionary() {
+    }
+
+    public static TagDictionary getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Returns the shared tag named {@code tagName}, adding it to the dictionary with the next id if it is not in it.
+     * {@code tagName} must be a valid tag name.
+     */
+    Tag getOrAdd(String tagName) {
+        requireNonNull(tagName);
+        Tag tag = tagsByName.get(tagName);
+        return tag != null ? tag : add(tagName);
+    }
+
+    private synchronized Tag add(String tagName) {
+        Tag tag = tagsByName.get(tagName);
+        if (tag != null) {
+            return tag;
+        }
+        tag = new Tag(tagName, size);
+        if (size == tagsById.length) {
+            tagsById = Arrays.copyOf(tagsById, size * 2);
+        }
+        tagsById[size] = tag;
+        // The tag is published by id before by name, so that any id handed out can be looked up
+        size++;
+        tagsByName.put(tagName, tag);
+        return tag;
+    }
+
+    /**
+     * Returns the shared tag with {@code id}.
+     *
+     * @throws IndexOutOfBoundsException if no tag has {@code id}.
+     */
+    public Tag get(int id) {
+        // The size is read first, as the array read after it is always at least as large
+        if (id < 0 || id >= size) {
+            throw new IndexOutOfBoundsException("No tag with id " + id);
+        }
+        return tagsById[id];
+    }
+
+    /**
+     * Returns the shared tag named {@code tagName}, if it is in the dictionary.
+     */
+    public Optional<Tag> get(String tagName) {
+        requireNonNull(tagName);
+        return Optional.ofNullable(tagsByName.get(tagName));
+    }
+
+    /**
+     * Returns true if a tag named {@code tagName} is in the dictionary.
+     */
+    public boolean contains(String tagName) {
+        requireNonNull(tagName);
+        return tagsByName.containsKey(tagName);
+    }
+
+    /**
+     * Returns the number of tags in the dictionary, which is also the smallest id not given to any of them.
+     */
+    public int size() {
+        return size;
+    }
+}
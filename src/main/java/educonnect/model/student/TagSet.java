@@ -0,0 +1,152 @@
+package educonnect.model.student;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.IntConsumer;
+import java.util.function.Predicate;
+
+import educonnect.commons.util.WeakInterner;
+
+/**
+ * An immutable set of tags, kept as the sorted ids of the tags in the {@link TagDictionary}.
+ * Checking whether the set has a tag is a binary search over a few integers, and the tags themselves are only
+ * looked up in the dictionary when iterated over, in the order of their ids.
+ * Equal sets made with {@link #of(Collection)} share one instance, as many students have the same tags.
+ * The set cannot be modified, and throws {@code UnsupportedOperationException} if modification is attempted.
+ */
+public class TagSet extends AbstractSet<Tag> {
+
+    public static final TagSet EMPTY = new TagSet(new int[0]);
+
+    private static final WeakInterner<TagSet> CANONICAL_TAG_SETS = new WeakInterner<>();
+
+    private final int[] ids;
+
+    private TagSet(int[] ids) {
+        this.ids = ids;
+    }
+
+    /**
+     * Returns the set of {@code tags}.
+     *
+     * @throws IllegalArgumentException if a tag is not in the {@code TagDictionary}, as made by
+     *     {@link Tag#lookup(String)} for a search, since it cannot be looked up by its id.
+     */
+    public static TagSet of(Collection<Tag> tags) {
+        requireNonNull(tags);
+        if (tags instanceof TagSet) {
+            return (TagSet) tags;
+        }
+        if (tags.isEmpty()) {
+            return EMPTY;
+        }
+        int[] ids = tags.stream().mapToInt(Tag::getId).sorted().distinct().toArray();
+        if (ids[0] == Tag.NO_ID) {
+            throw new IllegalArgumentException("Tag is not in the dictionary: " + tags);
+        }
+        return CANONICAL_TAG_SETS.intern(new TagSet(ids));
+    }
+
+    /**
+     * Returns true if this set has the tag with {@code id}.
+     */
+    public boolean containsId(int id) {
+        return Arrays.binarySearch(ids, id) >= 0;
+    }
+
+    /**
+     * Performs {@code action} on the id of every tag in this set, in increasing order.
+     */
+    public void forEachId(IntConsumer action) {
+        requireNonNull(action);
+        for (int id : ids) {
+            action.accept(id);
+        }
+    }
+
+    @Override
+    public boolean contains(Object object) {
+        return object instanceof Tag && containsId(((Tag) object).getId());
+    }
+
+    @Override
+    public Iterator<Tag> iterator() {
+        return new Iterator<>() {
+            private int next;
+
+            @Override
+            public boolean hasNext() {
+                return next < ids.length;
+            }
+
+            @Override
+            public Tag next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return TagDictionary.getInstance().get(ids[next++]);
+            }
+        };
+    }
+
+    @Override
+    public int size() {
+        return ids.length;
+    }
+
+    @Override
+    public boolean add(Tag tag) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean remove(Object object) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> collection) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> collection) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super Tag> filter) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (other instanceof TagSet) {
+            return Arrays.equals(ids, ((TagSet) other).ids);
+        }
+        return super.equals(other);
+    }
+
+    @Override
+    public int hashCode() {
+        // Must be the sum of the tags' hash codes, like any other set
+        int hashCode = 0;
+        for (int id : ids) {
+            hashCode += TagDictionary.getInstance().get(id).hashCode();
+        }
+        return hashCode;
+    }
+}
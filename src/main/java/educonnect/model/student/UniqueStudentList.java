@@ -2,9 +2,11 @@ package educonnect.model.student;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import educonnect.commons.util.CollectionUtil;
 import educonnect.model.student.exceptions.DuplicateStudentException;
@@ -22,13 +24,60 @@ import javafx.collections.ObservableList;
  *
  * Supports a minimal set of list operations.
  *
+ * The students are kept in an {@code ObservableList} of {@code Student}s, or in a {@link ColumnarStudentList}
+ * for large address books if made with {@link #columnar()}, which is looked up by column instead of by
+ * comparing every student.
+ *
  * @see Student#isSameStudent(Student)
  */
 public class UniqueStudentList implements Iterable<Student> {
 
-    private final ObservableList<Student> internalList = FXCollections.observableArrayList();
-    private final ObservableList<Student> internalUnmodifiableList =
-            FXCollections.unmodifiableObservableList(internalList);
+    private final ObservableList<Student> internalList;
+    private final ObservableList<Student> internalUnmodifiableList;
+
+    /** The same list as {@code internalList} if the students are kept in columns, or null otherwise. */
+    private final ColumnarStudentList columns;
+
+    /**
+     * Index of the current students, built when first needed after every change to the list.
+     * It is cleared before the list changes, as the listeners of the list may look students up in it while the list
+     * is being changed.
+     */
+    private volatile StudentIndex studentIndex;
+
+    /** Completions of the values of the current students, updated with every change to the list. */
+    private final StudentCompletions completions;
+
+    /**
+     * Creates an empty list that keeps its students as {@code Student}s.
+     */
+    public UniqueStudentList() {
+        this(FXCollections.observableArrayList(), null);
+    }
+
+    private UniqueStudentList(ObservableList<Student> internalList, ColumnarStudentList columns) {
+        this.internalList = internalList;
+        this.internalUnmodifiableList = FXCollections.unmodifiableObservableList(internalList);
+        this.columns = columns;
+        completions = columns != null ? new StudentCompletions(columns) : new StudentCompletions(List.of());
+    }
+
+    /**
+     * Returns an empty list that keeps its students in columns.
+     *
+     * @see ColumnarStudentList
+     */
+    public static UniqueStudentList columnar() {
+        ColumnarStudentList columns = new ColumnarStudentList();
+        return new UniqueStudentList(columns, columns);
+    }
+
+    /**
+     * Returns true if this list keeps its students in columns.
+     */
+    public boolean isColumnar() {
+        return columns != null;
+    }
 
     /**
      * Returns true if the list contains an equivalent student unique identifier as the given argument.
@@ -36,9 +85,7 @@ public class UniqueStudentList implements Iterable<Student> {
      */
     public boolean containsSameUniqueIdentifier(Student toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameStudentId)
-                || internalList.stream().anyMatch(toCheck::isSameEmail)
-                || internalList.stream().anyMatch(toCheck::isSameTelegramHandle);
+        return containsStudentId(toCheck) || containsEmail(toCheck) || containsTelegramHandle(toCheck);
     }
 
     /**
@@ -46,7 +93,7 @@ public class UniqueStudentList implements Iterable<Student> {
      */
     public boolean containsStudentId(Student toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameStudentId);
+        return containsStudentId(toCheck.getStudentId());
     }
 
     /**
@@ -54,13 +101,16 @@ public class UniqueStudentList implements Iterable<Student> {
      */
     public boolean containsStudentId(StudentId studentIdToCheck) {
         requireNonNull(studentIdToCheck);
-        return internalList.stream().anyMatch(student -> student.isSameStudentId(studentIdToCheck));
+        return getStudentWithStudentId(studentIdToCheck).isPresent();
     }
 
     /**
      * Returns Optional of Student if the list contains an equivalent student id as the given argument.
      */
     public Optional<Student> getStudentWithStudentId(StudentId studentId) {
+        if (columns != null) {
+            return columns.getStudentWithStudentId(studentId);
+        }
         return internalList.stream().filter(student -> student.isSameStudentId(studentId)).findFirst();
     }
 
@@ -69,7 +119,7 @@ public class UniqueStudentList implements Iterable<Student> {
      */
     public boolean containsEmail(Student toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameEmail);
+        return containsEmail(toCheck.getEmail());
     }
 
     /**
@@ -77,13 +127,16 @@ public class UniqueStudentList implements Iterable<Student> {
      */
     public boolean containsEmail(Email email) {
         requireNonNull(email);
-        return internalList.stream().anyMatch(student -> student.isSameEmail(email));
+        return getStudentWithEmail(email).isPresent();
     }
 
     /**
      * Returns Optional of Student if the list contains an equivalent email as the given argument.
      */
     public Optional<Student> getStudentWithEmail(Email email) {
+        if (columns != null) {
+            return columns.getStudentWithEmail(email);
+        }
         return internalList.stream().filter(student -> student.isSameEmail(email)).findFirst();
     }
 
@@ -92,7 +145,7 @@ public class UniqueStudentList implements Iterable<Student> {
      */
     public boolean containsTelegramHandle(Student toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameTelegramHandle);
+        return containsTelegramHandle(toCheck.getTelegramHandle());
     }
 
     /**
@@ -100,13 +153,16 @@ public class UniqueStudentList implements Iterable<Student> {
      */
     public boolean containsTelegramHandle(TelegramHandle telegramHandle) {
         requireNonNull(telegramHandle);
-        return internalList.stream().anyMatch(student -> student.isSameTelegramHandle(telegramHandle));
+        return getStudentWithTelegramHandle(telegramHandle).isPresent();
     }
 
     /**
      * Returns Optional of Student if the list contains an equivalent telegram handle as the given argument.
      */
     public Optional<Student> getStudentWithTelegramHandle(TelegramHandle telegramHandle) {
+        if (columns != null) {
+            return columns.getStudentWithTelegramHandle(telegramHandle);
+        }
         return internalList.stream().filter(student -> student.isSameTelegramHandle(telegramHandle)).findFirst();
     }
 
@@ -119,6 +175,8 @@ public class UniqueStudentList implements Iterable<Student> {
         if (containsSameUniqueIdentifier(toAdd)) {
             throw new DuplicateStudentException();
         }
+        completions.add(toAdd);
+        studentIndex = null;
         internalList.add(toAdd);
     }
 
@@ -144,6 +202,9 @@ public class UniqueStudentList implements Iterable<Student> {
             throw new DuplicateStudentException();
         }
 
+        completions.remove(internalList.get(index));
+        completions.add(editedStudent);
+        studentIndex = null;
         internalList.set(index, editedStudent);
     }
 
@@ -153,13 +214,19 @@ public class UniqueStudentList implements Iterable<Student> {
      */
     public void remove(Student toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = internalList.indexOf(toRemove);
+        if (index == -1) {
             throw new StudentNotFoundException();
         }
+        completions.remove(toRemove);
+        studentIndex = null;
+        internalList.remove(index);
     }
 
     public void setStudents(UniqueStudentList replacement) {
         requireNonNull(replacement);
+        completions.setStudents(replacement.internalList);
+        studentIndex = null;
         internalList.setAll(replacement.internalList);
     }
 
@@ -173,9 +240,30 @@ public class UniqueStudentList implements Iterable<Student> {
             throw new DuplicateStudentException();
         }
 
+        completions.setStudents(students);
+        studentIndex = null;
         internalList.setAll(students);
     }
 
+    /**
+     * Returns the completions of the values of the students currently in the list.
+     */
+    public StudentCompletions getCompletions() {
+        return completions;
+    }
+
+    /**
+     * Returns a {@code StudentIndex} of the students currently in the list.
+     */
+    public StudentIndex getIndex() {
+        StudentIndex currentIndex = studentIndex;
+        if (currentIndex == null) {
+            currentIndex = columns != null ? new StudentIndex(columns) : new StudentIndex(internalList);
+            studentIndex = currentIndex;
+        }
+        return currentIndex;
+    }
+
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
@@ -217,11 +305,13 @@ public class UniqueStudentList implements Iterable<Student> {
      * Returns true if {@code students} contains unique students that do not share the same unique identifier.
      */
     private boolean studentsAreUnique(List<Student> students) {
-        for (int i = 0; i < students.size() - 1; i++) {
-            for (int j = i + 1; j < students.size(); j++) {
-                if (students.get(i).isSameUniqueIdentifier(students.get(j))) {
-                    return false;
-                }
+        Set<StudentId> studentIds = new HashSet<>();
+        Set<Email> emails = new HashSet<>();
+        Set<TelegramHandle> telegramHandles = new HashSet<>();
+        for (Student student : students) {
+            if (!studentIds.add(student.getStudentId()) || !emails.add(student.getEmail())
+                    || !telegramHandles.add(student.getTelegramHandle())) {
+                return false;
             }
         }
         return true;
@@ -12,14 +12,19 @@ import educonnect.model.student.Student;
  */
 public class EmailContainsKeywordsPredicate implements Predicate<Student> {
     private final String keywordEmail;
+    private final String keywordEmailKey;
 
+    /**
+     * Creates a predicate that tests for a email containing {@code keywordEmail}, ignoring case.
+     */
     public EmailContainsKeywordsPredicate(String keywordEmail) {
         this.keywordEmail = keywordEmail; //replace
+        this.keywordEmailKey = keywordEmail == null ? null : StringUtil.toSearchKey(keywordEmail.trim());
     }
 
     @Override
     public boolean test(Student student) {
-        return StringUtil.fuzzyMatchIgnoreCase(student.getEmail().value, keywordEmail);
+        return StringUtil.containsSearchKey(student.getSearchKeys().email, keywordEmailKey);
     }
 
     @Override
@@ -1,14 +1,15 @@
 package educonnect.model.student.predicates;
 
-import java.util.function.Predicate;
+import java.util.BitSet;
 
 import educonnect.commons.util.ToStringBuilder;
 import educonnect.model.student.Student;
+import educonnect.model.student.StudentIndex;
 
 /**
  * Tests that a {@code Student}'s {@code Email} matches exactly the keywords given.
  */
-public class EmailMatchesKeywordsPredicate implements Predicate<Student> {
+public class EmailMatchesKeywordsPredicate implements IndexablePredicate {
     private final String keywordEmail;
 
     public EmailMatchesKeywordsPredicate(String keywordEmail) {
@@ -20,6 +21,11 @@ public class EmailMatchesKeywordsPredicate implements Predicate<Student> {
         return student.getEmail().toString().equals(keywordEmail);
     }
 
+    @Override
+    public BitSet lookup(StudentIndex index) {
+        return index.withEmail(keywordEmail);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -12,14 +12,19 @@ import educonnect.model.student.Student;
  */
 public class IdContainsKeywordsPredicate implements Predicate<Student> {
     private final String keywordId;
+    private final String keywordIdKey;
 
+    /**
+     * Creates a predicate that tests for a student ID containing {@code keywordId}, ignoring case.
+     */
     public IdContainsKeywordsPredicate(String keywordId) {
         this.keywordId = keywordId; //replace
+        this.keywordIdKey = keywordId == null ? null : StringUtil.toSearchKey(keywordId.trim());
     }
 
     @Override
     public boolean test(Student student) {
-        return StringUtil.fuzzyMatchIgnoreCase(student.getStudentId().value, keywordId);
+        return StringUtil.containsSearchKey(student.getSearchKeys().studentId, keywordIdKey);
     }
 
     @Override
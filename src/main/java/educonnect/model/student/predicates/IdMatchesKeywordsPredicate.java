@@ -1,14 +1,15 @@
 package educonnect.model.student.predicates;
 
-import java.util.function.Predicate;
+import java.util.BitSet;
 
 import educonnect.commons.util.ToStringBuilder;
 import educonnect.model.student.Student;
+import educonnect.model.student.StudentIndex;
 
 /**
  * Tests that a {@code Student}'s {@code Id} matches exactly the keywords given.
  */
-public class IdMatchesKeywordsPredicate implements Predicate<Student> {
+public class IdMatchesKeywordsPredicate implements IndexablePredicate {
     private final String keywordId;
 
     public IdMatchesKeywordsPredicate(String keywordId) {
@@ -20,6 +21,11 @@ public class IdMatchesKeywordsPredicate implements Predicate<Student> {
         return student.getStudentId().toString().equals(keywordId);
     }
 
+    @Override
+    public BitSet lookup(StudentIndex index) {
+        return index.withStudentId(keywordId);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
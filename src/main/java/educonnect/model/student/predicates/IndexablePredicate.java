@@ -0,0 +1,20 @@
+package educonnect.model.student.predicates;
+
+import java.util.BitSet;
+import java.util.function.Predicate;
+
+import educonnect.model.student.Student;
+import educonnect.model.student.StudentIndex;
+
+/**
+ * A {@code Predicate} on students whose matches can be looked up in a {@code StudentIndex}
+ * instead of being found by testing every student.
+ */
+public interface IndexablePredicate extends Predicate<Student> {
+
+    /**
+     * Returns the set of students in {@code index} that satisfy this predicate.
+     * The returned set may be modified by the caller.
+     */
+    BitSet lookup(StudentIndex index);
+}
@@ -12,14 +12,19 @@ import educonnect.model.student.Student;
  */
 public class NameContainsKeywordsPredicate implements Predicate<Student> {
     private final String keywordName;
+    private final String keywordNameKey;
 
+    /**
+     * Creates a predicate that tests for a name containing {@code keywordName}, ignoring case.
+     */
     public NameContainsKeywordsPredicate(String keywordName) {
         this.keywordName = keywordName;
+        this.keywordNameKey = keywordName == null ? null : StringUtil.toSearchKey(keywordName.trim());
     }
 
     @Override
     public boolean test(Student student) {
-        return StringUtil.fuzzyMatchIgnoreCase(student.getName().fullName, keywordName);
+        return StringUtil.containsSearchKey(student.getSearchKeys().name, keywordNameKey);
     }
 
     @Override
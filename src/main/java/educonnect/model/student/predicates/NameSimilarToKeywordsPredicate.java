@@ -0,0 +1,105 @@
+package educonnect.model.student.predicates;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.BitSet;
+import java.util.List;
+
+import educonnect.commons.util.StringUtil;
+import educonnect.commons.util.ToStringBuilder;
+import educonnect.model.student.SearchKeys;
+import educonnect.model.student.Student;
+import educonnect.model.student.StudentIndex;
+
+/**
+ * Tests that every word of the keyword is within a small edit distance of some word of a {@code Student}'s
+ * {@code Name}, so that names can be found despite typos, e.g. {@code jonh} finds {@code John}.
+ * Matching is case-insensitive.
+ */
+public class NameSimilarToKeywordsPredicate implements IndexablePredicate {
+
+    /** The largest edit distance allowed between a word of the keyword and a word of a name. */
+    public static final int MAX_DISTANCE = 2;
+
+    /** The distance of a student that does not match. */
+    public static final int NO_MATCH = Integer.MAX_VALUE;
+
+    private final String keywordName;
+    private final List<String> keywordTokens;
+
+    /**
+     * Creates a predicate matching the names that are similar to {@code keywordName}.
+     */
+    public NameSimilarToKeywordsPredicate(String keywordName) {
+        requireNonNull(keywordName);
+        this.keywordName = keywordName;
+        this.keywordTokens = SearchKeys.toNameTokens(StringUtil.toSearchKey(keywordName));
+    }
+
+    /**
+     * Returns the largest edit distance allowed for a word of the keyword.
+     * Short words allow fewer edits, as otherwise they would match almost every name.
+     */
+    public static int getMaxDistance(String token) {
+        return Math.min(MAX_DISTANCE, token.length() / 2);
+    }
+
+    /**
+     * Returns how far {@code student}'s name is from the keyword, as the sum over the words of the keyword
+     * of their edit distance to the closest word of the name, or {@link #NO_MATCH} if the student does not match.
+     */
+    public int distanceTo(Student student) {
+        List<String> nameTokens = student.getSearchKeys().nameTokens;
+        int total = 0;
+        for (String keywordToken : keywordTokens) {
+            int closest = NO_MATCH;
+            for (String nameToken : nameTokens) {
+                closest = Math.min(closest, StringUtil.editDistance(keywordToken, nameToken));
+            }
+            if (closest > getMaxDistance(keywordToken)) {
+                return NO_MATCH;
+            }
+            total += closest;
+        }
+        return total;
+    }
+
+    @Override
+    public boolean test(Student student) {
+        return distanceTo(student) != NO_MATCH;
+    }
+
+    @Override
+    public BitSet lookup(StudentIndex index) {
+        BitSet matches = index.all();
+        for (String keywordToken : keywordTokens) {
+            matches.and(index.withNameTokenNear(keywordToken, getMaxDistance(keywordToken)));
+        }
+        return matches;
+    }
+
+    @Override
+    public int hashCode() {
+        return keywordTokens.hashCode();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof NameSimilarToKeywordsPredicate)) {
+            return false;
+        }
+
+        NameSimilarToKeywordsPredicate otherNameSimilarToKeywordsPredicate = (NameSimilarToKeywordsPredicate) other;
+        return keywordTokens.equals(otherNameSimilarToKeywordsPredicate.keywordTokens);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("keywords", keywordName).toString();
+    }
+}
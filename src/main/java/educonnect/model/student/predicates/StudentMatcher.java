@@ -0,0 +1,75 @@
+package educonnect.model.student.predicates;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.function.Predicate;
+
+import educonnect.commons.util.ToStringBuilder;
+import educonnect.model.student.Student;
+
+/**
+ * Tests that a {@code Student} satisfies all of a collection of predicates.
+ * The predicates are compiled once into a flat list that is walked by index, so testing a student
+ * does not create any objects, unlike chaining the predicates with {@link Predicate#and(Predicate)}
+ * or streaming over them.
+ * Indexable predicates, such as tag predicates, are tested first as they are the cheapest to test.
+ */
+public class StudentMatcher implements Predicate<Student> {
+
+    private final List<Predicate<Student>> predicates;
+
+    private StudentMatcher(List<Predicate<Student>> predicates) {
+        this.predicates = predicates;
+    }
+
+    /**
+     * Compiles {@code predicates} into a {@code StudentMatcher}.
+     * A student matches if it satisfies all of {@code predicates}, so every student matches if there are none.
+     */
+    public static StudentMatcher compile(Collection<? extends Predicate<Student>> predicates) {
+        requireNonNull(predicates);
+        List<Predicate<Student>> orderedPredicates = new ArrayList<>(predicates);
+        orderedPredicates.sort(Comparator.comparing(predicate -> !(predicate instanceof IndexablePredicate)));
+        return new StudentMatcher(List.copyOf(orderedPredicates));
+    }
+
+    @Override
+    public boolean test(Student student) {
+        for (int i = 0; i < predicates.size(); i++) {
+            if (!predicates.get(i).test(student)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof StudentMatcher)) {
+            return false;
+        }
+
+        StudentMatcher otherStudentMatcher = (StudentMatcher) other;
+        return new HashSet<>(predicates).equals(new HashSet<>(otherStudentMatcher.predicates));
+    }
+
+    @Override
+    public int hashCode() {
+        return new HashSet<>(predicates).hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("predicates", predicates).toString();
+    }
+}
@@ -1,15 +1,16 @@
 package educonnect.model.student.predicates;
 
-import java.util.function.Predicate;
+import java.util.BitSet;
 
 import educonnect.commons.util.ToStringBuilder;
 import educonnect.model.student.Student;
+import educonnect.model.student.StudentIndex;
 import educonnect.model.student.Tag;
 
 /**
  * Tests that a {@code Student}'s {@code Tag} matches the keywords given.
  */
-public class TagContainsKeywordsPredicate implements Predicate<Student> {
+public class TagContainsKeywordsPredicate implements IndexablePredicate {
 
     private final Tag keywordTag;
 
@@ -19,7 +20,12 @@ public class TagContainsKeywordsPredicate implements Predicate<Student> {
 
     @Override
     public boolean test(Student student) {
-        return student.getTags().contains(keywordTag);
+        return student.hasTag(keywordTag);
+    }
+
+    @Override
+    public BitSet lookup(StudentIndex index) {
+        return index.withTag(keywordTag);
     }
 
     @Override
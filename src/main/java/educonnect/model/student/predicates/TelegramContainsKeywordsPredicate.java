@@ -12,14 +12,19 @@ import educonnect.model.student.Student;
  */
 public class TelegramContainsKeywordsPredicate implements Predicate<Student> {
     private final String keywordTelegram;
+    private final String keywordTelegramKey;
 
+    /**
+     * Creates a predicate that tests for a telegram handle containing {@code keywordTelegram}, ignoring case.
+     */
     public TelegramContainsKeywordsPredicate(String keywordTelegram) {
         this.keywordTelegram = keywordTelegram; //replace
+        this.keywordTelegramKey = keywordTelegram == null ? null : StringUtil.toSearchKey(keywordTelegram.trim());
     }
 
     @Override
     public boolean test(Student student) {
-        return StringUtil.fuzzyMatchIgnoreCase(student.getTelegramHandle().value, keywordTelegram);
+        return StringUtil.containsSearchKey(student.getSearchKeys().telegramHandle, keywordTelegramKey);
     }
 
     @Override
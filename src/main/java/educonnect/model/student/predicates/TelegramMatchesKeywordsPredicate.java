@@ -1,14 +1,15 @@
 package educonnect.model.student.predicates;
 
-import java.util.function.Predicate;
+import java.util.BitSet;
 
 import educonnect.commons.util.ToStringBuilder;
 import educonnect.model.student.Student;
+import educonnect.model.student.StudentIndex;
 
 /**
  * Tests that a {@code Student}'s {@code Email} matches any of the keywords given.
  */
-public class TelegramMatchesKeywordsPredicate implements Predicate<Student> {
+public class TelegramMatchesKeywordsPredicate implements IndexablePredicate {
     private final String keywordTelegram;
 
     public TelegramMatchesKeywordsPredicate(String keywordTelegram) {
@@ -20,6 +21,11 @@ public class TelegramMatchesKeywordsPredicate implements Predicate<Student> {
         return student.getTelegramHandle().toString().equals(keywordTelegram);
     }
 
+    @Override
+    public BitSet lookup(StudentIndex index) {
+        return index.withTelegramHandle(keywordTelegram);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
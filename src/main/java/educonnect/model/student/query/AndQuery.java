@@ -0,0 +1,97 @@
+package educonnect.model.student.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import educonnect.model.student.Student;
+import educonnect.model.student.StudentIndex;
+import educonnect.model.student.predicates.StudentMatcher;
+
+/**
+ * A query matching the students that match all of its subqueries. Matches every student if it has none.
+ * Subqueries that use the index are intersected first, and only the students left over are tested
+ * against the remaining subqueries.
+ */
+class AndQuery implements Query {
+
+    private final List<Query> queries;
+    private final StudentMatcher matcher;
+
+    AndQuery(List<Query> queries) {
+        requireNonNull(queries);
+        this.queries = List.copyOf(queries);
+        this.matcher = StudentMatcher.compile(this.queries);
+    }
+
+    @Override
+    public boolean test(Student student) {
+        return matcher.test(student);
+    }
+
+    @Override
+    public BitSet evaluate(StudentIndex index) {
+        BitSet result = null;
+        List<Query> unindexedQueries = new ArrayList<>();
+        for (Query query : queries) {
+            if (!query.usesIndex()) {
+                unindexedQueries.add(query);
+            } else if (result == null) {
+                result = query.evaluate(index);
+            } else {
+                result.and(query.evaluate(index));
+            }
+        }
+
+        if (result == null) {
+            result = index.all();
+        }
+        if (unindexedQueries.isEmpty()) {
+            return result;
+        }
+
+        StudentMatcher unindexedMatcher = StudentMatcher.compile(unindexedQueries);
+        for (int i = result.nextSetBit(0); i >= 0; i = result.nextSetBit(i + 1)) {
+            if (!unindexedMatcher.test(index.get(i))) {
+                result.clear(i);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public boolean usesIndex() {
+        return queries.stream().anyMatch(Query::usesIndex);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AndQuery)) {
+            return false;
+        }
+
+        AndQuery otherAndQuery = (AndQuery) other;
+        return new HashSet<>(queries).equals(new HashSet<>(otherAndQuery.queries));
+    }
+
+    @Override
+    public int hashCode() {
+        return new HashSet<>(queries).hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return queries.stream()
+                .map(Query::toString)
+                .collect(Collectors.joining(" AND ", "(", ")"));
+    }
+}
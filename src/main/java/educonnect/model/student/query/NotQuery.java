@@ -0,0 +1,63 @@
+package educonnect.model.student.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.BitSet;
+
+import educonnect.model.student.Student;
+import educonnect.model.student.StudentIndex;
+
+/**
+ * A query matching the students that do not match its subquery.
+ */
+class NotQuery implements Query {
+
+    private final Query query;
+
+    NotQuery(Query query) {
+        requireNonNull(query);
+        this.query = query;
+    }
+
+    @Override
+    public boolean test(Student student) {
+        return !query.test(student);
+    }
+
+    @Override
+    public BitSet evaluate(StudentIndex index) {
+        BitSet result = index.all();
+        result.andNot(query.evaluate(index));
+        return result;
+    }
+
+    @Override
+    public boolean usesIndex() {
+        return query.usesIndex();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof NotQuery)) {
+            return false;
+        }
+
+        NotQuery otherNotQuery = (NotQuery) other;
+        return query.equals(otherNotQuery.query);
+    }
+
+    @Override
+    public int hashCode() {
+        return ~query.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "NOT " + query;
+    }
+}
@@ -0,0 +1,75 @@
+package educonnect.model.student.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import educonnect.model.student.Student;
+import educonnect.model.student.StudentIndex;
+
+/**
+ * A query matching the students that match any of its subqueries. Matches no student if it has none.
+ */
+class OrQuery implements Query {
+
+    private final List<Query> queries;
+
+    OrQuery(List<Query> queries) {
+        requireNonNull(queries);
+        this.queries = List.copyOf(queries);
+    }
+
+    @Override
+    public boolean test(Student student) {
+        for (int i = 0; i < queries.size(); i++) {
+            if (queries.get(i).test(student)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public BitSet evaluate(StudentIndex index) {
+        BitSet result = new BitSet(index.size());
+        for (Query query : queries) {
+            result.or(query.evaluate(index));
+        }
+        return result;
+    }
+
+    @Override
+    public boolean usesIndex() {
+        return queries.stream().allMatch(Query::usesIndex);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof OrQuery)) {
+            return false;
+        }
+
+        OrQuery otherOrQuery = (OrQuery) other;
+        return new HashSet<>(queries).equals(new HashSet<>(otherOrQuery.queries));
+    }
+
+    @Override
+    public int hashCode() {
+        return new HashSet<>(queries).hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return queries.stream()
+                .map(Query::toString)
+                .collect(Collectors.joining(" OR ", "(", ")"));
+    }
+}
@@ -0,0 +1,67 @@
+package educonnect.model.student.query;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Predicate;
+
+import educonnect.model.student.Student;
+import educonnect.model.student.StudentIndex;
+
+/**
+ * A boolean expression over predicates on students, such as
+ * {@code (t/tutorial-1 OR t/tutorial-2) AND NOT t/dropped}.
+ * A query can be tested against a single student, or evaluated against a whole {@code StudentIndex} with
+ * set operations, using the index for the predicates that support it and testing students only for the rest.
+ */
+public interface Query extends Predicate<Student> {
+
+    /**
+     * Returns the set of students in {@code index} that match this query.
+     * The returned set may be modified by the caller.
+     */
+    BitSet evaluate(StudentIndex index);
+
+    /**
+     * Returns true if {@link #evaluate(StudentIndex)} uses the index to narrow down the students,
+     * instead of testing every student.
+     */
+    boolean usesIndex();
+
+    /**
+     * Returns a query matching the students that satisfy {@code predicate}.
+     */
+    static Query of(Predicate<Student> predicate) {
+        return predicate instanceof Query ? (Query) predicate : new TermQuery(predicate);
+    }
+
+    /**
+     * Returns a query matching the students that satisfy all of {@code predicates}.
+     */
+    static Query allOf(Collection<? extends Predicate<Student>> predicates) {
+        return new AndQuery(toQueries(predicates));
+    }
+
+    /**
+     * Returns a query matching the students that satisfy any of {@code predicates}.
+     */
+    static Query anyOf(Collection<? extends Predicate<Student>> predicates) {
+        return new OrQuery(toQueries(predicates));
+    }
+
+    /**
+     * Returns a query matching the students that do not satisfy {@code predicate}.
+     */
+    static Query not(Predicate<Student> predicate) {
+        return new NotQuery(of(predicate));
+    }
+
+    private static List<Query> toQueries(Collection<? extends Predicate<Student>> predicates) {
+        List<Query> queries = new ArrayList<>();
+        for (Predicate<Student> predicate : predicates) {
+            queries.add(of(predicate));
+        }
+        return queries;
+    }
+}
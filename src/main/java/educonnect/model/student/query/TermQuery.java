@@ -0,0 +1,75 @@
+package educonnect.model.student.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.BitSet;
+import java.util.function.Predicate;
+
+import educonnect.model.student.Student;
+import educonnect.model.student.StudentIndex;
+import educonnect.model.student.predicates.IndexablePredicate;
+
+/**
+ * A query matching the students that satisfy a single predicate.
+ * Looks the students up in the index if the predicate is an {@code IndexablePredicate},
+ * and tests every student otherwise.
+ */
+class TermQuery implements Query {
+
+    private final Predicate<Student> predicate;
+
+    TermQuery(Predicate<Student> predicate) {
+        requireNonNull(predicate);
+        this.predicate = predicate;
+    }
+
+    @Override
+    public boolean test(Student student) {
+        return predicate.test(student);
+    }
+
+    @Override
+    public BitSet evaluate(StudentIndex index) {
+        if (predicate instanceof IndexablePredicate) {
+            return ((IndexablePredicate) predicate).lookup(index);
+        }
+
+        BitSet result = new BitSet(index.size());
+        for (int i = 0; i < index.size(); i++) {
+            if (predicate.test(index.get(i))) {
+                result.set(i);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public boolean usesIndex() {
+        return predicate instanceof IndexablePredicate;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof TermQuery)) {
+            return false;
+        }
+
+        TermQuery otherTermQuery = (TermQuery) other;
+        return predicate.equals(otherTermQuery.predicate);
+    }
+
+    @Override
+    public int hashCode() {
+        return predicate.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return predicate.toString();
+    }
+}
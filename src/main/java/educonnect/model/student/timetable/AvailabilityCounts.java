@@ -0,0 +1,120 @@
+package educonnect.model.student.timetable;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.DayOfWeek;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Counts, for each hour of the week, how many of a group of timetables are free in that hour.
+ * Timetables can be added to and removed from the group as it changes, so the counts can be kept up to date
+ * without counting the whole group again.
+ * Each timetable is counted by going over the set bits of its occupied hours, which an interned timetable keeps
+ * without them being copied.
+ */
+public class AvailabilityCounts {
+
+    private final int numOfDays;
+    private final int[] busyCounts;
+    private int size;
+
+    /**
+     * Creates the counts of an empty group of timetables with {@code numOfDays} days in the week.
+     */
+    public AvailabilityCounts(int numOfDays) {
+        if (numOfDays < 1 || numOfDays > DayOfWeek.values().length) {
+            throw new IllegalArgumentException("Invalid number of days: " + numOfDays);
+        }
+        this.numOfDays = numOfDays;
+        this.busyCounts = new int[numOfDays * Timetable.HOURS_PER_DAY];
+    }
+
+    /**
+     * Creates the counts of an empty group of timetables with the default number of days in the week.
+     */
+    public AvailabilityCounts() {
+        this(new Timetable().getNumOfDays());
+    }
+
+    /**
+     * Adds {@code timetable} to the group.
+     */
+    public void add(Timetable timetable) {
+        count(timetable, 1);
+        size++;
+    }
+
+    /**
+     * Removes {@code timetable}, which must have been added with the same occupied hours, from the group.
+     */
+    public void remove(Timetable timetable) {
+        count(timetable, -1);
+        size--;
+    }
+
+    /**
+     * Removes {@code removed} from the group and adds {@code added} to it.
+     * A timetable that is both removed and added is only counted as many more times as it is added than removed,
+     * or the other way round, so replacing the group with one that mostly has the same timetables, as when a list
+     * of students is filtered again, only counts the timetables that differ. Timetables are told apart by identity,
+     * which equal interned timetables share.
+     */
+    public void update(Collection<Timetable> removed, Collection<Timetable> added) {
+        requireNonNull(removed);
+        requireNonNull(added);
+        Map<Timetable, Integer> changes = new IdentityHashMap<>();
+        removed.forEach(timetable -> changes.merge(timetable, -1, Integer::sum));
+        added.forEach(timetable -> changes.merge(timetable, 1, Integer::sum));
+        changes.forEach(this::count);
+        size += added.size() - removed.size();
+    }
+
+    /**
+     * Removes every timetable from the group.
+     */
+    public void clear() {
+        Arrays.fill(busyCounts, 0);
+        size = 0;
+    }
+
+    private void count(Timetable timetable, int delta) {
+        requireNonNull(timetable);
+        if (delta == 0) {
+            return;
+        }
+        BitSet occupiedHours = timetable.getSharedOccupiedHours();
+        for (int hour = occupiedHours.nextSetBit(0); hour >= 0 && hour < busyCounts.length;
+                hour = occupiedHours.nextSetBit(hour + 1)) {
+            busyCounts[hour] += delta;
+        }
+    }
+
+    /**
+     * Returns the number of timetables in the group.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of days in the week of the counted timetables.
+     */
+    public int getNumOfDays() {
+        return numOfDays;
+    }
+
+    /**
+     * Returns the number of timetables in the group that are free in the hour starting at {@code hour}
+     * on the day {@code dayNumber}, where 1 represents Monday.
+     */
+    public int getFreeCount(int dayNumber, int hour) {
+        if (dayNumber < 1 || dayNumber > numOfDays || hour < 0 || hour >= Timetable.HOURS_PER_DAY) {
+            throw new IndexOutOfBoundsException("No such hour: day " + dayNumber + ", hour " + hour);
+        }
+        return size - busyCounts[(dayNumber - 1) * Timetable.HOURS_PER_DAY + hour];
+    }
+}
@@ -4,6 +4,7 @@ import static java.util.Objects.requireNonNull;
 
 import java.time.DayOfWeek;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -134,6 +135,37 @@ public class AvailableSlots {
         return result;
     }
 
+    /**
+     * Finds all common available slots of the specified duration, within the specified timeframe and days,
+     * across all the given {@code Timetable} objects.
+     * The slots of each distinct timetable are only found once, however many students share it.
+     *
+     * @param timetables the {@code Timetable} of each {@code Student} to be searched.
+     * @param duration specified time.
+     * @param timeframe specified time frame.
+     * @param days specified day(s) to be included.
+     * @return an {@code AvailableSlot} object containing all common slots from the timetables.
+     */
+    public static AvailableSlots findAllCommonSlots(Collection<Timetable> timetables, int duration,
+                                                    Period timeframe, HashSet<DayOfWeek> days) {
+        ArrayList<AvailableSlots> allAvailableSlots = timetables.stream()
+                .distinct()
+                .map(timetable -> timetable.findSlots(duration, timeframe, days))
+                .collect(Collectors.toCollection(ArrayList::new));
+        return findAllCommonSlots(allAvailableSlots);
+    }
+
+    /**
+     * Gets all the {@code Day} objects in this {@code AvailableSlots}, sorted from Monday onwards.
+     *
+     * @return a sorted {@code List} of {@code Day}.
+     */
+    public List<Day> getDays() {
+        ArrayList<Day> sortedDays = new ArrayList<>(this.days.values());
+        Collections.sort(sortedDays);
+        return sortedDays;
+    }
+
     /**
      * Finds all available {@code DayOfWeek} across all {@code AvailableSlots} objects.
      *
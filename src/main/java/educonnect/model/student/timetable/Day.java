@@ -8,6 +8,7 @@ import java.time.DayOfWeek;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -25,6 +26,8 @@ public class Day implements Comparable<Day> {
     private final DayOfWeek dayOfWeek;
     private final boolean checksForOverlaps;
 
+    // Only set once the timetable of this day is interned, after which the day cannot change
+    private transient boolean isFrozen;
 
     /**
      * Constructor for JSON Serialisation, included only for JSON to work, not intended as a constructor to be used!
@@ -154,6 +157,15 @@ public class Day implements Comparable<Day> {
         return this.dayOfWeek;
     }
 
+    /**
+     * Gets the {@code Period} objects of this {@code Day}, sorted by start time.
+     *
+     * @return an unmodifiable {@code List} of {@code Period}.
+     */
+    public List<Period> getPeriods() {
+        return Collections.unmodifiableList(this.periods);
+    }
+
     /**
      * Adds a {@code Period} into this {@code Day}. The period cannot overlap with another period.
      * Automatically sorts all periods after each addition.
@@ -162,6 +174,9 @@ public class Day implements Comparable<Day> {
      * @return {@code true} if added successfully.
      */
     public boolean addPeriod(Period period) throws OverlapPeriodException {
+        if (isFrozen) {
+            throw new UnsupportedOperationException("A day of an interned timetable cannot be changed");
+        }
         if (checksForOverlaps && hasAnyOverlaps(period)) {
             throw new OverlapPeriodException();
         }
@@ -170,6 +185,21 @@ public class Day implements Comparable<Day> {
         return true;
     }
 
+    /**
+     * Stops this day from being changed, sharing the canonical instance of each of its periods.
+     */
+    void freeze() {
+        periods.replaceAll(Period::intern);
+        isFrozen = true;
+    }
+
+    /**
+     * Returns true if this day cannot be changed.
+     */
+    boolean isFrozen() {
+        return isFrozen;
+    }
+
     /**
      * Checks if a {@code Period} has any overlaps with existing periods in this {@code Day}
      *
@@ -333,16 +363,17 @@ public class Day implements Comparable<Day> {
         return true;
     }
 
+    /**
+     * Returns the first line of {@link #toString()}, which names this day, without the line break after it.
+     */
+    public String toHeaderString() {
+        return "For " + dayOfWeek + (hasPeriods() ? ", schedule is:" : ", no periods.");
+    }
+
     @Override
     public String toString() {
         StringBuilder sb = new StringBuilder();
-        sb.append("For ").append(dayOfWeek);
-
-        if (hasPeriods()) {
-            sb.append(", schedule is:\n");
-        } else {
-            sb.append(", no periods.\n");
-        }
+        sb.append(toHeaderString()).append("\n");
 
         for (Period per : periods) {
             sb.append(per);
@@ -4,10 +4,12 @@ import static educonnect.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.time.LocalTime;
 
+import educonnect.commons.util.WeakInterner;
 import educonnect.model.student.timetable.exceptions.InvalidPeriodException;
 
 /**
- * Class for a {@code Period} of time.
+ * Class for a {@code Period} of time. Periods are immutable, and equal periods can share one instance through
+ * {@link #intern(Period)}.
  */
 public class Period implements Comparable<Period> {
     public static final String VALIDATION_REGEX = "([0-9]|1[0-9]|2[0-3])-([0-9]|1[0-9]|2[0-3])";
@@ -16,10 +18,13 @@ public class Period implements Comparable<Period> {
             + "where time can be any integer between 0 - 23. \n"
             + "This means that all Period objects are tracked with a 24-hour clock.";
     public static final String DEFAULT_PERIOD_NAME = "period";
+    private static final WeakInterner<Period> CANONICAL_PERIODS = new WeakInterner<>();
     @SuppressWarnings("unused")
     private final String periodName;
     private final LocalTime timeStart;
     private final LocalTime timeEnd;
+    // Cached on first use, as the other fields are only set after construction when deserialised from JSON
+    private transient int hash;
 
     /**
      * Constructor for this class. All parameters require non-null.
@@ -96,6 +101,13 @@ public class Period implements Comparable<Period> {
         this.timeEnd = null;
     }
 
+    /**
+     * Returns the canonical {@code Period} equal to {@code period}, so that equal periods can share one instance.
+     */
+    public static Period intern(Period period) {
+        return CANONICAL_PERIODS.intern(period);
+    }
+
     /**
      * Gets the {@code int} hour for the start time.
      *
@@ -149,11 +161,15 @@ public class Period implements Comparable<Period> {
 
     @Override
     public int hashCode() {
+        if (hash != 0) {
+            return hash;
+        }
         final int prime = 31;
         int result = 1;
 
         result = prime * result + this.timeStart.hashCode();
         result = prime * result + timeEnd.hashCode();
+        hash = result;
         return result;
     }
 
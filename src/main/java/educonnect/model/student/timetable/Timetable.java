@@ -1,17 +1,25 @@
 package educonnect.model.student.timetable;
 
+import static java.util.Objects.requireNonNull;
+
 import java.time.DayOfWeek;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 
+import educonnect.commons.util.WeakInterner;
 import educonnect.model.student.timetable.exceptions.InvalidDurationException;
 import educonnect.model.student.timetable.exceptions.NumberOfDaysException;
 import educonnect.model.student.timetable.exceptions.OverlapPeriodException;
 
 /**
  * Represents the timetable of a student for a week.
+ * A timetable is built by adding periods to it, and cannot be changed once it is interned with
+ * {@link #intern(Timetable)}, which every {@code Student} does. Equal interned timetables share one instance,
+ * so that students with the same timetable take up no more memory than one of them.
  */
 public class Timetable {
     public static final String MESSAGE_CONSTRAINTS = "A valid TIMETABLE format is written with the three lettered day "
@@ -19,16 +27,23 @@ public class Timetable {
                                                      + "Separate multiple periods in a day with a comma.\n"
                                                      + "e.g mon: 8-10, 10-12 tue: 8-10 thu: 12-14 fri 16-18, 18-20";
     public static final int NUMBER_OF_DAYS_TYPICAL = 5;
+    public static final int HOURS_PER_DAY = 24;
+    public static final int NUMBER_OF_DAYS_MAX = 7;
     public static final Period DEFAULT_TIMEFRAME = new Period(Period.DEFAULT_PERIOD_NAME,
             Day.DEFAULT_START_TIME_OF_DAY, Day.DEFAULT_END_TIME_OF_DAY);
     public static final HashSet<DayOfWeek> DEFAULT_ALL_DAYS = is7Days()
             ? new HashSet<>(List.of(DayOfWeek.values()))
             : new HashSet<>(List.of(Arrays.copyOf(DayOfWeek.values(), NUMBER_OF_DAYS_TYPICAL)));
     private static final boolean IS_TIMETABLE_7_DAYS = false; // default is 5 days
-    private static final int NUMBER_OF_DAYS_MAX = 7;
+    private static final WeakInterner<Timetable> CANONICAL_TIMETABLES = new WeakInterner<>();
     private final ArrayList<Day> days;
     private final int numOfDays;
 
+    // Only set once interned, after which the timetable cannot change
+    private transient boolean isInterned;
+    private transient int hash;
+    private transient BitSet occupiedHours;
+
     /**
      * Default constructor for {@code Timetable} class.
      * Checks against TIMETABLE_7_DAYS for 5 or 7 days in the week.
@@ -68,6 +83,41 @@ public class Timetable {
         return days;
     }
 
+    /**
+     * Returns the canonical {@code Timetable} equal to {@code timetable}, so that equal timetables can share one
+     * instance. {@code timetable} cannot be changed afterwards, whether or not it is the canonical one.
+     */
+    public static Timetable intern(Timetable timetable) {
+        requireNonNull(timetable);
+        if (!timetable.isInterned) {
+            timetable.freeze();
+        }
+        return CANONICAL_TIMETABLES.intern(timetable);
+    }
+
+    /**
+     * Stops this timetable from being changed, and computes what is derived from it once and for all.
+     */
+    private void freeze() {
+        days.forEach(Day::freeze);
+        hash = computeHashCode();
+        occupiedHours = computeOccupiedHours();
+        isInterned = true;
+    }
+
+    /**
+     * Returns true if this timetable has been interned, and so cannot be changed.
+     */
+    boolean isInterned() {
+        return isInterned;
+    }
+
+    private void requireNotInterned() {
+        if (isInterned) {
+            throw new UnsupportedOperationException("An interned timetable cannot be changed");
+        }
+    }
+
     /**
      * Gets a {@code boolean} of whether the timetable is 5 or 7 days.
      * @return {@code true} if 7 days, {@code false} if 5 days.
@@ -84,6 +134,7 @@ public class Timetable {
      * @return true if successfully added.
      */
     public boolean addPeriodToDay(int dayNumber, Period period) throws NumberOfDaysException, OverlapPeriodException {
+        requireNotInterned();
         if (dayNumber < 1 || dayNumber > this.numOfDays) {
             throw new NumberOfDaysException();
         }
@@ -101,6 +152,7 @@ public class Timetable {
      * @throws OverlapPeriodException if there is an overlap in the periods given.
      */
     public boolean addPeriodsToDay(int dayNumber, ArrayList<Period> periods) throws OverlapPeriodException {
+        requireNotInterned();
         if (dayNumber < 1 || dayNumber > this.numOfDays) {
             throw new NumberOfDaysException();
         }
@@ -140,6 +192,56 @@ public class Timetable {
         return allSlots;
     }
 
+    /**
+     * Gets the number of days in the week of this timetable.
+     *
+     * @return {@code int} number of days, starting from Monday.
+     */
+    public int getNumOfDays() {
+        return this.numOfDays;
+    }
+
+    /**
+     * Gets the days of the week of this timetable, starting from Monday.
+     *
+     * @return an unmodifiable {@code List} of {@code Day}, which cannot be changed either once interned.
+     */
+    List<Day> getDays() {
+        return Collections.unmodifiableList(days);
+    }
+
+    /**
+     * Gets the hours of the week that are occupied by a period.
+     * The bit at {@code (dayNumber - 1) * HOURS_PER_DAY + hour} is set if the hour starting at {@code hour}
+     * is occupied on that day, where a {@code dayNumber} of 1 represents Monday.
+     * Timetables with the same occupied hours have equal occupancies, so the occupancy can be used as a key
+     * for anything derived from it.
+     *
+     * @return a new {@code BitSet} of the occupied hours.
+     */
+    public BitSet getOccupiedHours() {
+        return isInterned ? (BitSet) occupiedHours.clone() : computeOccupiedHours();
+    }
+
+    /**
+     * Gets the hours of the week that are occupied by a period, as {@link #getOccupiedHours()} does, but without
+     * copying them if this timetable is interned. The returned {@code BitSet} must not be modified.
+     */
+    BitSet getSharedOccupiedHours() {
+        return isInterned ? occupiedHours : computeOccupiedHours();
+    }
+
+    private BitSet computeOccupiedHours() {
+        BitSet occupiedHours = new BitSet(numOfDays * HOURS_PER_DAY);
+        for (int i = 0; i < numOfDays; i++) {
+            for (Period period : days.get(i).getPeriods()) {
+                occupiedHours.set(i * HOURS_PER_DAY + period.getStartTimeHour(),
+                        i * HOURS_PER_DAY + period.getEndTimeHour());
+            }
+        }
+        return occupiedHours;
+    }
+
     /**
      * Converts {@code Timetable} object back into its command {@code String}.
      *
@@ -154,6 +256,32 @@ public class Timetable {
         return sb.toString();
     }
 
+    @Override
+    public int hashCode() {
+        return isInterned ? hash : computeHashCode();
+    }
+
+    private int computeHashCode() {
+        return 31 * numOfDays + days.hashCode();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+
+        if (!(obj instanceof Timetable)) {
+            return false;
+        }
+
+        Timetable timetable = (Timetable) obj;
+        if (isInterned && timetable.isInterned && hash != timetable.hash) {
+            return false;
+        }
+        return numOfDays == timetable.numOfDays && days.equals(timetable.days);
+    }
+
     @Override
     public String toString() {
         StringBuilder sb = new StringBuilder();
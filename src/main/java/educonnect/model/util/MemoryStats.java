@@ -0,0 +1,197 @@
+package educonnect.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import educonnect.commons.util.HeapSizeEstimator;
+import educonnect.model.AddressBook;
+import educonnect.model.Model;
+import educonnect.model.ReadOnlyAddressBook;
+import educonnect.model.student.Student;
+import educonnect.model.student.StudentCompletions;
+import educonnect.model.student.StudentIndex;
+import educonnect.model.student.Tag;
+import educonnect.model.student.TagDictionary;
+import educonnect.model.student.TagSet;
+import educonnect.model.student.timetable.Day;
+import educonnect.model.student.timetable.Period;
+import educonnect.model.student.timetable.Timetable;
+import javafx.collections.transformation.TransformationList;
+
+/**
+ * An estimate of the heap retained by the data of a {@code Model}, broken down by structure, for sizing the memory
+ * needed by large cohorts. Objects shared by several students, such as a tag used by all of them, are only counted
+ * once, so the estimate also shows how much sharing identical timetables and tags saves, or would save.
+ *
+ * @see HeapSizeEstimator
+ */
+public class MemoryStats {
+
+    public static final String STUDENTS = "students";
+    public static final String TIMETABLES = "timetables";
+    public static final String TAG_SETS = "tag sets";
+    public static final String TAGS = "tags";
+    public static final String INDEXES = "indexes";
+    public static final String FILTERED_LIST = "filtered list";
+    public static final String OTHER = "other";
+
+    /** Every category, in the order they are reported. */
+    public static final List<String> CATEGORIES =
+            List.of(STUDENTS, TIMETABLES, TAG_SETS, TAGS, INDEXES, FILTERED_LIST, OTHER);
+
+    private static final double BYTES_PER_KILOBYTE = 1024;
+
+    private final int numOfStudents;
+    private final Map<String, Long> bytes = new LinkedHashMap<>();
+    private final Map<String, Long> objectCounts = new LinkedHashMap<>();
+    private final int numOfDistinctTimetables;
+    private final long sharedTimetableBytes;
+    private final int numOfTags;
+    private final int numOfDistinctTags;
+    private final long sharedTagBytes;
+
+    private MemoryStats(Model model) {
+        List<Student> students = model.getAddressBook().getStudentList();
+        numOfStudents = students.size();
+
+        // The students are counted before anything else, so that the values they share with the indexes
+        // are counted as part of the students. Students kept in columns are counted as the columns, as their
+        // Student objects are only made when needed. Any of those that something in the model keeps, such as a
+        // sorted list, are counted as students when the model is
+        HeapSizeEstimator estimator = new HeapSizeEstimator(MemoryStats::categorize);
+        ReadOnlyAddressBook addressBook = model.getAddressBook();
+        if (addressBook instanceof AddressBook && ((AddressBook) addressBook).isColumnar()) {
+            estimator.add(addressBook, STUDENTS);
+        } else {
+            students.forEach(student -> estimator.add(student, STUDENTS));
+        }
+        estimator.add(TagDictionary.getInstance(), TAGS);
+        estimator.add(model, OTHER);
+        for (String category : CATEGORIES) {
+            bytes.put(category, estimator.getBytes(category));
+            objectCounts.put(category, estimator.getObjectCount(category));
+        }
+
+        Set<Timetable> distinctTimetables = new HashSet<>();
+        Map<String, Tag> distinctTags = new LinkedHashMap<>();
+        int tagCount = 0;
+        for (Student student : students) {
+            distinctTimetables.add(student.getTimetable());
+            Set<Tag> tags = student.getTags();
+            tags.forEach(tag -> distinctTags.putIfAbsent(tag.tagName, tag));
+            tagCount += tags.size();
+        }
+        numOfDistinctTimetables = distinctTimetables.size();
+        sharedTimetableBytes = estimateSharedBytes(distinctTimetables);
+        numOfTags = tagCount;
+        numOfDistinctTags = distinctTags.size();
+        sharedTagBytes = estimateSharedBytes(distinctTags.values());
+    }
+
+    /**
+     * Returns an estimate of the heap retained by the data of {@code model}.
+     */
+    public static MemoryStats of(Model model) {
+        requireNonNull(model);
+        return new MemoryStats(model);
+    }
+
+    private static String categorize(Object object, Object referrer, String referrerCategory) {
+        if (object instanceof Student) {
+            return STUDENTS;
+        } else if (object instanceof Timetable || object instanceof Day || object instanceof Period) {
+            return TIMETABLES;
+        } else if (object instanceof Tag || object instanceof TagDictionary) {
+            return TAGS;
+        } else if (object instanceof TagSet) {
+            return TAG_SETS;
+        } else if (object instanceof StudentIndex || object instanceof StudentCompletions) {
+            return INDEXES;
+        } else if (object instanceof TransformationList) {
+            return FILTERED_LIST;
+        } else {
+            return referrerCategory;
+        }
+    }
+
+    private static long estimateSharedBytes(Iterable<?> distinctValues) {
+        HeapSizeEstimator estimator = new HeapSizeEstimator((object, referrer, referrerCategory) -> OTHER);
+        distinctValues.forEach(value -> estimator.add(value, OTHER));
+        return estimator.getTotalBytes();
+    }
+
+    public int getNumOfStudents() {
+        return numOfStudents;
+    }
+
+    public long getBytes(String category) {
+        return bytes.getOrDefault(category, 0L);
+    }
+
+    /**
+     * Returns the number of bytes retained by the data in every category.
+     */
+    public long getTotalBytes() {
+        return bytes.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    /**
+     * Returns the average number of bytes retained by the data for each student, or 0 if there are no students.
+     */
+    public long getBytesPerStudent() {
+        return numOfStudents == 0 ? 0 : getTotalBytes() / numOfStudents;
+    }
+
+    /**
+     * Returns the number of bytes the timetables would retain if identical timetables were a single object.
+     */
+    public long getSharedTimetableBytes() {
+        return sharedTimetableBytes;
+    }
+
+    /**
+     * Returns the number of bytes the tags would retain if identical tags were a single object.
+     */
+    public long getSharedTagBytes() {
+        return sharedTagBytes;
+    }
+
+    /**
+     * Formats the estimate as lines of text, with a line for the whole data, each category, and the effect of
+     * sharing identical timetables and tags.
+     */
+    public List<String> format() {
+        List<String> lines = new ArrayList<>();
+        lines.add(String.format(Locale.ROOT, "%d students, %s in total, %d bytes per student",
+                numOfStudents, formatBytes(getTotalBytes()), getBytesPerStudent()));
+        for (String category : CATEGORIES) {
+            long categoryBytes = getBytes(category);
+            lines.add(String.format(Locale.ROOT, "%-14s %10s  %6d bytes per student  %9d objects", category,
+                    formatBytes(categoryBytes), numOfStudents == 0 ? 0 : categoryBytes / numOfStudents,
+                    objectCounts.get(category)));
+        }
+        lines.add(String.format(Locale.ROOT, "Timetables: %s now, %s if identical ones were shared (%d distinct of %d)",
+                formatBytes(getBytes(TIMETABLES)), formatBytes(sharedTimetableBytes), numOfDistinctTimetables,
+                numOfStudents));
+        lines.add(String.format(Locale.ROOT, "Tags: %s now, %s if identical ones were shared (%d distinct of %d)",
+                formatBytes(getBytes(TAGS)), formatBytes(sharedTagBytes), numOfDistinctTags, numOfTags));
+        return lines;
+    }
+
+    private static String formatBytes(long bytes) {
+        if (bytes < BYTES_PER_KILOBYTE) {
+            return bytes + " B";
+        } else if (bytes < BYTES_PER_KILOBYTE * BYTES_PER_KILOBYTE) {
+            return String.format(Locale.ROOT, "%.1f KB", bytes / BYTES_PER_KILOBYTE);
+        } else {
+            return String.format(Locale.ROOT, "%.1f MB", bytes / BYTES_PER_KILOBYTE / BYTES_PER_KILOBYTE);
+        }
+    }
+}
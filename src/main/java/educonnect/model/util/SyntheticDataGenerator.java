@@ -0,0 +1,224 @@
+package educonnect.model.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.Set;
+
+import educonnect.model.AddressBook;
+import educonnect.model.student.Email;
+import educonnect.model.student.Name;
+import educonnect.model.student.Student;
+import educonnect.model.student.StudentId;
+import educonnect.model.student.Tag;
+import educonnect.model.student.TelegramHandle;
+import educonnect.model.student.timetable.Period;
+import educonnect.model.student.timetable.Timetable;
+import educonnect.model.student.timetable.exceptions.OverlapPeriodException;
+
+/**
+ * Generates any number of realistic students, for reproducing the behaviour of large cohorts in tests,
+ * benchmarks and the headless application.
+ * The students generated from the same seed and settings are always the same. Each student is generated
+ * from its own number alone, so any prefix of a cohort can be generated without the rest of it.
+ *
+ * Students numbered differently have different ids, emails and telegram handles. Every student is in one
+ * tutorial group, and has up to {@value #MAX_EXTRA_TAGS} other tags drawn from a pool of tags whose popularity
+ * follows Zipf's law, as a few tags are used by most students while most tags are used by a few.
+ * Each hour of the working day in a timetable is occupied with the probability set as the density of the
+ * timetables, and consecutive occupied hours form a single period.
+ */
+public class SyntheticDataGenerator {
+
+    /** The number of students that can be generated, which is the number of distinct student ids. */
+    public static final int MAX_STUDENTS = 10_000_000;
+    public static final int MAX_EXTRA_TAGS = 2;
+
+    public static final int DEFAULT_NUM_OF_TUTORIALS = 20;
+    public static final int DEFAULT_NUM_OF_TAGS = 200;
+    public static final double DEFAULT_TIMETABLE_DENSITY = 0.3;
+
+    public static final int FIRST_HOUR = 8;
+    public static final int LAST_HOUR = 20;
+
+    private static final String[] FIRST_NAMES = {
+        "Aaron", "Alex", "Amelia", "Bernice", "Charlotte", "Daniel", "Darren", "Elaine", "Ethan", "Farhan",
+        "Grace", "Hui", "Irfan", "Isaac", "Jia", "Joshua", "Kavya", "Kumar", "Lucas", "Mei", "Nadia", "Nicholas",
+        "Olivia", "Priya", "Qian", "Rachel", "Ravi", "Sarah", "Siti", "Tan", "Umar", "Vanessa", "Wei", "Xavier",
+        "Yi", "Yusof", "Zachary", "Zhen", "Bryan", "Chloe"
+    };
+    private static final String[] LAST_NAMES = {
+        "Abdullah", "Ang", "Chen", "Chua", "Fernandez", "Goh", "Gupta", "Ho", "Ibrahim", "Koh", "Kumar", "Lee",
+        "Lim", "Low", "Menon", "Ng", "Ong", "Pillai", "Quek", "Rahman", "Seah", "Sim", "Singh", "Tan", "Teo",
+        "Toh", "Wang", "Wong", "Yap", "Yeo"
+    };
+    private static final String[] COMMON_TAGS = {
+        "strong-student", "needs-help", "quiet", "consultation", "late-submission", "exchange", "repeating",
+        "team-lead", "presenter", "part-time"
+    };
+    private static final String STUDENT_ID_CHECK_LETTERS = "ABEHJLMNRUWXY";
+    private static final String EMAIL_DOMAIN = "@u.example.edu";
+    private static final double ZIPF_EXPONENT = 1.0;
+
+    private final long seed;
+    private final int numOfTutorials;
+    private final double timetableDensity;
+    private final Tag[] tutorialTags;
+    private final Tag[] tags;
+    /** The probability that each tag, or a more popular one, is drawn. */
+    private final double[] cumulativeTagProbabilities;
+
+    /**
+     * Creates a generator of students from {@code seed} with the default settings.
+     */
+    public SyntheticDataGenerator(long seed) {
+        this(seed, DEFAULT_NUM_OF_TUTORIALS, DEFAULT_NUM_OF_TAGS, DEFAULT_TIMETABLE_DENSITY);
+    }
+
+    /**
+     * Creates a generator of students from {@code seed}, spread across {@code numOfTutorials} tutorial groups,
+     * with other tags drawn from {@code numOfTags} tags, and with a fraction {@code timetableDensity} of
+     * the working hours in their timetables occupied.
+     */
+    public SyntheticDataGenerator(long seed, int numOfTutorials, int numOfTags, double timetableDensity) {
+        if (numOfTutorials < 1) {
+            throw new IllegalArgumentException("Invalid number of tutorials: " + numOfTutorials);
+        }
+        if (numOfTags < 0) {
+            throw new IllegalArgumentException("Invalid number of tags: " + numOfTags);
+        }
+        if (!(timetableDensity >= 0 && timetableDensity <= 1)) {
+            throw new IllegalArgumentException("Invalid timetable density: " + timetableDensity);
+        }
+        this.seed = seed;
+        this.numOfTutorials = numOfTutorials;
+        this.timetableDensity = timetableDensity;
+
+        tutorialTags = new Tag[numOfTutorials];
+        for (int i = 0; i < numOfTutorials; i++) {
+            tutorialTags[i] = Tag.of("tutorial-" + (i + 1));
+        }
+
+        tags = new Tag[numOfTags];
+        cumulativeTagProbabilities = new double[numOfTags];
+        double totalWeight = 0;
+        for (int rank = 1; rank <= numOfTags; rank++) {
+            tags[rank - 1] = Tag.of(rank <= COMMON_TAGS.length ? COMMON_TAGS[rank - 1] : "interest-" + rank);
+            totalWeight += 1 / Math.pow(rank, ZIPF_EXPONENT);
+            cumulativeTagProbabilities[rank - 1] = totalWeight;
+        }
+        for (int i = 0; i < numOfTags; i++) {
+            cumulativeTagProbabilities[i] /= totalWeight;
+        }
+    }
+
+    /**
+     * Returns the student numbered {@code number}, which must be from 0 to {@code MAX_STUDENTS - 1}.
+     */
+    public Student generateStudent(int number) {
+        if (number < 0 || number >= MAX_STUDENTS) {
+            throw new IllegalArgumentException("Invalid student number: " + number);
+        }
+        Random random = new Random(seed ^ (number * 0x9E3779B97F4A7C15L));
+        String firstName = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+        String lastName = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+
+        return new Student(new Name(firstName + " " + lastName),
+                new StudentId(String.format("A%07d%c", number,
+                        STUDENT_ID_CHECK_LETTERS.charAt(number % STUDENT_ID_CHECK_LETTERS.length()))),
+                new Email(firstName.toLowerCase() + "." + lastName.toLowerCase() + number + EMAIL_DOMAIN),
+                new TelegramHandle("@" + firstName.toLowerCase() + "_" + lastName.toLowerCase() + number),
+                generateTags(random),
+                generateTimetable(random));
+    }
+
+    /**
+     * Returns the students numbered from 0 to {@code count - 1}, which are generated as they are iterated over.
+     */
+    public Iterator<Student> generateStudents(int count) {
+        checkCount(count);
+        return new Iterator<>() {
+            private int nextNumber;
+
+            @Override
+            public boolean hasNext() {
+                return nextNumber < count;
+            }
+
+            @Override
+            public Student next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return generateStudent(nextNumber++);
+            }
+        };
+    }
+
+    /**
+     * Returns a list of the students numbered from 0 to {@code count - 1}.
+     */
+    public List<Student> generateStudentList(int count) {
+        checkCount(count);
+        List<Student> students = new ArrayList<>(count);
+        generateStudents(count).forEachRemaining(students::add);
+        return students;
+    }
+
+    /**
+     * Returns an address book of the students numbered from 0 to {@code count - 1}.
+     */
+    public AddressBook generateAddressBook(int count) {
+        AddressBook addressBook = new AddressBook();
+        addressBook.setStudents(generateStudentList(count));
+        return addressBook;
+    }
+
+    private static void checkCount(int count) {
+        if (count < 0 || count > MAX_STUDENTS) {
+            throw new IllegalArgumentException("Invalid number of students: " + count);
+        }
+    }
+
+    private Set<Tag> generateTags(Random random) {
+        Set<Tag> studentTags = new HashSet<>();
+        studentTags.add(tutorialTags[random.nextInt(numOfTutorials)]);
+        int numOfExtraTags = tags.length == 0 ? 0 : random.nextInt(MAX_EXTRA_TAGS + 1);
+        for (int i = 0; i < numOfExtraTags; i++) {
+            studentTags.add(drawTag(random));
+        }
+        return studentTags;
+    }
+
+    private Tag drawTag(Random random) {
+        int index = Arrays.binarySearch(cumulativeTagProbabilities, random.nextDouble());
+        int rankIndex = index >= 0 ? index : -index - 1;
+        return tags[Math.min(rankIndex, tags.length - 1)];
+    }
+
+    private Timetable generateTimetable(Random random) {
+        Timetable timetable = new Timetable();
+        try {
+            for (int day = 1; day <= timetable.getNumOfDays(); day++) {
+                int periodNumber = 1;
+                int periodStart = -1;
+                for (int hour = FIRST_HOUR; hour <= LAST_HOUR; hour++) {
+                    boolean isOccupied = hour < LAST_HOUR && random.nextDouble() < timetableDensity;
+                    if (isOccupied && periodStart < 0) {
+                        periodStart = hour;
+                    } else if (!isOccupied && periodStart >= 0) {
+                        timetable.addPeriodToDay(day, new Period("period" + periodNumber++, periodStart + "-" + hour));
+                        periodStart = -1;
+                    }
+                }
+            }
+        } catch (OverlapPeriodException e) {
+            throw new RuntimeException(e);
+        }
+        return timetable;
+    }
+}
@@ -0,0 +1,54 @@
+package educonnect.replay;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import educonnect.HeadlessApp;
+import educonnect.logic.LogicManager;
+
+/**
+ * Reads the commands to be replayed from the log file of the application, or from a script of commands.
+ * In a log file, each command entered is on a line marked with {@link LogicManager#USER_COMMAND_LOG_MARKER},
+ * and every other line is skipped. A file without such lines is read as a script, as the headless application
+ * reads it: every line is a command, except for blank lines and lines starting with
+ * {@link HeadlessApp#COMMENT_PREFIX}.
+ */
+public class CommandLog {
+
+    /**
+     * Returns the commands in the file at {@code filePath}, in the order they were entered.
+     */
+    public static List<String> read(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        return parse(Files.readAllLines(filePath, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Returns the commands in {@code lines}, in the order they were entered.
+     */
+    public static List<String> parse(List<String> lines) {
+        requireNonNull(lines);
+        List<String> loggedCommands = new ArrayList<>();
+        List<String> scriptCommands = new ArrayList<>();
+        for (String line : lines) {
+            int markerIndex = line.indexOf(LogicManager.USER_COMMAND_LOG_MARKER);
+            int end = line.lastIndexOf(']');
+            if (markerIndex >= 0 && end >= markerIndex + LogicManager.USER_COMMAND_LOG_MARKER.length()) {
+                loggedCommands.add(line.substring(markerIndex + LogicManager.USER_COMMAND_LOG_MARKER.length(), end));
+                continue;
+            }
+
+            String trimmedLine = line.trim();
+            if (!trimmedLine.isEmpty() && !trimmedLine.startsWith(HeadlessApp.COMMENT_PREFIX)) {
+                scriptCommands.add(trimmedLine);
+            }
+        }
+        return loggedCommands.isEmpty() ? scriptCommands : loggedCommands;
+    }
+}
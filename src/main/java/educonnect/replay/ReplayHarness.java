@@ -0,0 +1,176 @@
+package educonnect.replay;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.ThreadMXBean;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import educonnect.HeadlessApp;
+import educonnect.commons.core.LogsCenter;
+import educonnect.commons.util.StringUtil;
+import educonnect.logic.CommandMetrics;
+import educonnect.logic.Logic;
+import educonnect.logic.LogicManager;
+import educonnect.logic.commands.exceptions.CommandException;
+import educonnect.logic.parser.exceptions.ParseException;
+import educonnect.model.Model;
+import educonnect.model.ModelManager;
+import educonnect.model.UserPrefs;
+import educonnect.model.util.SyntheticDataGenerator;
+import educonnect.storage.JsonAddressBookStorage;
+import educonnect.storage.JsonUserPrefsStorage;
+import educonnect.storage.StorageManager;
+
+/**
+ * Replays a list of commands through {@code Logic}, as fast as possible or at a target rate, and reports the
+ * latency of each command word, the rate at which memory was allocated, and the highest heap usage.
+ *
+ * At a target rate, each command is due a fixed interval after the previous one. The latency of a command
+ * is measured from when it was due rather than when it started, so that a slow command also counts against
+ * the commands that had to wait for it, as they would for a user.
+ *
+ * Run {@link #main(String[])} with {@code --log=FILE}, and optionally {@code --students=NUMBER},
+ * {@code --seed=SEED} and {@code --rate=COMMANDS_PER_SECOND}, to replay the commands of a log file on
+ * generated students, saved to a temporary folder so that no data file is changed.
+ */
+public class ReplayHarness {
+
+    public static final String LOG_PARAMETER = "log";
+    public static final String STUDENTS_PARAMETER = "students";
+    public static final String SEED_PARAMETER = "seed";
+    public static final String RATE_PARAMETER = "rate";
+
+    public static final int DEFAULT_NUM_OF_STUDENTS = 10_000;
+
+    private static final Logger logger = LogsCenter.getLogger(ReplayHarness.class);
+
+    private final Logic logic;
+    private final double commandsPerSecond;
+
+    /**
+     * Creates a harness that replays commands through {@code logic} at {@code commandsPerSecond},
+     * or as fast as possible if {@code commandsPerSecond} is 0.
+     */
+    public ReplayHarness(Logic logic, double commandsPerSecond) {
+        requireNonNull(logic);
+        if (!(commandsPerSecond >= 0) || Double.isInfinite(commandsPerSecond)) {
+            throw new IllegalArgumentException("Invalid rate: " + commandsPerSecond);
+        }
+        this.logic = logic;
+        this.commandsPerSecond = commandsPerSecond;
+    }
+
+    public static void main(String[] args) {
+        Map<String, String> namedParameters = HeadlessApp.parseNamedParameters(args);
+        String log = namedParameters.get(LOG_PARAMETER);
+        if (log == null) {
+            System.err.println("Usage: --log=FILE [--students=NUMBER] [--seed=SEED] [--rate=COMMANDS_PER_SECOND]");
+            System.exit(1);
+        }
+
+        try {
+            List<String> commands = CommandLog.read(Paths.get(log));
+            int numOfStudents = Integer.parseInt(
+                    namedParameters.getOrDefault(STUDENTS_PARAMETER, String.valueOf(DEFAULT_NUM_OF_STUDENTS)));
+            long seed = Long.parseLong(namedParameters.getOrDefault(SEED_PARAMETER, "0"));
+            double rate = Double.parseDouble(namedParameters.getOrDefault(RATE_PARAMETER, "0"));
+
+            // Every command is logged, which would be measured as well
+            LogsCenter.getLogger(LogicManager.class).setLevel(Level.WARNING);
+            Path folder = Files.createTempDirectory("educonnect-replay");
+            Model model = new ModelManager(new SyntheticDataGenerator(seed).generateAddressBook(numOfStudents),
+                    new UserPrefs());
+            Logic logic = new LogicManager(model, new StorageManager(
+                    new JsonAddressBookStorage(folder.resolve("addressbook.json")),
+                    new JsonUserPrefsStorage(folder.resolve("preferences.json"))));
+
+            System.out.println("Replaying " + commands.size() + " commands from " + log + " on "
+                    + numOfStudents + " students");
+            System.out.print(new ReplayHarness(logic, rate).replay(commands).format());
+        } catch (IOException | IllegalArgumentException e) {
+            logger.severe("Failed to replay " + log + " " + StringUtil.getDetails(e));
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Executes each of {@code commands} in turn, continuing after commands that fail, and reports how they
+     * performed. Commands that ask the application to exit are executed without exiting.
+     */
+    public ReplayReport replay(List<String> commands) {
+        requireNonNull(commands);
+        ReplayReport report = new ReplayReport();
+        long intervalNanos = commandsPerSecond == 0 ? 0 : (long) (TimeUnit.SECONDS.toNanos(1) / commandsPerSecond);
+
+        List<MemoryPoolMXBean> heapPools = getHeapPools();
+        heapPools.forEach(MemoryPoolMXBean::resetPeakUsage);
+        long allocatedBefore = getAllocatedBytes();
+        long start = System.nanoTime();
+
+        for (int i = 0; i < commands.size(); i++) {
+            long due = start + i * intervalNanos;
+            long now;
+            while ((now = System.nanoTime()) < due) {
+                LockSupport.parkNanos(due - now);
+            }
+
+            String commandText = commands.get(i);
+            String commandWord = CommandMetrics.getCommandWord(commandText);
+            long commandAllocatedBefore = getAllocatedBytes();
+            boolean isSuccessful = true;
+            try {
+                logic.execute(commandText);
+            } catch (ParseException pe) {
+                commandWord = CommandMetrics.INVALID_COMMAND_WORD;
+                isSuccessful = false;
+            } catch (CommandException ce) {
+                isSuccessful = false;
+            }
+            long end = System.nanoTime();
+            long measuredFrom = intervalNanos == 0 ? now : due;
+            long commandAllocatedBytes = commandAllocatedBefore < 0 ? -1 : getAllocatedBytes() - commandAllocatedBefore;
+            report.record(commandWord, isSuccessful, end - measuredFrom, commandAllocatedBytes);
+        }
+
+        long elapsedNanos = System.nanoTime() - start;
+        long allocatedBytes = allocatedBefore < 0 ? -1 : getAllocatedBytes() - allocatedBefore;
+        long heapHighWaterBytes = heapPools.stream().mapToLong(pool -> pool.getPeakUsage().getUsed()).sum();
+        report.finish(elapsedNanos, allocatedBytes, heapHighWaterBytes, logic.getCommandMetrics().getSummaries());
+        return report;
+    }
+
+    private static List<MemoryPoolMXBean> getHeapPools() {
+        return ManagementFactory.getMemoryPoolMXBeans().stream()
+                .filter(pool -> pool.getType() == MemoryType.HEAP && pool.isValid())
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the number of bytes allocated by the current thread so far, or -1 if the JVM does not count them.
+     * Commands are executed on the current thread, so this counts the memory allocated by the commands.
+     */
+    private static long getAllocatedBytes() {
+        ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+        if (!(threadBean instanceof com.sun.management.ThreadMXBean)) {
+            return -1;
+        }
+        com.sun.management.ThreadMXBean allocationBean = (com.sun.management.ThreadMXBean) threadBean;
+        if (!allocationBean.isThreadAllocatedMemorySupported() || !allocationBean.isThreadAllocatedMemoryEnabled()) {
+            return -1;
+        }
+        return allocationBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+}
@@ -0,0 +1,154 @@
+package educonnect.replay;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+import educonnect.commons.util.LatencyHistogram;
+import educonnect.logic.CommandMetrics;
+
+/**
+ * The performance of the commands replayed by a {@code ReplayHarness}.
+ * Memory figures are -1 if the JVM does not measure them.
+ */
+public class ReplayReport {
+
+    private static final double NANOS_PER_MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final double BYTES_PER_MEGABYTE = 1024 * 1024;
+
+    private final Map<String, CommandStats> commandStats = new TreeMap<>();
+    private long elapsedNanos;
+    private long allocatedBytes;
+    private long heapHighWaterBytes;
+    private List<CommandMetrics.Summary> phaseSummaries = Collections.emptyList();
+
+    /**
+     * Records that a command with {@code commandWord} took {@code latencyNanos} and allocated
+     * {@code allocatedBytes}, and whether it succeeded.
+     */
+    void record(String commandWord, boolean isSuccessful, long latencyNanos, long allocatedBytes) {
+        CommandStats stats = commandStats.computeIfAbsent(commandWord, unused -> new CommandStats());
+        stats.latencies.record(latencyNanos);
+        if (!isSuccessful) {
+            stats.numOfFailures++;
+        }
+        if (allocatedBytes < 0 || stats.allocatedBytes < 0) {
+            stats.allocatedBytes = -1;
+        } else {
+            stats.allocatedBytes += allocatedBytes;
+        }
+    }
+
+    /**
+     * Records the totals of the whole replay, and the latencies of each phase of the commands.
+     */
+    void finish(long elapsedNanos, long allocatedBytes, long heapHighWaterBytes,
+                List<CommandMetrics.Summary> phaseSummaries) {
+        this.elapsedNanos = elapsedNanos;
+        this.allocatedBytes = allocatedBytes;
+        this.heapHighWaterBytes = heapHighWaterBytes;
+        this.phaseSummaries = phaseSummaries;
+    }
+
+    /**
+     * Returns the number of commands replayed.
+     */
+    public long getNumOfCommands() {
+        return commandStats.values().stream().mapToLong(stats -> stats.latencies.getCount()).sum();
+    }
+
+    /**
+     * Returns the number of commands replayed with {@code commandWord}.
+     */
+    public long getNumOfCommands(String commandWord) {
+        CommandStats stats = commandStats.get(commandWord);
+        return stats == null ? 0 : stats.latencies.getCount();
+    }
+
+    /**
+     * Returns the number of commands replayed that failed.
+     */
+    public long getNumOfFailures() {
+        return commandStats.values().stream().mapToLong(stats -> stats.numOfFailures).sum();
+    }
+
+    /**
+     * Returns the latencies of the commands replayed with {@code commandWord}.
+     */
+    public LatencyHistogram getLatencies(String commandWord) {
+        CommandStats stats = commandStats.get(commandWord);
+        return stats == null ? new LatencyHistogram() : stats.latencies;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public long getAllocatedBytes() {
+        return allocatedBytes;
+    }
+
+    public long getHeapHighWaterBytes() {
+        return heapHighWaterBytes;
+    }
+
+    /**
+     * Returns the number of commands replayed per second.
+     */
+    public double getThroughput() {
+        return elapsedNanos == 0 ? 0 : getNumOfCommands() * (double) TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+    }
+
+    /**
+     * Returns the rate at which memory was allocated while replaying, in megabytes per second.
+     */
+    public double getAllocationRate() {
+        if (allocatedBytes < 0 || elapsedNanos == 0) {
+            return -1;
+        }
+        return allocatedBytes / BYTES_PER_MEGABYTE * TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+    }
+
+    /**
+     * Formats the report as text, with a line for each command word and for each phase of the commands.
+     */
+    public String format() {
+        StringBuilder text = new StringBuilder();
+        text.append(String.format(Locale.ROOT, "%d commands (%d failed) in %.1f ms, %.1f commands/s%n",
+                getNumOfCommands(), getNumOfFailures(), elapsedNanos / NANOS_PER_MILLI, getThroughput()));
+        text.append(String.format(Locale.ROOT, "Allocation rate: %.1f MB/s, heap high-water mark: %.1f MB%n",
+                getAllocationRate(), heapHighWaterBytes / BYTES_PER_MEGABYTE));
+
+        text.append(String.format(Locale.ROOT, "%nLatency (ms) of each command, from when it was due:%n"));
+        commandStats.forEach((commandWord, stats) -> {
+            LatencyHistogram latencies = stats.latencies;
+            long count = latencies.getCount();
+            text.append(String.format(Locale.ROOT,
+                    "%-10s n=%-6d failed=%-4d p50=%.2f p95=%.2f p99=%.2f max=%.2f alloc/cmd=%.1f KB%n",
+                    commandWord, count, stats.numOfFailures, toMillis(latencies.getPercentileNanos(50)),
+                    toMillis(latencies.getPercentileNanos(95)), toMillis(latencies.getPercentileNanos(99)),
+                    toMillis(latencies.getMaxNanos()),
+                    stats.allocatedBytes < 0 ? -1.0 : stats.allocatedBytes / 1024.0 / count));
+        });
+
+        text.append(String.format(Locale.ROOT, "%nLatency (ms) of each phase of the commands:%n"));
+        phaseSummaries.forEach(summary -> text.append(summary.format()).append(System.lineSeparator()));
+        return text.toString();
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / NANOS_PER_MILLI;
+    }
+
+    /**
+     * The performance of the commands with a command word.
+     */
+    private static class CommandStats {
+        private final LatencyHistogram latencies = new LatencyHistogram();
+        private long numOfFailures;
+        private long allocatedBytes;
+    }
+}
@@ -2,11 +2,13 @@ package educonnect.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.Iterator;
 import java.util.Optional;
 
 import educonnect.commons.exceptions.DataLoadingException;
 import educonnect.model.AddressBook;
 import educonnect.model.ReadOnlyAddressBook;
+import educonnect.model.student.Student;
 
 /**
  * Represents a storage for {@link AddressBook}.
@@ -43,4 +45,12 @@ public interface AddressBookStorage {
      */
     void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException;
 
+    /**
+     * Saves {@code students} to the storage as an address book, taking each student only as it is written,
+     * so that they need not be in memory all at once.
+     * @param students cannot be null, and must not contain duplicate students.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void saveStudents(Iterator<? extends Student> students) throws IOException;
+
 }
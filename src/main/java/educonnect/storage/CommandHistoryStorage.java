@@ -0,0 +1,32 @@
+package educonnect.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Represents a storage for the history of entered commands.
+ */
+public interface CommandHistoryStorage {
+
+    /**
+     * Returns the file path of the command history file.
+     */
+    Path getCommandHistoryFilePath();
+
+    /**
+     * Returns the latest distinct commands in the storage, from the oldest to the latest.
+     * Returns an empty list if the storage file is not found.
+     *
+     * @throws IOException if there was any problem reading from the file.
+     */
+    List<String> readCommandHistory() throws IOException;
+
+    /**
+     * Appends {@code commandText} to the storage.
+     *
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void appendCommand(String commandText) throws IOException;
+
+}
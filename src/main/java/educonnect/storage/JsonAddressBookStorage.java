@@ -4,6 +4,7 @@ import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.Iterator;
 import java.util.Optional;
 import java.util.logging.Logger;
 
@@ -13,6 +14,7 @@ import educonnect.commons.exceptions.IllegalValueException;
 import educonnect.commons.util.FileUtil;
 import educonnect.commons.util.JsonUtil;
 import educonnect.model.ReadOnlyAddressBook;
+import educonnect.model.student.Student;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
@@ -73,8 +75,39 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
+        saveStudents(addressBook.getStudentList().iterator(), filePath);
+    }
+
+    @Override
+    public void saveStudents(Iterator<? extends Student> students) throws IOException {
+        saveStudents(students, filePath);
+    }
+
+    /**
+     * Saves {@code students} to {@code filePath} in the same format as {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Each student is converted and written as soon as it is taken from {@code students}, so data files of more
+     * students than fit in memory can be written.
+     * {@code students} must not contain duplicate students, or the file will fail to load.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveStudents(Iterator<? extends Student> students, Path filePath) throws IOException {
+        requireNonNull(students);
+        requireNonNull(filePath);
+
         FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        Iterator<JsonAdaptedStudent> jsonAdaptedStudents = new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return students.hasNext();
+            }
+
+            @Override
+            public JsonAdaptedStudent next() {
+                return new JsonAdaptedStudent(students.next());
+            }
+        };
+        JsonUtil.saveJsonArrayFile(jsonAdaptedStudents, JsonSerializableAddressBook.STUDENTS_FIELD, filePath);
     }
 
 }
@@ -19,6 +19,8 @@ import educonnect.model.student.Student;
 @JsonRootName(value = "addressbook")
 class JsonSerializableAddressBook {
 
+    public static final String STUDENTS_FIELD = "students";
+
     public static final String MESSAGE_DUPLICATE_STUDENT_ID =
         "Students list contains duplicate student id(s).";
     public static final String MESSAGE_DUPLICATE_EMAIL =
@@ -32,7 +34,7 @@ class JsonSerializableAddressBook {
      * Constructs a {@code JsonSerializableAddressBook} with the given students.
      */
     @JsonCreator
-    public JsonSerializableAddressBook(@JsonProperty("students") List<JsonAdaptedStudent> students) {
+    public JsonSerializableAddressBook(@JsonProperty(STUDENTS_FIELD) List<JsonAdaptedStudent> students) {
         this.students.addAll(students);
     }
 
@@ -0,0 +1,59 @@
+package educonnect.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A Java Flight Recorder event for reading or writing a file of the application.
+ */
+@Name("educonnect.Storage")
+@Label("Storage")
+@Category({"EduConnect", "Storage"})
+@Description("Loading or saving the data or the user preferences")
+@StackTrace(false)
+class StorageEvent extends jdk.jfr.Event {
+
+    static final String LOAD = "load";
+    static final String SAVE = "save";
+
+    @Label("Operation")
+    String operation;
+
+    @Label("File")
+    String path;
+
+    @Label("Size")
+    @Description("Size of the file after it was saved, or of the file that was loaded, or -1 if it is missing")
+    @DataAmount
+    long bytes;
+
+    /**
+     * Ends the event and commits it with its details if it is being recorded.
+     * The file is only looked up if the event is committed.
+     */
+    void finish(String operation, Path filePath) {
+        end();
+        if (shouldCommit()) {
+            this.operation = operation;
+            this.path = filePath.toString();
+            this.bytes = getSize(filePath);
+            commit();
+        }
+    }
+
+    private static long getSize(Path filePath) {
+        try {
+            return Files.size(filePath);
+        } catch (IOException e) {
+            return -1;
+        }
+    }
+}
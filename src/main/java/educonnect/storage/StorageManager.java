@@ -2,6 +2,7 @@ package educonnect.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.Iterator;
 import java.util.Optional;
 import java.util.logging.Logger;
 
@@ -10,6 +11,7 @@ import educonnect.commons.exceptions.DataLoadingException;
 import educonnect.model.ReadOnlyAddressBook;
 import educonnect.model.ReadOnlyUserPrefs;
 import educonnect.model.UserPrefs;
+import educonnect.model.student.Student;
 
 /**
  * Manages storage of AddressBook data in local storage.
@@ -37,12 +39,35 @@ public class StorageManager implements Storage {
 
     @Override
     public Optional<UserPrefs> readUserPrefs() throws DataLoadingException {
-        return userPrefsStorage.readUserPrefs();
+        StorageEvent event = new StorageEvent();
+        event.begin();
+        try {
+            return userPrefsStorage.readUserPrefs();
+        } finally {
+            event.finish(StorageEvent.LOAD, userPrefsStorage.getUserPrefsFilePath());
+        }
     }
 
     @Override
     public void saveUserPrefs(ReadOnlyUserPrefs userPrefs) throws IOException {
-        userPrefsStorage.saveUserPrefs(userPrefs);
+        StorageEvent event = new StorageEvent();
+        event.begin();
+        try {
+            userPrefsStorage.saveUserPrefs(userPrefs);
+        } finally {
+            event.finish(StorageEvent.SAVE, userPrefsStorage.getUserPrefsFilePath());
+        }
+    }
+
+    @Override
+    public boolean saveUserPrefsIfChanged(ReadOnlyUserPrefs userPrefs) throws IOException {
+        StorageEvent event = new StorageEvent();
+        event.begin();
+        try {
+            return userPrefsStorage.saveUserPrefsIfChanged(userPrefs);
+        } finally {
+            event.finish(StorageEvent.SAVE, userPrefsStorage.getUserPrefsFilePath());
+        }
     }
 
 
@@ -60,8 +85,14 @@ public class StorageManager implements Storage {
 
     @Override
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
-        logger.fine("Attempting to read data from file: " + filePath);
-        return addressBookStorage.readAddressBook(filePath);
+        logger.fine(() -> "Attempting to read data from file: " + filePath);
+        StorageEvent event = new StorageEvent();
+        event.begin();
+        try {
+            return addressBookStorage.readAddressBook(filePath);
+        } finally {
+            event.finish(StorageEvent.LOAD, filePath);
+        }
     }
 
     @Override
@@ -71,8 +102,27 @@ public class StorageManager implements Storage {
 
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
-        logger.fine("Attempting to write to data file: " + filePath);
-        addressBookStorage.saveAddressBook(addressBook, filePath);
+        logger.fine(() -> "Attempting to write to data file: " + filePath);
+        StorageEvent event = new StorageEvent();
+        event.begin();
+        try {
+            addressBookStorage.saveAddressBook(addressBook, filePath);
+        } finally {
+            event.finish(StorageEvent.SAVE, filePath);
+        }
+    }
+
+    @Override
+    public void saveStudents(Iterator<? extends Student> students) throws IOException {
+        Path filePath = addressBookStorage.getAddressBookFilePath();
+        logger.fine(() -> "Attempting to write to data file: " + filePath);
+        StorageEvent event = new StorageEvent();
+        event.begin();
+        try {
+            addressBookStorage.saveStudents(students);
+        } finally {
+            event.finish(StorageEvent.SAVE, filePath);
+        }
     }
 
 }
@@ -0,0 +1,104 @@
+package educonnect.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+import educonnect.commons.util.FileUtil;
+
+/**
+ * A class to access the command history stored in the hard disk as a text file, with one command per line.
+ * Commands are only ever appended to the file, so saving a command does not rewrite the history.
+ * When the file has grown to twice the number of commands kept, it is compacted to the latest distinct commands.
+ */
+public class TextCommandHistoryStorage implements CommandHistoryStorage {
+
+    private final Path filePath;
+    private final int maxCommands;
+
+    /** Number of lines in the file, or -1 if the file has not been read yet. */
+    private int numOfLines = -1;
+
+    /**
+     * Creates a storage of up to {@code maxCommands} distinct commands in the file at {@code filePath}.
+     */
+    public TextCommandHistoryStorage(Path filePath, int maxCommands) {
+        requireNonNull(filePath);
+        if (maxCommands < 1) {
+            throw new IllegalArgumentException("Invalid maximum number of commands: " + maxCommands);
+        }
+        this.filePath = filePath;
+        this.maxCommands = maxCommands;
+    }
+
+    @Override
+    public Path getCommandHistoryFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public synchronized List<String> readCommandHistory() throws IOException {
+        if (!FileUtil.isFileExists(filePath)) {
+            numOfLines = 0;
+            return new ArrayList<>();
+        }
+
+        List<String> lines = Files.readAllLines(filePath, StandardCharsets.UTF_8);
+        // A repeated command only keeps its latest position
+        LinkedHashSet<String> commands = new LinkedHashSet<>();
+        for (String line : lines) {
+            if (!line.isBlank()) {
+                commands.remove(line);
+                commands.add(line);
+            }
+        }
+        List<String> latestCommands = new ArrayList<>(commands);
+        latestCommands = latestCommands.subList(Math.max(0, latestCommands.size() - maxCommands),
+                latestCommands.size());
+
+        numOfLines = lines.size();
+        if (numOfLines > 2 * maxCommands) {
+            compact(latestCommands);
+        }
+        return new ArrayList<>(latestCommands);
+    }
+
+    @Override
+    public synchronized void appendCommand(String commandText) throws IOException {
+        requireNonNull(commandText);
+        // Commands are entered on a single line, but must not be split if one contains a line break anyway
+        String line = commandText.replaceAll("\\R", " ");
+        if (line.isBlank()) {
+            return;
+        }
+
+        if (numOfLines < 0) {
+            readCommandHistory();
+        }
+        FileUtil.createParentDirsOfFile(filePath);
+        Files.writeString(filePath, line + System.lineSeparator(), StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        numOfLines++;
+        if (numOfLines > 2 * maxCommands) {
+            readCommandHistory();
+        }
+    }
+
+    /**
+     * Replaces the file with one containing only {@code commands}, without losing the history if writing fails.
+     */
+    private void compact(List<String> commands) throws IOException {
+        Path compactedFilePath = filePath.resolveSibling(filePath.getFileName() + ".tmp");
+        Files.write(compactedFilePath, commands, StandardCharsets.UTF_8);
+        Files.move(compactedFilePath, filePath, StandardCopyOption.REPLACE_EXISTING);
+        numOfLines = commands.size();
+    }
+}
@@ -33,4 +33,12 @@ public interface UserPrefsStorage {
      */
     void saveUserPrefs(ReadOnlyUserPrefs userPrefs) throws IOException;
 
+    /**
+     * Saves the given {@link ReadOnlyUserPrefs} to the storage, unless the storage already holds the same prefs.
+     * @param userPrefs cannot be null.
+     * @return true if the prefs were written.
+     * @throws IOException if there was any problem reading or writing to the file.
+     */
+    boolean saveUserPrefsIfChanged(ReadOnlyUserPrefs userPrefs) throws IOException;
+
 }
@@ -0,0 +1,145 @@
+package educonnect.ui;
+
+import java.time.DayOfWeek;
+import java.time.format.TextStyle;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import educonnect.model.student.Student;
+import educonnect.model.student.timetable.AvailabilityCounts;
+import educonnect.model.student.timetable.Timetable;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.fxml.FXML;
+import javafx.geometry.VPos;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.control.Label;
+import javafx.scene.layout.Region;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import javafx.scene.text.TextAlignment;
+
+/**
+ * Panel showing, for each hour of the week, how many of the listed students are free, as a heatmap.
+ * The counts are updated with only the timetables of the students that enter or leave the list, so filtering or
+ * editing a list of thousands of students does not count every student again, even though filtering the list again
+ * replaces all of it in one change.
+ */
+public class AvailabilityHeatmapPanel extends UiPart<Region> {
+    private static final String FXML = "AvailabilityHeatmapPanel.fxml";
+    private static final String TITLE_FORMAT = "Free students per hour (%d listed)";
+
+    private static final double CELL_WIDTH = 30;
+    private static final double CELL_HEIGHT = 20;
+    private static final double CELL_GAP = 1;
+    private static final double LABEL_WIDTH = 36;
+    private static final double LABEL_HEIGHT = 16;
+    private static final Font LABEL_FONT = Font.font(10);
+    private static final Color LABEL_COLOR = Color.web("#a0a0a0");
+    private static final Color COUNT_COLOR = Color.WHITE;
+    private static final Color EMPTY_COLOR = Color.web("#3c3e3f");
+    /** Hues of the cells in which no students and all students are free. */
+    private static final double NONE_FREE_HUE = 0;
+    private static final double ALL_FREE_HUE = 120;
+
+    private final AvailabilityCounts counts = new AvailabilityCounts();
+
+    @FXML
+    private Label heatmapTitle;
+    @FXML
+    private Canvas heatmap;
+
+    /**
+     * Creates a {@code AvailabilityHeatmapPanel} showing the availability of the students in {@code studentList}.
+     */
+    public AvailabilityHeatmapPanel(ObservableList<Student> studentList) {
+        super(FXML);
+        int numOfHours = TimetableGrid.LAST_HOUR_SHOWN - TimetableGrid.FIRST_HOUR_SHOWN;
+        heatmap.setWidth(LABEL_WIDTH + numOfHours * (CELL_WIDTH + CELL_GAP));
+        heatmap.setHeight(LABEL_HEIGHT + counts.getNumOfDays() * (CELL_HEIGHT + CELL_GAP));
+
+        studentList.forEach(student -> counts.add(student.getTimetable()));
+        studentList.addListener(this::handleStudentListChange);
+        draw();
+    }
+
+    private void handleStudentListChange(ListChangeListener.Change<? extends Student> change) {
+        List<Timetable> removed = new ArrayList<>();
+        List<Timetable> added = new ArrayList<>();
+        while (change.next()) {
+            // sorting the list or updating students in place does not change who is listed
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            change.getRemoved().forEach(student -> removed.add(student.getTimetable()));
+            change.getAddedSubList().forEach(student -> added.add(student.getTimetable()));
+        }
+        counts.update(removed, added);
+        draw();
+    }
+
+    private void draw() {
+        heatmapTitle.setText(String.format(TITLE_FORMAT, counts.size()));
+
+        GraphicsContext graphics = heatmap.getGraphicsContext2D();
+        graphics.clearRect(0, 0, heatmap.getWidth(), heatmap.getHeight());
+        graphics.setFont(LABEL_FONT);
+        graphics.setTextBaseline(VPos.CENTER);
+
+        graphics.setTextAlign(TextAlignment.CENTER);
+        graphics.setFill(LABEL_COLOR);
+        for (int hour = TimetableGrid.FIRST_HOUR_SHOWN; hour < TimetableGrid.LAST_HOUR_SHOWN; hour++) {
+            graphics.fillText(String.valueOf(hour), getX(hour) + CELL_WIDTH / 2, LABEL_HEIGHT / 2);
+        }
+
+        for (int dayNumber = 1; dayNumber <= counts.getNumOfDays(); dayNumber++) {
+            double y = getY(dayNumber);
+            graphics.setTextAlign(TextAlignment.LEFT);
+            graphics.setFill(LABEL_COLOR);
+            graphics.fillText(DayOfWeek.of(dayNumber).getDisplayName(TextStyle.SHORT, Locale.ENGLISH),
+                    0, y + CELL_HEIGHT / 2);
+
+            graphics.setTextAlign(TextAlignment.CENTER);
+            for (int hour = TimetableGrid.FIRST_HOUR_SHOWN; hour < TimetableGrid.LAST_HOUR_SHOWN; hour++) {
+                int freeCount = counts.getFreeCount(dayNumber, hour);
+                graphics.setFill(getCellColor(freeCount));
+                graphics.fillRect(getX(hour), y, CELL_WIDTH, CELL_HEIGHT);
+                if (counts.size() > 0) {
+                    graphics.setFill(COUNT_COLOR);
+                    graphics.fillText(formatCount(freeCount), getX(hour) + CELL_WIDTH / 2, y + CELL_HEIGHT / 2);
+                }
+            }
+        }
+    }
+
+    private Color getCellColor(int freeCount) {
+        if (counts.size() == 0) {
+            return EMPTY_COLOR;
+        }
+        double fractionFree = (double) freeCount / counts.size();
+        return Color.hsb(NONE_FREE_HUE + fractionFree * (ALL_FREE_HUE - NONE_FREE_HUE), 0.6, 0.6);
+    }
+
+    /**
+     * Formats {@code count} to fit in a cell, e.g. 1234 as "1.2k".
+     */
+    private static String formatCount(int count) {
+        if (count < 1000) {
+            return String.valueOf(count);
+        } else if (count < 10000) {
+            return String.format(Locale.ROOT, "%.1fk", count / 1000.0);
+        } else {
+            return (count / 1000) + "k";
+        }
+    }
+
+    private static double getX(int hour) {
+        return LABEL_WIDTH + (hour - TimetableGrid.FIRST_HOUR_SHOWN) * (CELL_WIDTH + CELL_GAP);
+    }
+
+    private static double getY(int dayNumber) {
+        return LABEL_HEIGHT + (dayNumber - 1) * (CELL_HEIGHT + CELL_GAP);
+    }
+}
@@ -1,12 +1,24 @@
 package educonnect.ui;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+import educonnect.logic.CommandHistory;
 import educonnect.logic.Logic;
 import educonnect.logic.commands.CommandResult;
 import educonnect.logic.commands.exceptions.CommandException;
 import educonnect.logic.parser.exceptions.ParseException;
+import javafx.beans.property.ReadOnlyStringProperty;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
+import javafx.geometry.Side;
+import javafx.scene.control.ContextMenu;
+import javafx.scene.control.MenuItem;
 import javafx.scene.control.TextField;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.Region;
 
 /**
@@ -18,18 +30,63 @@ public class CommandBox extends UiPart<Region> {
     private static final String FXML = "CommandBox.fxml";
 
     private final CommandExecutor commandExecutor;
+    private final Function<String, List<String>> commandCompleter;
+    private final ContextMenu completionMenu = new ContextMenu();
+    private final CommandHistory commandHistory;
+
+    /** Text typed before moving through the history, which the recalled commands start with, or null if not. */
+    private String historyPrefix;
+    /** Number of the command recalled from the history. */
+    private long historyNumber;
 
     @FXML
     private TextField commandTextField;
 
     /**
-     * Creates a {@code CommandBox} with the given {@code CommandExecutor}.
+     * Creates a {@code CommandBox} with the given {@code CommandExecutor} that does not complete commands
+     * and has an empty history.
      */
     public CommandBox(CommandExecutor commandExecutor) {
+        this(commandExecutor, commandText -> List.of(), new CommandHistory());
+    }
+
+    /**
+     * Creates a {@code CommandBox} with the given {@code CommandExecutor}, which completes the command being typed
+     * with the completions given by {@code commandCompleter} when Tab is pressed, and recalls the commands in
+     * {@code commandHistory} that start with the text typed when Up, Down or Ctrl+R is pressed.
+     */
+    public CommandBox(CommandExecutor commandExecutor, Function<String, List<String>> commandCompleter,
+            CommandHistory commandHistory) {
         super(FXML);
         this.commandExecutor = commandExecutor;
+        this.commandCompleter = commandCompleter;
+        this.commandHistory = commandHistory;
         // calls #setStyleToDefault() whenever there is a change to the text of the command box.
         commandTextField.textProperty().addListener((unused1, unused2, unused3) -> setStyleToDefault());
+        commandTextField.textProperty().addListener((unused1, unused2, unused3) -> {
+            completionMenu.hide();
+            historyPrefix = null;
+        });
+        // Tab would otherwise move the focus out of the command box, and Up and Down move the caret
+        commandTextField.addEventFilter(KeyEvent.KEY_PRESSED, event -> {
+            if (event.getCode() == KeyCode.TAB) {
+                handleCompletionRequested();
+            } else if (event.getCode() == KeyCode.UP || event.getCode() == KeyCode.R && event.isControlDown()) {
+                handlePreviousCommandRequested();
+            } else if (event.getCode() == KeyCode.DOWN) {
+                handleNextCommandRequested();
+            } else {
+                return;
+            }
+            event.consume();
+        });
+    }
+
+    /**
+     * Returns the property of the text currently in the command box.
+     */
+    public ReadOnlyStringProperty textProperty() {
+        return commandTextField.textProperty();
     }
 
     /**
@@ -50,6 +107,86 @@ public class CommandBox extends UiPart<Region> {
         }
     }
 
+    /**
+     * Completes the command if it has a single completion, or shows its completions to choose from.
+     */
+    private void handleCompletionRequested() {
+        List<String> completions = commandCompleter.apply(commandTextField.getText());
+        if (completions.isEmpty()) {
+            return;
+        } else if (completions.size() == 1) {
+            setCommandText(completions.get(0));
+            return;
+        }
+
+        List<MenuItem> menuItems = new ArrayList<>();
+        int valueStart = commandTextField.getText().length();
+        for (String completion : completions) {
+            valueStart = Math.min(valueStart, getValueStart(completion, commandTextField.getText()));
+        }
+        for (String completion : completions) {
+            MenuItem menuItem = new MenuItem(completion.substring(valueStart));
+            menuItem.setOnAction(unused -> setCommandText(completion));
+            menuItems.add(menuItem);
+        }
+        completionMenu.getItems().setAll(menuItems);
+        completionMenu.show(commandTextField, Side.BOTTOM, 0, 0);
+    }
+
+    /**
+     * Returns the start of the completed value in {@code completion}, which is just after the last prefix
+     * before the first character at which {@code completion} and {@code commandText} differ.
+     */
+    private static int getValueStart(String completion, String commandText) {
+        int commonLength = 0;
+        while (commonLength < commandText.length() && commonLength < completion.length()
+                && completion.charAt(commonLength) == commandText.charAt(commonLength)) {
+            commonLength++;
+        }
+        int valueStart = completion.lastIndexOf('/', Math.max(0, commonLength - 1)) + 1;
+        int editIdValueStart = completion.lastIndexOf(':', Math.max(0, commonLength - 1)) + 1;
+        return Math.max(valueStart, editIdValueStart);
+    }
+
+    /**
+     * Recalls the previous command in the history that starts with the text typed before moving through the history.
+     */
+    private void handlePreviousCommandRequested() {
+        if (historyPrefix == null) {
+            historyPrefix = commandTextField.getText();
+            historyNumber = Long.MAX_VALUE;
+        }
+        commandHistory.findPrevious(historyPrefix, historyNumber).ifPresent(this::showHistoryEntry);
+    }
+
+    /**
+     * Recalls the next command in the history that starts with the text typed before moving through the history,
+     * or restores that text if there is none.
+     */
+    private void handleNextCommandRequested() {
+        if (historyPrefix == null) {
+            return;
+        }
+        Optional<CommandHistory.Entry> next = commandHistory.findNext(historyPrefix, historyNumber);
+        if (next.isPresent()) {
+            showHistoryEntry(next.get());
+        } else {
+            setCommandText(historyPrefix);
+        }
+    }
+
+    private void showHistoryEntry(CommandHistory.Entry entry) {
+        String prefix = historyPrefix;
+        setCommandText(entry.commandText);
+        historyPrefix = prefix;
+        historyNumber = entry.number;
+    }
+
+    private void setCommandText(String commandText) {
+        commandTextField.setText(commandText);
+        commandTextField.positionCaret(commandText.length());
+    }
+
     /**
      * Sets the command box style to use the default style.
      */
@@ -4,14 +4,23 @@ import java.util.logging.Logger;
 
 import educonnect.commons.core.GuiSettings;
 import educonnect.commons.core.LogsCenter;
+import educonnect.logic.CommandMetrics;
+import educonnect.logic.CommandMetrics.Phase;
+import educonnect.logic.LiveSearch;
 import educonnect.logic.Logic;
+import educonnect.logic.Messages;
 import educonnect.logic.commands.CommandResult;
 import educonnect.logic.commands.exceptions.CommandException;
 import educonnect.logic.parser.exceptions.ParseException;
+import educonnect.model.student.Tag;
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
+import javafx.scene.Scene;
 import javafx.scene.control.MenuItem;
 import javafx.scene.control.TextInputControl;
+import javafx.scene.input.Clipboard;
+import javafx.scene.input.ClipboardContent;
 import javafx.scene.input.KeyCombination;
 import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.StackPane;
@@ -34,6 +43,7 @@ public class MainWindow extends UiPart<Stage> {
     private StudentListPanel studentListPanel;
     private ResultDisplay resultDisplay;
     private HelpWindow helpWindow;
+    private LiveSearch liveSearch;
 
     @FXML
     private StackPane commandBoxPlaceholder;
@@ -47,6 +57,12 @@ public class MainWindow extends UiPart<Stage> {
     @FXML
     private StackPane resultDisplayPlaceholder;
 
+    @FXML
+    private StackPane availabilityHeatmapPlaceholder;
+
+    @FXML
+    private StackPane tagFacetPanelPlaceholder;
+
     @FXML
     private StackPane statusbarPlaceholder;
 
@@ -112,15 +128,29 @@ public class MainWindow extends UiPart<Stage> {
     void fillInnerParts() {
         studentListPanel = new StudentListPanel(logic.getFilteredStudentList());
         studentListPanelPlaceholder.getChildren().add(studentListPanel.getRoot());
+        handleShowTimetable();
 
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
 
+        AvailabilityHeatmapPanel availabilityHeatmapPanel =
+                new AvailabilityHeatmapPanel(logic.getFilteredStudentList());
+        availabilityHeatmapPlaceholder.getChildren().add(availabilityHeatmapPanel.getRoot());
+
+        TagFacetPanel tagFacetPanel = new TagFacetPanel(logic.getFilteredStudentList(),
+                () -> logic.getAddressBook().getStudentIndex(), this::handleTagSelected);
+        tagFacetPanelPlaceholder.getChildren().add(tagFacetPanel.getRoot());
+
         StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
-        CommandBox commandBox = new CommandBox(this::executeCommand);
+        CommandBox commandBox = new CommandBox(this::executeCommand, logic::getCompletions,
+                logic.getCommandHistory());
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
+
+        // Shows the results of find commands as they are typed
+        liveSearch = new LiveSearch(logic, Platform::runLater, LiveSearch.DEFAULT_DEBOUNCE_MILLIS);
+        commandBox.textProperty().addListener((unused, oldText, newText) -> liveSearch.update(newText));
     }
 
     /**
@@ -156,22 +186,42 @@ public class MainWindow extends UiPart<Stage> {
      */
     @FXML
     private void handleExit() {
+        liveSearch.shutdown();
         helpWindow.hide();
         primaryStage.hide();
     }
 
+    /**
+     * Narrows the student list down to the listed students with {@code tag}.
+     */
+    private void handleTagSelected(Tag tag) {
+        liveSearch.cancel();
+        logic.showListedStudentsWithTag(tag);
+        logger.info("Narrowed down to students with tag: " + tag);
+        resultDisplay.setFeedbackToUser(
+                String.format(Messages.MESSAGE_STUDENTS_LISTED_OVERVIEW, logic.getFilteredStudentList().size()));
+    }
+
     /**
      * Displays student timetable based on user list command.
      */
     @FXML
     public void handleShowTimetable() {
         boolean showTimetable = logic.getShowTimetable();
-        if (showTimetable) {
-            logger.info("User chooses to show timetables of students.");
-            studentListPanel.showTimetable();
-        } else {
-            studentListPanel.hideTimetable();
+        if (showTimetable != studentListPanel.isShowTimetable()) {
+            logger.info(showTimetable ? "Showing timetables of students." : "Hiding timetables of students.");
         }
+        // The cells only react if the setting actually changes
+        studentListPanel.setShowTimetable(showTimetable);
+    }
+
+    /**
+     * Places {@code text} on the system clipboard as plain text.
+     */
+    private void copyToClipboard(String text) {
+        ClipboardContent content = new ClipboardContent();
+        content.putString(text);
+        Clipboard.getSystemClipboard().setContent(content);
     }
 
     public StudentListPanel getStudentListPanel() {
@@ -184,10 +234,16 @@ public class MainWindow extends UiPart<Stage> {
      * @see Logic#execute(String)
      */
     private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
+        // The command's own results must not be replaced by a live search of the text that was typed
+        liveSearch.cancel();
         try {
             CommandResult commandResult = logic.execute(commandText);
+            recordUiRefresh(CommandMetrics.getCommandWord(commandText), System.nanoTime());
             logger.info("Result: " + commandResult.getFeedbackToUser());
             resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
+            commandResult.getPayload().ifPresent(resultDisplay::showPayload);
+
+            commandResult.getTextToCopy().ifPresent(this::copyToClipboard);
 
             if (commandResult.isShowHelp()) {
                 handleHelp();
@@ -204,4 +260,23 @@ public class MainWindow extends UiPart<Stage> {
             throw e;
         }
     }
+
+    /**
+     * Records the time from {@code startNanos} until the scene has been laid out again, which covers updating
+     * the panels with the results of a command, as the UI refresh latency of commands with {@code commandWord}.
+     */
+    private void recordUiRefresh(String commandWord, long startNanos) {
+        Scene scene = primaryStage.getScene();
+        if (scene == null) {
+            return;
+        }
+        Runnable listener = new Runnable() {
+            @Override
+            public void run() {
+                scene.removePostLayoutPulseListener(this);
+                logic.getCommandMetrics().record(commandWord, Phase.UI_REFRESH, System.nanoTime() - startNanos);
+            }
+        };
+        scene.addPostLayoutPulseListener(listener);
+    }
 }
@@ -2,27 +2,93 @@ package educonnect.ui;
 
 import static java.util.Objects.requireNonNull;
 
+import educonnect.logic.commands.ResultPayload;
 import javafx.fxml.FXML;
+import javafx.scene.control.Pagination;
 import javafx.scene.control.TextArea;
+import javafx.scene.input.Clipboard;
+import javafx.scene.input.ClipboardContent;
+import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
 
 /**
  * A ui for the status bar that is displayed at the header of the application.
+ * The payload of a command result, if any, is shown below the feedback a page at a time,
+ * so only the lines on the current page are ever formatted and laid out.
  */
 public class ResultDisplay extends UiPart<Region> {
 
+    /** Number of payload items shown on each page. */
+    public static final int PAGE_SIZE = 50;
+
     private static final String FXML = "ResultDisplay.fxml";
 
+    private String feedbackToUser = "";
+    private ResultPayload<?> payload;
+
     @FXML
     private TextArea resultDisplay;
 
+    @FXML
+    private HBox payloadControls;
+
+    @FXML
+    private Pagination payloadPagination;
+
+    /**
+     * Creates a {@code ResultDisplay} that shows no feedback.
+     */
     public ResultDisplay() {
         super(FXML);
+        payloadPagination.setPageFactory(pageIndex -> new Region());
+        payloadPagination.currentPageIndexProperty().addListener((observable, oldValue, newValue) -> showPage());
+        showPayload(null);
     }
 
+    /**
+     * Shows {@code feedbackToUser}, replacing any feedback and payload that was shown.
+     */
     public void setFeedbackToUser(String feedbackToUser) {
         requireNonNull(feedbackToUser);
-        resultDisplay.setText(feedbackToUser);
+        this.feedbackToUser = feedbackToUser;
+        showPayload(null);
     }
 
+    /**
+     * Shows {@code payload} below the feedback a page at a time, or hides the payload that was shown if it is null.
+     */
+    public void showPayload(ResultPayload<?> payload) {
+        this.payload = payload;
+        boolean hasPayload = payload != null;
+        payloadControls.setVisible(hasPayload);
+        payloadControls.setManaged(hasPayload);
+        if (hasPayload) {
+            payloadPagination.setPageCount(payload.getPageCount(PAGE_SIZE));
+            payloadPagination.setCurrentPageIndex(0);
+        }
+        showPage();
+    }
+
+    private void showPage() {
+        if (payload == null) {
+            resultDisplay.setText(feedbackToUser);
+            return;
+        }
+        resultDisplay.setText(feedbackToUser + "\n\n"
+                + payload.formatPage(payloadPagination.getCurrentPageIndex(), PAGE_SIZE));
+        resultDisplay.positionCaret(0);
+    }
+
+    /**
+     * Copies the whole payload that is shown, formatted as plain text, to the clipboard.
+     */
+    @FXML
+    private void handleCopyPayload() {
+        if (payload == null) {
+            return;
+        }
+        ClipboardContent content = new ClipboardContent();
+        content.putString(payload.toPlainText());
+        Clipboard.getSystemClipboard().setContent(content);
+    }
 }
@@ -11,6 +11,7 @@ import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.Hyperlink;
 import javafx.scene.control.Label;
+import javafx.scene.image.ImageView;
 import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
@@ -31,7 +32,7 @@ public class StudentCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on AddressBook level 4</a>
      */
 
-    public final Student student;
+    private Student student;
 
     @FXML
     private HBox cardPane;
@@ -48,35 +49,62 @@ public class StudentCard extends UiPart<Region> {
     @FXML
     private FlowPane tags;
     @FXML
-    private Label timetable;
+    private ImageView timetable;
     @FXML
     private Hyperlink hyperlink;
 
+    /**
+     * Creates an empty {@code StudentCard}, to be filled in with {@link #setStudent(Student, int, boolean)}.
+     */
+    public StudentCard() {
+        super(FXML);
+        hyperlink.setText("Project Link");
+    }
+
     /**
      * Creates a {@code StudentCard} with the given {@code Student} and index to display.
      */
     public StudentCard(Student student, int displayedIndex, boolean showTimetable) {
-        super(FXML);
+        this();
+        setStudent(student, displayedIndex, showTimetable);
+    }
+
+    public Student getStudent() {
+        return student;
+    }
+
+    /**
+     * Displays the given {@code Student} and index in this card, replacing the student it displayed before.
+     * This lets a list cell reuse one card for every student it displays instead of loading a new card each time.
+     */
+    public void setStudent(Student student, int displayedIndex, boolean showTimetable) {
         this.student = student;
         id.setText(displayedIndex + ". ");
         name.setText(student.getName().fullName);
         studentID.setText(student.getStudentId().value);
         email.setText(student.getEmail().value);
         telegram.setText(student.getTelegramHandle().value);
-        hyperlink.setText("Project Link");
         // Set the visibility of the hyperlink based on whether the student has a non-empty URL
         hyperlink.setVisible(student.getLink().isPresent());
 
+        tags.getChildren().clear();
         student.getTags().stream()
                 .sorted(Comparator.comparing(tag -> tag.tagName))
                 .forEach(tag -> tags.getChildren().add(new Label(tag.tagName)));
-        String timetableStr = showTimetable ? student.getTimetable().toString() : "";
-        timetable.setText(timetableStr);
+        setShowTimetable(showTimetable);
+    }
+
+    /**
+     * Shows or hides the timetable of the student displayed in this card, leaving the rest of the card unchanged.
+     */
+    public void setShowTimetable(boolean showTimetable) {
+        boolean hasTimetable = showTimetable && student != null;
+        timetable.setImage(hasTimetable ? TimetableGrid.render(student.getTimetable()) : null);
     }
 
     @FXML
     void openLink(ActionEvent action) throws URISyntaxException, IOException {
-        if (student.getLink().isPresent()) {
+        if (student != null && student.getLink().isPresent()) {
             Desktop.getDesktop().browse(new URI(student.getLink().get().url));
         } else {
             System.out.println("No Link has been added yet");
@@ -1,6 +1,10 @@
 package educonnect.ui;
 
 import educonnect.model.student.Student;
+import javafx.beans.property.BooleanProperty;
+import javafx.beans.property.SimpleBooleanProperty;
+import javafx.beans.value.ChangeListener;
+import javafx.beans.value.WeakChangeListener;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.ListCell;
@@ -15,6 +19,9 @@ public class StudentListPanel extends UiPart<Region> {
 
     @FXML
     private ListView<Student> studentListView;
+
+    private final BooleanProperty showTimetable = new SimpleBooleanProperty(false);
+
     /**
      * Creates a {@code StudentListPanel} with the given {@code ObservableList},
      * and the default value of {@code showTimetable} option.
@@ -25,26 +32,43 @@ public class StudentListPanel extends UiPart<Region> {
         studentListView.setCellFactory(listView -> new StudentListViewCell());
     }
 
-    public void showTimetable() {
-        studentListView.setCellFactory(listView -> new StudentListViewCell(true));
+    /**
+     * Returns the property of whether the timetables of the students are shown.
+     * The cells of the list react to it directly, so setting it to its current value does not do any work.
+     */
+    public BooleanProperty showTimetableProperty() {
+        return showTimetable;
     }
 
-    public void hideTimetable() {
-        studentListView.setCellFactory(listView -> new StudentListViewCell());
+    public boolean isShowTimetable() {
+        return showTimetable.get();
+    }
+
+    public void setShowTimetable(boolean showTimetable) {
+        this.showTimetable.set(showTimetable);
+    }
+
+    ListView<Student> getStudentListView() {
+        return studentListView;
     }
 
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Student} using a {@code StudentCard}.
+     * The {@code ListView} only creates enough cells to fill the visible area and reuses them as the list scrolls,
+     * so each cell creates its {@code StudentCard} once and rebinds it to every student it displays.
      */
     class StudentListViewCell extends ListCell<Student> {
-        private boolean showTimetable;
+        private StudentCard studentCard;
 
-        public StudentListViewCell() {
-            this.showTimetable = false;
-        }
+        // Held by the cell, as the property only holds it weakly so that discarded cells can be garbage collected
+        private final ChangeListener<Boolean> showTimetableListener = (observable, oldValue, newValue) -> {
+            if (studentCard != null && !isEmpty()) {
+                studentCard.setShowTimetable(newValue);
+            }
+        };
 
-        public StudentListViewCell(boolean showTimetable) {
-            this.showTimetable = showTimetable;
+        StudentListViewCell() {
+            showTimetable.addListener(new WeakChangeListener<>(showTimetableListener));
         }
 
         @Override
@@ -54,9 +78,14 @@ public class StudentListPanel extends UiPart<Region> {
             if (empty || student == null) {
                 setGraphic(null);
                 setText(null);
-            } else {
-                setGraphic(new StudentCard(student, getIndex() + 1, showTimetable).getRoot());
+                return;
+            }
+
+            if (studentCard == null) {
+                studentCard = new StudentCard();
             }
+            studentCard.setStudent(student, getIndex() + 1, showTimetable.get());
+            setGraphic(studentCard.getRoot());
         }
     }
 }
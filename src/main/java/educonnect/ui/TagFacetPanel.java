@@ -0,0 +1,115 @@
+package educonnect.ui;
+
+import static educonnect.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import educonnect.model.student.Student;
+import educonnect.model.student.StudentIndex;
+import educonnect.model.student.Tag;
+import educonnect.model.student.TagCounts;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.fxml.FXML;
+import javafx.scene.control.Label;
+import javafx.scene.control.ListCell;
+import javafx.scene.control.ListView;
+import javafx.scene.layout.Region;
+
+/**
+ * Panel listing every tag of the listed students with the number of listed students with it.
+ * Clicking a tag narrows the list down to the listed students with that tag.
+ * The counts are updated with only the students that enter or leave the list, unless most of the list changes,
+ * in which case they are counted again from the tag index of the address book.
+ */
+public class TagFacetPanel extends UiPart<Region> {
+    private static final String FXML = "TagFacetPanel.fxml";
+    private static final String TITLE_FORMAT = "Tags (%d listed)";
+
+    /** Changes of more students than this are counted again from the tag index instead of one student at a time. */
+    private static final int MAX_STUDENTS_COUNTED_SEPARATELY = 64;
+
+    private final TagCounts counts = new TagCounts();
+    private final ObservableList<Student> studentList;
+    private final Supplier<StudentIndex> indexSupplier;
+
+    @FXML
+    private Label tagFacetTitle;
+    @FXML
+    private ListView<Tag> tagListView;
+
+    /**
+     * Creates a {@code TagFacetPanel} counting the tags of the students in {@code studentList}, which must be a
+     * subset of the students in the index given by {@code indexSupplier}.
+     * {@code tagSelectionHandler} is called with the tag that is clicked.
+     */
+    public TagFacetPanel(ObservableList<Student> studentList, Supplier<StudentIndex> indexSupplier,
+            Consumer<Tag> tagSelectionHandler) {
+        super(FXML);
+        requireAllNonNull(studentList, indexSupplier, tagSelectionHandler);
+        this.studentList = studentList;
+        this.indexSupplier = indexSupplier;
+        tagListView.setCellFactory(listView -> new TagFacetCell(tagSelectionHandler));
+
+        recount();
+        studentList.addListener(this::handleStudentListChange);
+        showCounts();
+    }
+
+    private void handleStudentListChange(ListChangeListener.Change<? extends Student> change) {
+        int numOfChangedStudents = 0;
+        while (change.next()) {
+            // sorting the list or updating students in place does not change who is listed
+            if (!change.wasPermutated() && !change.wasUpdated()) {
+                numOfChangedStudents += change.getRemovedSize() + change.getAddedSize();
+            }
+        }
+
+        if (numOfChangedStudents > MAX_STUDENTS_COUNTED_SEPARATELY) {
+            recount();
+        } else {
+            change.reset();
+            while (change.next()) {
+                if (change.wasPermutated() || change.wasUpdated()) {
+                    continue;
+                }
+                change.getRemoved().forEach(counts::remove);
+                change.getAddedSubList().forEach(counts::add);
+            }
+        }
+        showCounts();
+    }
+
+    private void recount() {
+        StudentIndex index = indexSupplier.get();
+        counts.recount(index, index.positionsOf(studentList));
+    }
+
+    private void showCounts() {
+        tagFacetTitle.setText(String.format(TITLE_FORMAT, counts.size()));
+        tagListView.getItems().setAll(counts.getTags());
+        // the counts of tags that are still listed may have changed too
+        tagListView.refresh();
+    }
+
+    /**
+     * Custom {@code ListCell} that displays a tag and the number of listed students with it.
+     */
+    private class TagFacetCell extends ListCell<Tag> {
+        private TagFacetCell(Consumer<Tag> tagSelectionHandler) {
+            setOnMouseClicked(event -> {
+                if (!isEmpty()) {
+                    tagSelectionHandler.accept(getItem());
+                }
+            });
+        }
+
+        @Override
+        protected void updateItem(Tag tag, boolean empty) {
+            super.updateItem(tag, empty);
+            setGraphic(null);
+            setText(empty || tag == null ? null : tag.tagName + " (" + counts.getCount(tag) + ")");
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package educonnect.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.DayOfWeek;
+import java.time.format.TextStyle;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import educonnect.model.student.timetable.Timetable;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import javafx.scene.text.TextAlignment;
+
+/**
+ * Renders a {@code Timetable} as a compact week grid, with a row for each day and a column for each hour,
+ * in which the hours occupied by a period are filled in.
+ * The grid is drawn on a {@code Canvas} once and kept as an {@code Image}, which is shared by every timetable
+ * with the same occupied hours, so list cells can display timetables without drawing or laying out any text.
+ * Must only be used on the JavaFX application thread.
+ */
+public class TimetableGrid {
+
+    /** The hours that are always shown. Hours outside of them are only shown if they are occupied. */
+    public static final int FIRST_HOUR_SHOWN = 8;
+    public static final int LAST_HOUR_SHOWN = 22;
+
+    /** Number of rendered grids to keep, which should be more than the number of cells that can be visible. */
+    private static final int CACHE_SIZE = 512;
+
+    private static final double CELL_SIZE = 12;
+    private static final double CELL_GAP = 1;
+    private static final double LABEL_WIDTH = 16;
+    private static final double LABEL_HEIGHT = 12;
+    private static final int HOURS_PER_LABEL = 2;
+    private static final Font LABEL_FONT = Font.font(9);
+    private static final Color LABEL_COLOR = Color.web("#a0a0a0");
+    private static final Color FREE_COLOR = Color.web("#3c3e3f");
+    private static final Color OCCUPIED_COLOR = Color.web("#749362");
+
+    private static final Map<List<Object>, Image> cache = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<List<Object>, Image> eldest) {
+            return size() > CACHE_SIZE;
+        }
+    };
+
+    private TimetableGrid() {} // prevents instantiation
+
+    /**
+     * Returns the grid of {@code timetable}, drawing it only if no timetable with the same occupied hours
+     * has been drawn recently.
+     */
+    public static Image render(Timetable timetable) {
+        requireNonNull(timetable);
+        int numOfDays = timetable.getNumOfDays();
+        BitSet occupiedHours = timetable.getOccupiedHours();
+        List<Object> key = List.of(numOfDays, occupiedHours);
+        Image grid = cache.get(key);
+        if (grid == null) {
+            grid = draw(numOfDays, occupiedHours);
+            cache.put(key, grid);
+        }
+        return grid;
+    }
+
+    private static Image draw(int numOfDays, BitSet occupiedHours) {
+        int firstHour = FIRST_HOUR_SHOWN;
+        int lastHour = LAST_HOUR_SHOWN;
+        for (int i = occupiedHours.nextSetBit(0); i >= 0; i = occupiedHours.nextSetBit(i + 1)) {
+            int hour = i % Timetable.HOURS_PER_DAY;
+            firstHour = Math.min(firstHour, hour);
+            lastHour = Math.max(lastHour, hour + 1);
+        }
+        int numOfHours = lastHour - firstHour;
+
+        Canvas canvas = new Canvas(LABEL_WIDTH + numOfHours * (CELL_SIZE + CELL_GAP),
+                LABEL_HEIGHT + numOfDays * (CELL_SIZE + CELL_GAP));
+        GraphicsContext graphics = canvas.getGraphicsContext2D();
+        graphics.setFont(LABEL_FONT);
+        graphics.setFill(LABEL_COLOR);
+
+        graphics.setTextAlign(TextAlignment.LEFT);
+        for (int hour = firstHour; hour < lastHour; hour += HOURS_PER_LABEL) {
+            graphics.fillText(String.valueOf(hour), getX(hour - firstHour), LABEL_HEIGHT - 3);
+        }
+        for (int day = 0; day < numOfDays; day++) {
+            String dayLabel = DayOfWeek.of(day + 1).getDisplayName(TextStyle.NARROW, Locale.ENGLISH);
+            graphics.setFill(LABEL_COLOR);
+            graphics.fillText(dayLabel, 2, getY(day) + CELL_SIZE - 2);
+            for (int hour = firstHour; hour < lastHour; hour++) {
+                boolean isOccupied = occupiedHours.get(day * Timetable.HOURS_PER_DAY + hour);
+                graphics.setFill(isOccupied ? OCCUPIED_COLOR : FREE_COLOR);
+                graphics.fillRect(getX(hour - firstHour), getY(day), CELL_SIZE, CELL_SIZE);
+            }
+        }
+
+        SnapshotParameters parameters = new SnapshotParameters();
+        parameters.setFill(Color.TRANSPARENT);
+        return canvas.snapshot(parameters, null);
+    }
+
+    private static double getX(int column) {
+        return LABEL_WIDTH + column * (CELL_SIZE + CELL_GAP);
+    }
+
+    private static double getY(int row) {
+        return LABEL_HEIGHT + row * (CELL_SIZE + CELL_GAP);
+    }
+}
@@ -21,6 +21,10 @@ public class UiManager implements Ui {
 
     private static final Logger logger = LogsCenter.getLogger(UiManager.class);
     private static final String ICON_APPLICATION = "/images/EduConnectLogo.png";
+    private static final String[] FXML_FILES = {
+        "MainWindow.fxml", "HelpWindow.fxml", "CommandBox.fxml", "ResultDisplay.fxml", "StudentListPanel.fxml",
+        "StudentListCard.fxml", "AvailabilityHeatmapPanel.fxml", "TagFacetPanel.fxml", "StatusBarFooter.fxml"
+    };
 
     private Logic logic;
     private MainWindow mainWindow;
@@ -32,6 +36,14 @@ public class UiManager implements Ui {
         this.logic = logic;
     }
 
+    /**
+     * Reads the resources of the main window ahead of {@link #start(Stage)}.
+     * Does not touch the scene graph, so it can run on any thread while the rest of the application is initialized.
+     */
+    public static void preloadResources() {
+        UiPart.preloadFxmlFiles(FXML_FILES);
+    }
+
     @Override
     public void start(Stage primaryStage) {
         logger.info("Starting UI...");
@@ -2,8 +2,12 @@ package educonnect.ui;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URL;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import educonnect.MainApp;
 import javafx.fxml.FXMLLoader;
@@ -17,6 +21,12 @@ public abstract class UiPart<T> {
     /** Resource folder where FXML files are stored. */
     public static final String FXML_FILE_FOLDER = "/view/";
 
+    /**
+     * Contents of the FXML files loaded so far, keyed by their URL.
+     * Parts such as list cells are created many times, and each only needs to read its file from the classpath once.
+     */
+    private static final Map<String, byte[]> FXML_FILE_CACHE = new ConcurrentHashMap<>();
+
     private final FXMLLoader fxmlLoader = new FXMLLoader();
 
     /**
@@ -68,13 +78,43 @@ public abstract class UiPart<T> {
         fxmlLoader.setLocation(location);
         fxmlLoader.setController(this);
         fxmlLoader.setRoot(root);
-        try {
-            fxmlLoader.load();
+        try (InputStream fxmlFile = new ByteArrayInputStream(readFxmlFile(location))) {
+            fxmlLoader.load(fxmlFile);
         } catch (IOException e) {
             throw new AssertionError(e);
         }
     }
 
+    /**
+     * Reads the specified FXML files within {@link #FXML_FILE_FOLDER} ahead of the parts that use them,
+     * so that the parts can be created without waiting for the files. Safe to be called from any thread.
+     */
+    public static void preloadFxmlFiles(String... fxmlFileNames) {
+        for (String fxmlFileName : fxmlFileNames) {
+            try {
+                readFxmlFile(getFxmlFileUrl(fxmlFileName));
+            } catch (IOException e) {
+                throw new AssertionError(e);
+            }
+        }
+    }
+
+    /**
+     * Returns the contents of the FXML document at {@code location}, reading it only if it has not been read before.
+     */
+    private static byte[] readFxmlFile(URL location) throws IOException {
+        // URL#equals may resolve host names, so the cache is keyed by the string form of the URL instead
+        String key = location.toExternalForm();
+        byte[] contents = FXML_FILE_CACHE.get(key);
+        if (contents == null) {
+            try (InputStream fxmlFile = location.openStream()) {
+                contents = fxmlFile.readAllBytes();
+            }
+            FXML_FILE_CACHE.put(key, contents);
+        }
+        return contents;
+    }
+
     /**
      * Returns the FXML file URL for the specified FXML file name within {@link #FXML_FILE_FOLDER}.
      */
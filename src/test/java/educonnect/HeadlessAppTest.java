@@ -0,0 +1,114 @@
+package educonnect;
+
+import static educonnect.testutil.TypicalStudents.getTypicalAddressBook;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import educonnect.logic.Messages;
+import educonnect.logic.commands.ClearCommand;
+import educonnect.logic.commands.ListCommand;
+import educonnect.model.Model;
+import educonnect.model.ModelManager;
+import educonnect.model.ReadOnlyAddressBook;
+import educonnect.model.UserPrefs;
+import educonnect.model.util.SyntheticDataGenerator;
+import educonnect.storage.JsonAddressBookStorage;
+import educonnect.storage.JsonUserPrefsStorage;
+import educonnect.storage.StorageManager;
+
+public class HeadlessAppTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private Model model;
+    private HeadlessApp headlessApp;
+
+    @BeforeEach
+    public void setUp() {
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json"));
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        headlessApp = new HeadlessApp(model, new StorageManager(addressBookStorage, userPrefsStorage));
+    }
+
+    @Test
+    public void run_validCommands_printsFeedback() throws Exception {
+        String commands = "# comment lines and blank lines are skipped\n\n"
+                + ListCommand.COMMAND_WORD + "\n"
+                + "find t/tutorial-2\n";
+        String expected = ListCommand.MESSAGE_SUCCESS + System.lineSeparator()
+                + String.format(Messages.MESSAGE_STUDENTS_LISTED_OVERVIEW, 3) + System.lineSeparator();
+
+        assertEquals(expected, runCommands(commands, 0));
+    }
+
+    @Test
+    public void run_copyCommand_printsCopiedEmails() throws Exception {
+        String output = runCommands("copy t/tutorial-2", 0);
+        assertTrue(output.contains("johnd@example.com, lydia@example.com, anna@example.com"));
+    }
+
+    @Test
+    public void run_invalidCommand_printsErrorAndContinues() throws Exception {
+        String output = runCommands("unknowncommand\n" + ClearCommand.COMMAND_WORD, 1);
+        assertTrue(output.startsWith(HeadlessApp.ERROR_PREFIX + Messages.MESSAGE_UNKNOWN_COMMAND));
+        assertTrue(output.contains(ClearCommand.MESSAGE_SUCCESS));
+        assertTrue(model.getAddressBook().getStudentList().isEmpty());
+    }
+
+    @Test
+    public void run_exitCommand_stopsReading() throws Exception {
+        runCommands("exit\n" + ClearCommand.COMMAND_WORD, 0);
+        assertFalse(model.getAddressBook().getStudentList().isEmpty());
+    }
+
+    @Test
+    public void generateData_replacesAndSavesData() throws Exception {
+        headlessApp.generateData(100, 3);
+        assertEquals(new SyntheticDataGenerator(3).generateStudentList(100), model.getAddressBook().getStudentList());
+
+        ReadOnlyAddressBook saved = new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json"))
+                .readAddressBook().get();
+        assertEquals(100, saved.getStudentList().size());
+    }
+
+    @Test
+    public void isHeadless() {
+        assertTrue(HeadlessApp.isHeadless(new String[] {"--config=config.json", HeadlessApp.HEADLESS_FLAG}));
+        assertFalse(HeadlessApp.isHeadless(new String[] {"--config=config.json"}));
+    }
+
+    @Test
+    public void parseNamedParameters() {
+        Map<String, String> namedParameters = HeadlessApp.parseNamedParameters(
+                new String[] {HeadlessApp.HEADLESS_FLAG, "--commands=jobs.txt", "--config=a=b.json", "stray"});
+        assertEquals(Map.of("commands", "jobs.txt", "config", "a=b.json"), namedParameters);
+    }
+
+    /**
+     * Runs {@code commands} through the headless app, asserting the number of failed commands,
+     * and returns everything that was printed.
+     */
+    private String runCommands(String commands, int expectedFailures) throws Exception {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        PrintStream out = new PrintStream(outputStream, true, StandardCharsets.UTF_8);
+        int failures = headlessApp.run(new BufferedReader(new StringReader(commands)), out);
+        assertEquals(expectedFailures, failures);
+        return outputStream.toString(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,96 @@
+package educonnect;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import educonnect.commons.core.Config;
+import educonnect.commons.util.ConfigUtil;
+import educonnect.model.UserPrefs;
+import educonnect.model.util.SyntheticDataGenerator;
+import educonnect.storage.JsonAddressBookStorage;
+import educonnect.storage.JsonUserPrefsStorage;
+import javafx.application.Application;
+import javafx.application.Platform;
+import javafx.stage.Stage;
+
+/**
+ * Measures the time taken to start the application on a data file of generated students, from initializing
+ * the application until its main window is shown and ready for commands, and the time taken by each phase.
+ * The config, prefs and data files are written to a temporary folder beforehand, so that the application
+ * starts as it would for a returning user.
+ * Exits with a non-zero status if the application takes longer than
+ * {@link MainApp#TARGET_TIME_TO_INTERACTIVE_MILLIS} to start.
+ *
+ * Run with {@code gradlew benchmarkStartup}, optionally with {@code -Pstudents=NUMBER_OF_STUDENTS}.
+ */
+public class StartupBenchmark {
+
+    private static final int DEFAULT_NUMBER_OF_STUDENTS = 1000;
+    private static final long SEED = 42;
+    private static final long TIMEOUT_SECONDS = 60;
+
+    private static volatile long timeToInteractiveNanos = -1;
+
+    public static void main(String[] args) throws IOException {
+        int numberOfStudents = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_NUMBER_OF_STUDENTS;
+        Path configFilePath = createFiles(numberOfStudents);
+
+        Application.launch(BenchmarkedMainApp.class, "--config=" + configFilePath);
+
+        if (timeToInteractiveNanos < 0) {
+            System.out.println("Did not start within " + TIMEOUT_SECONDS + " s");
+            System.exit(1);
+        }
+        long timeToInteractiveMillis = TimeUnit.NANOSECONDS.toMillis(timeToInteractiveNanos);
+        System.out.println("Students: " + numberOfStudents + ", time to interactive: " + timeToInteractiveMillis
+                + " ms, target: " + MainApp.TARGET_TIME_TO_INTERACTIVE_MILLIS + " ms");
+        System.exit(timeToInteractiveMillis <= MainApp.TARGET_TIME_TO_INTERACTIVE_MILLIS ? 0 : 1);
+    }
+
+    /**
+     * Writes the config, prefs and data files of an application with {@code numberOfStudents} students,
+     * and returns the path of the config file.
+     */
+    private static Path createFiles(int numberOfStudents) throws IOException {
+        Path folder = Files.createTempDirectory("educonnect-startup");
+        Path addressBookFilePath = folder.resolve("addressbook.json");
+        new JsonAddressBookStorage(addressBookFilePath).saveStudents(
+                new SyntheticDataGenerator(SEED).generateStudents(numberOfStudents), addressBookFilePath);
+
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setAddressBookFilePath(addressBookFilePath);
+        Path userPrefsFilePath = folder.resolve("preferences.json");
+        new JsonUserPrefsStorage(userPrefsFilePath).saveUserPrefs(userPrefs);
+
+        Config config = new Config();
+        config.setUserPrefsFilePath(userPrefsFilePath);
+        Path configFilePath = folder.resolve("config.json");
+        ConfigUtil.saveConfig(config, configFilePath);
+        return configFilePath;
+    }
+
+    /**
+     * The application, which reports how long it took to start and then exits.
+     */
+    public static class BenchmarkedMainApp extends MainApp {
+        @Override
+        public void start(Stage primaryStage) {
+            super.start(primaryStage);
+            Thread reporter = new Thread(() -> {
+                try {
+                    if (startupTimer.awaitFinish(TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                        startupTimer.getPhases().forEach(phase -> System.out.println(phase.format()));
+                        timeToInteractiveNanos = startupTimer.getTotalNanos();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                Platform.exit();
+            });
+            reporter.setDaemon(true);
+            reporter.start();
+        }
+    }
+}
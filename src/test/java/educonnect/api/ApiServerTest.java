@@ -0,0 +1,208 @@
+package educonnect.api;
+
+import static educonnect.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
+import static educonnect.logic.commands.CommandTestUtil.NAME_DESC_AMY;
+import static educonnect.logic.commands.CommandTestUtil.STUDENT_ID_DESC_AMY;
+import static educonnect.logic.commands.CommandTestUtil.TELEGRAM_HANDLE_DESC_AMY;
+import static educonnect.logic.commands.CommandTestUtil.VALID_NAME_AMY;
+import static educonnect.testutil.Assert.assertThrows;
+import static educonnect.testutil.TypicalStudents.ALICE;
+import static educonnect.testutil.TypicalStudents.getTypicalAddressBook;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import educonnect.commons.util.JsonUtil;
+import educonnect.logic.LogicManager;
+import educonnect.logic.Messages;
+import educonnect.logic.commands.AddCommand;
+import educonnect.logic.commands.DeleteCommand;
+import educonnect.logic.commands.FindCommand;
+import educonnect.logic.parser.SlotsCommandParser;
+import educonnect.model.Model;
+import educonnect.model.ModelManager;
+import educonnect.model.UserPrefs;
+import educonnect.storage.JsonAddressBookStorage;
+import educonnect.storage.JsonUserPrefsStorage;
+import educonnect.storage.StorageManager;
+
+public class ApiServerTest {
+
+    private static final int STATUS_OK = 200;
+    private static final int STATUS_BAD_REQUEST = 400;
+    private static final int STATUS_NOT_FOUND = 404;
+    private static final int STATUS_METHOD_NOT_ALLOWED = 405;
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+    private Model model;
+    private ApiServer apiServer;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json"));
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        apiServer = new ApiServer(new LogicManager(model, new StorageManager(addressBookStorage, userPrefsStorage)), 0);
+        apiServer.start();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        apiServer.stop();
+    }
+
+    @Test
+    public void find_validArgs_returnsMatchingStudents() throws Exception {
+        HttpResponse<String> response = get("/find", "t/tutorial-2");
+        assertEquals(STATUS_OK, response.statusCode());
+
+        Map<?, ?> json = JsonUtil.fromJsonString(response.body(), Map.class);
+        assertEquals(String.format(Messages.MESSAGE_STUDENTS_LISTED_OVERVIEW, 3), json.get("feedback"));
+        List<?> students = (List<?>) json.get("students");
+        assertEquals(3, students.size());
+        assertEquals("Benson Meier", ((Map<?, ?>) students.get(0)).get("name"));
+
+        // filtered student list is not changed by read-only requests
+        assertEquals(getTypicalAddressBook().getStudentList().size(), model.getFilteredStudentList().size());
+    }
+
+    @Test
+    public void find_studentDetails_returnsAllFields() throws Exception {
+        Map<?, ?> json = JsonUtil.fromJsonString(get("/find", "s/" + ALICE.getStudentId()).body(), Map.class);
+        Map<?, ?> student = (Map<?, ?>) ((List<?>) json.get("students")).get(0);
+        assertEquals(ALICE.getName().toString(), student.get("name"));
+        assertEquals(ALICE.getEmail().toString(), student.get("email"));
+        assertEquals(ALICE.getTelegramHandle().toString(), student.get("telegramHandle"));
+        assertEquals(List.of("tutorial-1"), student.get("tags"));
+        assertEquals(ALICE.getTimetable().convertToCommandString(), student.get("timetable"));
+    }
+
+    @Test
+    public void find_invalidArgs_returnsBadRequest() throws Exception {
+        HttpResponse<String> response = get("/find", "");
+        assertEquals(STATUS_BAD_REQUEST, response.statusCode());
+        assertTrue(JsonUtil.fromJsonString(response.body(), Map.class).containsKey("error"));
+    }
+
+    @Test
+    public void slots_validArgs_sameFeedbackAsCommand() throws Exception {
+        String expectedFeedback = new SlotsCommandParser().parse(" d/1")
+                .execute(new ModelManager(getTypicalAddressBook(), new UserPrefs())).getFeedbackToUser();
+
+        HttpResponse<String> response = get("/slots", "d/1");
+        assertEquals(STATUS_OK, response.statusCode());
+        Map<?, ?> json = JsonUtil.fromJsonString(response.body(), Map.class);
+        assertEquals(expectedFeedback, json.get("feedback"));
+        assertTrue(json.get("slots") instanceof List);
+    }
+
+    @Test
+    public void add_validArgs_studentCanBeFound() throws Exception {
+        HttpResponse<String> response = post("/add",
+                NAME_DESC_AMY + STUDENT_ID_DESC_AMY + EMAIL_DESC_AMY + TELEGRAM_HANDLE_DESC_AMY);
+        assertEquals(STATUS_OK, response.statusCode());
+        assertTrue(JsonUtil.fromJsonString(response.body(), Map.class).get("feedback").toString()
+                .startsWith(AddCommand.MESSAGE_SUCCESS.substring(0, AddCommand.MESSAGE_SUCCESS.indexOf('%'))));
+
+        Map<?, ?> json = JsonUtil.fromJsonString(get("/find", "n/Amy").body(), Map.class);
+        assertEquals(VALID_NAME_AMY, ((Map<?, ?>) ((List<?>) json.get("students")).get(0)).get("name"));
+    }
+
+    @Test
+    public void delete_existingStudent_studentRemoved() throws Exception {
+        HttpResponse<String> response = post("/delete", "s/" + ALICE.getStudentId());
+        assertEquals(STATUS_OK, response.statusCode());
+        assertEquals(String.format(DeleteCommand.MESSAGE_DELETE_STUDENT_SUCCESS, Messages.format(ALICE)),
+                JsonUtil.fromJsonString(response.body(), Map.class).get("feedback"));
+        assertTrue(model.getAddressBook().getStudentList().stream().noneMatch(ALICE::isSameStudent));
+    }
+
+    @Test
+    public void post_invalidBody_returnsBadRequest() throws Exception {
+        HttpResponse<String> response = send(HttpRequest.newBuilder(uri("/delete"))
+                .POST(HttpRequest.BodyPublishers.ofString("not json")));
+        assertEquals(STATUS_BAD_REQUEST, response.statusCode());
+        assertEquals(ApiServer.MESSAGE_INVALID_BODY, JsonUtil.fromJsonString(response.body(), Map.class).get("error"));
+    }
+
+    @Test
+    public void request_wrongMethodOrPath_returnsError() throws Exception {
+        assertEquals(STATUS_METHOD_NOT_ALLOWED, post("/find", "t/tutorial-1").statusCode());
+        assertEquals(STATUS_METHOD_NOT_ALLOWED, get("/delete", "s/" + ALICE.getStudentId()).statusCode());
+        assertEquals(STATUS_NOT_FOUND, get("/find/more", "t/tutorial-1").statusCode());
+    }
+
+    @Test
+    public void metrics_afterRequests_countsRequestsAndErrors() throws Exception {
+        get("/find", "t/tutorial-1");
+        get("/find", "");
+
+        EndpointMetrics findMetrics = apiServer.getEndpointMetrics().get("/" + FindCommand.COMMAND_WORD);
+        assertEquals(2, findMetrics.getRequestCount());
+        assertEquals(1, findMetrics.getErrorCount());
+
+        Map<?, ?> json = JsonUtil.fromJsonString(get("/metrics", "").body(), Map.class);
+        Map<?, ?> findJson = (Map<?, ?>) json.get("/" + FindCommand.COMMAND_WORD);
+        assertEquals(2, ((Number) findJson.get("count")).intValue());
+        assertEquals(1, ((Number) findJson.get("errors")).intValue());
+    }
+
+    @Test
+    public void getEndpointMetrics_modifyMap_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () -> apiServer.getEndpointMetrics().clear());
+    }
+
+    @Test
+    public void find_concurrentRequests_allSucceed() throws Exception {
+        List<CompletableFuture<HttpResponse<String>>> responses = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            responses.add(client.sendAsync(HttpRequest.newBuilder(uri("/find?args=" + encode("t/tutorial-1"))).build(),
+                    HttpResponse.BodyHandlers.ofString()));
+        }
+        for (CompletableFuture<HttpResponse<String>> response : responses) {
+            assertEquals(STATUS_OK, response.get().statusCode());
+        }
+        assertEquals(20, apiServer.getEndpointMetrics().get("/find").getRequestCount());
+    }
+
+    private HttpResponse<String> get(String path, String args) throws Exception {
+        return send(HttpRequest.newBuilder(uri(path + "?args=" + encode(args))).GET());
+    }
+
+    private HttpResponse<String> post(String path, String args) throws Exception {
+        String body = JsonUtil.toJsonString(Map.of(ApiServer.ARGS_PARAMETER, args));
+        return send(HttpRequest.newBuilder(uri(path)).POST(HttpRequest.BodyPublishers.ofString(body)));
+    }
+
+    private HttpResponse<String> send(HttpRequest.Builder request) throws Exception {
+        return client.send(request.build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private URI uri(String pathAndQuery) {
+        return URI.create("http://127.0.0.1:" + apiServer.getPort() + pathAndQuery);
+    }
+
+    private static String encode(String args) {
+        return URLEncoder.encode(args, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,145 @@
+package educonnect.commons.core;
+
+import static educonnect.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+public class AsyncLogHandlerTest {
+
+    @Test
+    public void constructor_invalidArguments_throwsException() {
+        assertThrows(NullPointerException.class, () -> new AsyncLogHandler(null, 1));
+        assertThrows(IllegalArgumentException.class, () -> new AsyncLogHandler(new RecordingHandler(), 0));
+    }
+
+    @Test
+    public void close_recordsPublished_allWrittenInOrder() {
+        RecordingHandler recordingHandler = new RecordingHandler();
+        AsyncLogHandler asyncHandler = new AsyncLogHandler(recordingHandler, AsyncLogHandler.DEFAULT_CAPACITY);
+        for (int i = 0; i < 1000; i++) {
+            asyncHandler.publish(new LogRecord(Level.INFO, "message " + i));
+        }
+        asyncHandler.close();
+
+        assertEquals(1000, recordingHandler.getMessages().size());
+        assertEquals("message 0", recordingHandler.getMessages().get(0));
+        assertEquals("message 999", recordingHandler.getMessages().get(999));
+        assertTrue(recordingHandler.isClosed);
+    }
+
+    @Test
+    public void publish_afterClose_ignored() {
+        RecordingHandler recordingHandler = new RecordingHandler();
+        AsyncLogHandler asyncHandler = new AsyncLogHandler(recordingHandler, AsyncLogHandler.DEFAULT_CAPACITY);
+        asyncHandler.close();
+        asyncHandler.publish(new LogRecord(Level.INFO, "message"));
+
+        assertEquals(List.of(), recordingHandler.getMessages());
+    }
+
+    @Test
+    public void publish_levelBelowHandlerLevel_ignored() {
+        RecordingHandler recordingHandler = new RecordingHandler();
+        AsyncLogHandler asyncHandler = new AsyncLogHandler(recordingHandler, AsyncLogHandler.DEFAULT_CAPACITY);
+        asyncHandler.setLevel(Level.INFO);
+        asyncHandler.publish(new LogRecord(Level.FINE, "fine"));
+        asyncHandler.publish(new LogRecord(Level.INFO, "info"));
+        asyncHandler.close();
+
+        assertEquals(List.of("info"), recordingHandler.getMessages());
+    }
+
+    @Test
+    public void publish_handlerBusy_recordsBatched() throws Exception {
+        BlockingHandler blockingHandler = new BlockingHandler();
+        AsyncLogHandler asyncHandler = new AsyncLogHandler(blockingHandler, AsyncLogHandler.DEFAULT_CAPACITY);
+        asyncHandler.publish(new LogRecord(Level.INFO, "first"));
+        assertTrue(blockingHandler.started.await(10, TimeUnit.SECONDS));
+
+        // Queued while the first record is being written, so written together
+        for (int i = 0; i < 10; i++) {
+            asyncHandler.publish(new LogRecord(Level.INFO, "message " + i));
+        }
+        blockingHandler.release.countDown();
+        asyncHandler.close();
+
+        assertEquals(11, blockingHandler.getMessages().size());
+        assertEquals(2, blockingHandler.numOfFlushes);
+    }
+
+    @Test
+    public void publish_queueFull_recordsDroppedWithoutWaiting() throws Exception {
+        BlockingHandler blockingHandler = new BlockingHandler();
+        AsyncLogHandler asyncHandler = new AsyncLogHandler(blockingHandler, 2);
+        asyncHandler.publish(new LogRecord(Level.INFO, "first"));
+        assertTrue(blockingHandler.started.await(10, TimeUnit.SECONDS));
+
+        for (int i = 0; i < 5; i++) {
+            asyncHandler.publish(new LogRecord(Level.INFO, "message " + i));
+        }
+        assertEquals(3, asyncHandler.getNumOfRecordsDropped());
+        blockingHandler.release.countDown();
+        asyncHandler.close();
+
+        assertEquals(List.of("first", String.format(AsyncLogHandler.MESSAGE_RECORDS_DROPPED, 3), "message 0",
+                "message 1"), blockingHandler.getMessages());
+    }
+
+    /**
+     * A handler that keeps the messages of the records published to it.
+     */
+    private static class RecordingHandler extends Handler {
+        protected final List<LogRecord> records = new ArrayList<>();
+        protected int numOfFlushes;
+        protected boolean isClosed;
+
+        @Override
+        public synchronized void publish(LogRecord record) {
+            records.add(record);
+        }
+
+        @Override
+        public synchronized void flush() {
+            numOfFlushes++;
+        }
+
+        @Override
+        public synchronized void close() {
+            isClosed = true;
+        }
+
+        public synchronized List<String> getMessages() {
+            return records.stream().map(LogRecord::getMessage).collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * A handler that blocks on the first record published to it until released.
+     */
+    private static class BlockingHandler extends RecordingHandler {
+        private final CountDownLatch started = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+
+        @Override
+        public void publish(LogRecord record) {
+            super.publish(record);
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
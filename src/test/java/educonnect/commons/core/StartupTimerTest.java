@@ -0,0 +1,78 @@
+package educonnect.commons.core;
+
+import static educonnect.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+public class StartupTimerTest {
+
+    @Test
+    public void time_step_returnsResultAndRecordsPhase() {
+        StartupTimer startupTimer = new StartupTimer();
+        assertEquals("loaded", startupTimer.time("data", () -> "loaded"));
+
+        List<StartupTimer.Phase> phases = startupTimer.getPhases();
+        assertEquals(1, phases.size());
+        assertEquals("data", phases.get(0).name);
+        assertEquals(Thread.currentThread().getName(), phases.get(0).threadName);
+        assertTrue(phases.get(0).startNanos >= 0);
+        assertTrue(phases.get(0).durationNanos >= 0);
+    }
+
+    @Test
+    public void time_failingStep_phaseStillRecorded() {
+        StartupTimer startupTimer = new StartupTimer();
+        assertThrows(IllegalStateException.class, () -> startupTimer.time("config", () -> {
+            throw new IllegalStateException();
+        }));
+        assertEquals("config", startupTimer.getPhases().get(0).name);
+    }
+
+    @Test
+    public void timeAsync_steps_runConcurrently() throws Exception {
+        StartupTimer startupTimer = new StartupTimer();
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            // Each step waits for the other to start, so neither can finish unless they run concurrently
+            CompletableFuture<Void> firstStarted = new CompletableFuture<>();
+            CompletableFuture<Void> secondStarted = new CompletableFuture<>();
+            CompletableFuture<Void> first = startupTimer.timeAsync("first", () -> {
+                firstStarted.complete(null);
+                secondStarted.join();
+            }, executor);
+            CompletableFuture<Void> second = startupTimer.timeAsync("second", () -> {
+                secondStarted.complete(null);
+                firstStarted.join();
+            }, executor);
+            CompletableFuture.allOf(first, second).get(10, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(List.of("first", "second"), startupTimer.getPhases().stream()
+                .map(phase -> phase.name).sorted().collect(Collectors.toList()));
+    }
+
+    @Test
+    public void finish_calledTwice_totalUnchanged() throws Exception {
+        StartupTimer startupTimer = new StartupTimer();
+        assertEquals(-1, startupTimer.getTotalNanos());
+        assertFalse(startupTimer.awaitFinish(0, TimeUnit.SECONDS));
+
+        long totalNanos = startupTimer.finish();
+        assertTrue(totalNanos >= 0);
+        assertEquals(totalNanos, startupTimer.finish());
+        assertEquals(totalNanos, startupTimer.getTotalNanos());
+        assertTrue(startupTimer.awaitFinish(0, TimeUnit.SECONDS));
+    }
+}
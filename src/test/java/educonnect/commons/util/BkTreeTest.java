@@ -0,0 +1,64 @@
+package educonnect.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import educonnect.testutil.Assert;
+
+public class BkTreeTest {
+
+    private final BkTree tree = new BkTree();
+
+    @Test
+    public void search_emptyTree_noMatches() {
+        assertTrue(tree.search("john", 2).isEmpty());
+    }
+
+    @Test
+    public void add_duplicateWord_ignored() {
+        tree.add("john");
+        tree.add("john");
+        assertEquals(1, tree.size());
+    }
+
+    @Test
+    public void search_withinMaxDistance_returnsDistances() {
+        for (String word : List.of("john", "jon", "joan", "alice", "benson", "meier")) {
+            tree.add(word);
+        }
+        assertEquals(Map.of("john", 2, "jon", 1, "joan", 2), tree.search("jonh", 2));
+        assertEquals(Map.of("meier", 0), tree.search("meier", 0));
+        assertTrue(tree.search("xyz", 1).isEmpty());
+        Assert.assertThrows(NullPointerException.class, () -> tree.search(null, 1));
+    }
+
+    @Test
+    public void search_randomWords_sameAsLinearScan() {
+        Random random = new Random(30);
+        List<String> words = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            StringBuilder word = new StringBuilder();
+            int length = 1 + random.nextInt(6);
+            for (int j = 0; j < length; j++) {
+                word.append((char) ('a' + random.nextInt(4)));
+            }
+            words.add(word.toString());
+            tree.add(word.toString());
+        }
+
+        for (String target : List.of("abc", "dd", "abcdab", "a")) {
+            Map<String, Integer> matches = tree.search(target, 2);
+            for (String word : words) {
+                int distance = StringUtil.editDistance(target, word);
+                assertEquals(distance <= 2, matches.containsKey(word));
+            }
+        }
+    }
+}
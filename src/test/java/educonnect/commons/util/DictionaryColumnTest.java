@@ -0,0 +1,70 @@
+package educonnect.commons.util;
+
+import static educonnect.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.junit.jupiter.api.Test;
+
+public class DictionaryColumnTest {
+
+    private final DictionaryColumn<String> column = new DictionaryColumn<>();
+
+    @Test
+    public void insert_equalValues_keptOnce() {
+        column.insert(0, "a");
+        column.insert(1, new String("a"));
+        column.insert(2, "b");
+        column.insert(3, null);
+
+        assertEquals(4, column.size());
+        assertEquals(2, column.getNumOfValues());
+        assertEquals(column.getCode(0), column.getCode(1));
+        assertEquals(DictionaryColumn.NO_VALUE, column.getCode(3));
+        assertNull(column.get(3));
+    }
+
+    @Test
+    public void insert_inMiddle_laterRowsShifted() {
+        for (int i = 0; i < 100; i++) {
+            column.insert(i, "value " + i);
+        }
+        column.insert(1, "inserted");
+
+        assertEquals("value 0", column.get(0));
+        assertEquals("inserted", column.get(1));
+        assertEquals("value 1", column.get(2));
+        assertEquals("value 99", column.get(100));
+        assertThrows(IndexOutOfBoundsException.class, () -> column.insert(102, "a"));
+    }
+
+    @Test
+    public void remove_lastRowWithValue_valueDroppedAndCodeReused() {
+        column.insert(0, "a");
+        column.insert(1, "b");
+        int code = column.getCode(0);
+        column.remove(0);
+
+        assertEquals(1, column.size());
+        assertEquals("b", column.get(0));
+        assertEquals(1, column.getNumOfValues());
+        assertEquals(DictionaryColumn.NO_VALUE, column.getCodeOf("a"));
+
+        column.set(0, "c");
+        assertEquals(code, column.getCode(0));
+        assertEquals(1, column.getNumOfValues());
+        assertThrows(IndexOutOfBoundsException.class, () -> column.get(1));
+    }
+
+    @Test
+    public void indexOf() {
+        column.insert(0, "a");
+        column.insert(1, "b");
+        column.insert(2, "a");
+
+        assertEquals(0, column.indexOf("a"));
+        assertEquals(1, column.indexOf("b"));
+        assertEquals(-1, column.indexOf("c"));
+        assertThrows(NullPointerException.class, () -> column.indexOf(null));
+    }
+}
@@ -0,0 +1,109 @@
+package educonnect.commons.util;
+
+import static educonnect.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class HeapSizeEstimatorTest {
+
+    private static final String CATEGORY = "category";
+
+    private HeapSizeEstimator estimator;
+
+    @BeforeEach
+    public void setUp() {
+        // The layout of a 64-bit JVM with a heap below 32 GB
+        estimator = new HeapSizeEstimator((object, referrer, referrerCategory) -> referrerCategory, true, true);
+    }
+
+    @Test
+    public void constructor_nullClassifier_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new HeapSizeEstimator(null));
+    }
+
+    @Test
+    public void add_null_nothingCounted() {
+        assertEquals(0, estimator.add(null, CATEGORY));
+        assertEquals(0, estimator.getTotalBytes());
+    }
+
+    @Test
+    public void add_string_stringAndValueCounted() {
+        // A 24 byte string, and its value of 16 bytes of header and 3 bytes of Latin-1 text
+        assertEquals(24 + 24, estimator.add("abc", CATEGORY));
+        assertEquals(2, estimator.getObjectCount(CATEGORY));
+    }
+
+    @Test
+    public void add_arrays_sizedByComponentType() {
+        assertEquals(16 + 8 * 3, estimator.add(new long[3], CATEGORY));
+        assertEquals(16 + 8, estimator.add(new byte[5], CATEGORY));
+        // An array of three references, and the two distinct strings in it
+        String text = "abc";
+        assertEquals(16 + 16 + 2 * 48, estimator.add(new Object[] {text, new String(text), text}, CATEGORY));
+    }
+
+    @Test
+    public void add_sharedObject_countedOnce() {
+        OwnObject shared = new OwnObject(null);
+        long sharedBytes = estimator.add(shared, CATEGORY);
+        assertEquals(0, estimator.add(shared, CATEGORY));
+
+        // 12 bytes of header, an int and a reference
+        assertEquals(24, sharedBytes);
+        assertEquals(24, estimator.add(new OwnObject(shared), CATEGORY));
+    }
+
+    @Test
+    public void add_cycle_terminates() {
+        List<Object> cycle = new ArrayList<>();
+        cycle.add(cycle);
+        assertTrue(estimator.add(cycle, CATEGORY) > 0);
+    }
+
+    @Test
+    public void add_hashSet_tableAndNodesCounted() {
+        Set<Integer> set = new HashSet<>(List.of(1, 2, 3));
+        // A set wrapping a map, a table of 16 references and a node for each of the cached integers
+        assertEquals(16 + 48 + (16 + 16 * 4) + 3 * 32, estimator.add(set, CATEGORY));
+        assertEquals(16 + 48, estimator.add(new HashSet<>(), CATEGORY));
+    }
+
+    @Test
+    public void add_bitSet_wordsCounted() {
+        BitSet bitSet = new BitSet();
+        bitSet.set(100);
+        // A 24 byte bit set and two words
+        assertEquals(24 + 16 + 2 * 8, estimator.add(bitSet, CATEGORY));
+    }
+
+    @Test
+    public void add_classifier_categoriesCounted() {
+        HeapSizeEstimator stringEstimator = new HeapSizeEstimator((object, referrer, referrerCategory) ->
+                object instanceof String ? "strings" : referrerCategory, true, true);
+        stringEstimator.add(new OwnObject("abc"), CATEGORY);
+
+        assertEquals(List.of(CATEGORY, "strings"), stringEstimator.getCategories());
+        assertEquals(48, stringEstimator.getBytes("strings"));
+        assertEquals(24, stringEstimator.getBytes(CATEGORY));
+        assertEquals(0, stringEstimator.getBytes("unknown"));
+    }
+
+    private static class OwnObject {
+        private final int value = 1;
+        private final Object reference;
+
+        OwnObject(Object reference) {
+            this.reference = reference;
+        }
+    }
+}
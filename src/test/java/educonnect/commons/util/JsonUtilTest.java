@@ -1,9 +1,16 @@
 package educonnect.commons.util;
 
+import static educonnect.testutil.Assert.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Iterator;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -39,7 +46,61 @@ public class JsonUtilTest {
         assertEquals(serializableTestClass.getMapOfIntegerToString(), SerializableTestClass.getHashMapTestValues());
     }
 
+    @Test
+    public void saveJsonFileIfChanged_sameObject_fileNotRewritten() throws IOException {
+        SerializableTestClass serializableTestClass = new SerializableTestClass();
+        serializableTestClass.setTestValues();
+        Files.deleteIfExists(SERIALIZATION_FILE);
+
+        assertTrue(JsonUtil.saveJsonFileIfChanged(serializableTestClass, SERIALIZATION_FILE));
+        assertEquals(SerializableTestClass.JSON_STRING_REPRESENTATION, FileUtil.readFromFile(SERIALIZATION_FILE));
+
+        FileTime lastModified = FileTime.fromMillis(0);
+        Files.setLastModifiedTime(SERIALIZATION_FILE, lastModified);
+        assertFalse(JsonUtil.saveJsonFileIfChanged(serializableTestClass, SERIALIZATION_FILE));
+        assertEquals(lastModified, Files.getLastModifiedTime(SERIALIZATION_FILE));
+    }
+
+    @Test
+    public void saveJsonFileIfChanged_differentContents_fileRewritten() throws IOException {
+        SerializableTestClass serializableTestClass = new SerializableTestClass();
+        serializableTestClass.setTestValues();
+        FileUtil.writeToFile(SERIALIZATION_FILE, "{}");
+
+        assertTrue(JsonUtil.saveJsonFileIfChanged(serializableTestClass, SERIALIZATION_FILE));
+        assertEquals(SerializableTestClass.JSON_STRING_REPRESENTATION, FileUtil.readFromFile(SERIALIZATION_FILE));
+    }
+
     //TODO: @Test jsonUtil_readJsonStringToObjectInstance_correctObject()
 
     //TODO: @Test jsonUtil_writeThenReadObjectToJson_correctObject()
+
+    @Test
+    public void saveJsonArrayFile_failsPartWay_existingFileKept() throws IOException {
+        FileUtil.writeToFile(SERIALIZATION_FILE, SerializableTestClass.JSON_STRING_REPRESENTATION);
+        Iterator<String> failingElements = new Iterator<>() {
+            private int numOfElements;
+
+            @Override
+            public boolean hasNext() {
+                return true;
+            }
+
+            @Override
+            public String next() {
+                if (numOfElements++ == 1) {
+                    throw new IllegalStateException("Failed to make the element");
+                }
+                return "element";
+            }
+        };
+
+        assertThrows(IllegalStateException.class, () ->
+                JsonUtil.saveJsonArrayFile(failingElements, "elements", SERIALIZATION_FILE));
+        assertEquals(SerializableTestClass.JSON_STRING_REPRESENTATION, FileUtil.readFromFile(SERIALIZATION_FILE));
+        assertFalse(Files.exists(SERIALIZATION_FILE.resolveSibling(SERIALIZATION_FILE.getFileName() + ".tmp")));
+
+        JsonUtil.saveJsonArrayFile(List.of("a", "b").iterator(), "elements", SERIALIZATION_FILE);
+        assertTrue(FileUtil.readFromFile(SERIALIZATION_FILE).contains("\"elements\" : [ \"a\", \"b\" ]"));
+    }
 }
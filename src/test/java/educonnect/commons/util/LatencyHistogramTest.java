@@ -0,0 +1,97 @@
+package educonnect.commons.util;
+
+import static educonnect.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class LatencyHistogramTest {
+
+    private final LatencyHistogram histogram = new LatencyHistogram();
+
+    @Test
+    public void getPercentileNanos_empty_returnsZero() {
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getMeanNanos());
+        assertEquals(0, histogram.getPercentileNanos(50));
+    }
+
+    @Test
+    public void getPercentileNanos_invalidPercentile_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> histogram.getPercentileNanos(-1));
+        assertThrows(IllegalArgumentException.class, () -> histogram.getPercentileNanos(100.5));
+    }
+
+    @Test
+    public void record_smallLatencies_exact() {
+        for (int nanos = 1; nanos <= 10; nanos++) {
+            histogram.record(nanos);
+        }
+        histogram.record(-5);
+        assertEquals(11, histogram.getCount());
+        assertEquals(5, histogram.getMeanNanos());
+        assertEquals(5, histogram.getPercentileNanos(50));
+        assertEquals(10, histogram.getPercentileNanos(100));
+        assertEquals(10, histogram.getMaxNanos());
+    }
+
+    @Test
+    public void getBucketUpperBound_everyBucket_boundsItsLatencies() {
+        long previousUpperBound = -1;
+        for (int bucket = 0; getBucketUpperBound(bucket) > previousUpperBound; bucket++) {
+            long upperBound = getBucketUpperBound(bucket);
+            assertEquals(bucket, LatencyHistogram.getBucket(previousUpperBound + 1));
+            assertEquals(bucket, LatencyHistogram.getBucket(upperBound));
+            previousUpperBound = upperBound;
+            if (upperBound == Long.MAX_VALUE) {
+                break;
+            }
+        }
+        assertEquals(Long.MAX_VALUE, previousUpperBound);
+    }
+
+    @Test
+    public void getPercentileNanos_randomLatencies_withinRelativeError() {
+        Random random = new Random(40);
+        long[] latencies = new long[10_000];
+        for (int i = 0; i < latencies.length; i++) {
+            latencies[i] = (long) Math.exp(random.nextDouble() * 20);
+            histogram.record(latencies[i]);
+        }
+        Arrays.sort(latencies);
+        for (double percentile : new double[] {1, 50, 95, 99, 99.9}) {
+            long actual = latencies[(int) Math.ceil(percentile / 100 * latencies.length) - 1];
+            long estimate = histogram.getPercentileNanos(percentile);
+            assertTrue(estimate >= actual, "p" + percentile + " underestimated");
+            assertTrue(estimate - actual <= actual / LatencyHistogram.SUB_BUCKETS, "p" + percentile + " too high");
+        }
+        assertEquals(latencies[latencies.length - 1], histogram.getPercentileNanos(100));
+    }
+
+    @Test
+    public void record_concurrently_noLatencyLost() throws Exception {
+        Thread[] threads = new Thread[4];
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = new Thread(() -> {
+                for (int nanos = 0; nanos < 10_000; nanos++) {
+                    histogram.record(nanos);
+                }
+            });
+            threads[i].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(40_000, histogram.getCount());
+        assertEquals(9_999, histogram.getMaxNanos());
+        assertEquals(9_999, histogram.getPercentileNanos(100));
+    }
+
+    private static long getBucketUpperBound(int bucket) {
+        return LatencyHistogram.getBucketUpperBound(bucket);
+    }
+}
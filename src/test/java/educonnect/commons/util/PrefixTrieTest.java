@@ -0,0 +1,129 @@
+package educonnect.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import educonnect.testutil.Assert;
+
+public class PrefixTrieTest {
+
+    private final PrefixTrie trie = new PrefixTrie();
+
+    @Test
+    public void complete_emptyTrie_noCompletions() {
+        assertTrue(trie.complete("", 10).isEmpty());
+        assertTrue(trie.complete("tut", 10).isEmpty());
+    }
+
+    @Test
+    public void complete_null_throwsNullPointerException() {
+        Assert.assertThrows(NullPointerException.class, () -> trie.complete(null, 10));
+        Assert.assertThrows(NullPointerException.class, () -> trie.add(null));
+    }
+
+    @Test
+    public void complete_orderedAndLimited() {
+        List.of("tutorial-2", "tutorial-10", "tutorial-1", "tut", "team", "strong-student").forEach(trie::add);
+
+        assertEquals(List.of("tut", "tutorial-1", "tutorial-10", "tutorial-2"), trie.complete("tut", 10));
+        assertEquals(List.of("tut", "tutorial-1"), trie.complete("tut", 2));
+        assertEquals(List.of("tutorial-1", "tutorial-10"), trie.complete("tutorial-1", 10));
+        assertEquals(List.of("team", "tut", "tutorial-1"), trie.complete("t", 3));
+        assertEquals(6, trie.complete("", 10).size());
+
+        // prefix ends inside a compressed node
+        assertEquals(List.of("tutorial-1", "tutorial-10", "tutorial-2"), trie.complete("tuto", 10));
+
+        // prefix diverges inside a compressed node
+        assertTrue(trie.complete("tutx", 10).isEmpty());
+        assertTrue(trie.complete("tutorial-100", 10).isEmpty());
+        assertTrue(trie.complete("tut", 0).isEmpty());
+    }
+
+    @Test
+    public void complete_ignoresCase() {
+        trie.add("A1234567X");
+        trie.add("@JohnDoe");
+        assertEquals(List.of("A1234567X"), trie.complete("a12", 10));
+        assertEquals(List.of("@JohnDoe"), trie.complete("@johnd", 10));
+    }
+
+    @Test
+    public void add_duplicateWord_removedAfterAsManyRemovals() {
+        trie.add("tutorial-1");
+        trie.add("tutorial-1");
+        assertEquals(1, trie.size());
+
+        trie.remove("tutorial-1");
+        assertEquals(List.of("tutorial-1"), trie.complete("tut", 10));
+        trie.remove("tutorial-1");
+        assertTrue(trie.complete("tut", 10).isEmpty());
+        assertEquals(0, trie.size());
+    }
+
+    @Test
+    public void remove_absentWord_ignored() {
+        trie.add("tutorial-1");
+        trie.remove("tutorial");
+        trie.remove("tutorial-12");
+        trie.remove("Tutorial-1");
+        trie.remove("x");
+        assertEquals(List.of("tutorial-1"), trie.complete("", 10));
+    }
+
+    @Test
+    public void remove_keepsOtherWords() {
+        List.of("tut", "tutor", "tutorial", "tutorials", "team").forEach(trie::add);
+
+        trie.remove("tutor");
+        assertEquals(List.of("tut", "tutorial", "tutorials"), trie.complete("tu", 10));
+        trie.remove("tut");
+        assertEquals(List.of("tutorial", "tutorials"), trie.complete("tu", 10));
+        trie.remove("tutorials");
+        assertEquals(List.of("team", "tutorial"), trie.complete("", 10));
+        trie.remove("tutorial");
+        assertEquals(List.of("team"), trie.complete("", 10));
+    }
+
+    @Test
+    public void complete_randomWords_sameAsSortedScan() {
+        Random random = new Random(38);
+        TreeSet<String> words = new TreeSet<>();
+        for (int i = 0; i < 2000; i++) {
+            String word = randomWord(random);
+            if (words.add(word)) {
+                trie.add(word);
+            }
+        }
+        for (int i = 0; i < 500; i++) {
+            String word = words.pollFirst();
+            trie.remove(word);
+        }
+        assertEquals(words.size(), trie.size());
+
+        for (int i = 0; i < 200; i++) {
+            String prefix = randomWord(random).substring(0, 1 + random.nextInt(2));
+            List<String> expected = words.stream()
+                    .filter(word -> word.startsWith(prefix))
+                    .limit(5)
+                    .collect(Collectors.toList());
+            assertEquals(expected, trie.complete(prefix, 5));
+        }
+    }
+
+    private static String randomWord(Random random) {
+        StringBuilder word = new StringBuilder();
+        int length = 2 + random.nextInt(6);
+        for (int i = 0; i < length; i++) {
+            word.append((char) ('a' + random.nextInt(4)));
+        }
+        return word.toString();
+    }
+}
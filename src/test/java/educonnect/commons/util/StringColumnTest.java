@@ -0,0 +1,141 @@
+package educonnect.commons.util;
+
+import static educonnect.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class StringColumnTest {
+
+    private final StringColumn column = new StringColumn();
+
+    @Test
+    public void insert_equalStrings_keptOnce() {
+        column.insert(0, "a");
+        column.insert(1, new String("a"));
+        column.insert(2, "b");
+        column.insert(3, null);
+        column.insert(4, "");
+
+        assertEquals(5, column.size());
+        assertEquals(3, column.getNumOfValues());
+        assertEquals(column.getCode(0), column.getCode(1));
+        assertEquals(StringColumn.NO_VALUE, column.getCode(3));
+        assertNull(column.get(3));
+        assertEquals("", column.get(4));
+    }
+
+    @Test
+    public void insert_manyStrings_allFound() {
+        for (int i = 0; i < 1000; i++) {
+            column.insert(i, "value " + i);
+        }
+        column.insert(1, "\u00fcn\u00efc\u00f6d\u00e9");
+
+        assertEquals("value 0", column.get(0));
+        assertEquals("\u00fcn\u00efc\u00f6d\u00e9", column.get(1));
+        assertEquals("value 999", column.get(1000));
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i == 0 ? 0 : i + 1, column.indexOf("value " + i));
+        }
+        assertThrows(IndexOutOfBoundsException.class, () -> column.insert(1002, "a"));
+    }
+
+    @Test
+    public void remove_manyStrings_spaceReusedAndRestStillFound() {
+        for (int i = 0; i < 1000; i++) {
+            column.insert(i, "value " + i);
+        }
+        for (int i = 999; i >= 0; i -= 2) {
+            column.remove(i);
+        }
+        for (int i = 0; i < 1000; i++) {
+            column.set(i / 2, "other value " + i);
+            column.set(i / 2, "value " + (i / 2 * 2));
+        }
+
+        assertEquals(500, column.size());
+        assertEquals(500, column.getNumOfValues());
+        for (int i = 0; i < 500; i++) {
+            assertEquals("value " + i * 2, column.get(i));
+            assertEquals(i, column.indexOf("value " + i * 2));
+        }
+        assertEquals(-1, column.indexOf("value 1"));
+        assertEquals(-1, column.indexOf("other value 1"));
+    }
+
+    @Test
+    public void indexOf() {
+        column.insert(0, "a");
+        column.insert(1, "b");
+        column.insert(2, "a");
+
+        assertEquals(0, column.indexOf("a"));
+        assertEquals(2, column.indexOf("a", 1));
+        assertEquals(-1, column.indexOf("a", 3));
+        assertEquals(-1, column.indexOf("c"));
+        assertThrows(NullPointerException.class, () -> column.indexOf(null));
+    }
+
+    @Test
+    public void indexOf_afterInsertsRemovesAndSets_firstRowFound() {
+        List<String> values = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            int row = i * 7 % (values.size() + 1);
+            String value = "value " + i % 13;
+            column.insert(row, value);
+            values.add(row, value);
+            if (i % 3 == 2) {
+                column.remove(i * 5 % values.size());
+                values.remove(i * 5 % values.size());
+            }
+            if (i % 4 == 0) {
+                column.set(i * 11 % values.size(), "value " + i % 17);
+                values.set(i * 11 % values.size(), "value " + i % 17);
+            }
+        }
+
+        for (int i = 0; i < 17; i++) {
+            String value = "value " + i;
+            assertEquals(values.indexOf(value), column.indexOf(value));
+            int fromRow = values.indexOf(value) + 1;
+            int nextRow = values.subList(fromRow, values.size()).indexOf(value);
+            assertEquals(nextRow < 0 ? -1 : fromRow + nextRow, column.indexOf(value, fromRow));
+        }
+    }
+
+    @Test
+    public void complete_afterInsertsRemovesAndSets_sameAsPrefixTrie() {
+        List<String> values = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            String value = (i % 2 == 0 ? "Value" : "value") + (i * 7 % 100);
+            values.add(value);
+            column.insert(column.size(), value);
+            if (i % 50 == 49) {
+                // sorts in the values added so far
+                column.complete("", 0);
+            }
+            if (i % 3 == 2) {
+                int row = i * 13 % values.size();
+                values.remove(row);
+                column.remove(row);
+            }
+            if (i % 5 == 4) {
+                int row = i * 11 % values.size();
+                values.set(row, "other" + i);
+                column.set(row, "other" + i);
+            }
+        }
+
+        PrefixTrie trie = new PrefixTrie();
+        values.forEach(trie::add);
+        for (String prefix : List.of("", "v", "VALUE1", "value9", "other", "x")) {
+            assertEquals(trie.complete(prefix, 1000), column.complete(prefix, 1000));
+            assertEquals(trie.complete(prefix, 3), column.complete(prefix, 3));
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package educonnect.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -46,6 +47,40 @@ public class StringUtilTest {
         assertTrue(StringUtil.isNonZeroUnsignedInteger("10"));
     }
 
+    //---------------- Tests for fuzzyMatchIgnoreCase and search keys --------------------------------------
+
+    @Test
+    public void fuzzyMatchIgnoreCase() {
+        assertTrue(StringUtil.fuzzyMatchIgnoreCase("ABc def", "abc"));
+        assertTrue(StringUtil.fuzzyMatchIgnoreCase("ABc def", "DEF"));
+        assertTrue(StringUtil.fuzzyMatchIgnoreCase("ABc def", " ABc d "));
+        assertFalse(StringUtil.fuzzyMatchIgnoreCase("ABc def", "abc def g"));
+        Assert.assertThrows(IllegalArgumentException.class, () -> StringUtil.fuzzyMatchIgnoreCase("ABc def", "  "));
+    }
+
+    @Test
+    public void containsSearchKey_sameAsFuzzyMatchIgnoreCase() {
+        String sentenceKey = StringUtil.toSearchKey("ABc def");
+        assertEquals("abc def", sentenceKey);
+        assertTrue(StringUtil.containsSearchKey(sentenceKey, StringUtil.toSearchKey("ABc d")));
+        assertFalse(StringUtil.containsSearchKey(sentenceKey, StringUtil.toSearchKey("abc def g")));
+        Assert.assertThrows(IllegalArgumentException.class, () -> StringUtil.containsSearchKey(sentenceKey, ""));
+        Assert.assertThrows(NullPointerException.class, () -> StringUtil.containsSearchKey(sentenceKey, null));
+    }
+
+    //---------------- Tests for editDistance --------------------------------------
+
+    @Test
+    public void editDistance() {
+        assertEquals(0, StringUtil.editDistance("john", "john"));
+        assertEquals(1, StringUtil.editDistance("jon", "john"));
+        assertEquals(2, StringUtil.editDistance("jonh", "john"));
+        assertEquals(4, StringUtil.editDistance("", "john"));
+        assertEquals(3, StringUtil.editDistance("kitten", "sitting"));
+        assertEquals(StringUtil.editDistance("sitting", "kitten"), StringUtil.editDistance("kitten", "sitting"));
+        Assert.assertThrows(NullPointerException.class, () -> StringUtil.editDistance(null, "john"));
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
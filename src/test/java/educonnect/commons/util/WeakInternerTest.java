@@ -0,0 +1,40 @@
+package educonnect.commons.util;
+
+import static educonnect.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.junit.jupiter.api.Test;
+
+public class WeakInternerTest {
+
+    @Test
+    public void intern_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new WeakInterner<String>().intern(null));
+    }
+
+    @Test
+    public void intern_equalValues_firstValueReturned() {
+        WeakInterner<String> interner = new WeakInterner<>();
+        String value = new String("value");
+        String equalValue = new String("value");
+
+        assertSame(value, interner.intern(value));
+        assertSame(value, interner.intern(equalValue));
+        assertSame(value, interner.intern(value));
+        assertEquals(1, interner.size());
+
+        assertSame(equalValue, new WeakInterner<String>().intern(equalValue));
+    }
+
+    @Test
+    public void intern_differentValues_eachKept() {
+        WeakInterner<String> interner = new WeakInterner<>();
+        String value = new String("value");
+        String otherValue = new String("other value");
+
+        assertSame(value, interner.intern(value));
+        assertSame(otherValue, interner.intern(otherValue));
+        assertEquals(2, interner.size());
+    }
+}
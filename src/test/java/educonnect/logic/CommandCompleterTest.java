@@ -0,0 +1,58 @@
+package educonnect.logic;
+
+import static educonnect.testutil.TypicalStudents.ALICE;
+import static educonnect.testutil.TypicalStudents.BENSON;
+import static educonnect.testutil.TypicalStudents.getTypicalStudents;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import educonnect.model.student.StudentCompletions;
+
+public class CommandCompleterTest {
+
+    private final StudentCompletions completions = new StudentCompletions(getTypicalStudents());
+
+    @Test
+    public void complete_tag() {
+        assertEquals(List.of("find t/tutorial-1", "find t/tutorial-2", "find t/tutorial-3"),
+                CommandCompleter.complete("find t/tut", completions, 10));
+        assertEquals(List.of("find n/alice t/strong-student"),
+                CommandCompleter.complete("find n/alice t/STR", completions, 10));
+        assertEquals(List.of("find (t/tutorial-1"), CommandCompleter.complete("find (t/tutorial-1", completions, 1));
+    }
+
+    @Test
+    public void complete_uniqueIdentifiers() {
+        String studentId = BENSON.getStudentId().value;
+        assertEquals(List.of("delete s:" + studentId),
+                CommandCompleter.complete("delete s:" + studentId.substring(0, 7), completions, 10));
+
+        String email = ALICE.getEmail().value;
+        assertEquals(List.of("edit e:x e/" + email),
+                CommandCompleter.complete("edit e:x e/" + email.substring(0, email.length() - 1), completions, 10));
+
+        String telegramHandle = ALICE.getTelegramHandle().value;
+        assertEquals(List.of("find h/" + telegramHandle),
+                CommandCompleter.complete("find h/" + telegramHandle, completions, 10));
+    }
+
+    @Test
+    public void complete_onlyLastValue() {
+        // the value being typed is after the last prefix
+        assertTrue(CommandCompleter.complete("find t/tut n/al", completions, 10).isEmpty());
+        assertTrue(CommandCompleter.complete("find s/A12 n/alice", completions, 10).isEmpty());
+
+        // prefixes must begin an argument
+        assertTrue(CommandCompleter.complete("find n/at/tut", completions, 10).isEmpty());
+        assertTrue(CommandCompleter.complete("list", completions, 10).isEmpty());
+    }
+
+    @Test
+    public void complete_limited() {
+        assertEquals(2, CommandCompleter.complete("find t/", completions, 2).size());
+    }
+}
@@ -0,0 +1,140 @@
+package educonnect.logic;
+
+import static educonnect.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import educonnect.storage.CommandHistoryStorage;
+
+public class CommandHistoryTest {
+
+    private final CommandHistory history = new CommandHistory();
+
+    @Test
+    public void constructor_invalidMaxSize_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new CommandHistory(null, 0));
+    }
+
+    @Test
+    public void add_repeatedCommand_movedToEnd() {
+        history.add("list");
+        history.add("find t/tutorial-1");
+        history.add("list");
+        history.add("  ");
+        assertEquals(List.of("find t/tutorial-1", "list"), history.getCommands());
+    }
+
+    @Test
+    public void add_full_oldestCommandsDropped() {
+        CommandHistory boundedHistory = new CommandHistory(null, 2);
+        boundedHistory.add("list");
+        boundedHistory.add("find t/tutorial-1");
+        boundedHistory.add("slots d/1");
+        assertEquals(List.of("find t/tutorial-1", "slots d/1"), boundedHistory.getCommands());
+        assertFalse(boundedHistory.findPrevious("list", Long.MAX_VALUE).isPresent());
+    }
+
+    @Test
+    public void findPreviousAndNext_movesThroughCommandsWithPrefix() {
+        history.add("find t/tutorial-1");
+        history.add("list");
+        history.add("find n/alice");
+        history.add("find t/tutorial-2");
+
+        CommandHistory.Entry latest = history.findPrevious("find", Long.MAX_VALUE).get();
+        assertEquals("find t/tutorial-2", latest.commandText);
+        CommandHistory.Entry previous = history.findPrevious("find", latest.number).get();
+        assertEquals("find n/alice", previous.commandText);
+        CommandHistory.Entry earliest = history.findPrevious("find", previous.number).get();
+        assertEquals("find t/tutorial-1", earliest.commandText);
+        assertFalse(history.findPrevious("find", earliest.number).isPresent());
+
+        assertEquals("find n/alice", history.findNext("find", earliest.number).get().commandText);
+        assertFalse(history.findNext("find", latest.number).isPresent());
+
+        // empty prefix -> every command
+        assertEquals("list", history.findPrevious("", previous.number).get().commandText);
+        assertFalse(history.findPrevious("delete", Long.MAX_VALUE).isPresent());
+    }
+
+    @Test
+    public void storage_loadedOnFirstUseAndAppended() {
+        CommandHistoryStorageStub storage = new CommandHistoryStorageStub(List.of("list", "find n/alice"));
+        CommandHistory storedHistory = new CommandHistory(storage, CommandHistory.DEFAULT_MAX_SIZE);
+        assertEquals(0, storage.numOfReads);
+
+        storedHistory.add("slots d/1");
+        assertEquals(1, storage.numOfReads);
+        assertEquals(List.of("slots d/1"), storage.appendedCommands);
+        assertEquals(List.of("list", "find n/alice", "slots d/1"), storedHistory.getCommands());
+        assertEquals(1, storage.numOfReads);
+    }
+
+    @Test
+    public void storage_failures_historyStillUsable() {
+        CommandHistory storedHistory = new CommandHistory(new FailingCommandHistoryStorage(), 10);
+        storedHistory.add("list");
+        assertEquals(Optional.of("list"),
+                storedHistory.findPrevious("", Long.MAX_VALUE).map(entry -> entry.commandText));
+        assertTrue(storedHistory.findNext("", Long.MIN_VALUE).isPresent());
+    }
+
+    /**
+     * A stub that records how it is used.
+     */
+    private static class CommandHistoryStorageStub implements CommandHistoryStorage {
+        private final List<String> storedCommands;
+        private final List<String> appendedCommands = new ArrayList<>();
+        private int numOfReads;
+
+        private CommandHistoryStorageStub(List<String> storedCommands) {
+            this.storedCommands = storedCommands;
+        }
+
+        @Override
+        public Path getCommandHistoryFilePath() {
+            return Paths.get("stub");
+        }
+
+        @Override
+        public List<String> readCommandHistory() {
+            numOfReads++;
+            return storedCommands;
+        }
+
+        @Override
+        public void appendCommand(String commandText) {
+            appendedCommands.add(commandText);
+        }
+    }
+
+    /**
+     * A stub that always fails.
+     */
+    private static class FailingCommandHistoryStorage implements CommandHistoryStorage {
+        @Override
+        public Path getCommandHistoryFilePath() {
+            return Paths.get("stub");
+        }
+
+        @Override
+        public List<String> readCommandHistory() throws IOException {
+            throw new IOException("dummy exception");
+        }
+
+        @Override
+        public void appendCommand(String commandText) throws IOException {
+            throw new IOException("dummy exception");
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package educonnect.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import educonnect.logic.CommandMetrics.Phase;
+
+public class CommandMetricsExporterTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2024-03-01T10:00:00Z"), ZoneOffset.UTC);
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void export_noCommands_fileNotCreated() throws Exception {
+        Path filePath = testFolder.resolve("metrics.csv");
+        new CommandMetricsExporter(new CommandMetrics(), filePath, CLOCK).export();
+        assertFalse(Files.exists(filePath));
+    }
+
+    @Test
+    public void export_twice_headerWrittenOnce() throws Exception {
+        Path filePath = testFolder.resolve("data").resolve("metrics.csv");
+        CommandMetrics metrics = new CommandMetrics();
+        metrics.record("list", Phase.PARSE, 2_000_000);
+        CommandMetricsExporter exporter = new CommandMetricsExporter(metrics, filePath, CLOCK);
+
+        exporter.export();
+        metrics.record("list", Phase.PARSE, 2_000_000);
+        exporter.export();
+
+        assertEquals(List.of(CommandMetricsExporter.CSV_HEADER,
+                "2024-03-01T10:00:00Z,list,parse,1,2.000,2.000,2.000,2.000,2.000",
+                "2024-03-01T10:00:00Z,list,parse,2,2.000,2.000,2.000,2.000,2.000"), Files.readAllLines(filePath));
+    }
+
+    @Test
+    public void export_noCommandsSinceLastExport_nothingAppended() throws Exception {
+        Path filePath = testFolder.resolve("metrics.csv");
+        CommandMetrics metrics = new CommandMetrics();
+        metrics.record("list", Phase.PARSE, 2_000_000);
+        CommandMetricsExporter exporter = new CommandMetricsExporter(metrics, filePath, CLOCK);
+
+        exporter.export();
+        exporter.export();
+        assertEquals(2, Files.readAllLines(filePath).size());
+    }
+}
@@ -0,0 +1,54 @@
+package educonnect.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import educonnect.logic.CommandMetrics.Phase;
+import educonnect.logic.CommandMetrics.Summary;
+
+public class CommandMetricsTest {
+
+    private final CommandMetrics metrics = new CommandMetrics();
+
+    @Test
+    public void getCommandWord() {
+        assertEquals("find", CommandMetrics.getCommandWord("  find t/tutorial-1"));
+        assertEquals("list", CommandMetrics.getCommandWord("list"));
+        assertEquals(CommandMetrics.INVALID_COMMAND_WORD, CommandMetrics.getCommandWord("   "));
+    }
+
+    @Test
+    public void getSummaries_noCommands_empty() {
+        assertTrue(metrics.getSummaries().isEmpty());
+    }
+
+    @Test
+    public void getSummaries_recordedPhases_orderedByCommandWordThenPhase() {
+        metrics.record("list", Phase.SAVE, 3_000_000);
+        metrics.record("list", Phase.PARSE, 1_000_000);
+        metrics.record("find", Phase.EXECUTE, 2_000_000);
+        metrics.record("find", Phase.EXECUTE, 4_000_000);
+
+        List<Summary> summaries = metrics.getSummaries();
+        assertEquals(3, summaries.size());
+        assertEquals("find", summaries.get(0).commandWord);
+        assertEquals(Phase.EXECUTE, summaries.get(0).phase);
+        assertEquals(2, summaries.get(0).count);
+        assertEquals(3.0, summaries.get(0).meanMillis);
+        assertEquals(4.0, summaries.get(0).maxMillis);
+        assertEquals(Phase.PARSE, summaries.get(1).phase);
+        assertEquals(Phase.SAVE, summaries.get(2).phase);
+    }
+
+    @Test
+    public void toCsvRow_matchesHeader() {
+        metrics.record("list", Phase.UI_REFRESH, 1_500_000);
+        Summary summary = metrics.getSummaries().get(0);
+        assertEquals("list,ui_refresh,1,1.500,1.500,1.500,1.500,1.500", summary.toCsvRow());
+        assertEquals(CommandMetrics.CSV_HEADER.split(",").length, summary.toCsvRow().split(",").length);
+    }
+}
@@ -0,0 +1,107 @@
+package educonnect.logic;
+
+import static educonnect.testutil.TypicalStudents.ALICE;
+import static educonnect.testutil.TypicalStudents.BENSON;
+import static educonnect.testutil.TypicalStudents.DANIEL;
+import static educonnect.testutil.TypicalStudents.getTypicalAddressBook;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import educonnect.model.Model;
+import educonnect.model.ModelManager;
+import educonnect.model.UserPrefs;
+import educonnect.storage.JsonAddressBookStorage;
+import educonnect.storage.JsonUserPrefsStorage;
+import educonnect.storage.StorageManager;
+
+public class LiveSearchTest {
+
+    private static final long TIMEOUT_SECONDS = 5;
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    /** Tasks handed to the UI thread, which the test runs itself. */
+    private final BlockingQueue<Runnable> uiTasks = new LinkedBlockingQueue<>();
+    private LiveSearch liveSearch;
+
+    @BeforeEach
+    public void setUp() {
+        StorageManager storage = new StorageManager(
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        liveSearch = new LiveSearch(new LogicManager(model, storage), uiTasks::add, 0);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        liveSearch.shutdown();
+    }
+
+    @Test
+    public void update_findCommand_showsResultsOnUiThread() throws Exception {
+        liveSearch.update("find n/Meier");
+        Runnable uiTask = uiTasks.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+        // nothing is shown until the UI thread runs the task
+        assertEquals(getTypicalAddressBook().getStudentList(), model.getFilteredStudentList());
+        uiTask.run();
+        assertEquals(List.of(BENSON, DANIEL), model.getFilteredStudentList());
+    }
+
+    @Test
+    public void update_newerChange_staleResultNotShown() throws Exception {
+        liveSearch.update("find n/Meier");
+        Runnable staleTask = uiTasks.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        liveSearch.update("find n/Alice");
+        Runnable latestTask = uiTasks.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+        latestTask.run();
+        staleTask.run();
+        assertEquals(List.of(ALICE), model.getFilteredStudentList());
+    }
+
+    @Test
+    public void update_studentsChanged_currentStudentsSearched() throws Exception {
+        liveSearch.update("find n/Meier");
+        uiTasks.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS).run();
+        model.deleteStudent(DANIEL);
+
+        liveSearch.update("find n/Meier ");
+        uiTasks.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS).run();
+        assertEquals(List.of(BENSON), model.getFilteredStudentList());
+    }
+
+    @Test
+    public void update_incompleteOrOtherCommand_studentListUnchanged() throws Exception {
+        liveSearch.update("find n/");
+        liveSearch.update("list");
+        liveSearch.update("find");
+        liveSearch.update("find n/Alice");
+        // only the last update can be shown, as each update cancels the ones before it
+        uiTasks.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS).run();
+        assertEquals(List.of(ALICE), model.getFilteredStudentList());
+        assertTrue(uiTasks.isEmpty());
+    }
+
+    @Test
+    public void cancel_pendingResult_notShown() throws Exception {
+        liveSearch.update("find n/Meier");
+        Runnable uiTask = uiTasks.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        liveSearch.cancel();
+        uiTask.run();
+        assertEquals(getTypicalAddressBook().getStudentList(), model.getFilteredStudentList());
+    }
+}
@@ -7,17 +7,23 @@ import static educonnect.logic.commands.CommandTestUtil.NAME_DESC_AMY;
 import static educonnect.logic.commands.CommandTestUtil.STUDENT_ID_DESC_AMY;
 import static educonnect.logic.commands.CommandTestUtil.TELEGRAM_HANDLE_DESC_AMY;
 import static educonnect.testutil.Assert.assertThrows;
+import static educonnect.testutil.FlightRecording.record;
 import static educonnect.testutil.TypicalStudents.AMY;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import educonnect.logic.CommandMetrics.Phase;
 import educonnect.logic.commands.AddCommand;
 import educonnect.logic.commands.CommandResult;
 import educonnect.logic.commands.DeleteCommand;
@@ -33,6 +39,7 @@ import educonnect.storage.JsonAddressBookStorage;
 import educonnect.storage.JsonUserPrefsStorage;
 import educonnect.storage.StorageManager;
 import educonnect.testutil.StudentBuilder;
+import jdk.jfr.consumer.RecordedEvent;
 
 public class LogicManagerTest {
     private static final IOException DUMMY_IO_EXCEPTION = new IOException("dummy IO exception");
@@ -71,6 +78,41 @@ public class LogicManagerTest {
         assertCommandSuccess(listCommand, ListCommand.MESSAGE_SUCCESS, model);
     }
 
+    @Test
+    public void execute_anyCommand_addedToHistory() throws Exception {
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertThrows(ParseException.class, () -> logic.execute("uicfhmowqewca"));
+        assertEquals(List.of(ListCommand.COMMAND_WORD, "uicfhmowqewca"), logic.getCommandHistory().getCommands());
+    }
+
+    @Test
+    public void execute_anyCommand_latenciesRecorded() throws Exception {
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertThrows(ParseException.class, () -> logic.execute("uicfhmowqewca"));
+
+        List<CommandMetrics.Summary> summaries = logic.getCommandMetrics().getSummaries();
+        assertEquals(List.of(CommandMetrics.INVALID_COMMAND_WORD, ListCommand.COMMAND_WORD,
+                ListCommand.COMMAND_WORD, ListCommand.COMMAND_WORD),
+                summaries.stream().map(summary -> summary.commandWord).collect(Collectors.toList()));
+        assertEquals(List.of(Phase.PARSE, Phase.PARSE, Phase.EXECUTE, Phase.SAVE),
+                summaries.stream().map(summary -> summary.phase).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void execute_anyCommand_flightRecorderEventsCommitted() throws Throwable {
+        List<RecordedEvent> events = record("educonnect.Command", () -> {
+            logic.execute(ListCommand.COMMAND_WORD);
+            assertThrows(ParseException.class, () -> logic.execute("uicfhmowqewca"));
+        });
+
+        assertEquals(List.of(ListCommand.COMMAND_WORD, ListCommand.COMMAND_WORD, CommandMetrics.INVALID_COMMAND_WORD),
+                events.stream().map(event -> event.getString("commandWord")).collect(Collectors.toList()));
+        assertEquals(List.of("parse", "execute", "parse"),
+                events.stream().map(event -> event.getString("phase")).collect(Collectors.toList()));
+        assertTrue(events.get(1).getBoolean("isSuccessful"));
+        assertFalse(events.get(2).getBoolean("isSuccessful"));
+    }
+
     @Test
     public void execute_storageThrowsIoException_throwsCommandException() {
         assertCommandFailureForExceptionFromStorage(DUMMY_IO_EXCEPTION, String.format(
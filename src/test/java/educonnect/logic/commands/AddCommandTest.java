@@ -10,6 +10,7 @@ import java.time.DayOfWeek;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.HashSet;
 import java.util.Optional;
 import java.util.function.Predicate;
@@ -257,6 +258,16 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void narrowFilteredStudentList(Predicate<Student> predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void sortFilteredStudentList(Comparator<Student> comparator) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public AvailableSlots findAllCommonSlots(int duration, Period timeframe, HashSet<DayOfWeek> days) {
             throw new AssertionError("This method should not be called.");
@@ -5,6 +5,8 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 public class CommandResultTest {
@@ -33,6 +35,13 @@ public class CommandResultTest {
 
         // different exit value -> returns false
         assertFalse(commandResult.equals(new CommandResult("feedback", false, true)));
+
+        // different textToCopy value -> returns false
+        assertFalse(commandResult.equals(new CommandResult("feedback", "copied")));
+
+        // different payload value -> returns false
+        assertFalse(commandResult.equals(
+                new CommandResult("feedback", new ResultPayload<>(List.of(1), String::valueOf))));
     }
 
     @Test
@@ -57,7 +66,14 @@ public class CommandResultTest {
         CommandResult commandResult = new CommandResult("feedback");
         String expected = CommandResult.class.getCanonicalName() + "{feedbackToUser="
                 + commandResult.getFeedbackToUser() + ", showHelp=" + commandResult.isShowHelp()
-                + ", exit=" + commandResult.isExit() + "}";
+                + ", exit=" + commandResult.isExit() + ", textToCopy=null, payload=null}";
         assertEquals(expected, commandResult.toString());
     }
+
+    @Test
+    public void getFullText() {
+        assertEquals("feedback", new CommandResult("feedback").getFullText());
+        assertEquals("feedback\n\n1\n2\n",
+                new CommandResult("feedback", new ResultPayload<>(List.of(1, 2), String::valueOf)).getFullText());
+    }
 }
@@ -64,8 +64,11 @@ public class CopyCommandTest {
 
         String expectedMessage = String.format(Messages.MESSAGE_STUDENT_EMAIL_COPIED_OVERVIEW,
                 students.size());
-        CopyCommand command = new CopyCommand(Collections.emptyList(), false);
-        CommandTestUtil.assertCommandSuccess(command, model, expectedMessage.toString(), expectedModel);
+        String expectedEmails = "alice@example.com, johnd@example.com, heinz@example.com, cornelia@example.com, "
+                + "werner@example.com, lydia@example.com, anna@example.com";
+        CopyCommand command = new CopyCommand(Collections.emptyList());
+        CommandTestUtil.assertCommandSuccess(command, model, new CommandResult(expectedMessage, expectedEmails),
+                expectedModel);
     }
 
     @Test
@@ -75,8 +78,10 @@ public class CopyCommandTest {
         ObservableList<Student> students = expectedModel.getFilteredStudentList();
 
         String expectedMessage = String.format(Messages.MESSAGE_STUDENT_EMAIL_COPIED_OVERVIEW, students.size());
-        CopyCommand command = new CopyCommand(List.of(predicate), false);
-        CommandTestUtil.assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        String expectedEmails = "johnd@example.com, lydia@example.com, anna@example.com";
+        CopyCommand command = new CopyCommand(List.of(predicate));
+        CommandTestUtil.assertCommandSuccess(command, model, new CommandResult(expectedMessage, expectedEmails),
+                expectedModel);
         assertEquals(Arrays.asList(TypicalStudents.BENSON, TypicalStudents.FIONA,
                 TypicalStudents.GEORGE), model.getFilteredStudentList());
     }
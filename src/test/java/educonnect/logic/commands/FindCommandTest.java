@@ -6,17 +6,21 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
 import educonnect.logic.Messages;
+import educonnect.logic.parser.FindQueryParser;
 import educonnect.model.Model;
 import educonnect.model.ModelManager;
 import educonnect.model.UserPrefs;
 import educonnect.model.student.Student;
 import educonnect.model.student.predicates.NameContainsKeywordsPredicate;
+import educonnect.model.student.predicates.NameSimilarToKeywordsPredicate;
+import educonnect.model.student.query.Query;
 import educonnect.testutil.TypicalStudents;
 
 /**
@@ -75,6 +79,35 @@ public class FindCommandTest {
                 TypicalStudents.DANIEL, TypicalStudents.ELLE), model.getFilteredStudentList());
     }
 
+    @Test
+    public void execute_query_matchingStudentsFound() throws Exception {
+        String expectedMessage = String.format(Messages.MESSAGE_STUDENTS_LISTED_OVERVIEW, 5);
+        Query query = FindQueryParser.parse(" (t/tutorial-1 OR t/tutorial-2) NOT n/Meier");
+        FindCommand command = new FindCommand(List.of(query));
+        expectedModel.updateFilteredStudentList(List.of(query));
+        CommandTestUtil.assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(TypicalStudents.ALICE, TypicalStudents.CARL, TypicalStudents.ELLE,
+                TypicalStudents.FIONA, TypicalStudents.GEORGE), model.getFilteredStudentList());
+        assertEquals(model.getFilteredStudentList(), command.findMatches(model.getAddressBook()));
+    }
+
+    @Test
+    public void execute_similarName_closestNamesFirst() {
+        String expectedMessage = String.format(Messages.MESSAGE_STUDENTS_LISTED_OVERVIEW, 3);
+        NameSimilarToKeywordsPredicate predicate = new NameSimilarToKeywordsPredicate("meyr");
+        FindCommand command = new FindCommand(List.of(predicate));
+        expectedModel.updateFilteredStudentList(List.of(predicate));
+        expectedModel.sortFilteredStudentList(Comparator.comparingInt(predicate::distanceTo));
+        CommandTestUtil.assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(TypicalStudents.ELLE, TypicalStudents.BENSON, TypicalStudents.DANIEL),
+                model.getFilteredStudentList());
+        assertEquals(model.getFilteredStudentList(), command.findMatches(model.getAddressBook()));
+
+        // a new filter resets the order
+        model.updateWithAllStudents();
+        assertEquals(TypicalStudents.getTypicalStudents(), model.getFilteredStudentList());
+    }
+
     @Test
     public void toStringMethod() {
         List<Predicate<Student>> predicates = List.of(new NameContainsKeywordsPredicate("keyword"));
@@ -0,0 +1,26 @@
+package educonnect.logic.commands;
+
+import static educonnect.testutil.TypicalStudents.getTypicalAddressBook;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+import educonnect.model.Model;
+import educonnect.model.ModelManager;
+import educonnect.model.UserPrefs;
+import educonnect.model.util.MemoryStats;
+
+public class MemStatsCommandTest {
+
+    @Test
+    public void execute_typicalStudents_estimateShown() {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+        CommandResult result = new MemStatsCommand().execute(model);
+
+        assertEquals(MemStatsCommand.MESSAGE_SUCCESS, result.getFeedbackToUser());
+        ResultPayload<?> payload = result.getPayload().get();
+        assertEquals(MemoryStats.of(model).format().size(), payload.size());
+        assertEquals(MemoryStats.of(model).format().get(0), payload.format(0));
+    }
+}
@@ -0,0 +1,88 @@
+package educonnect.logic.commands;
+
+import static educonnect.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+public class ResultPayloadTest {
+
+    private final ResultPayload<Integer> payload = new ResultPayload<>(List.of(1, 2, 3, 4, 5), i -> "line " + i);
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ResultPayload<>(null, String::valueOf));
+        assertThrows(NullPointerException.class, () -> new ResultPayload<>(List.of(1), null));
+    }
+
+    @Test
+    public void constructor_itemsCopied() {
+        List<Integer> items = new ArrayList<>(List.of(1, 2));
+        ResultPayload<Integer> copiedPayload = new ResultPayload<>(items, String::valueOf);
+        items.add(3);
+        assertEquals(2, copiedPayload.size());
+    }
+
+    @Test
+    public void getPageCount() {
+        assertEquals(1, payload.getPageCount(5));
+        assertEquals(2, payload.getPageCount(3));
+        assertEquals(5, payload.getPageCount(1));
+
+        // empty payload still has a page
+        assertEquals(1, new ResultPayload<>(List.of(), String::valueOf).getPageCount(3));
+
+        assertThrows(IllegalArgumentException.class, () -> payload.getPageCount(0));
+    }
+
+    @Test
+    public void formatPage() {
+        assertEquals("line 1\nline 2\nline 3\n", payload.formatPage(0, 3));
+        assertEquals("line 4\nline 5\n", payload.formatPage(1, 3));
+        assertEquals("", payload.formatPage(2, 3));
+
+        assertThrows(IndexOutOfBoundsException.class, () -> payload.formatPage(-1, 3));
+        assertThrows(IllegalArgumentException.class, () -> payload.formatPage(0, 0));
+    }
+
+    @Test
+    public void formatPage_onlyFormatsPage() {
+        AtomicInteger formattedItems = new AtomicInteger();
+        ResultPayload<Integer> countingPayload = new ResultPayload<>(List.of(1, 2, 3, 4, 5), i -> {
+            formattedItems.incrementAndGet();
+            return String.valueOf(i);
+        });
+        countingPayload.formatPage(1, 2);
+        assertEquals(2, formattedItems.get());
+    }
+
+    @Test
+    public void toPlainText() {
+        assertEquals("line 1\nline 2\nline 3\nline 4\nline 5\n", payload.toPlainText());
+        assertEquals("", new ResultPayload<>(List.of(), String::valueOf).toPlainText());
+    }
+
+    @Test
+    public void equals() {
+        // same items, different formatter -> returns true
+        assertTrue(payload.equals(new ResultPayload<>(List.of(1, 2, 3, 4, 5), String::valueOf)));
+
+        // same object -> returns true
+        assertTrue(payload.equals(payload));
+
+        // null -> returns false
+        assertFalse(payload.equals(null));
+
+        // different types -> returns false
+        assertFalse(payload.equals(5));
+
+        // different items -> returns false
+        assertFalse(payload.equals(new ResultPayload<>(List.of(1, 2, 3), String::valueOf)));
+    }
+}
@@ -11,6 +11,7 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
@@ -21,6 +22,7 @@ import educonnect.model.UserPrefs;
 import educonnect.model.student.Tag;
 import educonnect.model.student.predicates.TagContainsKeywordsPredicate;
 import educonnect.model.student.timetable.AvailableSlots;
+import educonnect.model.student.timetable.Day;
 import educonnect.model.student.timetable.Period;
 import educonnect.model.student.timetable.Timetable;
 
@@ -34,13 +36,14 @@ public class SlotsCommandTest {
 
         AvailableSlots expectedAvailableSlots = getExpectedAvailableSlots_allFields();
 
-        String expectedMessage = String.format(SlotsCommand.MESSAGE_FOUND_SLOTS_SUCCESS, expectedAvailableSlots);
+        CommandResult expectedResult = new CommandResult(SlotsCommand.MESSAGE_FOUND_SLOTS_SUCCESS,
+                SlotsCommand.createPayload(expectedAvailableSlots));
 
         Model expectedModel = new ModelManager(new AddressBook(model.getAddressBook()), new UserPrefs());
         expectedModel.updateFilteredStudentList(Collections.singleton(
                 new TagContainsKeywordsPredicate(new Tag("tutorial-1"))));
 
-        assertCommandSuccess(slotsCommand, model, expectedMessage, expectedModel);
+        assertCommandSuccess(slotsCommand, model, expectedResult, expectedModel);
     }
 
     @Test
@@ -57,11 +60,12 @@ public class SlotsCommandTest {
         expectedAvailableSlots.addPeriodsToDay(DayOfWeek.TUESDAY,
                 new ArrayList<>(List.of(new Period(Period.DEFAULT_PERIOD_NAME, "8-13"))));
 
-        String expectedMessage = String.format(SlotsCommand.MESSAGE_FOUND_SLOTS_SUCCESS, expectedAvailableSlots);
+        CommandResult expectedResult = new CommandResult(SlotsCommand.MESSAGE_FOUND_SLOTS_SUCCESS,
+                SlotsCommand.createPayload(expectedAvailableSlots));
 
         Model expectedModel = new ModelManager(new AddressBook(model.getAddressBook()), new UserPrefs());
 
-        assertCommandSuccess(slotsCommand, model, expectedMessage, expectedModel);
+        assertCommandSuccess(slotsCommand, model, expectedResult, expectedModel);
     }
 
     @Test
@@ -76,6 +80,18 @@ public class SlotsCommandTest {
         assertCommandSuccess(slotsCommand, model, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void createPayload_lineForEachDayAndPeriod() {
+        AvailableSlots availableSlots = getExpectedAvailableSlots_allFields();
+        ResultPayload<?> payload = SlotsCommand.createPayload(availableSlots);
+
+        // 2 days with 3 periods each
+        assertEquals(8, payload.size());
+        assertEquals(2, payload.getPageCount(4));
+        assertEquals(availableSlots.getDays().stream().map(Day::toString).collect(Collectors.joining()),
+                payload.toPlainText());
+    }
+
     @Test
     public void equals() {
         SlotsCommand slotsCommand = new SlotsCommand(getSlotsFinderDescriptor_allFields());
@@ -0,0 +1,40 @@
+package educonnect.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import educonnect.logic.CommandMetrics;
+import educonnect.logic.CommandMetrics.Phase;
+import educonnect.model.ModelManager;
+
+public class StatsCommandTest {
+
+    @Test
+    public void execute_recordedCommands_summariesShown() {
+        CommandMetrics metrics = new CommandMetrics();
+        metrics.record("list", Phase.PARSE, 1_000_000);
+        metrics.record("list", Phase.EXECUTE, 2_000_000);
+
+        CommandResult result = new StatsCommand(metrics).execute(new ModelManager());
+
+        assertEquals(StatsCommand.MESSAGE_SUCCESS, result.getFeedbackToUser());
+        ResultPayload<?> payload = result.getPayload().get();
+        assertEquals(2, payload.size());
+        assertEquals(metrics.getSummaries().get(0).format(), payload.format(0));
+    }
+
+    @Test
+    public void equals() {
+        CommandMetrics metrics = new CommandMetrics();
+        StatsCommand statsCommand = new StatsCommand(metrics);
+
+        assertTrue(statsCommand.equals(statsCommand));
+        assertTrue(statsCommand.equals(new StatsCommand(metrics)));
+        assertFalse(statsCommand.equals(new StatsCommand(new CommandMetrics())));
+        assertFalse(statsCommand.equals(null));
+        assertFalse(statsCommand.equals(1));
+    }
+}
@@ -23,7 +23,9 @@ import educonnect.logic.commands.ExitCommand;
 import educonnect.logic.commands.FindCommand;
 import educonnect.logic.commands.HelpCommand;
 import educonnect.logic.commands.ListCommand;
+import educonnect.logic.commands.MemStatsCommand;
 import educonnect.logic.commands.SlotsCommand;
+import educonnect.logic.commands.StatsCommand;
 import educonnect.logic.parser.exceptions.ParseException;
 import educonnect.model.student.Student;
 import educonnect.model.student.StudentId;
@@ -105,6 +107,16 @@ public class AddressBookParserTest {
         assertTrue(parser.parseCommand(SlotsCommand.COMMAND_WORD + " d/5 t/T01") instanceof SlotsCommand);
     }
 
+    @Test
+    public void parseCommand_stats() throws Exception {
+        assertTrue(parser.parseCommand(StatsCommand.COMMAND_WORD) instanceof StatsCommand);
+    }
+
+    @Test
+    public void parseCommand_memStats() throws Exception {
+        assertTrue(parser.parseCommand(MemStatsCommand.COMMAND_WORD) instanceof MemStatsCommand);
+    }
+
     @Test
     public void parseCommand_unrecognisedInput_throwsParseException() {
         assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE), ()
@@ -15,6 +15,7 @@ import static educonnect.logic.commands.CommandTestUtil.VALID_TAG_PREDICATE;
 import static educonnect.logic.commands.CommandTestUtil.VALID_TELEGRAM_HANDLE_PREDICATE;
 import static educonnect.logic.parser.CliSyntax.PREFIX_EMAIL;
 import static educonnect.logic.parser.CliSyntax.PREFIX_NAME;
+import static educonnect.logic.parser.CliSyntax.PREFIX_NAME_SIMILAR;
 import static educonnect.logic.parser.CliSyntax.PREFIX_STUDENT_ID;
 import static educonnect.logic.parser.CliSyntax.PREFIX_TAG;
 import static educonnect.logic.parser.CliSyntax.PREFIX_TELEGRAM_HANDLE;
@@ -27,6 +28,7 @@ import org.junit.jupiter.api.Test;
 
 import educonnect.logic.commands.FindCommand;
 import educonnect.model.student.Tag;
+import educonnect.model.student.predicates.NameSimilarToKeywordsPredicate;
 
 public class FindCommandParserTest {
 
@@ -46,6 +48,8 @@ public class FindCommandParserTest {
     public void parse_emptyPrefixArg_throwsParseException() {
         assertParseFailure(parser, " " + PREFIX_NAME.getPrefix(),
                 getErrorMessageForEmptyArguments(PREFIX_NAME));
+        assertParseFailure(parser, " " + PREFIX_NAME_SIMILAR.getPrefix(),
+                getErrorMessageForEmptyArguments(PREFIX_NAME_SIMILAR));
         assertParseFailure(parser, " " + PREFIX_STUDENT_ID.getPrefix(),
                 getErrorMessageForEmptyArguments(PREFIX_STUDENT_ID));
         assertParseFailure(parser, " " + PREFIX_EMAIL.getPrefix(),
@@ -71,6 +75,9 @@ public class FindCommandParserTest {
 
         expectedCommand = new FindCommand(List.of(VALID_TAG_PREDICATE));
         assertParseSuccess(parser, TAG_DESC_FRIEND, expectedCommand);
+
+        expectedCommand = new FindCommand(List.of(new NameSimilarToKeywordsPredicate("jonh")));
+        assertParseSuccess(parser, " " + PREFIX_NAME_SIMILAR + "jonh", expectedCommand);
     }
     @Test
     public void parse_multipleArg_success() {
@@ -90,4 +97,10 @@ public class FindCommandParserTest {
         expectedCommand = new FindCommand(List.of(VALID_TELEGRAM_HANDLE_PREDICATE, VALID_EMAIL_PREDICATE));
         assertParseSuccess(parser, userInput, expectedCommand);
     }
+
+    @Test
+    public void parse_query_returnsFindCommandWithQuery() throws Exception {
+        String args = " " + PREFIX_TAG + "tutorial-1 OR " + PREFIX_TAG + "tutorial-2";
+        assertParseSuccess(parser, args, new FindCommand(List.of(FindQueryParser.parse(args))));
+    }
 }
@@ -0,0 +1,80 @@
+package educonnect.logic.parser;
+
+import static educonnect.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static educonnect.logic.Messages.getErrorMessageForEmptyArguments;
+import static educonnect.logic.parser.CliSyntax.PREFIX_NAME;
+import static educonnect.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import educonnect.logic.commands.FindCommand;
+import educonnect.logic.parser.exceptions.ParseException;
+import educonnect.model.student.Tag;
+import educonnect.model.student.predicates.NameContainsKeywordsPredicate;
+import educonnect.model.student.predicates.NameSimilarToKeywordsPredicate;
+import educonnect.model.student.predicates.TagContainsKeywordsPredicate;
+import educonnect.model.student.query.Query;
+
+public class FindQueryParserTest {
+
+    private static final TagContainsKeywordsPredicate TUTORIAL_1 =
+            new TagContainsKeywordsPredicate(new Tag("tutorial-1"));
+    private static final TagContainsKeywordsPredicate TUTORIAL_2 =
+            new TagContainsKeywordsPredicate(new Tag("tutorial-2"));
+    private static final NameContainsKeywordsPredicate NAME_MEIER = new NameContainsKeywordsPredicate("Meier");
+
+    private static final String MESSAGE_INVALID_QUERY =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE);
+
+    @Test
+    public void isQuery() {
+        assertTrue(FindQueryParser.isQuery(" t/tutorial-1 OR t/tutorial-2"));
+        assertTrue(FindQueryParser.isQuery(" NOT t/tutorial-1"));
+        assertTrue(FindQueryParser.isQuery(" (t/tutorial-1)"));
+
+        // operators are case-sensitive whole words
+        assertFalse(FindQueryParser.isQuery(" n/George or t/tutorial-1"));
+        assertFalse(FindQueryParser.isQuery(" n/ORlando t/tutorial-1"));
+    }
+
+    @Test
+    public void parse_validQuery_returnsQuery() throws Exception {
+        assertEquals(Query.anyOf(List.of(TUTORIAL_1, TUTORIAL_2)),
+                FindQueryParser.parse(" t/tutorial-1 OR t/tutorial-2"));
+
+        // NOT binds tighter than AND, which binds tighter than OR
+        assertEquals(Query.anyOf(List.of(TUTORIAL_1, Query.allOf(List.of(NAME_MEIER, Query.not(TUTORIAL_2))))),
+                FindQueryParser.parse(" t/tutorial-1 OR n/Meier AND NOT t/tutorial-2"));
+
+        // brackets and implicit AND
+        assertEquals(Query.allOf(List.of(Query.anyOf(List.of(TUTORIAL_1, TUTORIAL_2)), Query.not(NAME_MEIER))),
+                FindQueryParser.parse(" (t/tutorial-1 OR t/tutorial-2) NOT n/Meier"));
+
+        // values with spaces run up to the next operator
+        assertEquals(Query.anyOf(List.of(new NameContainsKeywordsPredicate("Alex Yeoh"), TUTORIAL_1)),
+                FindQueryParser.parse(" n/Alex Yeoh OR t/tutorial-1"));
+
+        // similar name terms
+        assertEquals(Query.allOf(List.of(Query.of(new NameSimilarToKeywordsPredicate("jonh")), Query.not(TUTORIAL_1))),
+                FindQueryParser.parse(" n~/jonh NOT t/tutorial-1"));
+    }
+
+    @Test
+    public void parse_invalidQuery_throwsParseException() {
+        assertThrows(ParseException.class, MESSAGE_INVALID_QUERY, () -> FindQueryParser.parse(" t/tutorial-1 OR"));
+        assertThrows(ParseException.class, MESSAGE_INVALID_QUERY, () -> FindQueryParser.parse(" (t/tutorial-1"));
+        assertThrows(ParseException.class, MESSAGE_INVALID_QUERY, () -> FindQueryParser.parse(" t/tutorial-1)"));
+        assertThrows(ParseException.class, MESSAGE_INVALID_QUERY, () -> FindQueryParser.parse(" OR t/tutorial-1"));
+        assertThrows(ParseException.class, MESSAGE_INVALID_QUERY, () -> FindQueryParser.parse(" alex OR t/a"));
+        assertThrows(ParseException.class, MESSAGE_INVALID_QUERY, () -> FindQueryParser.parse(" ()"));
+        assertThrows(ParseException.class, getErrorMessageForEmptyArguments(PREFIX_NAME), () ->
+                FindQueryParser.parse(" n/ OR t/tutorial-1"));
+        assertThrows(ParseException.class, Tag.MESSAGE_CONSTRAINTS, () ->
+                FindQueryParser.parse(" t/tutorial_1 OR t/tutorial-2"));
+    }
+}
@@ -4,6 +4,7 @@ import static educonnect.logic.parser.ParserUtil.MESSAGE_INVALID_INDEX;
 import static educonnect.testutil.Assert.assertThrows;
 import static educonnect.testutil.TypicalIndexes.INDEX_FIRST_STUDENT;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.time.DayOfWeek;
@@ -23,6 +24,7 @@ import educonnect.model.student.Link;
 import educonnect.model.student.Name;
 import educonnect.model.student.StudentId;
 import educonnect.model.student.Tag;
+import educonnect.model.student.TagDictionary;
 import educonnect.model.student.TelegramHandle;
 import educonnect.model.student.timetable.Period;
 import educonnect.model.student.timetable.Timetable;
@@ -183,6 +185,17 @@ public class ParserUtilTest {
         assertEquals(expectedTag, ParserUtil.parseTag(tagWithWhitespace));
     }
 
+    @Test
+    public void parseTagToFind_nameNotInUse_notAddedToDictionary() throws Exception {
+        int size = TagDictionary.getInstance().size();
+        assertEquals(Tag.NO_ID, ParserUtil.parseTagToFind(WHITESPACE + "tag nobody has" + WHITESPACE).getId());
+        assertEquals(Tag.NO_ID, ParserUtil.parseTagsToFind(List.of("tag nob")).iterator().next().getId());
+        assertEquals(size, TagDictionary.getInstance().size());
+        assertThrows(ParseException.class, () -> ParserUtil.parseTagToFind(INVALID_TAG));
+
+        assertSame(Tag.of(VALID_TAG_1), ParserUtil.parseTagToFind(VALID_TAG_1));
+    }
+
     @Test
     public void parseTags_null_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> ParserUtil.parseTags(null));
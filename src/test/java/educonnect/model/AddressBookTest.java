@@ -86,6 +86,18 @@ public class AddressBookTest {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getStudentList().remove(0));
     }
 
+    @Test
+    public void columnar_copiesKeepStudentsInColumns() {
+        AddressBook columnarAddressBook = AddressBook.columnar(getTypicalAddressBook());
+        assertTrue(columnarAddressBook.isColumnar());
+        assertFalse(addressBook.isColumnar());
+        assertEquals(getTypicalAddressBook(), columnarAddressBook);
+
+        AddressBook copy = new AddressBook(columnarAddressBook);
+        assertTrue(copy.isColumnar());
+        assertEquals(columnarAddressBook, copy);
+    }
+
     @Test
     public void toStringMethod() {
         String expected = AddressBook.class.getCanonicalName() + "{students=" + addressBook.getStudentList() + "}";
@@ -0,0 +1,89 @@
+package educonnect.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+public class IndexSortedListTest {
+
+    private static final Comparator<String> BY_LENGTH = Comparator.comparingInt(String::length);
+
+    private final ObservableList<String> source = FXCollections.observableArrayList("ccc", "a", "bb", "d", "ee");
+    private final IndexSortedList<String> sortedList = new IndexSortedList<>(source);
+    // The list as seen by a listener that only applies the changes fired
+    private final List<String> listenerCopy = new ArrayList<>(sortedList);
+
+    @BeforeEach
+    public void setUp() {
+        sortedList.addListener((ListChangeListener<String>) change -> {
+            while (change.next()) {
+                int from = change.getFrom();
+                if (change.wasPermutated()) {
+                    List<String> permuted = new ArrayList<>(listenerCopy.subList(from, change.getTo()));
+                    for (int i = from; i < change.getTo(); i++) {
+                        listenerCopy.set(change.getPermutation(i), permuted.get(i - from));
+                    }
+                } else if (!change.wasUpdated()) {
+                    List<String> removed = listenerCopy.subList(from, from + change.getRemovedSize());
+                    assertEquals(removed, change.getRemoved());
+                    removed.clear();
+                    listenerCopy.addAll(from, change.getAddedSubList());
+                }
+            }
+        });
+    }
+
+    @Test
+    public void setComparator_equalElementsKeepSourceOrder() {
+        sortedList.setComparator(BY_LENGTH);
+        assertEquals(List.of("a", "d", "bb", "ee", "ccc"), sortedList);
+        assertEquals(sortedList, listenerCopy);
+        assertEquals(source.indexOf("bb"), sortedList.getSourceIndex(2));
+        assertEquals(4, sortedList.getViewIndex(source.indexOf("ccc")));
+
+        sortedList.setComparator(null);
+        assertEquals(source, sortedList);
+        assertEquals(sortedList, listenerCopy);
+    }
+
+    @Test
+    public void sourceChanged_noComparator_changesForwarded() {
+        source.add(1, "ff");
+        source.remove("d");
+        source.set(0, "g");
+
+        assertEquals(source, sortedList);
+        assertEquals(sortedList, listenerCopy);
+    }
+
+    @Test
+    public void sourceChanged_withComparator_staysSorted() {
+        sortedList.setComparator(BY_LENGTH);
+        source.add(0, "hhhh");
+        source.add("i");
+        source.remove("bb");
+        source.set(source.indexOf("a"), "jj");
+        assertEquals(List.of("d", "i", "jj", "ee", "ccc", "hhhh"), sortedList);
+        assertEquals(sortedList, listenerCopy);
+        for (int i = 0; i < sortedList.size(); i++) {
+            assertEquals(i, sortedList.getViewIndex(sortedList.getSourceIndex(i)));
+        }
+
+        source.setAll("kk", "l", "mmm", "n");
+        assertEquals(List.of("l", "n", "kk", "mmm"), sortedList);
+        assertEquals(sortedList, listenerCopy);
+
+        source.clear();
+        assertEquals(List.of(), sortedList);
+        assertEquals(sortedList, listenerCopy);
+    }
+}
@@ -1,21 +1,33 @@
 package educonnect.model;
 
+import static educonnect.testutil.FlightRecording.record;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.lang.ref.WeakReference;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.DayOfWeek;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 import educonnect.commons.core.GuiSettings;
+import educonnect.model.student.Student;
+import educonnect.model.student.Tag;
 import educonnect.model.student.predicates.NameContainsKeywordsPredicate;
+import educonnect.model.student.predicates.TagContainsKeywordsPredicate;
+import educonnect.model.student.timetable.Period;
 import educonnect.testutil.AddressBookBuilder;
 import educonnect.testutil.Assert;
+import educonnect.testutil.StudentBuilder;
 import educonnect.testutil.TypicalStudents;
+import jdk.jfr.consumer.RecordedEvent;
 
 public class ModelManagerTest {
 
@@ -99,6 +111,87 @@ public class ModelManagerTest {
         Assert.assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredStudentList().remove(0));
     }
 
+    @Test
+    public void narrowFilteredStudentList_keepsCurrentFilter() {
+        modelManager = new ModelManager(TypicalStudents.getTypicalAddressBook(), new UserPrefs());
+        modelManager.updateFilteredStudentList(List.of(new TagContainsKeywordsPredicate(new Tag("tutorial-2"))));
+        modelManager.narrowFilteredStudentList(new NameContainsKeywordsPredicate("Meier"));
+        assertEquals(List.of(TypicalStudents.BENSON), modelManager.getFilteredStudentList());
+
+        // without a filter -> narrows all students
+        modelManager.updateWithAllStudents();
+        modelManager.narrowFilteredStudentList(new NameContainsKeywordsPredicate("Meier"));
+        assertEquals(List.of(TypicalStudents.BENSON, TypicalStudents.DANIEL), modelManager.getFilteredStudentList());
+    }
+
+    @Test
+    public void updateFilteredStudentList_flightRecorderEventsCommitted() throws Throwable {
+        modelManager = new ModelManager(TypicalStudents.getTypicalAddressBook(), new UserPrefs());
+        List<RecordedEvent> events = record("educonnect.FilteredListUpdate", () -> {
+            modelManager.updateFilteredStudentList(List.of(new TagContainsKeywordsPredicate(new Tag("tutorial-2"))));
+            modelManager.narrowFilteredStudentList(new NameContainsKeywordsPredicate("Meier"));
+            modelManager.sortFilteredStudentList(null);
+        });
+
+        assertEquals(List.of("filter", "narrow", "sort"),
+                events.stream().map(event -> event.getString("update")).collect(Collectors.toList()));
+        assertEquals(1, events.get(1).getInt("numOfListedStudents"));
+        assertEquals(TypicalStudents.getTypicalStudents().size(), events.get(1).getInt("numOfStudents"));
+    }
+
+    @Test
+    public void getFilteredStudentList_columnarAddressBook_studentsNotKept() throws InterruptedException {
+        modelManager = new ModelManager(AddressBook.columnar(getCopyOfTypicalAddressBook()), new UserPrefs());
+        WeakReference<Student> listedStudent = new WeakReference<>(modelManager.getFilteredStudentList().get(0));
+        assertTrue(isCollected(listedStudent));
+
+        // filtered with the student index, then sorted
+        modelManager.updateFilteredStudentList(List.of(new TagContainsKeywordsPredicate(new Tag("tutorial-2"))));
+        modelManager.sortFilteredStudentList(
+                Comparator.comparing((Student student) -> student.getName().fullName).reversed());
+        listedStudent = new WeakReference<>(modelManager.getFilteredStudentList().get(0));
+        assertEquals(TypicalStudents.GEORGE, listedStudent.get());
+        assertTrue(isCollected(listedStudent));
+
+        // the sorted list follows the changes to the address book
+        modelManager.deleteStudent(TypicalStudents.GEORGE);
+        listedStudent = new WeakReference<>(modelManager.getFilteredStudentList().get(0));
+        assertEquals(TypicalStudents.FIONA, listedStudent.get());
+        assertTrue(isCollected(listedStudent));
+    }
+
+    /**
+     * Returns an address book of copies of the typical students, which, unlike them, are only held by it.
+     */
+    private static AddressBook getCopyOfTypicalAddressBook() {
+        AddressBookBuilder builder = new AddressBookBuilder();
+        for (Student student : TypicalStudents.getTypicalStudents()) {
+            builder.withStudent(new StudentBuilder(student).build());
+        }
+        return builder.build();
+    }
+
+    private static boolean isCollected(WeakReference<?> reference) throws InterruptedException {
+        for (int i = 0; i < 50 && reference.get() != null; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        return reference.get() == null;
+    }
+
+    @Test
+    public void findAllCommonSlots_flightRecorderEventCommitted() throws Throwable {
+        modelManager = new ModelManager(TypicalStudents.getTypicalAddressBook(), new UserPrefs());
+        HashSet<DayOfWeek> days = new HashSet<>(List.of(DayOfWeek.MONDAY, DayOfWeek.TUESDAY));
+        List<RecordedEvent> events = record("educonnect.SlotSearch", () ->
+                modelManager.findAllCommonSlots(2, new Period(Period.DEFAULT_PERIOD_NAME, "08-20"), days));
+
+        assertEquals(1, events.size());
+        assertEquals(TypicalStudents.getTypicalStudents().size(), events.get(0).getInt("numOfStudents"));
+        assertEquals(2, events.get(0).getInt("slotHours"));
+        assertEquals(2, events.get(0).getInt("numOfDays"));
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withStudent(TypicalStudents.ALICE)
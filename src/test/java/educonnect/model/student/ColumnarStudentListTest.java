@@ -0,0 +1,130 @@
+package educonnect.model.student;
+
+import static educonnect.testutil.TypicalStudents.ALICE;
+import static educonnect.testutil.TypicalStudents.BENSON;
+import static educonnect.testutil.TypicalStudents.ELLE;
+import static educonnect.testutil.TypicalStudents.GEORGE;
+import static educonnect.testutil.TypicalStudents.getTypicalStudents;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import educonnect.testutil.StudentBuilder;
+
+public class ColumnarStudentListTest {
+
+    private final ColumnarStudentList columns = new ColumnarStudentList();
+
+    @Test
+    public void get_studentsAdded_equalStudentsReturned() {
+        columns.addAll(getTypicalStudents());
+        assertEquals(getTypicalStudents(), columns);
+        assertEquals(Optional.empty(), columns.get(columns.indexOf(GEORGE)).getLink());
+
+        // the student added is returned while it is referred to
+        Student copyOfAlice = new StudentBuilder(ALICE).build();
+        assertSame(ALICE, columns.set(0, copyOfAlice));
+        assertSame(copyOfAlice, columns.get(0));
+        assertEquals(ALICE.getTimetable(), columns.get(0).getTimetable());
+    }
+
+    @Test
+    public void get_readConcurrently_sameStudentReturnedForEachRow() {
+        for (int i = 0; i < 100; i++) {
+            columns.add(new StudentBuilder().withStudentId(String.format("A%07dZ", i)).build());
+        }
+        List<Student> firstRead = IntStream.range(0, 100).parallel().mapToObj(columns::get)
+                .collect(Collectors.toList());
+        List<Student> secondRead = IntStream.range(0, 100).parallel().mapToObj(columns::get)
+                .collect(Collectors.toList());
+        for (int i = 0; i < 100; i++) {
+            assertSame(firstRead.get(i), secondRead.get(i));
+        }
+    }
+
+    @Test
+    public void indexOf() {
+        columns.addAll(getTypicalStudents());
+        assertEquals(1, columns.indexOf(BENSON));
+        assertEquals(1, columns.indexOf(new StudentBuilder(BENSON).build()));
+        assertTrue(columns.contains(ELLE));
+
+        // same student id but different fields -> not found
+        assertEquals(-1, columns.indexOf(new StudentBuilder(BENSON).withName("Someone Else").build()));
+        assertEquals(-1, columns.indexOf("not a student"));
+    }
+
+    @Test
+    public void getStudentWithUniqueIdentifiers() {
+        columns.addAll(getTypicalStudents());
+        assertEquals(Optional.of(BENSON), columns.getStudentWithStudentId(BENSON.getStudentId()));
+        assertEquals(Optional.of(BENSON), columns.getStudentWithEmail(BENSON.getEmail()));
+        assertEquals(Optional.of(BENSON), columns.getStudentWithTelegramHandle(BENSON.getTelegramHandle()));
+        assertEquals(Optional.empty(), columns.getStudentWithStudentId(new StudentId("A0000000Z")));
+    }
+
+    @Test
+    public void remove_studentInMiddle_columnsShifted() {
+        columns.addAll(getTypicalStudents());
+        assertTrue(columns.remove(BENSON));
+        assertFalse(columns.remove(BENSON));
+
+        List<Student> expected = new ArrayList<>(getTypicalStudents());
+        expected.remove(BENSON);
+        assertEquals(expected, columns);
+        assertTrue(rowsWithTag(Tag.of("strong-student")).isEmpty());
+        assertEquals(expected.stream().filter(student -> student.hasTag(Tag.of("tutorial-2"))).count(),
+                rowsWithTag(Tag.of("tutorial-2")).cardinality());
+    }
+
+    @Test
+    public void getRowsByTag_rowsChanged_tagIndexKeptUpToDate() {
+        columns.add(ALICE);
+        columns.add(BENSON);
+        assertEquals(bitSetOf(0), rowsWithTag(Tag.of("tutorial-1")));
+
+        // set and added at the end -> tag index kept up to date
+        columns.set(1, new StudentBuilder(BENSON).withTags("tutorial-1").build());
+        columns.add(ELLE);
+        assertEquals(bitSetOf(0, 1, 2), rowsWithTag(Tag.of("tutorial-1")));
+        assertTrue(rowsWithTag(Tag.of("strong-student")).isEmpty());
+
+        // added at the start -> rows after it shifted in the tag index
+        columns.add(0, GEORGE);
+        assertEquals(bitSetOf(1, 2, 3), rowsWithTag(Tag.of("tutorial-1")));
+        assertEquals(bitSetOf(0), rowsWithTag(Tag.of("tutorial-2")));
+
+        // removed in the middle -> rows after it shifted back
+        columns.remove(1);
+        assertEquals(bitSetOf(1, 2), rowsWithTag(Tag.of("tutorial-1")));
+
+        // returned sets are copies
+        columns.getRowsByTag()[Tag.of("tutorial-2").getId()].clear();
+        assertEquals(bitSetOf(0), rowsWithTag(Tag.of("tutorial-2")));
+    }
+
+    private BitSet rowsWithTag(Tag tag) {
+        BitSet[] rowsByTag = columns.getRowsByTag();
+        return tag.getId() < rowsByTag.length && rowsByTag[tag.getId()] != null
+                ? rowsByTag[tag.getId()]
+                : new BitSet();
+    }
+
+    private static BitSet bitSetOf(int... bits) {
+        BitSet set = new BitSet();
+        for (int bit : bits) {
+            set.set(bit);
+        }
+        return set;
+    }
+}
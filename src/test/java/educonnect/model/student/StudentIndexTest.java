@@ -0,0 +1,71 @@
+package educonnect.model.student;
+
+import static educonnect.testutil.TypicalStudents.ALICE;
+import static educonnect.testutil.TypicalStudents.BENSON;
+import static educonnect.testutil.TypicalStudents.CARL;
+import static educonnect.testutil.TypicalStudents.getTypicalStudents;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import educonnect.testutil.StudentBuilder;
+
+public class StudentIndexTest {
+
+    private final StudentIndex index = new StudentIndex(getTypicalStudents());
+
+    @Test
+    public void indexOf() {
+        assertEquals(getTypicalStudents().size(), index.size());
+        assertEquals(0, index.indexOf(ALICE));
+        assertEquals(ALICE, index.get(0));
+
+        // equal but not the same student -> not found
+        assertEquals(-1, index.indexOf(new StudentBuilder(ALICE).build()));
+    }
+
+    @Test
+    public void withTag() {
+        assertEquals(List.of(ALICE, CARL), index.getStudents(index.withTag(new Tag("tutorial-1"))).subList(0, 2));
+        assertTrue(index.withTag(new Tag("no-such-tag")).isEmpty());
+
+        // returned sets are copies
+        index.withTag(new Tag("tutorial-1")).clear();
+        assertEquals(ALICE, index.getStudents(index.withTag(new Tag("tutorial-1"))).get(0));
+    }
+
+    @Test
+    public void countTags() {
+        BitSet set = index.positionsOf(List.of(ALICE, BENSON, CARL));
+        assertEquals(Map.of(new Tag("tutorial-1"), 2, new Tag("tutorial-2"), 1, new Tag("strong-student"), 1),
+                index.countTags(set));
+        assertEquals(Map.of(), index.countTags(new BitSet()));
+    }
+
+    @Test
+    public void positionsOf() {
+        assertEquals(List.of(ALICE, BENSON), index.getStudents(index.positionsOf(List.of(BENSON, ALICE))));
+
+        // equal but not the same student -> left out
+        assertTrue(index.positionsOf(List.of(new StudentBuilder(ALICE).build())).isEmpty());
+    }
+
+    @Test
+    public void withUniqueIdentifiers() {
+        assertEquals(List.of(BENSON), index.getStudents(index.withStudentId(BENSON.getStudentId().value)));
+        assertEquals(List.of(BENSON), index.getStudents(index.withEmail(BENSON.getEmail().value)));
+        assertEquals(List.of(BENSON),
+                index.getStudents(index.withTelegramHandle(BENSON.getTelegramHandle().value)));
+        assertEquals(new BitSet(), index.withEmail("nobody@example.com"));
+    }
+
+    @Test
+    public void all() {
+        assertEquals(getTypicalStudents(), index.getStudents(index.all()));
+    }
+}
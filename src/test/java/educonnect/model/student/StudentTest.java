@@ -99,4 +99,16 @@ public class StudentTest {
                 + ALICE.getTelegramHandle() + ", tags=" + ALICE.getTags() + ", link=" + ALICE.getLink() + "}";
         assertEquals(expected, ALICE.toString());
     }
+
+    @Test
+    public void getSearchKeys_lowerCaseFields() {
+        SearchKeys searchKeys = ALICE.getSearchKeys();
+        assertEquals("alice pauline", searchKeys.name);
+        assertEquals("a0077493u", searchKeys.studentId);
+        assertEquals("alice@example.com", searchKeys.email);
+        assertEquals("@paulice", searchKeys.telegramHandle);
+
+        // same fields -> same search keys
+        assertEquals(searchKeys, new StudentBuilder(ALICE).build().getSearchKeys());
+    }
 }
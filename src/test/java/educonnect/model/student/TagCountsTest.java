@@ -0,0 +1,55 @@
+package educonnect.model.student;
+
+import static educonnect.testutil.TypicalStudents.ALICE;
+import static educonnect.testutil.TypicalStudents.BENSON;
+import static educonnect.testutil.TypicalStudents.CARL;
+import static educonnect.testutil.TypicalStudents.DANIEL;
+import static educonnect.testutil.TypicalStudents.getTypicalStudents;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class TagCountsTest {
+
+    private static final Tag TUTORIAL_1 = new Tag("tutorial-1");
+    private static final Tag TUTORIAL_2 = new Tag("tutorial-2");
+    private static final Tag STRONG_STUDENT = new Tag("strong-student");
+
+    @Test
+    public void addRemove() {
+        TagCounts counts = new TagCounts();
+        counts.add(ALICE);
+        counts.add(BENSON);
+        counts.add(CARL);
+        assertEquals(3, counts.size());
+        assertEquals(2, counts.getCount(TUTORIAL_1));
+        assertEquals(1, counts.getCount(TUTORIAL_2));
+        assertEquals(List.of(STRONG_STUDENT, TUTORIAL_1, TUTORIAL_2), counts.getTags());
+
+        // tags no student in the group has are left out
+        counts.remove(BENSON);
+        assertEquals(2, counts.size());
+        assertEquals(0, counts.getCount(TUTORIAL_2));
+        assertEquals(List.of(TUTORIAL_1), counts.getTags());
+    }
+
+    @Test
+    public void recount_sameAsAdding() {
+        StudentIndex index = new StudentIndex(getTypicalStudents());
+        List<Student> group = List.of(ALICE, BENSON, DANIEL);
+
+        TagCounts addedCounts = new TagCounts();
+        group.forEach(addedCounts::add);
+        TagCounts recountedCounts = new TagCounts();
+        recountedCounts.add(CARL);
+        recountedCounts.recount(index, index.positionsOf(group));
+
+        assertEquals(addedCounts.size(), recountedCounts.size());
+        assertEquals(addedCounts.getTags(), recountedCounts.getTags());
+        for (Tag tag : addedCounts.getTags()) {
+            assertEquals(addedCounts.getCount(tag), recountedCounts.getCount(tag));
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package educonnect.model.student;
+
+import static educonnect.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+public class TagDictionaryTest {
+
+    private final TagDictionary dictionary = TagDictionary.getInstance();
+
+    @Test
+    public void getOrAdd_sameName_sameTag() {
+        Tag tag = dictionary.getOrAdd("dictionary-test");
+        assertSame(tag, dictionary.getOrAdd("dictionary-test"));
+        assertSame(tag, Tag.of("dictionary-test"));
+        assertSame(tag, dictionary.get(tag.getId()));
+        assertTrue(dictionary.contains("dictionary-test"));
+    }
+
+    @Test
+    public void getOrAdd_newName_nextId() {
+        int size = dictionary.size();
+        Tag tag = dictionary.getOrAdd("dictionary-test-" + size);
+        assertEquals(size, tag.getId());
+        assertEquals(size + 1, dictionary.size());
+    }
+
+    @Test
+    public void get_unknownId_throwsIndexOutOfBoundsException() {
+        assertThrows(IndexOutOfBoundsException.class, () -> dictionary.get(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> dictionary.get(dictionary.size()));
+    }
+
+    @Test
+    public void contains_unknownName_returnsFalse() {
+        assertFalse(dictionary.contains("never used as a tag"));
+    }
+}
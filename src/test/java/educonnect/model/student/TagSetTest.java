@@ -0,0 +1,104 @@
+package educonnect.model.student;
+
+import static educonnect.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class TagSetTest {
+
+    private static final Tag FRIENDS = Tag.of("friends");
+    private static final Tag COLLEAGUES = Tag.of("colleagues");
+    private static final Tag NEIGHBOURS = Tag.of("neighbours");
+
+    @Test
+    public void of_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> TagSet.of(null));
+    }
+
+    @Test
+    public void of_tagNotInDictionary_throwsIllegalArgumentException() {
+        Tag searchedTag = Tag.lookup("never-added-to-a-student");
+        assertThrows(IllegalArgumentException.class, () -> TagSet.of(List.of(FRIENDS, searchedTag)));
+    }
+
+    @Test
+    public void of_emptyCollection_returnsEmpty() {
+        assertSame(TagSet.EMPTY, TagSet.of(List.of()));
+        assertTrue(TagSet.EMPTY.isEmpty());
+    }
+
+    @Test
+    public void of_duplicateTags_keptOnce() {
+        TagSet tags = TagSet.of(List.of(FRIENDS, new Tag("friends"), COLLEAGUES));
+        assertEquals(2, tags.size());
+        assertEquals(Set.of(FRIENDS, COLLEAGUES), tags);
+    }
+
+    @Test
+    public void of_equalTags_shareOneInstance() {
+        TagSet tags = TagSet.of(List.of(FRIENDS, COLLEAGUES));
+        assertSame(tags, TagSet.of(List.of(COLLEAGUES, FRIENDS)));
+        assertSame(tags, TagSet.of(tags));
+    }
+
+    @Test
+    public void contains() {
+        TagSet tags = TagSet.of(List.of(FRIENDS, COLLEAGUES));
+        assertTrue(tags.contains(FRIENDS));
+        assertTrue(tags.contains(new Tag("colleagues")));
+        assertTrue(tags.containsId(FRIENDS.getId()));
+        assertFalse(tags.contains(NEIGHBOURS));
+        assertFalse(tags.containsId(NEIGHBOURS.getId()));
+        assertFalse(tags.contains("friends"));
+        assertFalse(tags.contains(null));
+    }
+
+    @Test
+    public void iterator_tagsInOrderOfIds() {
+        TagSet tags = TagSet.of(List.of(NEIGHBOURS, FRIENDS, COLLEAGUES));
+        List<Integer> ids = new ArrayList<>();
+        tags.forEach(tag -> ids.add(tag.getId()));
+        List<Integer> idsFromForEachId = new ArrayList<>();
+        tags.forEachId(idsFromForEachId::add);
+
+        List<Integer> sortedIds = new ArrayList<>(List.of(FRIENDS.getId(), COLLEAGUES.getId(), NEIGHBOURS.getId()));
+        Collections.sort(sortedIds);
+        assertEquals(sortedIds, ids);
+        assertEquals(ids, idsFromForEachId);
+        assertSame(TagDictionary.getInstance().get(sortedIds.get(0)), tags.iterator().next());
+    }
+
+    @Test
+    public void modify_throwsUnsupportedOperationException() {
+        TagSet tags = TagSet.of(List.of(FRIENDS));
+        assertThrows(UnsupportedOperationException.class, () -> tags.add(COLLEAGUES));
+        assertThrows(UnsupportedOperationException.class, () -> tags.remove(FRIENDS));
+        assertThrows(UnsupportedOperationException.class, () -> tags.clear());
+        assertThrows(UnsupportedOperationException.class, () -> tags.removeIf(tag -> true));
+    }
+
+    @Test
+    public void equals() {
+        TagSet tags = TagSet.of(List.of(FRIENDS, COLLEAGUES));
+
+        // equal to any set with the same tags -> returns true
+        Set<Tag> hashSet = new HashSet<>(List.of(FRIENDS, COLLEAGUES));
+        assertTrue(tags.equals(hashSet));
+        assertTrue(hashSet.equals(tags));
+        assertEquals(hashSet.hashCode(), tags.hashCode());
+
+        // different tags -> returns false
+        assertFalse(tags.equals(TagSet.of(List.of(FRIENDS))));
+        assertFalse(tags.equals(TagSet.EMPTY));
+    }
+}
@@ -1,5 +1,10 @@
 package educonnect.model.student;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
 import org.junit.jupiter.api.Test;
 
 import educonnect.testutil.Assert;
@@ -18,6 +23,33 @@ public class TagTest {
         Assert.assertThrows(IllegalArgumentException.class, () -> new Tag(invalidTagName));
     }
 
+    @Test
+    public void of_sameName_sharedTag() {
+        Tag tag = Tag.of("friends");
+        Assert.assertThrows(IllegalArgumentException.class, () -> Tag.of(""));
+        assertSame(tag, Tag.of("friends"));
+        assertEquals(tag, new Tag("friends"));
+        assertEquals(tag.getId(), new Tag("friends").getId());
+        assertNotEquals(tag, Tag.of("Friends"));
+    }
+
+    @Test
+    public void lookup_nameNotInUse_notAddedToDictionary() {
+        int size = TagDictionary.getInstance().size();
+        Tag tag = Tag.lookup("only looked for");
+        Assert.assertThrows(IllegalArgumentException.class, () -> Tag.lookup(""));
+        assertEquals(Tag.NO_ID, tag.getId());
+        assertFalse(TagDictionary.getInstance().contains("only looked for"));
+        assertEquals(size, TagDictionary.getInstance().size());
+
+        // equal to the tag of the same name once the name is in use
+        Tag usedTag = Tag.of("only looked for");
+        assertEquals(usedTag, tag);
+        assertEquals(usedTag.hashCode(), tag.hashCode());
+        assertSame(usedTag, Tag.lookup("only looked for"));
+        assertNotEquals(tag, Tag.lookup("other name only looked for"));
+    }
+
     @Test
     public void isValidTagName() {
         // null tag name
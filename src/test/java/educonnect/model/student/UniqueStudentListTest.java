@@ -11,15 +11,20 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.ConcurrentModificationException;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
 import educonnect.model.student.exceptions.DuplicateStudentException;
 import educonnect.model.student.exceptions.StudentNotFoundException;
 import educonnect.testutil.StudentBuilder;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
 
 public class UniqueStudentListTest {
 
@@ -207,4 +212,106 @@ public class UniqueStudentListTest {
     public void toStringMethod() {
         assertEquals(uniqueStudentList.asUnmodifiableObservableList().toString(), uniqueStudentList.toString());
     }
+
+    @Test
+    public void getCompletions_keptInSyncWithList() {
+        StudentCompletions completions = uniqueStudentList.getCompletions();
+        uniqueStudentList.add(ALICE);
+        assertEquals(List.of("tutorial-1"), completions.completeTag("tut", 10));
+        assertEquals(List.of("alice@example.com"), completions.completeEmail("ALI", 10));
+
+        Student editedAlice = new StudentBuilder(ALICE).withEmail(VALID_EMAIL_BOB).withTags(VALID_TAG_HUSBAND).build();
+        uniqueStudentList.setStudent(ALICE, editedAlice);
+        assertTrue(completions.completeTag("tut", 10).isEmpty());
+        assertEquals(List.of(VALID_TAG_HUSBAND), completions.completeTag("hus", 10));
+        assertEquals(List.of(VALID_EMAIL_BOB), completions.completeEmail("", 10));
+
+        uniqueStudentList.remove(editedAlice);
+        assertTrue(completions.completeEmail("", 10).isEmpty());
+
+        uniqueStudentList.setStudents(List.of(ALICE, BOB));
+        assertEquals(List.of("alice@example.com", VALID_EMAIL_BOB), completions.completeEmail("", 10));
+    }
+
+    @Test
+    public void getCompletions_columnar_readFromColumns() {
+        UniqueStudentList columnarList = UniqueStudentList.columnar();
+        StudentCompletions completions = columnarList.getCompletions();
+        columnarList.setStudents(List.of(ALICE, BOB));
+        assertEquals(List.of("alice@example.com", VALID_EMAIL_BOB), completions.completeEmail("", 10));
+        assertEquals(List.of(ALICE.getStudentId().value), completions.completeStudentId("a", 1));
+        assertEquals(List.of("tutorial-1"), completions.completeTag("TUT", 10));
+
+        columnarList.remove(ALICE);
+        assertEquals(List.of(VALID_EMAIL_BOB), completions.completeEmail("", 10));
+        assertTrue(completions.completeTag("tut", 10).isEmpty());
+        assertEquals(List.of(VALID_TELEGRAM_HANDLE_BOB), completions.completeTelegramHandle("", 10));
+    }
+
+    @Test
+    public void getIndex_fromListListener_hasChangedStudents() {
+        List<Student> students = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            students.add(new StudentBuilder().withStudentId(String.format("A%07dZ", i))
+                    .withEmail("student" + i + "@example.com").withTelegramHandle("@student" + i)
+                    .withTags(VALID_TAG_HUSBAND).build());
+        }
+        Tag husband = new Tag(VALID_TAG_HUSBAND);
+        List<Integer> counts = new ArrayList<>();
+        ObservableList<Student> listenedList = uniqueStudentList.asUnmodifiableObservableList();
+        listenedList.addListener((ListChangeListener<Student>) change -> {
+            StudentIndex index = uniqueStudentList.getIndex();
+            counts.add(index.countTags(index.positionsOf(listenedList)).getOrDefault(husband, 0));
+        });
+
+        // the index is built before every change, as a command looking students up would
+        uniqueStudentList.add(ALICE);
+        uniqueStudentList.getIndex();
+        uniqueStudentList.setStudents(students);
+        uniqueStudentList.getIndex();
+        uniqueStudentList.setStudent(students.get(0), BOB);
+        uniqueStudentList.getIndex();
+        uniqueStudentList.remove(students.get(1));
+        assertEquals(List.of(0, 100, 99, 98), counts);
+    }
+
+    @Test
+    public void columnar_sameBehaviourAsStudents() {
+        UniqueStudentList columnarList = UniqueStudentList.columnar();
+        assertTrue(columnarList.isColumnar());
+        assertFalse(uniqueStudentList.isColumnar());
+
+        columnarList.add(ALICE);
+        columnarList.add(BOB);
+        assertThrows(DuplicateStudentException.class, () -> columnarList.add(ALICE));
+        assertTrue(columnarList.containsEmail(BOB.getEmail()));
+        assertEquals(Optional.of(ALICE), columnarList.getStudentWithStudentId(ALICE.getStudentId()));
+
+        Student editedAlice = new StudentBuilder(ALICE).withTags(VALID_TAG_HUSBAND).build();
+        columnarList.setStudent(ALICE, editedAlice);
+        columnarList.remove(BOB);
+        assertThrows(StudentNotFoundException.class, () -> columnarList.remove(BOB));
+
+        uniqueStudentList.add(editedAlice);
+        assertEquals(uniqueStudentList, columnarList);
+        assertEquals(List.of(editedAlice),
+                columnarList.getIndex().getStudents(columnarList.getIndex().withTag(new Tag(VALID_TAG_HUSBAND))));
+    }
+
+    @Test
+    public void getIndex_columnar_indexesWithoutCopyingUntilChanged() {
+        UniqueStudentList columnarList = UniqueStudentList.columnar();
+        columnarList.add(ALICE);
+        columnarList.add(BOB);
+        StudentIndex index = columnarList.getIndex();
+        assertEquals(1, index.indexOf(BOB));
+        assertEquals(BOB, index.get(1));
+        assertEquals(List.of(BOB), index.getStudents(index.withEmail(BOB.getEmail().value)));
+
+        // once the list changes, students are no longer found in the index, and cannot be read from it
+        columnarList.remove(ALICE);
+        assertEquals(-1, index.indexOf(BOB));
+        assertThrows(ConcurrentModificationException.class, () -> index.get(0));
+        assertEquals(0, columnarList.getIndex().indexOf(BOB));
+    }
 }
@@ -0,0 +1,82 @@
+package educonnect.model.student.predicates;
+
+import static educonnect.testutil.TypicalStudents.ALICE;
+import static educonnect.testutil.TypicalStudents.BENSON;
+import static educonnect.testutil.TypicalStudents.DANIEL;
+import static educonnect.testutil.TypicalStudents.ELLE;
+import static educonnect.testutil.TypicalStudents.getTypicalStudents;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import educonnect.model.student.Student;
+import educonnect.model.student.StudentIndex;
+import educonnect.testutil.StudentBuilder;
+
+public class NameSimilarToKeywordsPredicateTest {
+
+    @Test
+    public void getMaxDistance_shortWords_allowFewerEdits() {
+        assertEquals(0, NameSimilarToKeywordsPredicate.getMaxDistance("a"));
+        assertEquals(1, NameSimilarToKeywordsPredicate.getMaxDistance("bob"));
+        assertEquals(2, NameSimilarToKeywordsPredicate.getMaxDistance("jonh"));
+        assertEquals(2, NameSimilarToKeywordsPredicate.getMaxDistance("alexander"));
+    }
+
+    @Test
+    public void distanceTo_typos_returnsDistanceToClosestWord() {
+        NameSimilarToKeywordsPredicate predicate = new NameSimilarToKeywordsPredicate("MEYR");
+        assertEquals(1, predicate.distanceTo(ELLE));
+        assertEquals(2, predicate.distanceTo(BENSON));
+        assertEquals(NameSimilarToKeywordsPredicate.NO_MATCH, predicate.distanceTo(ALICE));
+
+        // every word of the keyword must match
+        assertEquals(3, new NameSimilarToKeywordsPredicate("bensn meyr").distanceTo(BENSON));
+        assertFalse(new NameSimilarToKeywordsPredicate("bensn meyr").test(ELLE));
+    }
+
+    @Test
+    public void test_typoInName_returnsTrue() {
+        Student john = new StudentBuilder().withName("John Doe").build();
+        assertTrue(new NameSimilarToKeywordsPredicate("jonh").test(john));
+        assertTrue(new NameSimilarToKeywordsPredicate("Jon").test(john));
+        assertFalse(new NameSimilarToKeywordsPredicate("jane").test(john));
+        assertFalse(new NameSimilarToKeywordsPredicate("jo").test(john));
+    }
+
+    @Test
+    public void lookup_sameAsTest() {
+        StudentIndex index = new StudentIndex(getTypicalStudents());
+        for (String keyword : List.of("meyr", "bensn meir", "alise", "kunz", "zzzz")) {
+            NameSimilarToKeywordsPredicate predicate = new NameSimilarToKeywordsPredicate(keyword);
+            List<Student> matches = index.getStudents(predicate.lookup(index));
+            for (Student student : getTypicalStudents()) {
+                assertEquals(predicate.test(student), matches.contains(student), keyword + " " + student);
+            }
+        }
+        assertEquals(List.of(BENSON, DANIEL, ELLE),
+                index.getStudents(new NameSimilarToKeywordsPredicate("meir").lookup(index)));
+    }
+
+    @Test
+    public void equals() {
+        NameSimilarToKeywordsPredicate predicate = new NameSimilarToKeywordsPredicate("jonh");
+
+        assertTrue(predicate.equals(predicate));
+        assertTrue(predicate.equals(new NameSimilarToKeywordsPredicate(" JONH ")));
+        assertFalse(predicate.equals(new NameSimilarToKeywordsPredicate("jane")));
+        assertFalse(predicate.equals(new NameContainsKeywordsPredicate("jonh")));
+        assertFalse(predicate.equals(null));
+    }
+
+    @Test
+    public void toStringMethod() {
+        NameSimilarToKeywordsPredicate predicate = new NameSimilarToKeywordsPredicate("jonh");
+        String expected = NameSimilarToKeywordsPredicate.class.getCanonicalName() + "{keywords=jonh}";
+        assertEquals(expected, predicate.toString());
+    }
+}
@@ -0,0 +1,53 @@
+package educonnect.model.student.predicates;
+
+import static educonnect.testutil.TypicalStudents.ALICE;
+import static educonnect.testutil.TypicalStudents.BENSON;
+import static educonnect.testutil.TypicalStudents.CARL;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import educonnect.model.student.Tag;
+
+public class StudentMatcherTest {
+
+    private final NameContainsKeywordsPredicate namePredicate = new NameContainsKeywordsPredicate("mEIer");
+    private final TagContainsKeywordsPredicate tagPredicate =
+            new TagContainsKeywordsPredicate(new Tag("tutorial-2"));
+
+    @Test
+    public void test_noPredicates_matchesAll() {
+        assertTrue(StudentMatcher.compile(List.of()).test(ALICE));
+    }
+
+    @Test
+    public void test_allPredicatesSatisfied_returnsTrue() {
+        assertTrue(StudentMatcher.compile(List.of(namePredicate, tagPredicate)).test(BENSON));
+    }
+
+    @Test
+    public void test_somePredicatesNotSatisfied_returnsFalse() {
+        StudentMatcher matcher = StudentMatcher.compile(List.of(namePredicate, tagPredicate));
+        assertFalse(matcher.test(ALICE));
+        assertFalse(matcher.test(CARL));
+    }
+
+    @Test
+    public void equals() {
+        StudentMatcher matcher = StudentMatcher.compile(List.of(namePredicate, tagPredicate));
+
+        // same predicates in a different order -> returns true
+        assertTrue(matcher.equals(StudentMatcher.compile(List.of(tagPredicate, namePredicate))));
+        assertEquals(matcher.hashCode(), StudentMatcher.compile(List.of(tagPredicate, namePredicate)).hashCode());
+
+        // different predicates -> returns false
+        assertFalse(matcher.equals(StudentMatcher.compile(List.of(namePredicate))));
+
+        // null -> returns false
+        assertFalse(matcher.equals(null));
+    }
+}
@@ -0,0 +1,73 @@
+package educonnect.model.student.query;
+
+import static educonnect.testutil.TypicalStudents.ALICE;
+import static educonnect.testutil.TypicalStudents.getTypicalStudents;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import educonnect.model.student.Student;
+import educonnect.model.student.StudentIndex;
+import educonnect.model.student.Tag;
+import educonnect.model.student.predicates.NameContainsKeywordsPredicate;
+import educonnect.model.student.predicates.TagContainsKeywordsPredicate;
+
+public class QueryTest {
+
+    private static final TagContainsKeywordsPredicate TUTORIAL_1 =
+            new TagContainsKeywordsPredicate(new Tag("tutorial-1"));
+    private static final TagContainsKeywordsPredicate TUTORIAL_2 =
+            new TagContainsKeywordsPredicate(new Tag("tutorial-2"));
+    private static final NameContainsKeywordsPredicate NAME_MEIER = new NameContainsKeywordsPredicate("Meier");
+
+    private final StudentIndex index = new StudentIndex(getTypicalStudents());
+
+    @Test
+    public void usesIndex() {
+        assertTrue(Query.of(TUTORIAL_1).usesIndex());
+        assertFalse(Query.of(NAME_MEIER).usesIndex());
+        assertTrue(Query.allOf(List.of(TUTORIAL_1, NAME_MEIER)).usesIndex());
+        assertFalse(Query.anyOf(List.of(TUTORIAL_1, NAME_MEIER)).usesIndex());
+        assertTrue(Query.not(TUTORIAL_1).usesIndex());
+    }
+
+    @Test
+    public void evaluate_sameResultAsTest() {
+        assertSameResult(Query.of(TUTORIAL_1));
+        assertSameResult(Query.of(NAME_MEIER));
+        assertSameResult(Query.allOf(List.of()));
+        assertSameResult(Query.anyOf(List.of()));
+        assertSameResult(Query.allOf(List.of(TUTORIAL_2, NAME_MEIER)));
+        assertSameResult(Query.anyOf(List.of(TUTORIAL_1, TUTORIAL_2)));
+        assertSameResult(Query.allOf(List.of(Query.anyOf(List.of(TUTORIAL_1, TUTORIAL_2)), Query.not(NAME_MEIER))));
+        assertSameResult(Query.not(Query.anyOf(List.of(TUTORIAL_1, NAME_MEIER))));
+    }
+
+    @Test
+    public void test_notQuery() {
+        assertFalse(Query.not(TUTORIAL_1).test(ALICE));
+        assertTrue(Query.not(TUTORIAL_2).test(ALICE));
+    }
+
+    @Test
+    public void equals() {
+        Query query = Query.anyOf(List.of(TUTORIAL_1, TUTORIAL_2));
+
+        // same subqueries in a different order -> returns true
+        assertEquals(query, Query.anyOf(List.of(TUTORIAL_2, TUTORIAL_1)));
+
+        // different operator -> returns false
+        assertFalse(query.equals(Query.allOf(List.of(TUTORIAL_1, TUTORIAL_2))));
+        assertFalse(Query.not(TUTORIAL_1).equals(Query.of(TUTORIAL_1)));
+    }
+
+    private void assertSameResult(Query query) {
+        List<Student> expected = getTypicalStudents().stream().filter(query).collect(Collectors.toList());
+        assertEquals(expected, index.getStudents(query.evaluate(index)));
+    }
+}
@@ -0,0 +1,87 @@
+package educonnect.model.student.timetable;
+
+import static educonnect.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import educonnect.model.student.timetable.exceptions.OverlapPeriodException;
+
+public class AvailabilityCountsTest {
+
+    private static final Period MORNING = new Period("morning", LocalTime.of(8, 0, 0), LocalTime.of(10, 0, 0));
+    private static final Period NOON = new Period("noon", LocalTime.of(9, 0, 0), LocalTime.of(13, 0, 0));
+
+    @Test
+    public void constructor_invalidNumberOfDays_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new AvailabilityCounts(0));
+        assertThrows(IllegalArgumentException.class, () -> new AvailabilityCounts(8));
+    }
+
+    @Test
+    public void getFreeCount_addAndRemove_countsFreeTimetables() throws OverlapPeriodException {
+        Timetable busyMondayMorning = new Timetable(5);
+        busyMondayMorning.addPeriodToDay(1, MORNING);
+        Timetable busyMondayNoon = new Timetable(5);
+        busyMondayNoon.addPeriodToDay(1, NOON);
+        busyMondayNoon.addPeriodToDay(5, MORNING);
+
+        AvailabilityCounts counts = new AvailabilityCounts(5);
+        counts.add(busyMondayMorning);
+        counts.add(busyMondayNoon);
+        counts.add(new Timetable(5));
+        assertEquals(3, counts.size());
+        assertEquals(2, counts.getFreeCount(1, 8));
+        assertEquals(1, counts.getFreeCount(1, 9));
+        assertEquals(2, counts.getFreeCount(1, 12));
+        assertEquals(3, counts.getFreeCount(1, 13));
+        assertEquals(2, counts.getFreeCount(5, 9));
+        assertEquals(3, counts.getFreeCount(3, 9));
+
+        counts.remove(busyMondayNoon);
+        assertEquals(2, counts.size());
+        assertEquals(1, counts.getFreeCount(1, 9));
+        assertEquals(2, counts.getFreeCount(1, 12));
+        assertEquals(2, counts.getFreeCount(5, 9));
+
+        counts.clear();
+        assertEquals(0, counts.getFreeCount(1, 9));
+    }
+
+    @Test
+    public void update_replaceGroup_countsLikeAddingAndRemoving() throws OverlapPeriodException {
+        Timetable busyMondayMorning = new Timetable(5);
+        busyMondayMorning.addPeriodToDay(1, MORNING);
+        busyMondayMorning = Timetable.intern(busyMondayMorning);
+        Timetable busyMondayNoon = new Timetable(5);
+        busyMondayNoon.addPeriodToDay(1, NOON);
+        Timetable free = new Timetable(5);
+
+        AvailabilityCounts counts = new AvailabilityCounts(5);
+        counts.update(List.of(), List.of(busyMondayMorning, busyMondayMorning, free));
+        counts.update(List.of(busyMondayMorning, busyMondayMorning, free),
+                List.of(busyMondayMorning, busyMondayNoon, free, free));
+
+        AvailabilityCounts expectedCounts = new AvailabilityCounts(5);
+        expectedCounts.add(busyMondayMorning);
+        expectedCounts.add(busyMondayNoon);
+        expectedCounts.add(free);
+        expectedCounts.add(free);
+        assertEquals(4, counts.size());
+        for (int hour = 0; hour < Timetable.HOURS_PER_DAY; hour++) {
+            assertEquals(expectedCounts.getFreeCount(1, hour), counts.getFreeCount(1, hour));
+        }
+        assertEquals(2, counts.getFreeCount(1, 9));
+    }
+
+    @Test
+    public void getFreeCount_invalidHour_throwsIndexOutOfBoundsException() {
+        AvailabilityCounts counts = new AvailabilityCounts(5);
+        assertThrows(IndexOutOfBoundsException.class, () -> counts.getFreeCount(0, 9));
+        assertThrows(IndexOutOfBoundsException.class, () -> counts.getFreeCount(6, 9));
+        assertThrows(IndexOutOfBoundsException.class, () -> counts.getFreeCount(1, 24));
+    }
+}
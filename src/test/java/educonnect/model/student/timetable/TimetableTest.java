@@ -1,14 +1,20 @@
 package educonnect.model.student.timetable;
 
 import static educonnect.testutil.Assert.assertThrows;
+import static educonnect.testutil.TypicalTimetableAndValues.VALID_PERIODS_LIST1;
+import static educonnect.testutil.TypicalTimetableAndValues.VALID_PERIODS_LIST2;
 import static educonnect.testutil.TypicalTimetableAndValues.VALID_TIMETABLE_1;
 import static educonnect.testutil.TypicalTimetableAndValues.buildAvailableSlot;
+import static educonnect.testutil.TypicalTimetableAndValues.buildTimetable;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.time.DayOfWeek;
 import java.time.LocalTime;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
@@ -127,7 +133,9 @@ public class TimetableTest {
 
     @Test
     public void findSlots_validInputs() throws OverlapPeriodException {
-        Timetable timetable = VALID_TIMETABLE_1;
+        // A copy of VALID_TIMETABLE_1, which is interned by the typical students and so cannot be changed
+        Timetable timetable = buildTimetable(new int[] {1, 4},
+                new ArrayList<>(List.of(VALID_PERIODS_LIST1, VALID_PERIODS_LIST2)));
         timetable.addPeriodToDay(3, new Period(Period.DEFAULT_PERIOD_NAME, "12-18"));
         timetable.addPeriodToDay(5, new Period(Period.DEFAULT_PERIOD_NAME, "11-12"));
 
@@ -187,4 +195,91 @@ public class TimetableTest {
         timetable5.addPeriodToDay(5, PERIOD_3);
         assertEquals(expectedString3, timetable5.convertToCommandString());
     }
+
+    @Test
+    public void getOccupiedHours() throws OverlapPeriodException {
+        Timetable timetable = new Timetable(5);
+        assertTrue(timetable.getOccupiedHours().isEmpty());
+
+        timetable.addPeriodToDay(1, PERIOD_1);
+        timetable.addPeriodToDay(5, PERIOD_2);
+        BitSet expected = new BitSet();
+        expected.set(13);
+        expected.set(4 * Timetable.HOURS_PER_DAY + 15, 4 * Timetable.HOURS_PER_DAY + 17);
+        assertEquals(expected, timetable.getOccupiedHours());
+
+        // same periods with different names -> same occupancy
+        Timetable otherTimetable = new Timetable(5);
+        otherTimetable.addPeriodToDay(5, new Period("other", LocalTime.of(15, 0, 0), LocalTime.of(17, 0, 0)));
+        otherTimetable.addPeriodToDay(1, new Period("other", LocalTime.of(13, 0, 0), LocalTime.of(14, 0, 0)));
+        assertEquals(timetable.getOccupiedHours(), otherTimetable.getOccupiedHours());
+    }
+
+    @Test
+    public void intern_equalTimetables_shareOneInstance() throws OverlapPeriodException {
+        Timetable timetable = new Timetable(5);
+        timetable.addPeriodToDay(1, PERIOD_1);
+        Timetable equalTimetable = new Timetable(5);
+        equalTimetable.addPeriodToDay(1, new Period("other", LocalTime.of(13, 0, 0), LocalTime.of(14, 0, 0)));
+
+        Timetable canonicalTimetable = Timetable.intern(timetable);
+        assertSame(canonicalTimetable, Timetable.intern(equalTimetable));
+        assertSame(canonicalTimetable, Timetable.intern(canonicalTimetable));
+        assertTrue(equalTimetable.isInterned());
+        assertEquals(canonicalTimetable.hashCode(), equalTimetable.hashCode());
+    }
+
+    @Test
+    public void intern_thenAddPeriod_throwsUnsupportedOperationException() throws OverlapPeriodException {
+        Timetable timetable = Timetable.intern(new Timetable(5));
+        assertThrows(UnsupportedOperationException.class, () -> timetable.addPeriodToDay(1, PERIOD_1));
+        assertThrows(UnsupportedOperationException.class, () ->
+                timetable.addPeriodsToDay(1, new ArrayList<>(List.of(PERIOD_1))));
+
+        // the days shared with every student that has the timetable cannot be changed either
+        assertThrows(UnsupportedOperationException.class, () -> timetable.getDays().clear());
+        Day monday = timetable.getDays().get(0);
+        assertTrue(monday.isFrozen());
+        assertThrows(UnsupportedOperationException.class, () -> monday.addPeriod(PERIOD_1));
+    }
+
+    @Test
+    public void intern_occupiedHoursAndCommandStringUnchanged() throws OverlapPeriodException {
+        Timetable timetable = new Timetable(5);
+        timetable.addPeriodToDay(2, PERIOD_1);
+        timetable.addPeriodToDay(5, PERIOD_2);
+        BitSet occupiedHours = timetable.getOccupiedHours();
+        String commandString = timetable.convertToCommandString();
+
+        Timetable canonicalTimetable = Timetable.intern(timetable);
+        assertEquals(occupiedHours, canonicalTimetable.getOccupiedHours());
+        assertEquals(commandString, canonicalTimetable.convertToCommandString());
+
+        // the occupied hours returned are a copy
+        canonicalTimetable.getOccupiedHours().clear();
+        assertEquals(occupiedHours, canonicalTimetable.getOccupiedHours());
+    }
+
+    @Test
+    public void equals() throws OverlapPeriodException {
+        Timetable timetable = new Timetable(5);
+        timetable.addPeriodToDay(1, PERIOD_1);
+        Timetable sameTimetable = new Timetable(5);
+        sameTimetable.addPeriodToDay(1, PERIOD_1);
+
+        // same values -> returns true
+        assertEquals(timetable, sameTimetable);
+        assertEquals(timetable.hashCode(), sameTimetable.hashCode());
+
+        // different periods -> returns false
+        Timetable otherTimetable = new Timetable(5);
+        otherTimetable.addPeriodToDay(2, PERIOD_1);
+        assertNotEquals(timetable, otherTimetable);
+
+        // different number of days -> returns false
+        assertNotEquals(new Timetable(5), new Timetable(7));
+
+        // null -> returns false
+        assertNotEquals(null, timetable);
+    }
 }
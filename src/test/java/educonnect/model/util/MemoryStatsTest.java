@@ -0,0 +1,66 @@
+package educonnect.model.util;
+
+import static educonnect.testutil.Assert.assertThrows;
+import static educonnect.testutil.TypicalStudents.getTypicalAddressBook;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import educonnect.model.AddressBook;
+import educonnect.model.ModelManager;
+import educonnect.model.UserPrefs;
+
+public class MemoryStatsTest {
+
+    @Test
+    public void of_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> MemoryStats.of(null));
+    }
+
+    @Test
+    public void of_emptyModel_noStudentData() {
+        MemoryStats memoryStats = MemoryStats.of(new ModelManager());
+        assertEquals(0, memoryStats.getNumOfStudents());
+        assertEquals(0, memoryStats.getBytes(MemoryStats.STUDENTS));
+        assertEquals(0, memoryStats.getBytes(MemoryStats.TIMETABLES));
+        assertEquals(0, memoryStats.getBytesPerStudent());
+    }
+
+    @Test
+    public void of_typicalStudents_everyStructureCounted() {
+        ModelManager model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        MemoryStats memoryStats = MemoryStats.of(model);
+
+        assertEquals(model.getAddressBook().getStudentList().size(), memoryStats.getNumOfStudents());
+        for (String category : new String[] {MemoryStats.STUDENTS, MemoryStats.TIMETABLES, MemoryStats.TAG_SETS,
+            MemoryStats.TAGS, MemoryStats.FILTERED_LIST, MemoryStats.OTHER}) {
+            assertTrue(memoryStats.getBytes(category) > 0, category);
+        }
+        assertEquals(MemoryStats.CATEGORIES.stream().mapToLong(memoryStats::getBytes).sum(),
+                memoryStats.getTotalBytes());
+        assertEquals(memoryStats.getTotalBytes() / memoryStats.getNumOfStudents(), memoryStats.getBytesPerStudent());
+        assertEquals(1 + MemoryStats.CATEGORIES.size() + 2, memoryStats.format().size());
+    }
+
+    @Test
+    public void of_generatedStudents_sharedValuesCountedOnce() {
+        // Every student with a tag shares the Tag in the tag dictionary, which may also have tags no student has
+        ModelManager model = new ModelManager(new SyntheticDataGenerator(0).generateAddressBook(200), new UserPrefs());
+        MemoryStats memoryStats = MemoryStats.of(model);
+
+        assertTrue(memoryStats.getSharedTagBytes() <= memoryStats.getBytes(MemoryStats.TAGS));
+        assertTrue(memoryStats.getSharedTimetableBytes() <= memoryStats.getBytes(MemoryStats.TIMETABLES));
+    }
+
+    @Test
+    public void of_columnarStudents_lessMemoryPerStudent() {
+        AddressBook addressBook = new SyntheticDataGenerator(0).generateAddressBook(200);
+        MemoryStats memoryStats = MemoryStats.of(new ModelManager(addressBook, new UserPrefs()));
+        MemoryStats columnarMemoryStats = MemoryStats.of(
+                new ModelManager(AddressBook.columnar(addressBook), new UserPrefs()));
+
+        assertEquals(memoryStats.getNumOfStudents(), columnarMemoryStats.getNumOfStudents());
+        assertTrue(columnarMemoryStats.getBytes(MemoryStats.STUDENTS) < memoryStats.getBytes(MemoryStats.STUDENTS));
+    }
+}
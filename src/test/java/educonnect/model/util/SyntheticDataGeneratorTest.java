@@ -0,0 +1,93 @@
+package educonnect.model.util;
+
+import static educonnect.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import educonnect.model.AddressBook;
+import educonnect.model.student.Student;
+import educonnect.model.student.Tag;
+import educonnect.model.student.timetable.Timetable;
+
+public class SyntheticDataGeneratorTest {
+
+    private final SyntheticDataGenerator generator = new SyntheticDataGenerator(7);
+
+    @Test
+    public void constructor_invalidSettings_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new SyntheticDataGenerator(7, 0, 10, 0.5));
+        assertThrows(IllegalArgumentException.class, () -> new SyntheticDataGenerator(7, 10, -1, 0.5));
+        assertThrows(IllegalArgumentException.class, () -> new SyntheticDataGenerator(7, 10, 10, 1.5));
+        assertThrows(IllegalArgumentException.class, () -> new SyntheticDataGenerator(7, 10, 10, Double.NaN));
+    }
+
+    @Test
+    public void generateStudent_invalidNumber_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> generator.generateStudent(-1));
+        assertThrows(IllegalArgumentException.class, () ->
+                generator.generateStudent(SyntheticDataGenerator.MAX_STUDENTS));
+    }
+
+    @Test
+    public void generateStudent_sameSeed_sameStudent() {
+        assertEquals(generator.generateStudent(123), new SyntheticDataGenerator(7).generateStudent(123));
+        assertEquals(generator.generateStudentList(50), new SyntheticDataGenerator(7).generateStudentList(50));
+        assertNotEquals(generator.generateStudentList(50), new SyntheticDataGenerator(8).generateStudentList(50));
+    }
+
+    @Test
+    public void generateStudents_iterator_generatesSameStudentsAsList() {
+        Iterator<Student> students = generator.generateStudents(3);
+        assertEquals(generator.generateStudent(0), students.next());
+        assertEquals(generator.generateStudent(1), students.next());
+        assertEquals(generator.generateStudent(2), students.next());
+        assertFalse(students.hasNext());
+    }
+
+    @Test
+    public void generateAddressBook_manyStudents_uniqueIdentifiers() {
+        // Adding a student with an id, email or handle already in the address book would throw
+        AddressBook addressBook = generator.generateAddressBook(5000);
+        assertEquals(5000, addressBook.getStudentList().size());
+    }
+
+    @Test
+    public void generateStudentList_tags_oneTutorialAndZipfianOthers() {
+        List<Student> students = generator.generateStudentList(5000);
+        Map<Tag, Integer> tagCounts = new HashMap<>();
+        for (Student student : students) {
+            long numOfTutorials = student.getTags().stream()
+                    .filter(tag -> tag.tagName.startsWith("tutorial-"))
+                    .count();
+            assertEquals(1, numOfTutorials);
+            assertTrue(student.getTags().size() <= 1 + SyntheticDataGenerator.MAX_EXTRA_TAGS);
+            student.getTags().forEach(tag -> tagCounts.merge(tag, 1, Integer::sum));
+        }
+        int mostPopular = tagCounts.getOrDefault(new Tag("strong-student"), 0);
+        int secondMostPopular = tagCounts.getOrDefault(new Tag("needs-help"), 0);
+        int rare = tagCounts.getOrDefault(new Tag("interest-100"), 0);
+        assertTrue(mostPopular > secondMostPopular && secondMostPopular > rare);
+    }
+
+    @Test
+    public void generateStudentList_timetables_densityAsSet() {
+        for (double density : new double[] {0, 0.3, 1}) {
+            List<Student> students = new SyntheticDataGenerator(7, 10, 10, density).generateStudentList(1000);
+            long occupiedHours = students.stream()
+                    .mapToLong(student -> student.getTimetable().getOccupiedHours().cardinality())
+                    .sum();
+            int hoursPerTimetable = new Timetable().getNumOfDays()
+                    * (SyntheticDataGenerator.LAST_HOUR - SyntheticDataGenerator.FIRST_HOUR);
+            assertEquals(density, (double) occupiedHours / (students.size() * hoursPerTimetable), 0.01);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package educonnect.replay;
+
+import static educonnect.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class CommandLogTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    @Test
+    public void parse_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> CommandLog.parse(null));
+    }
+
+    @Test
+    public void parse_logLines_returnsLoggedCommands() {
+        List<String> lines = List.of(
+                "[2024-03-01 10:00:00] INFO  educonnect.MainApp - Starting EduConnect",
+                "[2024-03-01 10:00:05] INFO  educonnect.logic.LogicManager - ----------------[USER COMMAND][list]",
+                "[2024-03-01 10:00:06] FINE  educonnect.model.ModelManager - Filtered list updated",
+                "[2024-03-01 10:00:09] INFO  educonnect.logic.LogicManager - ----------------"
+                        + "[USER COMMAND][find t/[tutorial-1]]",
+                "[2024-03-01 10:00:12] INFO  educonnect.logic.LogicManager - ----------------[USER COMMAND][ ]");
+        assertEquals(List.of("list", "find t/[tutorial-1]", " "), CommandLog.parse(lines));
+    }
+
+    @Test
+    public void parse_script_returnsCommandLines() {
+        List<String> lines = List.of("# Commands of a tutor", "list", "", "  find t/tutorial-1  ", "#exit");
+        assertEquals(List.of("list", "find t/tutorial-1"), CommandLog.parse(lines));
+    }
+
+    @Test
+    public void read_logFile_returnsLoggedCommands() throws Exception {
+        Path logFile = temporaryFolder.resolve("addressbook.log");
+        Files.write(logFile, List.of("INFO: ----------------[USER COMMAND][list]",
+                "INFO: Result: Listed all students"));
+        assertEquals(List.of("list"), CommandLog.read(logFile));
+    }
+}
@@ -0,0 +1,81 @@
+package educonnect.replay;
+
+import static educonnect.testutil.Assert.assertThrows;
+import static educonnect.testutil.TypicalStudents.getTypicalAddressBook;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import educonnect.logic.CommandMetrics;
+import educonnect.logic.Logic;
+import educonnect.logic.LogicManager;
+import educonnect.model.ModelManager;
+import educonnect.model.UserPrefs;
+import educonnect.storage.JsonAddressBookStorage;
+import educonnect.storage.JsonUserPrefsStorage;
+import educonnect.storage.StorageManager;
+
+public class ReplayHarnessTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private Logic logic;
+
+    @BeforeEach
+    public void setUp() {
+        StorageManager storage = new StorageManager(
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        logic = new LogicManager(new ModelManager(getTypicalAddressBook(), new UserPrefs()), storage);
+    }
+
+    @Test
+    public void constructor_invalidRate_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new ReplayHarness(logic, -1));
+        assertThrows(IllegalArgumentException.class, () -> new ReplayHarness(logic, Double.NaN));
+        assertThrows(IllegalArgumentException.class, () -> new ReplayHarness(logic, Double.POSITIVE_INFINITY));
+    }
+
+    @Test
+    public void replay_commands_recordsEachCommandWord() {
+        ReplayReport report = new ReplayHarness(logic, 0)
+                .replay(List.of("list", "bogus", "list", "exit"));
+
+        assertEquals(4, report.getNumOfCommands());
+        assertEquals(2, report.getNumOfCommands("list"));
+        assertEquals(1, report.getNumOfCommands(CommandMetrics.INVALID_COMMAND_WORD));
+        assertEquals(1, report.getNumOfCommands("exit"));
+        assertEquals(0, report.getNumOfCommands("bogus"));
+        assertEquals(1, report.getNumOfFailures());
+        assertEquals(2, report.getLatencies("list").getCount());
+        assertTrue(report.getElapsedNanos() > 0);
+        assertTrue(report.format().contains("4 commands (1 failed)"));
+    }
+
+    @Test
+    public void replay_atRate_takesScheduledTime() {
+        double rate = 200;
+        ReplayReport report = new ReplayHarness(logic, rate).replay(Collections.nCopies(11, "list"));
+
+        // The last of the commands is due 10 intervals after the first
+        assertTrue(report.getElapsedNanos() >= 10 * TimeUnit.SECONDS.toNanos(1) / rate);
+        assertEquals(11, report.getNumOfCommands("list"));
+        assertEquals(0, report.getNumOfFailures());
+    }
+
+    @Test
+    public void replay_noCommands_emptyReport() {
+        ReplayReport report = new ReplayHarness(logic, 0).replay(List.of());
+        assertEquals(0, report.getNumOfCommands());
+        assertEquals(0, report.getLatencies("list").getCount());
+    }
+}
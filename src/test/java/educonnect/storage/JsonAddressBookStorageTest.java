@@ -13,6 +13,7 @@ import org.junit.jupiter.api.io.TempDir;
 import educonnect.commons.exceptions.DataLoadingException;
 import educonnect.model.AddressBook;
 import educonnect.model.ReadOnlyAddressBook;
+import educonnect.model.util.SyntheticDataGenerator;
 import educonnect.testutil.Assert;
 import educonnect.testutil.TypicalStudents;
 
@@ -84,6 +85,17 @@ public class JsonAddressBookStorageTest {
 
     }
 
+    @Test
+    public void saveStudents_generatedStudents_readBack() throws Exception {
+        Path filePath = testFolder.resolve("GeneratedEduConnect.json");
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(1);
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+
+        jsonAddressBookStorage.saveStudents(generator.generateStudents(200), filePath);
+        ReadOnlyAddressBook readBack = jsonAddressBookStorage.readAddressBook(filePath).get();
+        assertEquals(generator.generateAddressBook(200), new AddressBook(readBack));
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         Assert.assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
@@ -1,9 +1,12 @@
 package educonnect.storage;
 
+import static educonnect.testutil.FlightRecording.record;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -14,6 +17,7 @@ import educonnect.model.AddressBook;
 import educonnect.model.ReadOnlyAddressBook;
 import educonnect.model.UserPrefs;
 import educonnect.testutil.TypicalStudents;
+import jdk.jfr.consumer.RecordedEvent;
 
 public class StorageManagerTest {
 
@@ -60,6 +64,22 @@ public class StorageManagerTest {
         assertEquals(original, new AddressBook(retrieved));
     }
 
+    @Test
+    public void addressBookReadSave_flightRecorderEventsCommitted() throws Throwable {
+        List<RecordedEvent> events = record("educonnect.Storage", () -> {
+            storageManager.saveAddressBook(TypicalStudents.getTypicalAddressBook());
+            storageManager.readAddressBook();
+        });
+
+        long fileSize = Files.size(storageManager.getAddressBookFilePath());
+        assertEquals(2, events.size());
+        assertEquals("save", events.get(0).getString("operation"));
+        assertEquals("load", events.get(1).getString("operation"));
+        assertEquals(storageManager.getAddressBookFilePath().toString(), events.get(0).getString("path"));
+        assertEquals(fileSize, events.get(0).getLong("bytes"));
+        assertEquals(fileSize, events.get(1).getLong("bytes"));
+    }
+
     @Test
     public void getAddressBookFilePath() {
         assertNotNull(storageManager.getAddressBookFilePath());
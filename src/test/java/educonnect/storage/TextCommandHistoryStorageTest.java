@@ -0,0 +1,60 @@
+package educonnect.storage;
+
+import static educonnect.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class TextCommandHistoryStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_invalidMaxCommands_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new TextCommandHistoryStorage(testFolder, 0));
+    }
+
+    @Test
+    public void readCommandHistory_missingFile_emptyHistory() throws Exception {
+        TextCommandHistoryStorage storage = new TextCommandHistoryStorage(testFolder.resolve("missing.txt"), 10);
+        assertTrue(storage.readCommandHistory().isEmpty());
+    }
+
+    @Test
+    public void appendCommand_thenRead_latestDistinctCommands() throws Exception {
+        Path filePath = testFolder.resolve("history").resolve("commandHistory.txt");
+        TextCommandHistoryStorage storage = new TextCommandHistoryStorage(filePath, 10);
+        storage.appendCommand("list");
+        storage.appendCommand("find t/tutorial-1");
+        storage.appendCommand("list");
+        storage.appendCommand("find\nn/alice");
+        storage.appendCommand(" ");
+
+        // a new storage reads what was appended
+        assertEquals(List.of("find t/tutorial-1", "list", "find n/alice"),
+                new TextCommandHistoryStorage(filePath, 10).readCommandHistory());
+        assertEquals(List.of("list", "find n/alice"), new TextCommandHistoryStorage(filePath, 2).readCommandHistory());
+    }
+
+    @Test
+    public void appendCommand_fileTooLong_compacted() throws IOException {
+        Path filePath = testFolder.resolve("commandHistory.txt");
+        TextCommandHistoryStorage storage = new TextCommandHistoryStorage(filePath, 3);
+        for (int i = 0; i < 6; i++) {
+            storage.appendCommand("delete s:A000000" + i + "X");
+        }
+        assertEquals(6, Files.readAllLines(filePath).size());
+
+        storage.appendCommand("list");
+        assertEquals(List.of("delete s:A0000004X", "delete s:A0000005X", "list"), Files.readAllLines(filePath));
+        assertEquals(Files.readAllLines(filePath), storage.readCommandHistory());
+    }
+}
@@ -0,0 +1,47 @@
+package educonnect.testutil;
+
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.function.Executable;
+
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+/**
+ * Records the Java Flight Recorder events emitted while running test code.
+ */
+public class FlightRecording {
+
+    /**
+     * Runs {@code executable} while recording the events named {@code eventName}, and returns the events
+     * recorded in the order they were committed. Skips the test if the JVM has no flight recorder.
+     */
+    public static List<RecordedEvent> record(String eventName, Executable executable) throws Throwable {
+        assumeTrue(FlightRecorder.isAvailable(), "No flight recorder in this JVM");
+
+        Path recordingFile = Files.createTempFile("educonnect", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(eventName).withThreshold(Duration.ZERO);
+            recording.start();
+            executable.execute();
+            recording.stop();
+            recording.dump(recordingFile);
+            return RecordingFile.readAllEvents(recordingFile).stream()
+                    .filter(event -> event.getEventType().getName().equals(eventName))
+                    .filter(event -> event.getThread().getJavaThreadId() == Thread.currentThread().getId())
+                    .sorted(Comparator.comparing(RecordedEvent::getEndTime))
+                    .collect(Collectors.toList());
+        } finally {
+            Files.deleteIfExists(recordingFile);
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package educonnect.ui;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+import educonnect.model.student.Student;
+import educonnect.testutil.StudentBuilder;
+import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
+import javafx.collections.FXCollections;
+import javafx.scene.Scene;
+import javafx.scene.control.ListView;
+import javafx.stage.Stage;
+
+/**
+ * Measures the frame times of scrolling a {@code StudentListPanel} through a large list of students.
+ * Every frame jumps a few students down the list, so that every visible cell has to display a new student,
+ * and sets whether timetables are shown, as every command does, toggling it periodically.
+ * The time taken to lay out the list, the time since the previous frame, and the time taken to apply
+ * the timetable setting when it flips and when it is unchanged are reported.
+ *
+ * Run with {@code gradlew benchmarkStudentList}, optionally with {@code -Pstudents=NUMBER_OF_STUDENTS}.
+ */
+public class StudentListPanelBenchmark {
+
+    private static final int DEFAULT_NUMBER_OF_STUDENTS = 20000;
+    private static final int WARMUP_FRAMES = 120;
+    private static final int MEASURED_FRAMES = 1200;
+    private static final int STUDENTS_PER_FRAME = 7;
+    private static final int FRAMES_PER_TIMETABLE_TOGGLE = 150;
+
+    public static void main(String[] args) {
+        int numberOfStudents = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_NUMBER_OF_STUDENTS;
+        List<Student> students = createStudents(numberOfStudents);
+        Platform.startup(() -> run(students));
+    }
+
+    private static List<Student> createStudents(int numberOfStudents) {
+        List<Student> students = new ArrayList<>(numberOfStudents);
+        for (int i = 0; i < numberOfStudents; i++) {
+            students.add(new StudentBuilder()
+                    .withName("Student " + i)
+                    .withStudentId(String.format("A%07dX", i))
+                    .withEmail("student" + i + "@example.com")
+                    .withTelegramHandle("@student" + i)
+                    .withTags("tutorial-" + (i % 20), i % 3 == 0 ? "high-ability" : "average")
+                    .build());
+        }
+        return students;
+    }
+
+    private static void run(List<Student> students) {
+        StudentListPanel studentListPanel = new StudentListPanel(FXCollections.observableList(students));
+        ListView<Student> studentListView = studentListPanel.getStudentListView();
+        Stage stage = new Stage();
+        stage.setScene(new Scene(studentListPanel.getRoot(), 800, 900));
+        stage.show();
+
+        long[] layoutTimes = new long[MEASURED_FRAMES];
+        long[] frameTimes = new long[MEASURED_FRAMES];
+        List<Long> toggleTimes = new ArrayList<>();
+        List<Long> unchangedSettingTimes = new ArrayList<>();
+        new AnimationTimer() {
+            private int frame = -WARMUP_FRAMES;
+            private long previousFrameStart;
+
+            @Override
+            public void handle(long now) {
+                if (frame >= 0) {
+                    frameTimes[frame] = now - previousFrameStart;
+                }
+                previousFrameStart = now;
+
+                int step = frame + WARMUP_FRAMES;
+                boolean showTimetable = (step / FRAMES_PER_TIMETABLE_TOGGLE) % 2 == 1;
+                boolean isToggle = showTimetable != studentListPanel.isShowTimetable();
+                // Every command sets the timetable setting, usually to the value it already has
+                long settingStart = System.nanoTime();
+                studentListPanel.setShowTimetable(showTimetable);
+                studentListView.layout();
+                long settingTime = System.nanoTime() - settingStart;
+                if (frame >= 0) {
+                    (isToggle ? toggleTimes : unchangedSettingTimes).add(settingTime);
+                }
+
+                long layoutStart = System.nanoTime();
+                studentListView.scrollTo((step * STUDENTS_PER_FRAME) % students.size());
+                studentListView.layout();
+                if (frame >= 0) {
+                    layoutTimes[frame] = System.nanoTime() - layoutStart;
+                }
+
+                frame++;
+                if (frame == MEASURED_FRAMES) {
+                    stop();
+                    System.out.println("Students: " + students.size() + ", frames: " + MEASURED_FRAMES);
+                    report("Layout time", layoutTimes);
+                    report("Frame time", frameTimes);
+                    report("Timetable toggle time", toggleTimes.stream().mapToLong(Long::longValue).toArray());
+                    report("Unchanged timetable setting time",
+                            unchangedSettingTimes.stream().mapToLong(Long::longValue).toArray());
+                    Platform.exit();
+                }
+            }
+        }.start();
+    }
+
+    private static void report(String label, long[] times) {
+        long[] sortedTimes = times.clone();
+        Arrays.sort(sortedTimes);
+        System.out.println(String.format(Locale.ROOT, "%s (ms): mean %.2f, p50 %.2f, p95 %.2f, p99 %.2f, max %.2f",
+                label, Arrays.stream(times).average().orElse(0) / 1e6, percentile(sortedTimes, 50),
+                percentile(sortedTimes, 95), percentile(sortedTimes, 99), sortedTimes[sortedTimes.length - 1] / 1e6));
+    }
+
+    private static double percentile(long[] sortedTimes, int percentile) {
+        int index = Math.min(sortedTimes.length - 1, sortedTimes.length * percentile / 100);
+        return sortedTimes[index] / 1e6;
+    }
+}